@@ -11,19 +11,26 @@ import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 import java.util.Vector;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
-import java.util.zip.ZipFile;
 
-import net.schwarzbaer.java.games.snowrunner.MapTypes.SetMap;
+import net.schwarzbaer.java.games.snowrunner.MapTypes.ConcurrentSetMap;
 import net.schwarzbaer.java.games.snowrunner.MapTypes.StringVectorMap;
+import net.schwarzbaer.java.games.snowrunner.PAKReader.PAKFile;
 import net.schwarzbaer.java.games.snowrunner.PAKReader.ZipEntryTreeNode;
 import net.schwarzbaer.java.games.snowrunner.SnowRunner.SpecialTruckAddons;
 import net.schwarzbaer.java.games.snowrunner.SnowRunner.TextOutput;
@@ -34,7 +41,10 @@ import net.schwarzbaer.java.lib.gui.ValueListOutput;
 
 public class Data {
 
-	private static SetMap<String,String> unexpectedValues;
+	private static ConcurrentSetMap<String,String> unexpectedValues;
+	
+	/** classes of {@link XMLTemplateStructure}, that are used to create Data */
+	static final List<String> RAW_DATA_CLASSES = List.of("addons_category", "cargo_types", "wheels", "trucks", "engines", "gearboxes", "suspensions", "winches");
 	
 	public final XMLTemplateStructure rawdata;
 	public final HashMap<String,Language> languages;
@@ -47,16 +57,54 @@ public class Data {
 	final StringVectorMap<Truck> socketIDsUsedByTrucks;
 	final StringVectorMap<Trailer> socketIDsUsedByTrailers;
 	final StringVectorMap<TruckAddon> socketIDsUsedByTruckAddons;
+	final CompatibilityIndex compatibilityIndex;
+	public final CargoCarrierIndex cargoCarrierIndex;
+	public final DerivedTruckValues derivedTruckValues;
 	public final TruckComponentSets<Engine    > engines    ;
 	public final TruckComponentSets<Gearbox   > gearboxes  ;
 	public final TruckComponentSets<Suspension> suspensions;
 	public final TruckComponentSets<Winch     > winches    ;
 
+	/**
+	 * Reads the data of a PAK file without UI and data snapshot (e.g. for checks in the test package).
+	 * @return <code>null</code>, if the PAK file couldn't be read
+	 */
+	public static Data readPAK(File pakFile) {
+		XMLTemplateStructure structure = XMLTemplateStructure.readPAK(pakFile, null, RAW_DATA_CLASSES);
+		if (structure==null) return null;
+		try {
+			structure.prefetch(RAW_DATA_CLASSES);
+		} catch (XMLTemplateStructure.LoadException e) {
+			System.err.printf("%s%n", e.getMessage());
+			e.printStackTrace();
+			return null;
+		}
+		return new Data(structure);
+	}
+
+	/**
+	 * Describes, how much node data of the loaded items is shared (e.g. for checks in the test package).
+	 */
+	public String getNodeSharingStatistics() {
+		return XMLTemplateStructure.SharingStatistics.of(rawdata.classes.values()).toString();
+	}
+
+	/**
+	 * Copies the node data of the loaded items with or without sharing of attributes and child nodes (e.g. for checks in the test package).
+	 * @return the copies, they are only meant to be held while the heap is measured
+	 */
+	public Object copyNodeDataOfLoadedItems(boolean keepSharing) {
+		return XMLTemplateStructure.SharingStatistics.copyItemContents(rawdata.classes.values(), keepSharing);
+	}
+
+	/**
+	 * Items of all {@link #RAW_DATA_CLASSES} have to be loaded before (see {@link XMLTemplateStructure#prefetch(java.util.Collection)}).
+	 */
 	Data(XMLTemplateStructure rawdata) {
 		this.rawdata = rawdata;
 		languages = rawdata.languages;
 		
-		unexpectedValues = new SetMap<>(null,null);
+		unexpectedValues = new ConcurrentSetMap<>(null,null);
 		
 		//HashSetMap<String,String> baseNodesInClasses = new HashSetMap<>(null,null);
 		//rawdata.classes.forEach((className,class_)->{
@@ -122,37 +170,42 @@ public class Data {
 		truckAddons = new HashMap<>();
 		
 		Class_ trucksClass = rawdata.classes.get("trucks");
-		if (trucksClass!=null)
-			trucksClass.items.forEach((name,item)->{
+		if (trucksClass!=null) {
+			List<ItemBased> trucksClassObjects = buildParallel(trucksClass.items.values(), item->{
 				switch (item.content.nodeName) {
 				
 				case "Truck":
 					String type = item.content.attributes.get("Type");
 					
 					if (type==null)
-						trucks.put(name, new Truck(item, this));
+						return new Truck(item, this);
 					
 					else
 						switch (type) {
 						case "Trailer":
-							trailers.put(name, new Trailer(item));
-							break;
+							return new Trailer(item);
 							
 						default:
 							unexpectedValues.add("Class[trucks] <Truck Type=\"###\">", type);
-							break;
+							return null;
 						}
-					break;
 					
 				case "TruckAddon":
-					truckAddons.put(name, new TruckAddon(item, cargoTypes));
-					break;
+					return new TruckAddon(item, cargoTypes);
 					
 				default:
 					unexpectedValues.add("Class[trucks] <###>", item.content.nodeName);
-					break;
+					return null;
 				}
 			});
+			
+			// "usableBy" lists of truck components are filled here in item order, not while building in parallel
+			for (ItemBased object : trucksClassObjects) {
+				if (object instanceof Truck      truck     ) { trucks.put(truck.id, truck); truck.addToUsableByOfComponents(); }
+				if (object instanceof Trailer    trailer   ) trailers   .put(trailer   .id, trailer   );
+				if (object instanceof TruckAddon truckAddon) truckAddons.put(truckAddon.id, truckAddon);
+			}
+		}
 		
 		
 		
@@ -195,58 +248,38 @@ public class Data {
 			//	System.err.printf("No InstallSocket for truck addon <%s>%n", truckAddon.id);
 		
 		
+		compatibilityIndex = new CompatibilityIndex(trailers.values(), truckAddons.values());
+		
 		for (Truck truck : trucks.values()) {
 			truck.compatibleTrailers.clear();
 			truck.compatibleTruckAddons.clear();
 			
-			// add all Addons & Trailers by SocketID
+			// all Addons & Trailers, that fit into a socket, aren't excluded and find their RequiredAddOns
+			BitSet compatibleItems = compatibilityIndex.getCompatibleItems(truck);
+			BitSet takenItems = new BitSet();
+			
+			// add them in order of sockets
 			for (Truck.AddonSockets as : truck.addonSockets) {
 				for (String socketID : as.compatibleSocketIDs) {
 					
 					Vector<Trailer> trailers = socketIDsUsedByTrailers.get(socketID);
 					if (trailers != null) {
 						as.compatibleTrailers.addAll(socketID, trailers);
-						truck.compatibleTrailers.addAll(trailers);
+						for (Trailer trailer : trailers)
+							if (compatibilityIndex.takeItem(trailer, compatibleItems, takenItems))
+								truck.compatibleTrailers.add(trailer);
 					}
 					
 					Vector<TruckAddon> truckAddons = socketIDsUsedByTruckAddons.get(socketID);
 					if (truckAddons != null) {
 						as.compatibleTruckAddons.addAll(socketID, truckAddons);
 						for (TruckAddon truckAddon : truckAddons)
-							truck.compatibleTruckAddons.add(truckAddon.getCategory(), truckAddon);
+							if (compatibilityIndex.takeItem(truckAddon, compatibleItems, takenItems))
+								truck.compatibleTruckAddons.add(truckAddon.getCategory(), truckAddon);
 					}
 				}
 			}
 			
-			// remove some Addons & Trailers because of RequiredAddOns
-			boolean haveSomeRemoved = true;
-			while (haveSomeRemoved) {
-				haveSomeRemoved = false;
-				for (Vector<TruckAddon> list : truck.compatibleTruckAddons.values()) {
-					Vector<TruckAddon> addonsToRemove = new Vector<>();
-					for (TruckAddon addon : list) {
-						if (	findAddon(addon.id, truck.gameData.excludeAddons) ||
-								!findRequiredAddons(addon.gameData.requiredAddons,truck.compatibleTruckAddons,truck.compatibleTrailers)) {
-							addonsToRemove.add(addon);
-							haveSomeRemoved = true;
-							//System.out.printf("Truck<%-20s>: Remove Addon <%s>%n", truck.id, addon.id);
-						}
-					}
-					list.removeAll(addonsToRemove);
-				}
-				Vector<Trailer> trailersToRemove = new Vector<>();
-				for (Trailer trailer : truck.compatibleTrailers) {
-					if (	findAddon(trailer.id, truck.gameData.excludeAddons) ||
-							!findRequiredAddons(trailer.gameData.requiredAddons,truck.compatibleTruckAddons,truck.compatibleTrailers)) {
-						trailersToRemove.add(trailer);
-						haveSomeRemoved = true;
-						//System.out.printf("Truck<%-20s>: Remove Trailer <%s>%n", truck.id, trailer.id);
-					}
-				}
-				truck.compatibleTrailers.removeAll(trailersToRemove);
-			}
-			truck.compatibleTruckAddons.removeEmptyLists();
-			
 			for (Trailer trailer : truck.compatibleTrailers)
 				trailer.usableBy.add(truck);
 			
@@ -262,42 +295,21 @@ public class Data {
 				}
 		}
 		
+		cargoCarrierIndex = new CargoCarrierIndex(trailers.values(), truckAddons.values());
 		for (TruckAddon cargo : truckAddons.values())
 			if (cargo.gameData.isCargo)
-			{
-				for (Trailer trailer : trailers.values())
-					if (isCompatibleCarrier(cargo, trailer.gameData))
-						trailer.compatibleCargo.add(cargo);
-				
-				for (TruckAddon truckAddon : truckAddons.values())
-					if (isCompatibleCarrier(cargo, truckAddon.gameData))
-						truckAddon.compatibleCargo.add(cargo);
-			}
+				cargoCarrierIndex.forEachCarrier(cargo, carrier->{
+					if (carrier instanceof Trailer    trailer   ) trailer   .compatibleCargo.add(cargo);
+					if (carrier instanceof TruckAddon truckAddon) truckAddon.compatibleCargo.add(cargo);
+				});
+		
+		derivedTruckValues = new DerivedTruckValues();
 		
 		
 		if (!unexpectedValues.isEmpty())
 			unexpectedValues.print(System.out,"Unexpected Values");
 	}
 	
-	private static boolean isCompatibleCarrier(TruckAddon cargo, GameData.GameDataT3NonTruck carrierGameData)
-	{
-		if (carrierGameData==null) return false;
-		if ( cargo==null) return false;
-		if (!cargo.gameData.isCargo) return false;
-		if ( cargo.gameData.cargoLength==null) return false;
-		
-		if (carrierGameData.cargoSlots==null) return false;
-		if (carrierGameData.cargoSlots.intValue() < cargo.gameData.cargoLength.intValue()) return false;
-		
-		if (contains(carrierGameData.excludedCargoTypes, cargo.gameData.cargoType)) return false;
-		
-		if (cargo.gameData.cargoAddonSubtype!=null)
-			if (!hasItemACompatibleLoadArea(()->carrierGameData, cargo.gameData.cargoType, cargo.gameData.cargoAddonSubtype, false))
-				return false;
-			
-		return true;
-	}
-
 	public static class UserDefinedValues extends SnowRunner.Initializable
 	{
 		private final HashMap<String,Truck.UDV> truckValues = new HashMap<>();
@@ -435,15 +447,7 @@ public class Data {
 		return null;
 	}
 
-	private static boolean findAddon(String id, String[] idList) {
-		if (idList!=null)
-			for (String id_ : idList)
-				if (id_.equals(id))
-					return true;
-		return false;
-	}
-
-	private static <ValueType> void readEntries(ZipFile zipFile, ZipEntryTreeNode[] nodes, HashMap<String,ValueType> targetMap, String targetMapLabel, BiFunction<String,InputStream,ValueType> readInput) throws IOException {
+	private static <ValueType> void readEntries(PAKFile zipFile, ZipEntryTreeNode[] nodes, HashMap<String,ValueType> targetMap, String targetMapLabel, BiFunction<String,InputStream,ValueType> readInput) throws IOException {
 		for (ZipEntryTreeNode node:nodes) {
 			ValueType value = readEntry(zipFile, node, readInput);
 			if (value!=null) {
@@ -454,12 +458,12 @@ public class Data {
 		}
 	}
 
-	private static <ValueType> ValueType readEntry(ZipFile zipFile, ZipEntryTreeNode node, BiFunction<String, InputStream, ValueType> readInput) throws IOException {
-		InputStream input = zipFile.getInputStream(node.entry);
+	private static <ValueType> ValueType readEntry(PAKFile zipFile, ZipEntryTreeNode node, BiFunction<String, InputStream, ValueType> readInput) throws IOException {
+		InputStream input = zipFile.getInputStream(node);
 		return readInput.apply(node.name, input);
 	}
 	
-	static void readLanguages(ZipFile zipFile, ZipEntryTreeNode zipRoot, HashMap<String, Language> languages) throws IOException {
+	static void readLanguages(PAKFile zipFile, ZipEntryTreeNode zipRoot, HashMap<String, Language> languages) throws IOException {
 		Predicate<String> isSTR = fileName->fileName.endsWith(".str");
 		ZipEntryTreeNode[] languageNodes = zipRoot.getSubFiles("[strings]", isSTR);
 		readEntries(zipFile, languageNodes, languages, "languages", (name,input)->Language.readFrom(name, input));
@@ -481,6 +485,21 @@ public class Data {
 			return dictionary.get(id);
 		}
 		
+		void forEachEntry(BiConsumer<String,String> action)
+		{
+			dictionary.forEach(action);
+		}
+		
+		int size()
+		{
+			return dictionary.size();
+		}
+		
+		void put(String id, String value)
+		{
+			dictionary.put(id, value);
+		}
+		
 		void scanRegionNames(boolean verbose)
 		{
 			if (regionNames == null)
@@ -761,6 +780,14 @@ public class Data {
 		
 	}
 
+	/**
+	 * Builds objects from the given sources in parallel (in the common {@link java.util.concurrent.ForkJoinPool}).
+	 * @return the results (<code>null</code> included) in the iteration order of the sources
+	 */
+	private static <SourceType,ResultType> List<ResultType> buildParallel(Collection<SourceType> sources, Function<SourceType,ResultType> build) {
+		return sources.parallelStream().map(build).toList();
+	}
+
 	private static Integer parseInt(String str) {
 		if (str==null) return null;
 		try {
@@ -793,15 +820,241 @@ public class Data {
 		return defaultValue;
 	}
 
-	private static String getAttribute(GenericXmlNode[] nodes, String key) {
+	private static String getAttribute(GenericXmlNodeQuery query, GenericXmlNode startNode, String key) {
 		if (key==null) throw new IllegalArgumentException();
-		if (nodes==null) throw new IllegalArgumentException();
-		for (GenericXmlNode node : nodes) {
+		if (query==null) throw new IllegalArgumentException();
+		for (GenericXmlNode node : query.select(startNode)) {
 			String value = node.attributes.get(key);
 			if (value!=null) return value;
 		}
 		return null;
 	}
+	
+	/**
+	 * Index of all trailers and truck addons for linking them to trucks.
+	 * Each item gets a dense integer index, so that sets of items can be handled as {@link BitSet}s.
+	 * The items of each socket ID, the items of each item ID and the "RequiredAddons" of each item are stored as such BitSets.
+	 */
+	static class CompatibilityIndex {
+		
+		private final Vector<ItemBasedNonTruck> items;
+		private final IdentityHashMap<ItemBasedNonTruck,Integer> itemIndexes;
+		private final HashMap<String,BitSet> itemsByID;
+		private final HashMap<String,BitSet> itemsBySocket;
+		private final BitSet[][] requiredItems; // [item] [AND group] -> OR alternatives
+		private final BitSet[] dependentItems;  // [item] -> items, that require it
+		
+		CompatibilityIndex(Collection<Trailer> trailers, Collection<TruckAddon> truckAddons) {
+			items = new Vector<>();
+			items.addAll(trailers);
+			items.addAll(truckAddons);
+			
+			itemIndexes   = new IdentityHashMap<>();
+			itemsByID     = new HashMap<>();
+			itemsBySocket = new HashMap<>();
+			for (int i=0; i<items.size(); i++) {
+				ItemBasedNonTruck item = items.get(i);
+				itemIndexes.put(item, i);
+				itemsByID.computeIfAbsent(item.id, k->new BitSet()).set(i);
+				String installSocket = item.getGameData().installSocket;
+				if (installSocket!=null)
+					itemsBySocket.computeIfAbsent(installSocket, k->new BitSet()).set(i);
+			}
+			
+			requiredItems  = new BitSet[items.size()][];
+			dependentItems = new BitSet[items.size()];
+			for (int i=0; i<items.size(); i++)
+				dependentItems[i] = new BitSet();
+			
+			for (int i=0; i<items.size(); i++) {
+				String[][] requiredAddons = items.get(i).getGameData().requiredAddons;
+				requiredItems[i] = new BitSet[requiredAddons.length];
+				for (int andIndex=0; andIndex<requiredAddons.length; andIndex++) {
+					BitSet alternatives = new BitSet(); // stays empty, if no required addon is known --> item is never usable
+					for (String requiredAddon : requiredAddons[andIndex]) {
+						BitSet itemsWithID = itemsByID.get(requiredAddon);
+						if (itemsWithID!=null) alternatives.or(itemsWithID);
+					}
+					requiredItems[i][andIndex] = alternatives;
+					for (int j = alternatives.nextSetBit(0); j>=0; j = alternatives.nextSetBit(j+1))
+						dependentItems[j].set(i);
+				}
+			}
+		}
+		
+		/**
+		 * Collects all items, that fit into a socket of the given truck and aren't excluded by it.
+		 * Then all items are removed, whose "RequiredAddons" can't be found in the remaining items,
+		 * until nothing changes. Only the dependents of removed items are checked again.
+		 * @return the indexes of all compatible items
+		 */
+		BitSet getCompatibleItems(Truck truck) {
+			BitSet compatibleItems = new BitSet(items.size());
+			for (Truck.AddonSockets as : truck.addonSockets)
+				for (String socketID : as.compatibleSocketIDs) {
+					BitSet socketItems = itemsBySocket.get(socketID);
+					if (socketItems!=null) compatibleItems.or(socketItems);
+				}
+			
+			if (truck.gameData.excludeAddons!=null)
+				for (String id : truck.gameData.excludeAddons) {
+					BitSet excludedItems = itemsByID.get(id);
+					if (excludedItems!=null) compatibleItems.andNot(excludedItems);
+				}
+			
+			BitSet worklist = (BitSet) compatibleItems.clone();
+			for (int i = worklist.nextSetBit(0); i>=0; i = worklist.nextSetBit(0)) {
+				worklist.clear(i);
+				if (!compatibleItems.get(i) || hasRequiredItems(i, compatibleItems))
+					continue;
+				
+				compatibleItems.clear(i);
+				BitSet dependents = dependentItems[i];
+				for (int j = dependents.nextSetBit(0); j>=0; j = dependents.nextSetBit(j+1))
+					if (compatibleItems.get(j))
+						worklist.set(j);
+			}
+			
+			return compatibleItems;
+		}
+		
+		private boolean hasRequiredItems(int itemIndex, BitSet availableItems) {
+			for (BitSet alternatives : requiredItems[itemIndex])
+				if (!alternatives.intersects(availableItems))
+					return false;
+			return true;
+		}
+		
+		/**
+		 * @return <code>true</code>, if the item is one of the given compatible items and wasn't taken before
+		 */
+		boolean takeItem(ItemBasedNonTruck item, BitSet compatibleItems, BitSet takenItems) {
+			Integer index = itemIndexes.get(item);
+			if (index==null || !compatibleItems.get(index) || takenItems.get(index))
+				return false;
+			takenItems.set(index);
+			return true;
+		}
+	}
+
+	/**
+	 * Index of all trailers and truck addons, that have cargo slots.
+	 * The carriers are sorted by their number of cargo slots, so the carriers with enough slots for a cargo are a tail of that order.
+	 * Excluded cargo types and load areas (with "TrailerLoad") are stored as {@link BitSet}s over the same order.
+	 */
+	public static class CargoCarrierIndex {
+		
+		private final ItemBasedNonTruck[] carriers; // sorted by cargo slots
+		private final int[] cargoSlots;
+		private final HashMap<String,BitSet> carriersByExcludedCargoType;
+		private final HashMap<CargoTypePair,BitSet> carriersByLoadArea; // CargoTypePair(null,subtype) == any cargo type
+		
+		CargoCarrierIndex(Collection<Trailer> trailers, Collection<TruckAddon> truckAddons) {
+			Vector<ItemBasedNonTruck> carrierList = new Vector<>();
+			for (Trailer    trailer    : trailers   ) if (trailer   .gameData.cargoSlots!=null) carrierList.add(trailer   );
+			for (TruckAddon truckAddon : truckAddons) if (truckAddon.gameData.cargoSlots!=null) carrierList.add(truckAddon);
+			carrierList.sort(Comparator.comparingInt(carrier->carrier.getGameData().cargoSlots.intValue()));
+			
+			carriers = carrierList.toArray(ItemBasedNonTruck[]::new);
+			cargoSlots = new int[carriers.length];
+			carriersByExcludedCargoType = new HashMap<>();
+			carriersByLoadArea = new HashMap<>();
+			
+			for (int i=0; i<carriers.length; i++) {
+				GameData.GameDataT3NonTruck gameData = carriers[i].getGameData();
+				cargoSlots[i] = gameData.cargoSlots.intValue();
+				
+				for (String cargoType : gameData.excludedCargoTypes)
+					carriersByExcludedCargoType.computeIfAbsent(cargoType, k->new BitSet()).set(i);
+				
+				for (GameData.GameDataT3NonTruck.LoadArea loadArea : gameData.loadAreas)
+					if (loadArea.trailerLoad!=null && loadArea.trailerLoad.booleanValue() && loadArea.subtype!=null) {
+						carriersByLoadArea.computeIfAbsent(new CargoTypePair(loadArea.type, loadArea.subtype), k->new BitSet()).set(i);
+						carriersByLoadArea.computeIfAbsent(new CargoTypePair(null         , loadArea.subtype), k->new BitSet()).set(i);
+					}
+			}
+		}
+		
+		private BitSet getCarrierIndexes(TruckAddon cargo) {
+			BitSet carrierIndexes = new BitSet(carriers.length);
+			if (cargo==null || !cargo.gameData.isCargo || cargo.gameData.cargoLength==null)
+				return carrierIndexes;
+			
+			carrierIndexes.set(findFirstCarrier(cargo.gameData.cargoLength.intValue()), carriers.length);
+			
+			BitSet excludingCarriers = carriersByExcludedCargoType.get(cargo.gameData.cargoType);
+			if (excludingCarriers!=null)
+				carrierIndexes.andNot(excludingCarriers);
+			
+			if (cargo.gameData.cargoAddonSubtype!=null) {
+				BitSet loadAreaCarriers = carriersByLoadArea.get(new CargoTypePair(cargo.gameData.cargoType, cargo.gameData.cargoAddonSubtype));
+				if (loadAreaCarriers==null) carrierIndexes.clear();
+				else                        carrierIndexes.and(loadAreaCarriers);
+			}
+			
+			return carrierIndexes;
+		}
+		
+		/** @return index of first carrier with <code>cargoSlots >= minCargoSlots</code> */
+		private int findFirstCarrier(int minCargoSlots) {
+			int low = 0, high = cargoSlots.length;
+			while (low<high) {
+				int mid = (low+high) >>> 1;
+				if (cargoSlots[mid]<minCargoSlots) low = mid+1;
+				else                               high = mid;
+			}
+			return low;
+		}
+		
+		void forEachCarrier(TruckAddon cargo, Consumer<ItemBasedNonTruck> action) {
+			BitSet carrierIndexes = getCarrierIndexes(cargo);
+			for (int i = carrierIndexes.nextSetBit(0); i>=0; i = carrierIndexes.nextSetBit(i+1))
+				action.accept(carriers[i]);
+		}
+		
+		public HashSet<Trailer   > getCompatibleTrailers   (TruckAddon cargo) { return getCompatibleCarriers(cargo, Trailer   .class); }
+		public HashSet<TruckAddon> getCompatibleTruckAddons(TruckAddon cargo) { return getCompatibleCarriers(cargo, TruckAddon.class); }
+		
+		private <Carrier extends ItemBasedNonTruck> HashSet<Carrier> getCompatibleCarriers(TruckAddon cargo, Class<Carrier> carrierClass) {
+			HashSet<Carrier> compatibleCarriers = new HashSet<>();
+			forEachCarrier(cargo, carrier->{
+				if (carrierClass.isInstance(carrier))
+					compatibleCarriers.add(carrierClass.cast(carrier));
+			});
+			return compatibleCarriers;
+		}
+	}
+
+	private static class Queries {
+		static final GenericXmlNodeQuery Any_GameData                     = GenericXmlNodeQuery.compile("*/GameData");
+		static final GenericXmlNodeQuery CargoType_UiDesc                 = GenericXmlNodeQuery.compile("CargoType/UiDesc");
+		static final GenericXmlNodeQuery CategoryList_Category            = GenericXmlNodeQuery.compile("CategoryList/Category");
+		static final GenericXmlNodeQuery GameData_UiDesc                  = GenericXmlNodeQuery.compile("GameData/UiDesc");
+		static final GenericXmlNodeQuery GameData_AddonSlots              = GenericXmlNodeQuery.compile("GameData/AddonSlots");
+		static final GenericXmlNodeQuery GameData_AddonType               = GenericXmlNodeQuery.compile("GameData/AddonType");
+		static final GenericXmlNodeQuery GameData_InstallSocket           = GenericXmlNodeQuery.compile("GameData/InstallSocket");
+		static final GenericXmlNodeQuery GameData_InstallSlot             = GenericXmlNodeQuery.compile("GameData/InstallSlot");
+		static final GenericXmlNodeQuery GameData_LoadArea                = GenericXmlNodeQuery.compile("GameData/LoadArea");
+		static final GenericXmlNodeQuery GameData_RequiredAddon           = GenericXmlNodeQuery.compile("GameData/RequiredAddon");
+		static final GenericXmlNodeQuery GameData_RequiredAddonType       = GenericXmlNodeQuery.compile("GameData/RequiredAddonType");
+		static final GenericXmlNodeQuery GameData_WinchParams             = GenericXmlNodeQuery.compile("GameData/WinchParams");
+		static final GenericXmlNodeQuery GameData_GearboxParams           = GenericXmlNodeQuery.compile("GameData/GearboxParams");
+		static final GenericXmlNodeQuery GameData_AddonSockets            = GenericXmlNodeQuery.compile("GameData/AddonSockets");
+		static final GenericXmlNodeQuery AddonSockets_Socket              = GenericXmlNodeQuery.compile("AddonSockets/Socket");
+		static final GenericXmlNodeQuery Socket_AddonsShift               = GenericXmlNodeQuery.compile("Socket/AddonsShift");
+		static final GenericXmlNodeQuery TruckWheels_TruckTires_TruckTire = GenericXmlNodeQuery.compile("TruckWheels/TruckTires/TruckTire");
+		static final GenericXmlNodeQuery TruckTire_WheelFriction          = GenericXmlNodeQuery.compile("TruckTire/WheelFriction");
+		static final GenericXmlNodeQuery TruckTire_GameData               = GenericXmlNodeQuery.compile("TruckTire/GameData");
+		static final GenericXmlNodeQuery Truck_TruckData                  = GenericXmlNodeQuery.compile("Truck/TruckData");
+		static final GenericXmlNodeQuery Truck_GameData                   = GenericXmlNodeQuery.compile("Truck/GameData");
+		static final GenericXmlNodeQuery TruckData_EngineSocket           = GenericXmlNodeQuery.compile("TruckData/EngineSocket");
+		static final GenericXmlNodeQuery TruckData_GearboxSocket          = GenericXmlNodeQuery.compile("TruckData/GearboxSocket");
+		static final GenericXmlNodeQuery TruckData_SuspensionSocket       = GenericXmlNodeQuery.compile("TruckData/SuspensionSocket");
+		static final GenericXmlNodeQuery TruckData_WinchUpgradeSocket     = GenericXmlNodeQuery.compile("TruckData/WinchUpgradeSocket");
+		static final GenericXmlNodeQuery TruckData_CompatibleWheels       = GenericXmlNodeQuery.compile("TruckData/CompatibleWheels");
+		static final GenericXmlNodeQuery TruckAddon_TruckData             = GenericXmlNodeQuery.compile("TruckAddon/TruckData");
+		static final GenericXmlNodeQuery TruckAddon_GameData              = GenericXmlNodeQuery.compile("TruckAddon/GameData");
+	}
 	private static String getAttribute(GenericXmlNode node, String key) {
 		if (key==null) throw new IllegalArgumentException();
 		if (node==null) return null;
@@ -877,6 +1130,10 @@ public class Data {
 	}
 
 	public Capability isCapable(Truck truck, SpecialTruckAddons.AddonCategory listID, SpecialTruckAddons specialTruckAddons, TextOutput textOutput) {
+		return isCapable(truck, listID, specialTruckAddons, textOutput, id -> determineLoadAreaCargoCapability(truck, id, textOutput));
+	}
+
+	private Capability isCapable(Truck truck, SpecialTruckAddons.AddonCategory listID, SpecialTruckAddons specialTruckAddons, TextOutput textOutput, Function<String,Capability> getLoadAreaCargoCapability) {
 		SpecialTruckAddons.SpecialTruckAddonList addonList = specialTruckAddons.getList(listID);
 		if (textOutput!=null) textOutput.printf("Is Truck <%s> capable of %s?%n", truck.id, listID.label);
 		
@@ -911,7 +1168,7 @@ public class Data {
 					
 					r -> false, //r!=null && r.booleanValue(),
 					
-					id -> determineLoadAreaCargoCapability(truck, id, textOutput)
+					getLoadAreaCargoCapability
 				);
 				if (textOutput!=null)
 				{
@@ -925,6 +1182,131 @@ public class Data {
 		return null;
 	}
 
+	/**
+	 * Values of trucks, that depend on the lists of {@link SpecialTruckAddons}.
+	 * <p>
+	 * Capabilities are cached per addon category and truck. Their inputs are the compatible addons &amp; trailers of the truck,
+	 * which are fixed for this Data, and the IDs in the list of the category.
+	 * The result of a single cargo addon for a truck only depends on the first ones, so it's kept as long as this Data exists.
+	 * <p>
+	 * {@link #getCapability(Truck, SpecialTruckAddons.AddonCategory, SpecialTruckAddons) getCapability} only looks into the cache
+	 * (and computes missing values).
+	 * Listeners of the lists have to call {@link #update(SpecialTruckAddons.AddonCategory, SpecialTruckAddons) update} after each change.
+	 * It compares a list with the IDs, that were used for the cached values,
+	 * recomputes the trucks, that depend on added or removed addons, and returns a {@link ChangeSet}.
+	 * Any number of listeners can call it for the same change and will get the same ChangeSet.
+	 */
+	public class DerivedTruckValues {
+		
+		/**
+		 * @param trucks  trucks, whose values depending on the list of <code>category</code> might have changed
+		 */
+		public record ChangeSet(SpecialTruckAddons.AddonCategory category, Set<Truck> trucks) {}
+		
+		private final EnumMap<SpecialTruckAddons.AddonCategory, HashMap<Truck,Capability>> capabilities = new EnumMap<>(SpecialTruckAddons.AddonCategory.class);
+		private final EnumMap<SpecialTruckAddons.AddonCategory, HashSet<String>> usedIDs = new EnumMap<>(SpecialTruckAddons.AddonCategory.class);
+		private final EnumMap<SpecialTruckAddons.AddonCategory, ChangeSet> lastChanges = new EnumMap<>(SpecialTruckAddons.AddonCategory.class);
+		private final HashMap<Truck, HashMap<String,Capability>> loadAreaCargoCapabilities = new HashMap<>();
+		
+		private DerivedTruckValues() {}
+		
+		public Capability getCapability(Truck truck, SpecialTruckAddons.AddonCategory category, SpecialTruckAddons specialTruckAddons) {
+			// IDs used for the cached values are taken once, later changes are tracked by update()
+			if (!usedIDs.containsKey(category))
+				usedIDs.put(category, getIDs(category, specialTruckAddons));
+			
+			HashMap<Truck, Capability> values = capabilities.computeIfAbsent(category, k->new HashMap<>());
+			if (values.containsKey(truck))
+				return values.get(truck);
+			
+			Capability capability = computeCapability(truck, category, specialTruckAddons);
+			values.put(truck, capability);
+			return capability;
+		}
+		
+		/**
+		 * @return the trucks, that are affected by the last change of the list of <code>category</code>,
+		 * or <code>null</code>, if the previous state of the list isn't known (--> all trucks are affected)
+		 */
+		public ChangeSet update(SpecialTruckAddons.AddonCategory category, SpecialTruckAddons specialTruckAddons) {
+			HashSet<String> currentIDs = getIDs(category, specialTruckAddons);
+			HashSet<String> previousIDs = usedIDs.put(category, currentIDs);
+			if (previousIDs==null) {
+				capabilities.remove(category);
+				lastChanges.remove(category);
+				return null;
+			}
+			if (previousIDs.equals(currentIDs))
+				return lastChanges.get(category);
+			
+			HashSet<String> changedIDs = new HashSet<>();
+			for (String id : currentIDs ) if (!previousIDs.contains(id)) changedIDs.add(id);
+			for (String id : previousIDs) if (!currentIDs .contains(id)) changedIDs.add(id);
+			
+			HashSet<Truck> changedTrucks = new HashSet<>();
+			for (String id : changedIDs) {
+				TruckAddon addon = truckAddons.get(id);
+				if (addon!=null) addDependentTrucks(changedTrucks, category, addon);
+			}
+			
+			HashMap<Truck, Capability> values = capabilities.get(category);
+			if (values!=null)
+				for (Truck truck : new Vector<>(values.keySet()))
+					// LoadAreaCargo: results of single cargo addons are cached --> recomputation of all trucks is cheap
+					if (category.type==SpecialTruckAddons.AddonType.LoadAreaCargo || changedTrucks.contains(truck)) {
+						Capability capability = computeCapability(truck, category, specialTruckAddons);
+						if (!isEqual(values.get(truck), capability))
+							changedTrucks.add(truck);
+						values.put(truck, capability);
+					}
+			
+			ChangeSet changeSet = new ChangeSet(category, changedTrucks);
+			lastChanges.put(category, changeSet);
+			return changeSet;
+		}
+		
+		private static HashSet<String> getIDs(SpecialTruckAddons.AddonCategory category, SpecialTruckAddons specialTruckAddons) {
+			HashSet<String> ids = new HashSet<>();
+			specialTruckAddons.getList(category).forEach(ids::add);
+			return ids;
+		}
+		
+		private void addDependentTrucks(HashSet<Truck> dependentTrucks, SpecialTruckAddons.AddonCategory category, TruckAddon addon) {
+			switch (category.type) {
+				case Addon:
+					// values are computed from the compatible addons of a truck
+					dependentTrucks.addAll(addon.usableBy);
+					break;
+					
+				case LoadAreaCargo:
+					// values are computed from the load areas of compatible addons of a truck
+					for (Truck truck : trucks.values())
+						if (findOne(truck.compatibleTruckAddons, item -> hasItemACompatibleLoadArea(item, addon.gameData.cargoType, addon.gameData.cargoAddonSubtype, true))!=null)
+							dependentTrucks.add(truck);
+					break;
+			}
+		}
+		
+		private Capability computeCapability(Truck truck, SpecialTruckAddons.AddonCategory category, SpecialTruckAddons specialTruckAddons) {
+			return isCapable(truck, category, specialTruckAddons, null, id -> getLoadAreaCargoCapability(truck, id));
+		}
+		
+		private Capability getLoadAreaCargoCapability(Truck truck, String id) {
+			HashMap<String, Capability> results = loadAreaCargoCapabilities.computeIfAbsent(truck, k->new HashMap<>());
+			if (results.containsKey(id))
+				return results.get(id);
+			
+			Capability result = determineLoadAreaCargoCapability(truck, id, null);
+			results.put(id, result);
+			return result;
+		}
+		
+		private static boolean isEqual(Capability c1, Capability c2) {
+			if (c1==null || c2==null) return c1==c2;
+			return c1.isCapable==c2.isCapable && c1.byTruck==c2.byTruck && c1.byTrailer==c2.byTrailer;
+		}
+	}
+
 	private Capability determineLoadAreaCargoCapability(Truck truck, String id, TextOutput textOutput)
 	{
 		TruckAddon addon = truckAddons.get(id);
@@ -1063,7 +1445,7 @@ public class Data {
 		return socketIDs;
 	}
 
-	private static boolean socketBIsBlockedBySocketA(FoundSocket socketA, FoundSocket socketB)
+	static boolean socketBIsBlockedBySocketA(FoundSocket socketA, FoundSocket socketB)
 	{
 		Vector<String[]> blockCombis = socketB.socket.isBlockedBy.get(socketB.socketID);
 		if (blockCombis!=null)
@@ -1074,7 +1456,7 @@ public class Data {
 		return false;
 	}
 	
-	private record FoundSocket(Truck.AddonSockets addonSocket, Truck.AddonSockets.Socket socket, String socketID)
+	record FoundSocket(Truck.AddonSockets addonSocket, Truck.AddonSockets.Socket socket, String socketID)
 	{
 		static Vector<FoundSocket> find(Truck truck, Collection<String> socketIDs)
 		{
@@ -1130,7 +1512,7 @@ public class Data {
 			//	unexpectedValues.add(String.format("Class[addons_category] <%s ####=\"...\">", item.content.nodeName), key);
 			//});
 			
-			GenericXmlNode uiDescNode = item.content.getNode("CargoType", "UiDesc");
+			GenericXmlNode uiDescNode = Queries.CargoType_UiDesc.selectSingle(item.content);
 			description_StringID = getAttribute(uiDescNode, "UiDesc");
 			name_StringID        = getAttribute(uiDescNode, "UiName");
 			icon100              = getAttribute(uiDescNode, "UiIcon100x100");
@@ -1156,10 +1538,9 @@ public class Data {
 		AddonCategories(Item item) {
 			super(item);
 
-			GenericXmlNode[] categoryNodes = item.content.getNodes("CategoryList", "Category");
 			categories = new HashMap<>();
-			for (int i=0; i<categoryNodes.length; i++) {
-				Category category = new Category(categoryNodes[i]);
+			for (GenericXmlNode categoryNode : Queries.CategoryList_Category.select(item.content)) {
+				Category category = new Category(categoryNode);
 				categories.put(category.name, category);
 			}
 		}
@@ -1232,7 +1613,7 @@ public class Data {
 			unlockByExploration = parseBool(gameDataNode.attributes.get("UnlockByExploration") );
 			unlockByRank        = parseInt (gameDataNode.attributes.get("UnlockByRank") );
 			
-			GenericXmlNode uiDescNode = gameDataNode.getNode("GameData", "UiDesc");
+			GenericXmlNode uiDescNode = Queries.GameData_UiDesc.selectSingle(gameDataNode);
 			description_StringID = getAttribute(uiDescNode, "UiDesc");
 			name_StringID        = getAttribute(uiDescNode, "UiName");
 			//showAttrsAndSubNodes(uiDescNode, "[General]", "UiDesc");
@@ -1279,7 +1660,7 @@ public class Data {
 				super(gameDataNode, debugOutputPrefix);
 				excludedCargoTypes  = splitColonSeparatedIDList( gameDataNode.attributes.get("ExcludedCargoTypes") );
 				
-				GenericXmlNode addonSlotsNode = gameDataNode.getNode("GameData", "AddonSlots");
+				GenericXmlNode addonSlotsNode = Queries.GameData_AddonSlots.selectSingle(gameDataNode);
 				cargoSlots = parseInt( getAttribute(addonSlotsNode, "Quantity") );
 				//showAttrsAndSubNodes(addonSlotsNode, "[General]", "AddonSlots");
 				//   [General] <GameData> <AddonSlots ####="...">
@@ -1309,13 +1690,13 @@ public class Data {
 				@SuppressWarnings("unused")
 				String str;
 				
-				GenericXmlNode addonTypeNode = gameDataNode.getNode("GameData", "AddonType");
+				GenericXmlNode addonTypeNode = Queries.GameData_AddonType.selectSingle(gameDataNode);
 				addonType = getAttribute(addonTypeNode, "Name");
 				//showAttrsAndSubNodes(addonTypeNode, "[General]", "AddonType");
 				//   [General] <GameData> <AddonType ####="...">
 				//      Name
 				
-				GenericXmlNode installSocketNode = gameDataNode.getNode("GameData", "InstallSocket");
+				GenericXmlNode installSocketNode = Queries.GameData_InstallSocket.selectSingle(gameDataNode);
 				installSocket = getAttribute(installSocketNode, "Type");
 				//showAttrsAndSubNodes(installSocketNode, "[General]", "InstallSocket");
 				//   [General] <GameData> <InstallSocket ####="...">
@@ -1328,20 +1709,16 @@ public class Data {
 				//    ? UnlockByExploration
 				//    ? UnlockByRank
 				
-				GenericXmlNode[] loadAreaNodes = gameDataNode.getNodes("GameData", "LoadArea");
+				GenericXmlNode[] loadAreaNodes = Queries.GameData_LoadArea.selectAll(gameDataNode);
 				loadAreas = new LoadArea[loadAreaNodes.length];
-				for (int i=0; i<loadAreaNodes.length; i++) {
-					GenericXmlNode loadAreaNode = loadAreaNodes[i];
-					loadAreas[i] = new LoadArea(loadAreaNode);
-				}
+				for (int i=0; i<loadAreaNodes.length; i++)
+					loadAreas[i] = new LoadArea(loadAreaNodes[i]);
 				isCargoCarrier = loadAreas.length==0 && cargoSlots!=null && cargoSlots>0;
 				
-				GenericXmlNode[] requiredAddonNodes = gameDataNode.getNodes("GameData", "RequiredAddon");
+				GenericXmlNode[] requiredAddonNodes = Queries.GameData_RequiredAddon.selectAll(gameDataNode);
 				requiredAddons = new String[requiredAddonNodes.length][];
-				for (int i=0; i<requiredAddonNodes.length; i++) {
-					GenericXmlNode requiredAddonNode = requiredAddonNodes[i];
-					requiredAddons[i] = splitColonSeparatedIDList( getAttribute(requiredAddonNode, "Types") );
-				}
+				for (int i=0; i<requiredAddonNodes.length; i++)
+					requiredAddons[i] = splitColonSeparatedIDList( getAttribute(requiredAddonNodes[i], "Types") );
 				//showAttrsAndSubNodes(requiredAddonNodes, "[General]", "RequiredAddon");
 				//   [General] <GameData> <RequiredAddon ####="...">
 				//      Types
@@ -1544,7 +1921,7 @@ public class Data {
 				// <TruckAddon> <GameData OriginalAddon=\"...\"> --> verwendet bei abgewandelten AddOns --> im Spiel testen
 				//    \[media]\classes\trucks\addons\big_crane_us_ws4964.xml
 				
-				GenericXmlNode installSlotNode = gameDataNode.getNode("GameData", "InstallSlot"); // Cargo-Addon
+				GenericXmlNode installSlotNode = Queries.GameData_InstallSlot.selectSingle(gameDataNode); // Cargo-Addon
 				isCargo             = installSlotNode!=null;
 				cargoLength         = parseInt ( getAttribute(installSlotNode, "CargoLength") );
 				cargoType           =            getAttribute(installSlotNode, "CargoType"  );
@@ -1579,7 +1956,7 @@ public class Data {
 				//      ManualLoads
 				//    - Offset
 				
-				GenericXmlNode requiredAddonTypeNode = gameDataNode.getNode("GameData", "RequiredAddonType");
+				GenericXmlNode requiredAddonTypeNode = Queries.GameData_RequiredAddonType.selectSingle(gameDataNode);
 				requiredAddonType          = getAttribute(requiredAddonTypeNode, "Type"  );
 				requiredAddonType_StringID = getAttribute(requiredAddonTypeNode, "TypeUiName"  );
 				//str = getAttribute(requiredAddonTypeNode, "Type"      ); showAttr("[General]", "RequiredAddonType", "Type"      , str);
@@ -1696,7 +2073,7 @@ public class Data {
 			usableBy = new Vector<>();
 			id = node.attributes.get("Name");
 			
-			gameDataNode = node.getNode(instanceNodeName, "GameData");
+			gameDataNode = Queries.Any_GameData.selectSingle(node);
 			gameData = new GameData(gameDataNode,"[TruckComponent] <"+instanceNodeName+">");
 		}
 
@@ -1716,21 +2093,28 @@ public class Data {
 			Class_ class_ = rawdata.classes.get(className);
 			if (class_ == null) return;
 			
+			GenericXmlNodeQuery instanceQuery = GenericXmlNodeQuery.compile(setNodeName+"/"+instanceNodeName);
+			Vector<Item> setItems = new Vector<>();
 			class_.items.forEach((setID,item)->{
-				if (!item.content.nodeName.equals(setNodeName))
-					return;
-				
+				if (item.content.nodeName.equals(setNodeName))
+					setItems.add(item);
+			});
+			
+			List<List<InstanceType>> instancesOfSets = buildParallel(setItems, item->{
 				item.content.attributes.forEach((key,value)->{
 					unexpectedValues.add(String.format("Class[%s] <%s ####=\"...\">", className, setNodeName), key);
 				});
 				
-				GenericXmlNode[] nodes = item.content.getNodes(setNodeName, instanceNodeName);
-				for (GenericXmlNode node : nodes) {
-					InstanceType instance = constructor.apply(setID,node);
-					sets.addInstance(instance, instanceNodeName);
-				}
+				Vector<InstanceType> instances = new Vector<>();
+				for (GenericXmlNode node : instanceQuery.select(item.content))
+					instances.add(constructor.apply(item.name,node));
+				return instances;
 			});
 			
+			for (List<InstanceType> instances : instancesOfSets)
+				for (InstanceType instance : instances)
+					sets.addInstance(instance, instanceNodeName);
+			
 		}
 		
 	}
@@ -1757,7 +2141,7 @@ public class Data {
 			length                   = parseInt  ( node.attributes.get("Length") );
 			strengthMult             = parseFloat( node.attributes.get("StrengthMult") );
 			
-			GenericXmlNode winchParamsNode = gameDataNode.getNode("GameData", "WinchParams");
+			GenericXmlNode winchParamsNode = Queries.GameData_WinchParams.selectSingle(gameDataNode);
 			if (winchParamsNode!=null)
 				winchParamsNode.attributes.forEach((key,value)->{
 					unexpectedValues.add("[VariantSetInstance] <Winch> <GameData> <WinchParams ####=\"...\">", key);
@@ -1824,7 +2208,7 @@ public class Data {
 			awdConsumptionModifier = parseFloat( node.attributes.get("AWDConsumptionModifier") );
 			idleFuelModifier       = parseFloat( node.attributes.get("IdleFuelModifier") );
 			
-			GenericXmlNode paramsNode = gameDataNode.getNode("GameData", "GearboxParams");
+			GenericXmlNode paramsNode = Queries.GameData_GearboxParams.selectSingle(gameDataNode);
 			//if (paramsNode!=null)
 			//	paramsNode.attributes.forEach((key,value)->{
 			//		unexpectedValues.add("[VariantSetInstance] <Winch> <GameData> <GearboxParams ####=\"...\">", key);
@@ -1887,9 +2271,9 @@ public class Data {
 			super(item);
 			
 			truckTires = new Vector<>();
-			GenericXmlNode[] truckTireNodes = item.content.getNodes("TruckWheels","TruckTires","TruckTire");
-			for (int i=0; i<truckTireNodes.length; i++)
-				truckTires.add(new TruckTire(truckTireNodes[i], id, i, updateLevel));
+			int i = 0;
+			for (GenericXmlNode truckTireNode : Queries.TruckWheels_TruckTires_TruckTire.select(item.content))
+				truckTires.add(new TruckTire(truckTireNode, id, i++, updateLevel));
 		}
 	
 	}
@@ -1942,7 +2326,7 @@ public class Data {
 			 */
 			tireDefID = node.attributes.get("Name") ;
 			
-			GenericXmlNode wheelFrictionNode = node.getNode("TruckTire", "WheelFriction");
+			GenericXmlNode wheelFrictionNode = Queries.TruckTire_WheelFriction.selectSingle(node);
 			/*
 				BodyFriction="2.0"
 				BodyFrictionAsphalt="0.9"
@@ -1957,7 +2341,7 @@ public class Data {
 			frictionMud       = parseFloat( wheelFrictionNode.attributes.get("SubstanceFriction"  ) );
 			onIce             = parseBool ( wheelFrictionNode.attributes.get("IsIgnoreIce"), false );
 			
-			GenericXmlNode gameDataNode = node.getNode("TruckTire", "GameData"     );
+			GenericXmlNode gameDataNode = Queries.TruckTire_GameData.selectSingle(node);
 			gameData = new GameData(gameDataNode, "<TruckTire>");
 		}
 	
@@ -2051,7 +2435,7 @@ public class Data {
 			defaultDiffLock = null;
 			defaultAWD = null;
 			
-			GenericXmlNode truckDataNode = item.content.getNode("Truck", "TruckData");
+			GenericXmlNode truckDataNode = Queries.Truck_TruckData.selectSingle(item.content);
 			//truckDataNode.attributes.forEach((key,value)->{
 			//	unexpectedValues.add("Class[trucks] <Truck> <TruckData ####=\"...\">", key);
 			//});
@@ -2078,11 +2462,11 @@ public class Data {
 			diffLockType = parseEnum( truckDataNode.attributes.get("DiffLockType"), "DiffLockType", DiffLockType.values() );
 			
 			
-			GenericXmlNode gameDataNode = item.content.getNode("Truck", "GameData");
+			GenericXmlNode gameDataNode = Queries.Truck_GameData.selectSingle(item.content);
 			gameData = new GameData.GameDataTruck(gameDataNode, "Class[trucks] <Truck>");
 			
 			
-			GenericXmlNode engineSocketNode = truckDataNode.getNode("TruckData","EngineSocket");
+			GenericXmlNode engineSocketNode = Queries.TruckData_EngineSocket.selectSingle(truckDataNode);
 			//   Class[trucks] <Truck> <TruckData> <EngineSocket ####="...">
 			//      Default
 			//      Type
@@ -2090,9 +2474,8 @@ public class Data {
 			compatibleEngines_SetIDs = splitColonSeparatedIDList( getAttribute(engineSocketNode, "Type") );
 			defaultEngine     = data.engines.getInstance(defaultEngine_ItemID, compatibleEngines_SetIDs);
 			compatibleEngines = data.engines.getInstancesFromSets(compatibleEngines_SetIDs);
-			compatibleEngines.forEach(item_->item_.usableBy.add(this));
 			
-			GenericXmlNode gearboxSocketNode = truckDataNode.getNode("TruckData","GearboxSocket");
+			GenericXmlNode gearboxSocketNode = Queries.TruckData_GearboxSocket.selectSingle(truckDataNode);
 			//   Class[trucks] <Truck> <TruckData> <GearboxSocket ####="...">
 			//      Default
 			//      Type
@@ -2100,9 +2483,8 @@ public class Data {
 			compatibleGearboxes_SetIDs = splitColonSeparatedIDList( getAttribute(gearboxSocketNode, "Type") );
 			defaultGearbox      = data.gearboxes.getInstance(defaultGearbox_ItemID, compatibleGearboxes_SetIDs);
 			compatibleGearboxes = data.gearboxes.getInstancesFromSets(compatibleGearboxes_SetIDs);
-			compatibleGearboxes.forEach(item_->item_.usableBy.add(this));
 			
-			GenericXmlNode suspensionSocketNode = truckDataNode.getNode("TruckData","SuspensionSocket");
+			GenericXmlNode suspensionSocketNode = Queries.TruckData_SuspensionSocket.selectSingle(truckDataNode);
 			//   Class[trucks] <Truck> <TruckData> <SuspensionSocket ####="...">
 			//      Default
 			//      HardpointY
@@ -2112,10 +2494,9 @@ public class Data {
 			compatibleSuspensions_SetIDs = splitColonSeparatedIDList( getAttribute(suspensionSocketNode, "Type") );
 			defaultSuspension     = data.suspensions.getInstance(defaultSuspension_ItemID, compatibleSuspensions_SetIDs);
 			compatibleSuspensions = data.suspensions.getInstancesFromSets(compatibleSuspensions_SetIDs);
-			compatibleSuspensions.forEach(item_->item_.usableBy.add(this));
 			maxWheelRadiusWithoutSuspension = getAttribute(suspensionSocketNode, "MaxWheelRadiusWithoutSuspension");
 			
-			GenericXmlNode winchUpgradeSocketNode = truckDataNode.getNode("TruckData","WinchUpgradeSocket");
+			GenericXmlNode winchUpgradeSocketNode = Queries.TruckData_WinchUpgradeSocket.selectSingle(truckDataNode);
 			//   Class[trucks] <Truck> <TruckData> <WinchUpgradeSocket ####="...">
 			//      Default
 			//      IsUpgradable
@@ -2124,7 +2505,6 @@ public class Data {
 			compatibleWinches_SetIDs = splitColonSeparatedIDList( getAttribute(winchUpgradeSocketNode, "Type") );
 			defaultWinch      = data.winches.getInstance(defaultWinch_ItemID, compatibleWinches_SetIDs);
 			compatibleWinches = data.winches.getInstancesFromSets(compatibleWinches_SetIDs);
-			compatibleWinches.forEach(item_->item_.usableBy.add(this));
 			isWinchUpgradable = parseBool( getAttribute(winchUpgradeSocketNode, "IsUpgradable") );
 			boolean automaticWinch = false;
 			for (Winch winch : compatibleWinches)
@@ -2136,7 +2516,7 @@ public class Data {
 			defaultAddons = new Vector<>();
 			
 			Context subNodeContext = new Context().add(this);
-			GenericXmlNode[] addonSocketsNodes = gameDataNode.getNodes("GameData","AddonSockets");
+			GenericXmlNode[] addonSocketsNodes = Queries.GameData_AddonSockets.selectAll(gameDataNode);
 			addonSockets = new AddonSockets[addonSocketsNodes.length];
 			for (int i=0; i<addonSockets.length; i++)
 			{
@@ -2163,15 +2543,23 @@ public class Data {
 				}
 			});
 			
-			GenericXmlNode[] compatibleWheelsNodes = truckDataNode.getNodes("TruckData", "CompatibleWheels");
+			GenericXmlNode[] compatibleWheelsNodes = Queries.TruckData_CompatibleWheels.selectAll(truckDataNode);
 			compatibleWheels = new CompatibleWheel[compatibleWheelsNodes.length];
-			for (int i=0; i<compatibleWheelsNodes.length; i++)
+			for (int i=0; i<compatibleWheels.length; i++)
 				compatibleWheels[i] = new CompatibleWheel(compatibleWheelsNodes[i], data.wheels::get);
 			
 			compatibleTrailers = new HashSet<>();
 			compatibleTruckAddons = new StringVectorMap<>();
 		}
 		
+		/** Trucks are built in parallel. So this is called afterwards, one truck after another. */
+		void addToUsableByOfComponents() {
+			compatibleEngines    .forEach(engine    ->engine    .addUsingTruck(this));
+			compatibleGearboxes  .forEach(gearbox   ->gearbox   .addUsingTruck(this));
+			compatibleSuspensions.forEach(suspension->suspension.addUsingTruck(this));
+			compatibleWinches    .forEach(winch     ->winch     .addUsingTruck(this));
+		}
+		
 		public void forEachSocket(BiConsumer<AddonSockets, AddonSockets.Socket> action)
 		{
 			for (AddonSockets as : addonSockets)
@@ -2273,7 +2661,7 @@ public class Data {
 				compatibleTrailers = new StringVectorMap<>();
 				compatibleTruckAddons = new StringVectorMap<>();
 				compatibleSocketIDs = new HashSet<>();
-				GenericXmlNode[] socketNodes = node.getNodes("AddonSockets","Socket");
+				GenericXmlNode[] socketNodes = Queries.AddonSockets_Socket.selectAll(node);
 				sockets = new Socket[socketNodes.length];
 				for (int i=0; i<sockets.length; i++) {
 					sockets[i] = new Socket(socketNodes[i], i, subNodeContext);
@@ -2331,7 +2719,7 @@ public class Data {
 					isBlockedBy = new HashMap<>();
 					isShiftedBy   = new Vector<>();
 					
-					GenericXmlNode[] addonsShiftNodes = node.getNodes("Socket","AddonsShift");
+					GenericXmlNode[] addonsShiftNodes = Queries.Socket_AddonsShift.selectAll(node);
 					raw_AddonsShifts = new RawAddonsShift[addonsShiftNodes.length];
 					for (int i=0; i<raw_AddonsShifts.length; i++)
 					{
@@ -2480,7 +2868,7 @@ public class Data {
 			attachType = item.content.attributes.get("AttachType");
 			compatibleCargo = new Vector<>();
 			
-			GenericXmlNode truckDataNode = item.content.getNode("Truck", "TruckData");
+			GenericXmlNode truckDataNode = Queries.Truck_TruckData.selectSingle(item.content);
 			repairsCapacity      = parseInt( getAttribute(truckDataNode, "RepairsCapacity"     ) );
 			wheelRepairsCapacity = parseInt( getAttribute(truckDataNode, "WheelRepairsCapacity") );
 			fuelCapacity         = parseInt( getAttribute(truckDataNode, "FuelCapacity"        ) );
@@ -2490,7 +2878,7 @@ public class Data {
 			//		unexpectedValues.add("Class[trucks] <Truck Type=\"Trailer\"> <TruckData ####=\"...\">", key);
 			//	});
 			
-			GenericXmlNode gameDataNode = item.content.getNode("Truck", "GameData");
+			GenericXmlNode gameDataNode = Queries.Truck_GameData.selectSingle(item.content);
 			gameData = new GameData.GameDataTrailer(gameDataNode, "Class[trucks] <Truck Type=\"Trailer\">");
 		}
 
@@ -2519,20 +2907,20 @@ public class Data {
 			usableBy = new Vector<>();
 			compatibleCargo = new Vector<>();
 			
-			GenericXmlNode[] truckDataNodes = item.content.getNodes("TruckAddon", "TruckData");
-			repairsCapacity      = parseInt ( getAttribute(truckDataNodes, "RepairsCapacity"       ) );
-			wheelRepairsCapacity = parseInt ( getAttribute(truckDataNodes, "WheelRepairsCapacity"  ) );
-			fuelCapacity         = parseInt ( getAttribute(truckDataNodes, "FuelCapacity"          ) );
-			waterCapacity        = parseInt ( getAttribute(truckDataNodes, "WaterCapacity"         ) );
-			enablesAllWheelDrive = parseBool( getAttribute(truckDataNodes, "AllWheelDriveInstalled") );
-			enablesDiffLock      = parseBool( getAttribute(truckDataNodes, "DiffLockInstalled"     ) );
+			GenericXmlNode truckAddonNode = item.content;
+			repairsCapacity      = parseInt ( getAttribute(Queries.TruckAddon_TruckData, truckAddonNode, "RepairsCapacity"       ) );
+			wheelRepairsCapacity = parseInt ( getAttribute(Queries.TruckAddon_TruckData, truckAddonNode, "WheelRepairsCapacity"  ) );
+			fuelCapacity         = parseInt ( getAttribute(Queries.TruckAddon_TruckData, truckAddonNode, "FuelCapacity"          ) );
+			waterCapacity        = parseInt ( getAttribute(Queries.TruckAddon_TruckData, truckAddonNode, "WaterCapacity"         ) );
+			enablesAllWheelDrive = parseBool( getAttribute(Queries.TruckAddon_TruckData, truckAddonNode, "AllWheelDriveInstalled") );
+			enablesDiffLock      = parseBool( getAttribute(Queries.TruckAddon_TruckData, truckAddonNode, "DiffLockInstalled"     ) );
 			//for (GenericXmlNode truckDataNode : truckDataNodes)
 			//	truckDataNode.attributes.forEach((key,value)->{
 			//		unexpectedValues.add("Class[trucks] <TruckAddon> <TruckData ####=\"...\">", key);
 			//	});
 		
 			
-			GenericXmlNode gameDataNode = item.content.getNode("TruckAddon", "GameData");
+			GenericXmlNode gameDataNode = Queries.TruckAddon_GameData.selectSingle(item.content);
 			gameData = new GameData.GameDataTruckAddon(gameDataNode, "Class[trucks] <TruckAddon>", cargoTypes);
 			//gameDataNode.attributes.forEach((key,value)->{
 			//	unexpectedValues.add("Class[trucks] <TruckAddon> <GameData ####=\"...\">", key);
@@ -19,6 +19,8 @@ public class DataFiles
 		RowColoringsFile       ("RowColorings.dat"       ),
 		SpecialTruckAddonsFile ("SpecialTruckAddons.dat" ),
 		WheelsQualityRangesFile("WheelsQualityRanges.dat"),
+		PAKIndexCacheFile      ("PAKIndex.cache"         ),
+		DataSnapshotFile       ("Data.snapshot"          ),
 		;
 		private final String name;
 		private DataFile( String name ) { this.name = name; }
@@ -28,6 +30,7 @@ public class DataFiles
 		
 		public File       getFileForWriting      () { return DataFiles.getFileForWriting      (this); }
 		public DataSource getDataSourceForReading() { return DataFiles.getDataSourceForReading(this); }
+		public File       getFileIfExists        () { File file = getFile(); return file.isFile() ? file : null; }
 	}
 	
 	public static void checkDataFolder()
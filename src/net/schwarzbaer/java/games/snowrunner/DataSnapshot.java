@@ -0,0 +1,458 @@
+package net.schwarzbaer.java.games.snowrunner;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Vector;
+
+import net.schwarzbaer.java.games.snowrunner.MapTypes.StringVectorMap;
+import net.schwarzbaer.java.games.snowrunner.XMLTemplateStructure.Class_;
+import net.schwarzbaer.java.games.snowrunner.XMLTemplateStructure.Class_.Item;
+import net.schwarzbaer.java.games.snowrunner.XMLTemplateStructure.GenericXmlNode;
+import net.schwarzbaer.java.games.snowrunner.XMLTemplateStructure.PAKFingerprint;
+import net.schwarzbaer.java.games.snowrunner.XMLTemplateStructure.Templates;
+
+/**
+ * Binary snapshot of a parsed {@link XMLTemplateStructure} in the data folder ({@link DataFiles.DataFile#DataSnapshotFile}).
+ * The snapshot is only used, if path, size and modification time of the source PAK file and the "hide known bugs" setting are unchanged.
+ * These values are taken before the PAK file is read ({@link XMLTemplateStructure#pakFingerprint}).
+ * A snapshot is only written, if all classes could be loaded.
+ * <p>
+ * Each class is stored in its own section and is restored on first access (like classes are loaded from the PAK file on first access).
+ * {@link Data} is linked from the restored structure as usual.
+ * <p>
+ * File layout: header, languages &amp; global templates, one section per class, trailer (class directory, ignored files), offset of the trailer.
+ */
+class DataSnapshot {
+
+	private static final int MAGIC   = 0x53524453; // "SRDS"
+	private static final int VERSION = 3;
+
+	static XMLTemplateStructure load(File pakFile) {
+		File snapshotFile = DataFiles.DataFile.DataSnapshotFile.getFileIfExists();
+		if (snapshotFile==null) return null;
+
+		try {
+			// the header is checked before the file is mapped, so an outdated snapshot isn't held by a mapping and can be replaced
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(snapshotFile)))) {
+				if (!readHeader(in, PAKFingerprint.of(pakFile))) return null;
+			}
+			
+			ByteBuffer buffer;
+			try (FileChannel channel = FileChannel.open(snapshotFile.toPath(), StandardOpenOption.READ)) {
+				buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			}
+			XMLTemplateStructure structure = read(buffer);
+			System.out.printf("Data loaded from snapshot \"%s\"%n", snapshotFile.getAbsolutePath());
+			return structure;
+
+		} catch (IOException | RuntimeException e) {
+			// a corrupt snapshot --> full parse of the PAK file
+			System.err.printf("Can't read data snapshot \"%s\": %s%n", snapshotFile.getAbsolutePath(), e);
+			return null;
+		}
+	}
+
+	private static void writeHeader(DataOutputStream out, PAKFingerprint pakFingerprint) throws IOException {
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeUTF(pakFingerprint.path());
+		out.writeLong(pakFingerprint.size());
+		out.writeLong(pakFingerprint.lastModified());
+		out.writeBoolean(pakFingerprint.hideKnownBugs());
+	}
+
+	private static boolean readHeader(DataInputStream in, PAKFingerprint pakFingerprint) throws IOException {
+		if (in.readInt()!=MAGIC  ) throw new IOException("Wrong file format");
+		if (in.readInt()!=VERSION) return false;
+		return new PAKFingerprint(in.readUTF(), in.readLong(), in.readLong(), in.readBoolean()).equals(pakFingerprint);
+	}
+
+	private static XMLTemplateStructure read(ByteBuffer buffer) throws IOException {
+		long trailerOffset = buffer.getLong(buffer.limit()-8);
+		Reader trailer = new Reader(getSection(buffer, trailerOffset, buffer.limit()-8-trailerOffset));
+		
+		Reader templatesSection = new Reader(getSection(buffer, trailer.in.getLong(), trailer.in.getLong()));
+		HashMap<String, Data.Language> languages = templatesSection.readLanguages();
+		HashMap<String, Templates> globalTemplates = templatesSection.readGlobalTemplates();
+		
+		HashMap<String, Class_> classes = new HashMap<>();
+		int classCount = trailer.readCount();
+		for (int i=0; i<classCount; i++) {
+			String className = trailer.readString();
+			int itemCount = trailer.in.getInt();
+			ByteBuffer section = getSection(buffer, trailer.in.getLong(), trailer.in.getLong());
+			if (itemCount<0) throw new IOException(String.format("Found invalid item count %d", itemCount));
+			classes.put(className, new Class_(className, new StoredClassItems(section, itemCount)));
+		}
+		
+		Vector<String> ignoredFiles = new Vector<>();
+		int ignoredFilesCount = trailer.readCount();
+		for (int i=0; i<ignoredFilesCount; i++)
+			ignoredFiles.add(trailer.readString());
+
+		return new XMLTemplateStructure(globalTemplates, classes, ignoredFiles, languages);
+	}
+
+	private static ByteBuffer getSection(ByteBuffer buffer, long offset, long length) throws IOException {
+		if (offset<0 || length<0 || offset+length>buffer.limit())
+			throw new IOException(String.format("Found invalid section [offset:%d, length:%d]", offset, length));
+		return buffer.slice((int) offset, (int) length);
+	}
+
+	private record StoredClassItems(ByteBuffer section, int size) implements Class_.StoredItems {
+		@Override public HashMap<String, Item> read() throws IOException {
+			// each read gets its own position
+			return new Reader(section.duplicate()).readItems();
+		}
+	}
+
+	static void write(XMLTemplateStructure structure) {
+		if (structure.pakFingerprint==null) throw new IllegalArgumentException();
+		
+		// the snapshot is written to a temporary file first, so a snapshot is either complete or not there
+		File snapshotFile = DataFiles.DataFile.DataSnapshotFile.getFileForWriting();
+		File tempFile = new File(snapshotFile.getParentFile(), snapshotFile.getName()+".tmp");
+
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+				write(out, structure);
+			}
+			try {
+				Files.move(tempFile.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tempFile.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+			System.out.printf("Data written to snapshot \"%s\"%n", snapshotFile.getAbsolutePath());
+
+		} catch (XMLTemplateStructure.LoadException e) {
+			System.err.printf("Data snapshot isn't written: %s%n", e.getMessage());
+			tempFile.delete();
+
+		} catch (IOException e) {
+			System.err.printf("Can't write data snapshot \"%s\": %s%n", snapshotFile.getAbsolutePath(), e.getMessage());
+			tempFile.delete();
+		}
+	}
+
+	private record ClassSection(String className, int itemCount, long offset, long length) {}
+
+	private static void write(DataOutputStream out, XMLTemplateStructure structure) throws IOException, XMLTemplateStructure.LoadException {
+		writeHeader(out, structure.pakFingerprint);
+		
+		long templatesOffset = out.size();
+		Writer templatesSection = new Writer(out);
+		templatesSection.writeLanguages(structure.languages);
+		templatesSection.writeGlobalTemplates(structure.globalTemplates);
+		long templatesLength = out.size()-templatesOffset;
+		
+		// classes, that aren't loaded yet, are loaded one after another only for writing
+		Vector<ClassSection> classSections = new Vector<>();
+		Vector<String> ignoredFiles = new Vector<>();
+		structure.forEachClass((className, items)->{
+			long offset = out.size();
+			new Writer(out).writeItems(items);
+			classSections.add(new ClassSection(className, items.size(), offset, out.size()-offset));
+		}, ignoredFiles);
+		
+		long trailerOffset = out.size();
+		Writer trailer = new Writer(out);
+		out.writeLong(templatesOffset);
+		out.writeLong(templatesLength);
+		out.writeInt(classSections.size());
+		for (ClassSection classSection : classSections) {
+			trailer.writeString(classSection.className);
+			out.writeInt(classSection.itemCount);
+			out.writeLong(classSection.offset);
+			out.writeLong(classSection.length);
+		}
+		HashSet<String> distinctIgnoredFiles = new HashSet<>(ignoredFiles);
+		out.writeInt(distinctIgnoredFiles.size());
+		for (String file : ignoredFiles)
+			if (distinctIgnoredFiles.remove(file))
+				trailer.writeString(file);
+		out.writeLong(trailerOffset);
+		
+		// DataOutputStream.size() counts up to Integer.MAX_VALUE only
+		if (out.size()==Integer.MAX_VALUE)
+			throw new IOException("Data snapshot is too big");
+	}
+
+	private static class Writer {
+
+		private final DataOutputStream out;
+		private final HashMap<String,Integer> stringTable;
+		private final IdentityHashMap<GenericXmlNode.Attributes,Integer> attributesTable;
+		private final IdentityHashMap<StringVectorMap<GenericXmlNode>,Integer> nodesTable;
+
+		Writer(DataOutputStream out) {
+			this.out = out;
+			stringTable = new HashMap<>();
+			attributesTable = new IdentityHashMap<>();
+			nodesTable = new IdentityHashMap<>();
+		}
+
+		void writeLanguages(HashMap<String, Data.Language> languages) throws IOException {
+			out.writeInt(languages.size());
+			for (Data.Language language : languages.values()) {
+				writeString(language.name);
+				out.writeInt(language.size());
+				IOException[] exception = new IOException[1];
+				language.forEachEntry((id,value)->{
+					if (exception[0]!=null) return;
+					try { writeString(id); writeString(value); }
+					catch (IOException e) { exception[0] = e; }
+				});
+				if (exception[0]!=null) throw exception[0];
+			}
+		}
+
+		void writeGlobalTemplates(HashMap<String, Templates> globalTemplates) throws IOException {
+			IdentityHashMap<Templates,String> globalTemplatesNames = new IdentityHashMap<>();
+			globalTemplates.forEach((name,templates)->globalTemplatesNames.put(templates, name));
+			out.writeInt(globalTemplates.size());
+			for (String name : globalTemplates.keySet()) {
+				Templates templates = globalTemplates.get(name);
+				writeString(name);
+				writeString(templates.includedTemplates==null ? null : globalTemplatesNames.get(templates.includedTemplates));
+				out.writeInt(templates.templates.size());
+				for (String nodeName : templates.templates.keySet()) {
+					HashMap<String, GenericXmlNode> templateList = templates.templates.get(nodeName);
+					writeString(nodeName);
+					out.writeInt(templateList.size());
+					for (String templateName : templateList.keySet()) {
+						writeString(templateName);
+						writeNode(templateList.get(templateName));
+					}
+				}
+			}
+		}
+
+		void writeItems(HashMap<String, Item> items) throws IOException {
+			out.writeInt(items.size());
+			for (String itemKey : items.keySet()) {
+				Item item = items.get(itemKey);
+				writeString(itemKey);
+				writeString(item.name);
+				writeString(item.filePath);
+				writeString(item.updateLevel);
+				writeString(item.className);
+				writeString(item.subClassName);
+				writeNode(item.content);
+			}
+		}
+
+		// attributes and child nodes shared by several GenericXmlNodes are written once (same scheme as strings)
+		private void writeNode(GenericXmlNode node) throws IOException {
+			if (node==null) { out.writeBoolean(false); return; }
+			out.writeBoolean(true);
+			writeString(node.nodeName);
+			
+			Integer attributesIndex = attributesTable.get(node.attributes);
+			if (attributesIndex!=null)
+				out.writeInt(attributesIndex);
+			else {
+				out.writeInt(attributesTable.size());
+				attributesTable.put(node.attributes, attributesTable.size());
+				out.writeInt(node.attributes.size());
+				for (String key : node.attributes.keySet()) {
+					writeString(key);
+					writeString(node.attributes.get(key));
+				}
+			}
+			
+			Integer nodesIndex = nodesTable.get(node.nodes);
+			if (nodesIndex!=null)
+				out.writeInt(nodesIndex);
+			else {
+				out.writeInt(nodesTable.size());
+				nodesTable.put(node.nodes, nodesTable.size());
+				out.writeInt(node.nodes.size());
+				for (String key : node.nodes.keySet()) {
+					Vector<GenericXmlNode> list = node.nodes.get(key);
+					writeString(key);
+					out.writeInt(list.size());
+					for (GenericXmlNode childNode : list)
+						writeNode(childNode);
+				}
+			}
+		}
+
+		// a string is written once, later occurrences are written as index into the string table
+		private void writeString(String str) throws IOException {
+			if (str==null) { out.writeInt(-1); return; }
+			Integer index = stringTable.get(str);
+			if (index!=null) { out.writeInt(index); return; }
+
+			out.writeInt(stringTable.size());
+			stringTable.put(str, stringTable.size());
+			byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+	}
+
+	private static class Reader {
+
+		private final ByteBuffer in;
+		private final Vector<String> stringTable;
+		private final Vector<GenericXmlNode.Attributes> attributesTable;
+		private final Vector<StringVectorMap<GenericXmlNode>> nodesTable;
+
+		Reader(ByteBuffer in) {
+			this.in = in;
+			stringTable = new Vector<>();
+			attributesTable = new Vector<>();
+			nodesTable = new Vector<>();
+		}
+
+		HashMap<String, Data.Language> readLanguages() throws IOException {
+			HashMap<String, Data.Language> languages = new HashMap<>();
+			int languageCount = readCount();
+			for (int i=0; i<languageCount; i++) {
+				Data.Language language = new Data.Language(readString());
+				int entryCount = readCount();
+				for (int j=0; j<entryCount; j++)
+					language.put(readString(), readString());
+				languages.put(language.name, language);
+			}
+			return languages;
+		}
+
+		HashMap<String, Templates> readGlobalTemplates() throws IOException {
+			HashMap<String, Templates> globalTemplates = new HashMap<>();
+			HashMap<String, String> includedTemplatesNames = new HashMap<>();
+			HashMap<String, HashMap<String, HashMap<String, GenericXmlNode>>> templatesMaps = new HashMap<>();
+			int globalTemplatesCount = readCount();
+			for (int i=0; i<globalTemplatesCount; i++) {
+				String name = readString();
+				includedTemplatesNames.put(name, readString());
+				HashMap<String, HashMap<String, GenericXmlNode>> templates = new HashMap<>();
+				int nodeNameCount = readCount();
+				for (int j=0; j<nodeNameCount; j++) {
+					String nodeName = readString();
+					HashMap<String, GenericXmlNode> templateList = new HashMap<>();
+					int templateCount = readCount();
+					for (int k=0; k<templateCount; k++)
+						templateList.put(readString(), readNode(null));
+					templates.put(nodeName, templateList);
+				}
+				templatesMaps.put(name, templates);
+			}
+			for (String name : templatesMaps.keySet())
+				createGlobalTemplates(name, templatesMaps, includedTemplatesNames, globalTemplates, new Vector<>());
+			return globalTemplates;
+		}
+
+		HashMap<String, Item> readItems() throws IOException {
+			HashMap<String, Item> items = new HashMap<>();
+			int itemCount = readCount();
+			for (int j=0; j<itemCount; j++) {
+				String itemKey = readString();
+				items.put(itemKey, new Item(readString(), readString(), readString(), readString(), readString(), readNode(null)));
+			}
+			return items;
+		}
+
+		private static Templates createGlobalTemplates(
+				String name,
+				HashMap<String, HashMap<String, HashMap<String, GenericXmlNode>>> templatesMaps,
+				HashMap<String, String> includedTemplatesNames,
+				HashMap<String, Templates> globalTemplates,
+				Vector<String> includeChain
+		) throws IOException {
+			Templates templates = globalTemplates.get(name);
+			if (templates!=null) return templates;
+			if (includeChain.contains(name))
+				throw new IOException(String.format("Found include loop for templates \"%s\"", name));
+
+			HashMap<String, HashMap<String, GenericXmlNode>> templatesMap = templatesMaps.get(name);
+			if (templatesMap==null)
+				throw new IOException(String.format("Can't find included templates \"%s\"", name));
+
+			String includedName = includedTemplatesNames.get(name);
+			Templates includedTemplates = null;
+			if (includedName!=null) {
+				includeChain.add(name);
+				includedTemplates = createGlobalTemplates(includedName, templatesMaps, includedTemplatesNames, globalTemplates, includeChain);
+				includeChain.remove(name);
+			}
+
+			globalTemplates.put(name, templates = new Templates(templatesMap, includedTemplates));
+			return templates;
+		}
+
+		private GenericXmlNode readNode(GenericXmlNode parent) throws IOException {
+			if (in.get()==0) return null;
+			String nodeName = readString();
+			
+			GenericXmlNode.Attributes attributes;
+			int attributesIndex = in.getInt();
+			if (attributesIndex<attributesTable.size())
+				attributes = attributesTable.get(attributesIndex);
+			else if (attributesIndex>attributesTable.size())
+				throw new IOException("Found invalid attributes index");
+			else {
+				HashMap<String, String> attributeMap = new HashMap<>();
+				int attributeCount = readCount();
+				for (int i=0; i<attributeCount; i++)
+					attributeMap.put(readString(), readString());
+				attributesTable.add(attributes = GenericXmlNode.Attributes.create(attributeMap));
+			}
+			
+			int nodesIndex = in.getInt();
+			if (nodesIndex<nodesTable.size())
+				return new GenericXmlNode(parent, nodeName, attributes, nodesTable.get(nodesIndex));
+			if (nodesIndex>nodesTable.size())
+				throw new IOException("Found invalid nodes index");
+			
+			StringVectorMap<GenericXmlNode> nodes = new StringVectorMap<>();
+			nodesTable.add(nodes);
+			GenericXmlNode node = new GenericXmlNode(parent, nodeName, attributes, nodes);
+			int keyCount = readCount();
+			for (int i=0; i<keyCount; i++) {
+				String key = readString();
+				int childCount = readCount();
+				for (int j=0; j<childCount; j++)
+					nodes.add(key, readNode(node));
+			}
+			return node;
+		}
+
+		private String readString() throws IOException {
+			int index = in.getInt();
+			if (index<0) return null;
+			if (index<stringTable.size()) return stringTable.get(index);
+			if (index>stringTable.size()) throw new IOException("Found invalid string index");
+
+			byte[] bytes = new byte[readCount()];
+			in.get(bytes);
+			String str = new String(bytes, StandardCharsets.UTF_8);
+			stringTable.add(str);
+			return str;
+		}
+
+		// each counted element takes at least one byte
+		private int readCount() throws IOException {
+			int count = in.getInt();
+			if (count<0 || count>in.remaining())
+				throw new IOException(String.format("Found invalid count %d at position %d", count, in.position()-4));
+			return count;
+		}
+	}
+}
@@ -336,9 +336,18 @@ class DataTrees {
 	
 		@Override boolean hasPath() { return true; }
 		@Override boolean hasName() { return true; }
-		@Override String[] getPath() { return node.getPath(); }
+		@Override String[] getPath() { return getPathVec().toArray(String[]::new); }
 		@Override String getName() { return node.nodeName; }
 		
+		// based on tree nodes, because GenericXmlNode.parent can point into another item, if the subtree is shared
+		private Vector<String> getPathVec() {
+			if (!(parent instanceof GenericXmlNode_TreeNode parentNode))
+				return node.getPathVec();
+			Vector<String> vec = parentNode.getPathVec();
+			vec.add(node.nodeName);
+			return vec;
+		}
+		
 		@Override protected Vector<TreeNode> createChildren() {
 			Vector<TreeNode> children = new Vector<>();
 			
@@ -369,7 +378,7 @@ class DataTrees {
 			children = new Vector<>();
 		}
 		
-		AttributesTreeNode(TreeNode parent, HashMap<String, String> attributes) {
+		AttributesTreeNode(TreeNode parent, GenericXmlNode.Attributes attributes) {
 			this(parent);
 			addAttributesTo(this, attributes, children);
 		}
@@ -381,13 +390,9 @@ class DataTrees {
 			addAttributesTo(parent2, attributes, children2);
 		}
 	
-		static void addAttributesTo(TreeNode parent, HashMap<String, String> attributes, Vector<TreeNode> children) {
-			Vector<String> keys = new Vector<>( attributes.keySet() );
-			keys.sort(null);
-			for (String key:keys) {
-				String value = attributes.get(key);
-				children.add(new AttributeTreeNode(parent, key, value));
-			}
+		static void addAttributesTo(TreeNode parent, GenericXmlNode.Attributes attributes, Vector<TreeNode> children) {
+			// attributes are already sorted by name
+			attributes.forEach((key,value)->children.add(new AttributeTreeNode(parent, key, value)));
 		}
 	
 		static void addAttributesTo(TreeNode parent, NamedNodeMap attributes, Vector<TreeNode> children) {
@@ -0,0 +1,278 @@
+package net.schwarzbaer.java.games.snowrunner;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Vector;
+
+import net.schwarzbaer.java.games.snowrunner.XMLTemplateStructure.GenericXmlNode;
+
+/**
+ * A precompiled selector for {@link GenericXmlNode} trees.
+ * <p>
+ * Syntax: steps separated by <code>/</code>, the first step matches the start node itself (like {@link GenericXmlNode#getNodes(String...)}).<br>
+ * A step is a node name or <code>*</code> (any node), followed by optional predicates:
+ * <code>[Attr]</code> (attribute exists), <code>[Attr=value]</code>, <code>[Attr!=value]</code>.<br>
+ * Example: <code>"GameData/AddonSockets/Socket[Names]"</code>
+ * <p>
+ * Named steps use the child node map of a node as index.
+ * Results are delivered by a {@link Cursor} ({@link #select(GenericXmlNode)}) or collected in one pass without a Cursor
+ * ({@link #selectAll(GenericXmlNode)}, {@link #selectSingle(GenericXmlNode)}, {@link #count(GenericXmlNode)}).
+ */
+class GenericXmlNodeQuery {
+
+	private final String selector;
+	private final Step[] steps;
+
+	private GenericXmlNodeQuery(String selector, Step[] steps) {
+		this.selector = selector;
+		this.steps = steps;
+	}
+
+	static GenericXmlNodeQuery compile(String selector) {
+		if (selector==null) throw new IllegalArgumentException();
+
+		String[] stepStrs = selector.split("/", -1);
+		if (stepStrs.length<2)
+			throw new IllegalArgumentException(String.format("Query \"%s\" needs at least 2 steps", selector));
+
+		Step[] steps = new Step[stepStrs.length];
+		for (int i=0; i<stepStrs.length; i++)
+			steps[i] = Step.parse(stepStrs[i], selector);
+
+		return new GenericXmlNodeQuery(selector, steps);
+	}
+
+	@Override public String toString() { return selector; }
+
+	private static final GenericXmlNode[] NO_RESULTS = new GenericXmlNode[0];
+
+	Cursor select(GenericXmlNode node) {
+		return new Cursor(steps, startsWith(node) ? node : null);
+	}
+
+	private boolean startsWith(GenericXmlNode node) {
+		if (node==null) throw new IllegalArgumentException();
+		if (steps[0].name!=null && !steps[0].name.equals(node.nodeName))
+			throw new IllegalArgumentException(String.format("Query \"%s\" can't be applied to node <%s>", selector, node.nodeName));
+		return steps[0].matches(node);
+	}
+
+	/**
+	 * Collects all result nodes in one pass (e.g. to fill an array of the same size).
+	 * A query with 2 steps takes the matching nodes directly from the child node list of <code>node</code>.
+	 */
+	GenericXmlNode[] selectAll(GenericXmlNode node) {
+		if (!startsWith(node)) return NO_RESULTS;
+		
+		if (steps.length==2 && steps[1].name!=null) {
+			Vector<GenericXmlNode> list = node.nodes.get(steps[1].name);
+			if (list==null) return NO_RESULTS;
+			GenericXmlNode[] results = new GenericXmlNode[list.size()];
+			int count = 0;
+			for (int i=0; i<results.length; i++) {
+				GenericXmlNode childNode = list.get(i);
+				if (steps[1].matches(childNode))
+					results[count++] = childNode;
+			}
+			return count==results.length ? results : Arrays.copyOf(results, count);
+		}
+		
+		Vector<GenericXmlNode> results = new Vector<>();
+		collect(node, 1, results, Integer.MAX_VALUE);
+		return results.toArray(GenericXmlNode[]::new);
+	}
+
+	/**
+	 * @return the only result node or <code>null</code>, if there is no result
+	 * @throws IllegalStateException if there is more than one result
+	 */
+	GenericXmlNode selectSingle(GenericXmlNode node) {
+		if (!startsWith(node)) return null;
+		Vector<GenericXmlNode> results = new Vector<>(2);
+		collect(node, 1, results, 2);
+		if (results.size()>1)
+			throw new IllegalStateException(String.format("Query \"%s\" has more than one result", selector));
+		return results.isEmpty() ? null : results.get(0);
+	}
+
+	int count(GenericXmlNode node) {
+		if (!startsWith(node)) return 0;
+		return collect(node, 1, null, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Walks depth first over the result nodes below <code>parentNode</code> and stops after <code>maxCount</code> results.
+	 * @param results gets the result nodes, if not <code>null</code>
+	 * @return number of found result nodes
+	 */
+	private int collect(GenericXmlNode parentNode, int level, Vector<GenericXmlNode> results, int maxCount) {
+		Step step = steps[level];
+		if (step.name!=null)
+			return collect(parentNode.nodes.get(step.name), level, results, maxCount);
+		
+		int count = 0;
+		for (Vector<GenericXmlNode> list : parentNode.nodes.values()) {
+			count += collect(list, level, results, maxCount-count);
+			if (count>=maxCount) break;
+		}
+		return count;
+	}
+
+	private int collect(Vector<GenericXmlNode> list, int level, Vector<GenericXmlNode> results, int maxCount) {
+		if (list==null) return 0;
+		int count = 0;
+		for (int i=0; i<list.size() && count<maxCount; i++) {
+			GenericXmlNode node = list.get(i);
+			if (!steps[level].matches(node)) continue;
+			if (level+1<steps.length)
+				count += collect(node, level+1, results, maxCount-count);
+			else {
+				if (results!=null) results.add(node);
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private static class Step {
+		final String name; // null == wildcard
+		final Predicate[] predicates;
+
+		private Step(String name, Predicate[] predicates) {
+			this.name = name;
+			this.predicates = predicates;
+		}
+
+		static Step parse(String str, String selector) {
+			int pos = str.indexOf('[');
+			String name = pos<0 ? str : str.substring(0, pos);
+			if (name.isEmpty())
+				throw new IllegalArgumentException(String.format("Found a step without name in query \"%s\"", selector));
+
+			Vector<Predicate> predicates = new Vector<>();
+			while (pos>=0) {
+				int end = str.indexOf(']', pos);
+				if (end<0)
+					throw new IllegalArgumentException(String.format("Found unclosed predicate in query \"%s\"", selector));
+				predicates.add(Predicate.parse(str.substring(pos+1, end), selector));
+				pos = end+1;
+				if (pos<str.length() && str.charAt(pos)!='[')
+					throw new IllegalArgumentException(String.format("Found unexpected text after predicate in query \"%s\"", selector));
+				if (pos>=str.length()) pos = -1;
+			}
+
+			return new Step(name.equals("*") ? null : name.intern(), predicates.toArray(Predicate[]::new));
+		}
+
+		boolean matches(GenericXmlNode node) {
+			for (Predicate predicate : predicates)
+				if (!predicate.matches(node))
+					return false;
+			return true;
+		}
+	}
+
+	private record Predicate(String attrName, String value, boolean isNegated) {
+
+		static Predicate parse(String str, String selector) {
+			int pos = str.indexOf('=');
+			if (pos<0) return new Predicate(checkName(str, selector), null, false);
+			boolean isNegated = pos>0 && str.charAt(pos-1)=='!';
+			String attrName = str.substring(0, isNegated ? pos-1 : pos);
+			return new Predicate(checkName(attrName, selector), str.substring(pos+1), isNegated);
+		}
+
+		private static String checkName(String attrName, String selector) {
+			if (attrName.isEmpty())
+				throw new IllegalArgumentException(String.format("Found a predicate without attribute name in query \"%s\"", selector));
+			return attrName;
+		}
+
+		boolean matches(GenericXmlNode node) {
+			String attrValue = node.attributes.get(attrName);
+			if (value==null) return attrValue!=null;
+			return value.equals(attrValue) != isNegated;
+		}
+	}
+
+	/**
+	 * Iterates depth first over the result nodes of a query.
+	 * A Cursor can be used only once (also in a for-each loop).
+	 */
+	static class Cursor implements Iterator<GenericXmlNode>, Iterable<GenericXmlNode> {
+
+		private final Step[] steps;
+		private final Vector<?>[] lists;
+		private final int[] indexes;
+		private final Iterator<?>[] listIterators; // for wildcard steps
+		private int level;
+		private GenericXmlNode nextNode;
+
+		private Cursor(Step[] steps, GenericXmlNode startNode) {
+			this.steps = steps;
+			lists = new Vector<?>[steps.length];
+			indexes = new int[steps.length];
+			listIterators = new Iterator<?>[steps.length];
+			nextNode = null;
+			if (startNode==null)
+				level = 0;
+			else {
+				level = 1;
+				open(level, startNode);
+			}
+		}
+
+		@Override public Iterator<GenericXmlNode> iterator() { return this; }
+
+		@Override public boolean hasNext() {
+			if (nextNode==null) nextNode = findNext();
+			return nextNode!=null;
+		}
+
+		@Override public GenericXmlNode next() {
+			if (!hasNext()) throw new NoSuchElementException();
+			GenericXmlNode node = nextNode;
+			nextNode = null;
+			return node;
+		}
+
+		private void open(int level, GenericXmlNode parentNode) {
+			indexes[level] = 0;
+			if (steps[level].name!=null) {
+				lists[level] = parentNode.nodes.get(steps[level].name);
+				listIterators[level] = null;
+			} else {
+				lists[level] = null;
+				listIterators[level] = parentNode.nodes.values().iterator();
+			}
+		}
+
+		private GenericXmlNode nextCandidate(int level) {
+			while (true) {
+				Vector<?> list = lists[level];
+				if (list!=null && indexes[level]<list.size())
+					return (GenericXmlNode) list.get(indexes[level]++);
+
+				Iterator<?> listIterator = listIterators[level];
+				if (listIterator==null || !listIterator.hasNext())
+					return null;
+
+				lists[level] = (Vector<?>) listIterator.next();
+				indexes[level] = 0;
+			}
+		}
+
+		private GenericXmlNode findNext() {
+			while (level>=1) {
+				GenericXmlNode candidate = nextCandidate(level);
+				if (candidate==null) { level--; continue; }
+				if (!steps[level].matches(candidate)) continue;
+				if (level+1>=steps.length) return candidate;
+				level++;
+				open(level, candidate);
+			}
+			return null;
+		}
+	}
+}
@@ -0,0 +1,563 @@
+package net.schwarzbaer.java.games.snowrunner;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+
+/**
+ * Reads a JSON text token by token (pull parser). No tree of the whole text is built.
+ * <p>
+ * The values of an object are read with an {@link ObjectReader}.
+ * It keeps the scalar values of the object (they are small) and hands the complex values (objects, arrays) to the caller,
+ * that binds them directly, while their tokens arrive. A complex value, that isn't read by the caller, is skipped.
+ */
+class JsonPullReader implements Closeable {
+
+	enum ValueType { Object, Array, String, Integer, Float, Bool, Null }
+
+	static class ParseException extends Exception {
+		private static final long serialVersionUID = -3605185338357349823L;
+		ParseException(String format, Object... objects) { super(String.format(format, objects)); }
+		ParseException(Throwable cause, String format, Object... objects) { super(String.format(format, objects), cause); }
+	}
+
+	interface FieldListener {
+		void fieldFound(String name, ValueType type);
+	}
+
+	private enum Token { BeginObject, EndObject, BeginArray, EndArray, Name, String, Number, True, False, Null, EndOfDocument }
+
+	// scopes
+	private static final int EMPTY_DOCUMENT    = 0;
+	private static final int NONEMPTY_DOCUMENT = 1;
+	private static final int EMPTY_ARRAY       = 2;
+	private static final int NONEMPTY_ARRAY    = 3;
+	private static final int EMPTY_OBJECT      = 4;
+	private static final int DANGLING_NAME     = 5;
+	private static final int NONEMPTY_OBJECT   = 6;
+
+	private final Reader reader;
+	private final char[] buffer;
+	private int pos;
+	private int limit;
+	private long bufferStart; // position of buffer[0] in whole text
+	private int[] scopes;
+	private int scopeCount;
+	private Token peeked;
+	private String peekedStr; // text of Name, String and Number
+	private long consumedTokens;
+	private final StringBuilder sb;
+
+	JsonPullReader(Reader reader) {
+		this.reader = reader;
+		buffer = new char[1<<14];
+		pos = 0;
+		limit = 0;
+		bufferStart = 0;
+		scopes = new int[32];
+		scopes[0] = EMPTY_DOCUMENT;
+		scopeCount = 1;
+		peeked = null;
+		peekedStr = null;
+		consumedTokens = 0;
+		sb = new StringBuilder();
+	}
+
+	static JsonPullReader open(File file) throws IOException {
+		return new JsonPullReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8));
+	}
+
+	@Override public void close() throws IOException {
+		reader.close();
+	}
+
+	// -------------------------------------------------------------------------------------
+	//     values
+
+	ValueType peekType(String debugOutputPrefixStr) throws ParseException {
+		Token token = peek();
+		switch (token) {
+			case BeginObject: return ValueType.Object;
+			case BeginArray : return ValueType.Array;
+			case String     : return ValueType.String;
+			case Number     : return isInteger(peekedStr) ? ValueType.Integer : ValueType.Float;
+			case True       :
+			case False      : return ValueType.Bool;
+			case Null       : return ValueType.Null;
+			default:
+				throw new ParseException("%s: Value expected, but found %s (char %d)", debugOutputPrefixStr, token, getPosition());
+		}
+	}
+
+	private static boolean isInteger(String number) {
+		for (int i=0; i<number.length(); i++) {
+			char ch = number.charAt(i);
+			if (ch=='.' || ch=='e' || ch=='E') return false;
+		}
+		return true;
+	}
+
+	String nextString(String debugOutputPrefixStr) throws ParseException {
+		expect(Token.String, ValueType.String, debugOutputPrefixStr);
+		return consumeStr();
+	}
+
+	long nextInteger(String debugOutputPrefixStr) throws ParseException {
+		expect(Token.Number, ValueType.Integer, debugOutputPrefixStr);
+		if (!isInteger(peekedStr)) throw unexpectedType(ValueType.Integer, debugOutputPrefixStr);
+		return parseInteger(consumeStr(), debugOutputPrefixStr);
+	}
+
+	/** Reads Float and Integer values. */
+	double nextFloat(String debugOutputPrefixStr) throws ParseException {
+		expect(Token.Number, ValueType.Float, debugOutputPrefixStr);
+		return parseFloat(consumeStr(), debugOutputPrefixStr);
+	}
+
+	boolean nextBool(String debugOutputPrefixStr) throws ParseException {
+		Token token = peek();
+		if (token!=Token.True && token!=Token.False) throw unexpectedType(ValueType.Bool, debugOutputPrefixStr);
+		consume();
+		return token==Token.True;
+	}
+
+	void nextNull(String debugOutputPrefixStr) throws ParseException {
+		expect(Token.Null, ValueType.Null, debugOutputPrefixStr);
+		consume();
+	}
+
+	/** Reads any scalar value as String, Long, Double, Boolean or <code>null</code>. */
+	private Object nextScalar(ValueType type, String debugOutputPrefixStr) throws ParseException {
+		switch (type) {
+			case String : return nextString (debugOutputPrefixStr);
+			case Integer: return nextInteger(debugOutputPrefixStr);
+			case Float  : return nextFloat  (debugOutputPrefixStr);
+			case Bool   : return nextBool   (debugOutputPrefixStr);
+			case Null   : nextNull(debugOutputPrefixStr); return null;
+			default: throw new IllegalArgumentException();
+		}
+	}
+
+	void skipValue() throws ParseException {
+		int depth = 0;
+		do {
+			Token token = peek();
+			switch (token) {
+				case BeginObject: beginScope(EMPTY_OBJECT); depth++; break;
+				case BeginArray : beginScope(EMPTY_ARRAY ); depth++; break;
+				case EndObject  :
+				case EndArray   : endScope(); depth--; break;
+				case EndOfDocument:
+					throw new ParseException("Unexpected end of document (char %d)", getPosition());
+				default: break;
+			}
+			consume();
+		}
+		while (depth>0);
+	}
+
+	private static long parseInteger(String str, String debugOutputPrefixStr) throws ParseException {
+		try { return Long.parseLong(str); }
+		catch (NumberFormatException e) {
+			throw new ParseException(e, "%s: Can't parse integer value \"%s\"", debugOutputPrefixStr, str);
+		}
+	}
+
+	private static double parseFloat(String str, String debugOutputPrefixStr) throws ParseException {
+		try { return Double.parseDouble(str); }
+		catch (NumberFormatException e) {
+			throw new ParseException(e, "%s: Can't parse float value \"%s\"", debugOutputPrefixStr, str);
+		}
+	}
+
+	private void expect(Token expectedToken, ValueType expectedType, String debugOutputPrefixStr) throws ParseException {
+		if (peek()!=expectedToken) throw unexpectedType(expectedType, debugOutputPrefixStr);
+	}
+
+	private ParseException unexpectedType(ValueType expectedType, String debugOutputPrefixStr) throws ParseException {
+		Token token = peek();
+		String found = token==Token.EndObject || token==Token.EndArray || token==Token.Name || token==Token.EndOfDocument ? token.name() : peekType(debugOutputPrefixStr).name();
+		return new ParseException("%s isn't a %s value (found: %s, char %d)", debugOutputPrefixStr, expectedType, found, getPosition());
+	}
+
+	// -------------------------------------------------------------------------------------
+	//     objects & arrays
+
+	/**
+	 * Starts reading an object. Its fields are read with {@link ObjectReader#nextField()} or {@link ObjectReader#nextEntry()}.
+	 * @param fieldListener gets name and type of each field (can be <code>null</code>)
+	 */
+	ObjectReader beginObject(String debugOutputPrefixStr, FieldListener fieldListener) throws ParseException {
+		expect(Token.BeginObject, ValueType.Object, debugOutputPrefixStr);
+		beginScope(EMPTY_OBJECT);
+		consume();
+		return new ObjectReader(debugOutputPrefixStr, fieldListener);
+	}
+
+	void beginArray(String debugOutputPrefixStr) throws ParseException {
+		expect(Token.BeginArray, ValueType.Array, debugOutputPrefixStr);
+		beginScope(EMPTY_ARRAY);
+		consume();
+	}
+
+	/** @return <code>true</code>, if the current array has a next value */
+	boolean hasNextValue() throws ParseException {
+		Token token = peek();
+		return token!=Token.EndArray && token!=Token.EndObject && token!=Token.EndOfDocument;
+	}
+
+	void endArray(String debugOutputPrefixStr) throws ParseException {
+		if (peek()!=Token.EndArray)
+			throw new ParseException("%s: End of array expected, but found %s (char %d)", debugOutputPrefixStr, peeked, getPosition());
+		endScope();
+		consume();
+	}
+
+	/** Checks, that nothing but whitespace follows the root value. */
+	void endDocument() throws ParseException {
+		if (peek()!=Token.EndOfDocument)
+			throw new ParseException("End of document expected, but found %s (char %d)", peeked, getPosition());
+	}
+
+	class ObjectReader {
+		private final String debugOutputPrefixStr;
+		private final FieldListener fieldListener;
+		private final HashMap<String,ValueType> types;
+		private final HashMap<String,Object> scalars;
+		private long unreadValue;
+		private boolean isFinished;
+
+		String name;
+		/** debugOutputPrefixStr of current field */
+		String local;
+
+		private ObjectReader(String debugOutputPrefixStr, FieldListener fieldListener) {
+			this.debugOutputPrefixStr = debugOutputPrefixStr;
+			this.fieldListener = fieldListener;
+			types = new HashMap<>();
+			scalars = new HashMap<>();
+			unreadValue = -1;
+			isFinished = false;
+			name = null;
+			local = null;
+		}
+
+		/**
+		 * Goes to the next complex field (object or array), which has to be read by the caller (or is skipped by the next call).
+		 * Scalar fields are stored and can be read via <code>getXXX(name)</code>.
+		 * @return <code>false</code>, if the end of the object is reached
+		 */
+		boolean nextField() throws ParseException {
+			while (nextEntry()) {
+				ValueType type = types.get(name);
+				if (type==ValueType.Object || type==ValueType.Array) return true;
+				scalars.put(name, nextScalar(type, local));
+			}
+			return false;
+		}
+
+		/**
+		 * Goes to the next field, which has to be read by the caller (or is skipped by the next call).
+		 * @return <code>false</code>, if the end of the object is reached
+		 */
+		boolean nextEntry() throws ParseException {
+			if (isFinished) return false;
+			if (unreadValue==consumedTokens) skipValue();
+
+			if (peek()==Token.EndObject) {
+				endScope();
+				consume();
+				isFinished = true;
+				name = null;
+				local = null;
+				return false;
+			}
+			if (peeked!=Token.Name)
+				throw new ParseException("%s: Field name expected, but found %s (char %d)", debugOutputPrefixStr, peeked, getPosition());
+
+			name = consumeStr();
+			local = debugOutputPrefixStr+"."+name;
+			ValueType type = peekType(local);
+			if (types.put(name, type)!=null)
+				throw new ParseException("%s: Field \"%s\" is defined twice", debugOutputPrefixStr, name);
+			if (fieldListener!=null)
+				fieldListener.fieldFound(name, type);
+			unreadValue = consumedTokens;
+			return true;
+		}
+
+		/** Reads the rest of the object. Unread fields are skipped, scalar fields are stored. */
+		ObjectReader finish() throws ParseException {
+			while (nextField()) {}
+			return this;
+		}
+
+		boolean has(String fieldName) {
+			return types.containsKey(fieldName);
+		}
+
+		boolean isNull(String fieldName) {
+			return types.get(fieldName)==ValueType.Null;
+		}
+
+		/**
+		 * @throws ParseException, if field doesn't exist or has an other type than <code>expectedType</code>
+		 */
+		void checkType(String fieldName, ValueType expectedType) throws ParseException {
+			checkType(fieldName, expectedType, false, false);
+		}
+
+		/**
+		 * @throws ParseException, if field doesn't exist (and isn't optional) or has an other type than <code>expectedType</code> (or Null, if it's nullable)
+		 */
+		void checkType(String fieldName, ValueType expectedType, boolean isOptional, boolean isNullable) throws ParseException {
+			ValueType type = types.get(fieldName);
+			if (type==null) {
+				if (isOptional) return;
+				throw new ParseException("%s.%s doesn't exist", debugOutputPrefixStr, fieldName);
+			}
+			if (type==ValueType.Null && isNullable) return;
+			if (type!=expectedType)
+				throw new ParseException("%s.%s isn't a %s value (found: %s)", debugOutputPrefixStr, fieldName, expectedType, type);
+		}
+
+		String  getString (String fieldName) throws ParseException { return getScalar(fieldName, ValueType.String , false, false, String .class); }
+		long    getInteger(String fieldName) throws ParseException { return getScalar(fieldName, ValueType.Integer, false, false, Long   .class); }
+		boolean getBool   (String fieldName) throws ParseException { return getScalar(fieldName, ValueType.Bool   , false, false, Boolean.class); }
+		double  getFloat  (String fieldName) throws ParseException { return getFloat(fieldName, false, false); }
+
+		String  getString (String fieldName, boolean isOptional, boolean isNullable) throws ParseException { return getScalar(fieldName, ValueType.String , isOptional, isNullable, String .class); }
+		Long    getInteger(String fieldName, boolean isOptional, boolean isNullable) throws ParseException { return getScalar(fieldName, ValueType.Integer, isOptional, isNullable, Long   .class); }
+		Boolean getBool   (String fieldName, boolean isOptional, boolean isNullable) throws ParseException { return getScalar(fieldName, ValueType.Bool   , isOptional, isNullable, Boolean.class); }
+
+		/** Reads Float and Integer values. */
+		Double getFloat(String fieldName, boolean isOptional, boolean isNullable) throws ParseException {
+			if (types.get(fieldName)==ValueType.Integer)
+				return getScalar(fieldName, ValueType.Integer, isOptional, isNullable, Long.class).doubleValue();
+			return getScalar(fieldName, ValueType.Float, isOptional, isNullable, Double.class);
+		}
+
+		private <Type> Type getScalar(String fieldName, ValueType expectedType, boolean isOptional, boolean isNullable, Class<Type> valueClass) throws ParseException {
+			ValueType type = types.get(fieldName);
+			if (type==null) {
+				if (isOptional) return null;
+				throw new ParseException("%s.%s doesn't exist", debugOutputPrefixStr, fieldName);
+			}
+			if (type==ValueType.Null && isNullable) return null;
+			if (type!=expectedType)
+				throw new ParseException("%s.%s isn't a %s value (found: %s)", debugOutputPrefixStr, fieldName, expectedType, type);
+			return valueClass.cast(scalars.get(fieldName));
+		}
+	}
+
+	// -------------------------------------------------------------------------------------
+	//     tokenizer
+
+	private long getPosition() {
+		return bufferStart+pos;
+	}
+
+	private void beginScope(int scope) {
+		if (scopeCount==scopes.length) {
+			int[] newScopes = new int[scopes.length*2];
+			System.arraycopy(scopes, 0, newScopes, 0, scopes.length);
+			scopes = newScopes;
+		}
+		scopes[scopeCount++] = scope;
+	}
+
+	private void endScope() {
+		scopeCount--;
+	}
+
+	private void consume() {
+		peeked = null;
+		peekedStr = null;
+		consumedTokens++;
+	}
+
+	private String consumeStr() {
+		String str = peekedStr;
+		consume();
+		return str;
+	}
+
+	private Token peek() throws ParseException {
+		if (peeked!=null) return peeked;
+
+		int c;
+		switch (scopes[scopeCount-1]) {
+			case EMPTY_ARRAY:
+				scopes[scopeCount-1] = NONEMPTY_ARRAY;
+				c = nextNonWhitespace();
+				if (c==']') return peeked = Token.EndArray;
+				pos--;
+				return peeked = readValueToken();
+
+			case NONEMPTY_ARRAY:
+				c = nextNonWhitespace();
+				if (c==']') return peeked = Token.EndArray;
+				if (c!=',') throw syntaxError("',' or ']' expected", c);
+				return peeked = readValueToken();
+
+			case EMPTY_OBJECT:
+			case NONEMPTY_OBJECT:
+				boolean isEmpty = scopes[scopeCount-1]==EMPTY_OBJECT;
+				scopes[scopeCount-1] = DANGLING_NAME;
+				c = nextNonWhitespace();
+				if (c=='}') return peeked = Token.EndObject;
+				if (!isEmpty) {
+					if (c!=',') throw syntaxError("',' or '}' expected", c);
+					c = nextNonWhitespace();
+				}
+				if (c!='"') throw syntaxError("Field name expected", c);
+				peekedStr = readString();
+				return peeked = Token.Name;
+
+			case DANGLING_NAME:
+				scopes[scopeCount-1] = NONEMPTY_OBJECT;
+				c = nextNonWhitespace();
+				if (c!=':') throw syntaxError("':' expected", c);
+				return peeked = readValueToken();
+
+			case EMPTY_DOCUMENT:
+				scopes[scopeCount-1] = NONEMPTY_DOCUMENT;
+				return peeked = readValueToken();
+
+			case NONEMPTY_DOCUMENT:
+				c = nextNonWhitespace();
+				if (c<0) return peeked = Token.EndOfDocument;
+				throw syntaxError("End of document expected", c);
+
+			default:
+				throw new IllegalStateException();
+		}
+	}
+
+	private Token readValueToken() throws ParseException {
+		int c = nextNonWhitespace();
+		switch (c) {
+			case '{': return Token.BeginObject;
+			case '[': return Token.BeginArray;
+			case '"': peekedStr = readString(); return Token.String;
+			case 't': readLiteral("true" ); return Token.True;
+			case 'f': readLiteral("false"); return Token.False;
+			case 'n': readLiteral("null" ); return Token.Null;
+			case '-': case '0': case '1': case '2': case '3': case '4': case '5': case '6': case '7': case '8': case '9':
+				peekedStr = readNumber((char) c);
+				return Token.Number;
+			default:
+				throw syntaxError("Value expected", c);
+		}
+	}
+
+	private void readLiteral(String literal) throws ParseException {
+		// first char is already read
+		for (int i=1; i<literal.length(); i++) {
+			int c = nextChar();
+			if (c!=literal.charAt(i)) throw syntaxError(String.format("\"%s\" expected", literal), c);
+		}
+	}
+
+	private String readNumber(char firstChar) throws ParseException {
+		sb.setLength(0);
+		sb.append(firstChar);
+		while (true) {
+			if (pos==limit && !fillBuffer()) break;
+			char ch = buffer[pos];
+			if (('0'<=ch && ch<='9') || ch=='.' || ch=='e' || ch=='E' || ch=='+' || ch=='-') {
+				sb.append(ch);
+				pos++;
+			}
+			else break;
+		}
+		return sb.toString();
+	}
+
+	private String readString() throws ParseException {
+		// starting '"' is already read
+		sb.setLength(0);
+		while (true) {
+			int start = pos;
+			while (pos<limit) {
+				char ch = buffer[pos];
+				if (ch=='"') {
+					sb.append(buffer, start, pos-start);
+					pos++;
+					return sb.toString();
+				}
+				if (ch=='\\') break;
+				pos++;
+			}
+			sb.append(buffer, start, pos-start);
+
+			if (pos==limit) {
+				if (!fillBuffer()) throw new ParseException("Unexpected end of document in string (char %d)", getPosition());
+				continue;
+			}
+
+			pos++; // '\\'
+			int c = nextChar();
+			switch (c) {
+				case '"' : sb.append('"' ); break;
+				case '\\': sb.append('\\'); break;
+				case '/' : sb.append('/' ); break;
+				case 'b' : sb.append('\b'); break;
+				case 'f' : sb.append('\f'); break;
+				case 'n' : sb.append('\n'); break;
+				case 'r' : sb.append('\r'); break;
+				case 't' : sb.append('\t'); break;
+				case 'u' :
+					int value = 0;
+					for (int i=0; i<4; i++) {
+						int digit = Character.digit(nextChar(), 16);
+						if (digit<0) throw new ParseException("Malformed \\u escape sequence in string (char %d)", getPosition());
+						value = value*16 + digit;
+					}
+					sb.append((char) value);
+					break;
+				default:
+					throw syntaxError("Escape sequence expected", c);
+			}
+		}
+	}
+
+	private int nextChar() throws ParseException {
+		if (pos==limit && !fillBuffer()) return -1;
+		return buffer[pos++];
+	}
+
+	/** Skips whitespace, NUL chars (written by the game at the end of a file) and BOM. */
+	private int nextNonWhitespace() throws ParseException {
+		while (true) {
+			if (pos==limit && !fillBuffer()) return -1;
+			char ch = buffer[pos++];
+			if (ch==' ' || ch=='\n' || ch=='\r' || ch=='\t' || ch=='\0' || ch=='\uFEFF') continue;
+			return ch;
+		}
+	}
+
+	private boolean fillBuffer() throws ParseException {
+		bufferStart += limit;
+		pos = 0;
+		limit = 0;
+		try {
+			int n = reader.read(buffer, 0, buffer.length);
+			if (n<=0) return false;
+			limit = n;
+			return true;
+		} catch (IOException e) {
+			throw new ParseException(e, "IOException while reading JSON text (char %d): %s", getPosition(), e.getMessage());
+		}
+	}
+
+	private ParseException syntaxError(String message, int c) {
+		String found = c<0 ? "end of document" : String.format("'%s'", (char) c);
+		return new ParseException("%s, but found %s (char %d)", message, found, getPosition()-(c<0 ? 0 : 1));
+	}
+}
@@ -0,0 +1,538 @@
+package net.schwarzbaer.java.games.snowrunner;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Vector;
+import java.util.function.ToDoubleFunction;
+
+import net.schwarzbaer.java.games.snowrunner.Data.Engine;
+import net.schwarzbaer.java.games.snowrunner.Data.Gearbox;
+import net.schwarzbaer.java.games.snowrunner.Data.Suspension;
+import net.schwarzbaer.java.games.snowrunner.Data.Trailer;
+import net.schwarzbaer.java.games.snowrunner.Data.Truck;
+import net.schwarzbaer.java.games.snowrunner.Data.TruckAddon;
+import net.schwarzbaer.java.games.snowrunner.Data.TruckTire;
+import net.schwarzbaer.java.games.snowrunner.Data.Winch;
+
+/**
+ * Searches the configuration space of a truck (engine, gearbox, suspension, winch, tires and one addon per {@link Truck.AddonSockets AddonSockets} group)
+ * for the loadouts with the highest value of an objective {@link Criterion}.
+ * <p>
+ * Each part of a loadout is a decision ("slot"). The search is a branch-and-bound over these slots:
+ * A partial loadout is dropped, if it can't reach the value of the current top N loadouts anymore, if it exceeds a limit or if it can't get all required features.
+ * The first decisions are distributed over parallel workers, that share the top N list.
+ * Loadouts with the same value are ordered by {@link Loadout#getKey()}, so the result doesn't depend on the order, in which the workers find them.
+ * <p>
+ * "RequiredAddons" of the addons and blocked sockets are honored, "ExcludeAddons" of the truck are already honored by {@link Truck#compatibleTruckAddons}.
+ * An addon can't be installed twice. Compatible trailers count as available for "RequiredAddons", like in the rest of the tool.
+ * The default parts of the truck don't count for {@link #setMaxPrice(int)}.
+ * The game data defines no default tires, so the 1st tire of the 1st compatible wheels is taken as the default tire (the one a new truck gets).
+ */
+public class LoadoutOptimizer {
+
+	public enum Feature { AWD, DiffLock }
+
+	/**
+	 * A value, that is summed up over all parts of a loadout. Parts without a defined value function count as 0.
+	 */
+	public static class Criterion {
+		private ToDoubleFunction<TruckAddon> addonValue      = part->0;
+		private ToDoubleFunction<Engine    > engineValue     = part->0;
+		private ToDoubleFunction<Gearbox   > gearboxValue    = part->0;
+		private ToDoubleFunction<Suspension> suspensionValue = part->0;
+		private ToDoubleFunction<Winch     > winchValue      = part->0;
+		private ToDoubleFunction<TruckTire > tireValue       = part->0;
+
+		public Criterion addons     (ToDoubleFunction<TruckAddon> addonValue     ) { this.addonValue      = Objects.requireNonNull(addonValue     ); return this; }
+		public Criterion engines    (ToDoubleFunction<Engine    > engineValue    ) { this.engineValue     = Objects.requireNonNull(engineValue    ); return this; }
+		public Criterion gearboxes  (ToDoubleFunction<Gearbox   > gearboxValue   ) { this.gearboxValue    = Objects.requireNonNull(gearboxValue   ); return this; }
+		public Criterion suspensions(ToDoubleFunction<Suspension> suspensionValue) { this.suspensionValue = Objects.requireNonNull(suspensionValue); return this; }
+		public Criterion winches    (ToDoubleFunction<Winch     > winchValue     ) { this.winchValue      = Objects.requireNonNull(winchValue     ); return this; }
+		public Criterion tires      (ToDoubleFunction<TruckTire > tireValue      ) { this.tireValue       = Objects.requireNonNull(tireValue      ); return this; }
+
+		public static Criterion cargoSlots () { return new Criterion().addons(addon->valueOf(addon.gameData.cargoSlots)); }
+		public static Criterion mudFriction() { return new Criterion().tires(tire->valueOf(tire.frictionMud)); }
+		public static Criterion price() {
+			return new Criterion()
+					.addons     (part->valueOf(part.gameData.price))
+					.engines    (part->valueOf(part.gameData.price))
+					.gearboxes  (part->valueOf(part.gameData.price))
+					.suspensions(part->valueOf(part.gameData.price))
+					.winches    (part->valueOf(part.gameData.price))
+					.tires      (part->valueOf(part.gameData.price));
+		}
+
+		private static double valueOf(Number value) { return value==null ? 0 : value.doubleValue(); }
+
+		private double getValue(SlotType slotType, Object part) {
+			if (part==null) return 0;
+			return switch (slotType) {
+				case Addon      -> addonValue     .applyAsDouble((TruckAddon) part);
+				case Engine     -> engineValue    .applyAsDouble((Engine    ) part);
+				case Gearbox    -> gearboxValue   .applyAsDouble((Gearbox   ) part);
+				case Suspension -> suspensionValue.applyAsDouble((Suspension) part);
+				case Winch      -> winchValue     .applyAsDouble((Winch     ) part);
+				case Tire       -> tireValue      .applyAsDouble((TruckTire ) part);
+			};
+		}
+	}
+
+	/**
+	 * @param price  sum of prices of all parts, that aren't installed by default
+	 * @param addons installed addon of each {@link Truck.AddonSockets AddonSockets} group (index == {@link Truck.AddonSockets#index}) or <code>null</code>
+	 */
+	public record Loadout(double value, int price, Engine engine, Gearbox gearbox, Suspension suspension, Winch winch, Truck.CompatibleWheel wheel, TruckTire tire, TruckAddon[] addons) {
+		private boolean hasSameParts(Loadout other) {
+			return engine==other.engine && gearbox==other.gearbox && suspension==other.suspension && winch==other.winch
+					&& wheel==other.wheel && tire==other.tire && Arrays.equals(addons, other.addons);
+		}
+
+		/**
+		 * @return a string of the IDs of all parts, that doesn't depend on object identities
+		 */
+		public String getKey() {
+			StringBuilder sb = new StringBuilder();
+			sb.append(getKey(engine    )).append(';');
+			sb.append(getKey(gearbox   )).append(';');
+			sb.append(getKey(suspension)).append(';');
+			sb.append(getKey(winch     )).append(';');
+			if (tire!=null) sb.append(String.format("%s|%d|%s", tire.wheelsDefID, tire.indexInDef, wheel==null ? null : wheel.scale));
+			sb.append(';');
+			for (TruckAddon addon : addons)
+				sb.append(addon==null ? "" : addon.id).append(';');
+			return sb.toString();
+		}
+
+		private static String getKey(Data.TruckComponent component) {
+			return component==null ? "" : component.setID+"|"+component.id;
+		}
+	}
+
+	private record Limit(Criterion criterion, double maxValue, boolean ignoreDefaultParts) {}
+
+	private enum SlotType { Engine, Gearbox, Suspension, Winch, Tire, Addon }
+
+	private record Option(Object part, Truck.CompatibleWheel wheel, Data.FoundSocket socket, double value, double[] costs, int features) {
+		TruckAddon addon() { return part instanceof TruckAddon addon ? addon : null; }
+	}
+
+	private static class Slot {
+		final SlotType type;
+		final int addonSocketsIndex;
+		final Option[] options; // sorted by value, best first
+		final double maxValue;
+		final double spread;
+
+		Slot(SlotType type, int addonSocketsIndex, Collection<Option> options) {
+			this.type = type;
+			this.addonSocketsIndex = addonSocketsIndex;
+			this.options = options.toArray(Option[]::new);
+			Arrays.sort(this.options, Comparator.comparingDouble(Option::value).reversed());
+			maxValue = this.options[0].value;
+			spread   = maxValue - this.options[this.options.length-1].value;
+		}
+	}
+
+	private final Truck truck;
+	private final Truck.CompatibleWheel defaultWheel;
+	private final TruckTire defaultTire;
+	private Criterion objective;
+	private final Vector<Limit> limits;
+	private final EnumSet<Feature> requiredFeatures;
+
+	public LoadoutOptimizer(Truck truck) {
+		this.truck = Objects.requireNonNull(truck);
+		Truck.CompatibleWheel firstWheel = null;
+		for (Truck.CompatibleWheel wheel : truck.compatibleWheels)
+			if (wheel.wheelsDef!=null && !wheel.wheelsDef.truckTires.isEmpty()) { firstWheel = wheel; break; }
+		defaultWheel = firstWheel;
+		defaultTire  = firstWheel==null ? null : firstWheel.wheelsDef.truckTires.get(0);
+		objective = new Criterion();
+		limits = new Vector<>();
+		requiredFeatures = EnumSet.noneOf(Feature.class);
+		limits.add(new Limit(Criterion.price(), Double.POSITIVE_INFINITY, true)); // limits[0] is always the price
+	}
+
+	public LoadoutOptimizer setObjective(Criterion objective) { this.objective = Objects.requireNonNull(objective); return this; }
+	public LoadoutOptimizer setMaxPrice(int maxPrice) { limits.set(0, new Limit(Criterion.price(), maxPrice, true)); return this; }
+	public LoadoutOptimizer addLimit(Criterion criterion, double maxValue) { limits.add(new Limit(Objects.requireNonNull(criterion), maxValue, false)); return this; }
+	public LoadoutOptimizer require(Feature feature) { requiredFeatures.add(Objects.requireNonNull(feature)); return this; }
+
+	/**
+	 * @return the best <code>n</code> loadouts, best first
+	 */
+	public Vector<Loadout> findBest(int n) {
+		if (n<1) throw new IllegalArgumentException();
+		return new Search(n).run();
+	}
+
+	/**
+	 * Reference implementation for checks: tests all loadouts without any pruning.
+	 * @return the best <code>n</code> loadouts, best first (same order as {@link #findBest(int)})
+	 */
+	public Vector<Loadout> findBestByBruteForce(int n) {
+		if (n<1) throw new IllegalArgumentException();
+		return new Search(n).runBruteForce();
+	}
+
+	/**
+	 * @return number of all loadouts (valid or not), that {@link #findBestByBruteForce(int)} would test, saturated at {@link Long#MAX_VALUE}
+	 */
+	public long getLoadoutCount() {
+		long count = 1;
+		for (Slot slot : createSlots()) {
+			if (count > Long.MAX_VALUE/slot.options.length) return Long.MAX_VALUE;
+			count *= slot.options.length;
+		}
+		return count;
+	}
+
+	private static int toBits(EnumSet<Feature> features) {
+		int bits = 0;
+		for (Feature feature : features) bits |= 1<<feature.ordinal();
+		return bits;
+	}
+
+	private boolean isDefaultPart(Object part, Truck.CompatibleWheel wheel) {
+		if (part==null) return true;
+		if (part instanceof TruckTire) return part==defaultTire && wheel==defaultWheel;
+		if (part==truck.defaultEngine    ) return true;
+		if (part==truck.defaultGearbox   ) return true;
+		if (part==truck.defaultSuspension) return true;
+		if (part==truck.defaultWinch     ) return true;
+		return part instanceof TruckAddon && truck.defaultAddons.contains(part);
+	}
+
+	private Option createOption(SlotType slotType, Object part, Truck.CompatibleWheel wheel, Data.FoundSocket socket) {
+		double[] costs = new double[limits.size()];
+		for (int i=0; i<costs.length; i++) {
+			Limit limit = limits.get(i);
+			costs[i] = limit.ignoreDefaultParts && isDefaultPart(part, wheel) ? 0 : limit.criterion.getValue(slotType, part);
+		}
+		int features = 0;
+		if (part instanceof TruckAddon addon) {
+			if (addon.enablesAllWheelDrive!=null && addon.enablesAllWheelDrive.booleanValue()) features |= 1<<Feature.AWD.ordinal();
+			if (addon.enablesDiffLock     !=null && addon.enablesDiffLock     .booleanValue()) features |= 1<<Feature.DiffLock.ordinal();
+		}
+		return new Option(part, wheel, socket, objective.getValue(slotType, part), costs, features);
+	}
+
+	private Slot createComponentSlot(SlotType slotType, Collection<?> parts) {
+		Vector<Option> options = new Vector<>();
+		for (Object part : parts) options.add(createOption(slotType, part, null, null));
+		if (options.isEmpty()) options.add(createOption(slotType, null, null, null));
+		return new Slot(slotType, -1, options);
+	}
+
+	private Vector<Slot> createSlots() {
+		Vector<Slot> slots = new Vector<>();
+		slots.add(createComponentSlot(SlotType.Engine    , truck.compatibleEngines    ));
+		slots.add(createComponentSlot(SlotType.Gearbox   , truck.compatibleGearboxes  ));
+		slots.add(createComponentSlot(SlotType.Suspension, truck.compatibleSuspensions));
+		slots.add(createComponentSlot(SlotType.Winch     , truck.compatibleWinches    ));
+
+		Vector<Option> tireOptions = new Vector<>();
+		for (Truck.CompatibleWheel wheel : truck.compatibleWheels)
+			if (wheel.wheelsDef!=null)
+				for (TruckTire tire : wheel.wheelsDef.truckTires)
+					tireOptions.add(createOption(SlotType.Tire, tire, wheel, null));
+		if (tireOptions.isEmpty()) tireOptions.add(createOption(SlotType.Tire, null, null, null));
+		slots.add(new Slot(SlotType.Tire, -1, tireOptions));
+
+		for (Truck.AddonSockets addonSockets : truck.addonSockets) {
+			Vector<Option> options = new Vector<>();
+			for (Vector<TruckAddon> list : truck.compatibleTruckAddons.values())
+				for (TruckAddon addon : list)
+					for (Truck.AddonSockets.Socket socket : addonSockets.sockets)
+						if (Data.contains(socket.socketIDs, addon.gameData.installSocket))
+							options.add(createOption(SlotType.Addon, addon, null, new Data.FoundSocket(addonSockets, socket, addon.gameData.installSocket)));
+			if (options.isEmpty()) continue;
+			options.add(createOption(SlotType.Addon, null, null, null)); // empty group
+			slots.add(new Slot(SlotType.Addon, addonSockets.index, options));
+		}
+
+		// decisions with a big influence on the objective first --> good loadouts are found early --> more pruning
+		slots.sort(Comparator.<Slot>comparingDouble(slot->slot.spread).reversed().thenComparingInt(slot->slot.options.length));
+		return slots;
+	}
+
+	/**
+	 * Top N list, shared by all workers.
+	 * {@link #threshold} is the value of the worst loadout in the full list. A loadout with the same value gets into the list, if it has a lower key.
+	 */
+	private static class TopN {
+		private static final Comparator<Loadout> WORST_FIRST = Comparator.comparingDouble(Loadout::value).thenComparing(Loadout::getKey, Comparator.reverseOrder());
+
+		private final int n;
+		private final PriorityQueue<Loadout> queue;
+		private volatile double threshold;
+
+		TopN(int n) {
+			this.n = n;
+			queue = new PriorityQueue<>(WORST_FIRST);
+			threshold = Double.NEGATIVE_INFINITY;
+		}
+
+		/** upper bounds are summed up in another order than the values of the loadouts --> small tolerance for rounding errors */
+		boolean canBeReached(double maxValue) { return maxValue >= threshold - 1e-9*Math.abs(threshold); }
+
+		synchronized void add(Loadout loadout) {
+			if (queue.size()>=n && WORST_FIRST.compare(loadout, queue.peek())<=0) return;
+			for (Loadout other : queue)
+				if (other.hasSameParts(loadout)) return; // same addon in another socket of the same group
+			queue.add(loadout);
+			if (queue.size()>n) queue.poll();
+			if (queue.size()>=n) threshold = queue.peek().value;
+		}
+
+		synchronized Vector<Loadout> getSorted() {
+			Vector<Loadout> loadouts = new Vector<>(queue);
+			loadouts.sort(WORST_FIRST.reversed());
+			return loadouts;
+		}
+	}
+
+	private class Search {
+
+		private final TopN topN;
+		private final Slot[] slots;
+		private final double[] remainingMaxValue;   // [depth] -> sum of max values of slots[depth..]
+		private final double[][] remainingMinCosts; // [depth][limit] -> sum of min costs of slots[depth..]
+		private final int[] remainingFeatures;      // [depth] -> features, that slots[depth..] can provide
+		private final HashMap<String,Integer> lastHostSlot; // addon ID -> last slot, that can hold it
+		private final HashSet<String> trailerIDs;
+		private final int baseFeatures;
+		private final int requiredFeatureBits;
+
+		Search(int n) {
+			topN = new TopN(n);
+			slots = createSlots().toArray(Slot[]::new);
+
+			remainingMaxValue = new double[slots.length+1];
+			remainingMinCosts = new double[slots.length+1][limits.size()];
+			remainingFeatures = new int[slots.length+1];
+			lastHostSlot = new HashMap<>();
+			for (int depth=slots.length-1; depth>=0; depth--) {
+				remainingMaxValue[depth] = remainingMaxValue[depth+1] + slots[depth].maxValue;
+				remainingFeatures[depth] = remainingFeatures[depth+1];
+				for (int i=0; i<limits.size(); i++) {
+					double minCost = Double.POSITIVE_INFINITY;
+					for (Option option : slots[depth].options) minCost = Math.min(minCost, option.costs[i]);
+					remainingMinCosts[depth][i] = remainingMinCosts[depth+1][i] + minCost;
+				}
+				for (Option option : slots[depth].options) {
+					remainingFeatures[depth] |= option.features;
+					TruckAddon addon = option.addon();
+					if (addon!=null) lastHostSlot.putIfAbsent(addon.id, depth);
+				}
+			}
+
+			trailerIDs = new HashSet<>();
+			for (Trailer trailer : truck.compatibleTrailers) trailerIDs.add(trailer.id);
+
+			baseFeatures = truck.diffLockType==Truck.DiffLockType.Always ? 1<<Feature.DiffLock.ordinal() : 0;
+			requiredFeatureBits = toBits(requiredFeatures);
+		}
+
+		Vector<Loadout> run() {
+			// prefixes of the first decisions --> one task per prefix
+			int minTaskCount = Runtime.getRuntime().availableProcessors()*4;
+			Vector<Option[]> tasks = new Vector<>();
+			tasks.add(new Option[0]);
+			for (int depth=0; depth<slots.length && tasks.size()<minTaskCount; depth++) {
+				Vector<Option[]> nextTasks = new Vector<>();
+				for (Option[] prefix : tasks)
+					for (Option option : slots[depth].options) {
+						Option[] task = Arrays.copyOf(prefix, depth+1);
+						task[depth] = option;
+						nextTasks.add(task);
+					}
+				tasks = nextTasks;
+			}
+
+			tasks.parallelStream().forEach(prefix->new Worker().run(prefix));
+			return topN.getSorted();
+		}
+
+		Vector<Loadout> runBruteForce() {
+			enumerate(new Option[slots.length], 0);
+			return topN.getSorted();
+		}
+
+		private void enumerate(Option[] chosen, int depth) {
+			if (depth==slots.length) {
+				if (isValid(chosen)) {
+					double value = 0;
+					for (Option option : chosen) value += option.value;
+					topN.add(createLoadout(chosen, value, sumCosts(chosen, 0)));
+				}
+				return;
+			}
+			for (Option option : slots[depth].options) {
+				chosen[depth] = option;
+				enumerate(chosen, depth+1);
+			}
+		}
+
+		private static double sumCosts(Option[] chosen, int limitIndex) {
+			double cost = 0;
+			for (Option option : chosen) cost += option.costs[limitIndex];
+			return cost;
+		}
+
+		private boolean isValid(Option[] chosen) {
+			HashSet<String> addonIDs = new HashSet<>();
+			int features = baseFeatures;
+			for (Option option : chosen) {
+				features |= option.features;
+				TruckAddon addon = option.addon();
+				if (addon!=null && !addonIDs.add(addon.id)) return false;
+			}
+			if ((features & requiredFeatureBits) != requiredFeatureBits) return false;
+
+			for (int i=0; i<limits.size(); i++)
+				if (sumCosts(chosen, i) > limits.get(i).maxValue) return false;
+
+			for (Option optionA : chosen)
+				for (Option optionB : chosen)
+					if (optionA!=optionB && optionA.socket!=null && optionB.socket!=null && Data.socketBIsBlockedBySocketA(optionA.socket, optionB.socket))
+						return false;
+
+			for (Option option : chosen) {
+				TruckAddon addon = option.addon();
+				if (addon==null) continue;
+				for (String[] alternatives : addon.gameData.requiredAddons) {
+					boolean isFulfilled = false;
+					for (String id : alternatives)
+						if (addonIDs.contains(id) || trailerIDs.contains(id)) { isFulfilled = true; break; }
+					if (!isFulfilled) return false;
+				}
+			}
+			return true;
+		}
+
+		private Loadout createLoadout(Option[] chosen, double value, double price) {
+			Engine engine = null;
+			Gearbox gearbox = null;
+			Suspension suspension = null;
+			Winch winch = null;
+			Truck.CompatibleWheel wheel = null;
+			TruckTire tire = null;
+			TruckAddon[] addons = new TruckAddon[truck.addonSockets.length];
+			for (int i=0; i<slots.length; i++) {
+				Option option = chosen[i];
+				switch (slots[i].type) {
+					case Engine     -> engine     = (Engine    ) option.part;
+					case Gearbox    -> gearbox    = (Gearbox   ) option.part;
+					case Suspension -> suspension = (Suspension) option.part;
+					case Winch      -> winch      = (Winch     ) option.part;
+					case Tire       -> { tire = (TruckTire) option.part; wheel = option.wheel; }
+					case Addon      -> addons[slots[i].addonSocketsIndex] = option.addon();
+				}
+			}
+			return new Loadout(value, (int) Math.round(price), engine, gearbox, suspension, winch, wheel, tire, addons);
+		}
+
+		/**
+		 * Values, costs and features are summed up per depth (not added and subtracted again),
+		 * so the value of a loadout doesn't depend on the path, on which it was found.
+		 */
+		private class Worker {
+			private final Option[] chosen = new Option[slots.length];
+			private final double[] values = new double[slots.length+1];                // [depth] -> value of chosen[..depth)
+			private final double[][] costs = new double[slots.length+1][limits.size()]; // [depth][limit] -> costs of chosen[..depth)
+			private final int[] features = new int[slots.length+1];                    // [depth] -> features of chosen[..depth)
+			private final HashSet<String> chosenAddonIDs = new HashSet<>();
+
+			Worker() {
+				features[0] = baseFeatures;
+			}
+
+			void run(Option[] prefix) {
+				for (int depth=0; depth<prefix.length; depth++)
+					if (!choose(depth, prefix[depth]))
+						return;
+				search(prefix.length);
+			}
+
+			private void search(int depth) {
+				if (!topN.canBeReached(values[depth] + remainingMaxValue[depth])) return;
+				if (((features[depth] | remainingFeatures[depth]) & requiredFeatureBits) != requiredFeatureBits) return;
+
+				if (depth==slots.length) {
+					topN.add(createLoadout(chosen, values[depth], costs[depth][0]));
+					return;
+				}
+
+				for (Option option : slots[depth].options) {
+					if (!topN.canBeReached(values[depth] + option.value + remainingMaxValue[depth+1]))
+						break; // options are sorted by value
+					if (choose(depth, option)) {
+						search(depth+1);
+						unchoose(depth);
+					}
+				}
+			}
+
+			private boolean choose(int depth, Option option) {
+				for (int i=0; i<limits.size(); i++)
+					if (costs[depth][i] + option.costs[i] + remainingMinCosts[depth+1][i] > limits.get(i).maxValue)
+						return false;
+
+				TruckAddon addon = option.addon();
+				if (addon!=null) {
+					if (chosenAddonIDs.contains(addon.id)) return false;
+					for (int i=0; i<depth; i++)
+						if (chosen[i].socket!=null && (Data.socketBIsBlockedBySocketA(chosen[i].socket, option.socket) || Data.socketBIsBlockedBySocketA(option.socket, chosen[i].socket)))
+							return false;
+				}
+
+				chosen[depth] = option;
+				values[depth+1] = values[depth] + option.value;
+				for (int i=0; i<limits.size(); i++) costs[depth+1][i] = costs[depth][i] + option.costs[i];
+				features[depth+1] = features[depth] | option.features;
+				if (addon!=null) chosenAddonIDs.add(addon.id);
+
+				if (!areRequiredAddonsReachable(depth)) {
+					unchoose(depth);
+					return false;
+				}
+				return true;
+			}
+
+			private void unchoose(int depth) {
+				TruckAddon addon = chosen[depth].addon();
+				chosen[depth] = null;
+				if (addon!=null) chosenAddonIDs.remove(addon.id);
+			}
+
+			/**
+			 * @return <code>true</code>, if each "RequiredAddons" group of all chosen addons is fulfilled by a chosen addon, a compatible trailer or a slot after <code>depth</code>
+			 */
+			private boolean areRequiredAddonsReachable(int depth) {
+				for (int i=0; i<=depth; i++) {
+					TruckAddon addon = chosen[i].addon();
+					if (addon==null) continue;
+					for (String[] alternatives : addon.gameData.requiredAddons) {
+						boolean isReachable = false;
+						for (String id : alternatives) {
+							Integer lastHost = lastHostSlot.get(id);
+							if (chosenAddonIDs.contains(id) || trailerIDs.contains(id) || (lastHost!=null && lastHost.intValue()>depth)) {
+								isReachable = true;
+								break;
+							}
+						}
+						if (!isReachable) return false;
+					}
+				}
+				return true;
+			}
+		}
+	}
+}
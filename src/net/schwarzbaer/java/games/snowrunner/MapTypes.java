@@ -2,10 +2,13 @@ package net.schwarzbaer.java.games.snowrunner;
 
 import java.io.PrintStream;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Set;
 import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
@@ -42,6 +45,37 @@ public class MapTypes {
 		}
 	}
 	
+	public static class ConcurrentSetMap<MapKeyType,SetValueType> extends ConcurrentHashMap<MapKeyType,Set<SetValueType>> {
+		private static final long serialVersionUID = 3586046128414000372L;
+		private final Comparator<? super MapKeyType> compMapKeyType;
+		private final Comparator<? super SetValueType> compSetValueType;
+		
+		ConcurrentSetMap(Comparator<? super MapKeyType> compMapKeyType, Comparator<? super SetValueType> compSetValueType) {
+			this.compMapKeyType = compMapKeyType;
+			this.compSetValueType = compSetValueType;
+		}
+		
+		void add(MapKeyType key, SetValueType value) {
+			if (key==null) throw new IllegalArgumentException();
+			computeIfAbsent(key, k->Collections.synchronizedSet(new HashSet<>())).add(value);
+		}
+		
+		void print(PrintStream out, String label) {
+			out.printf("%s:%n", label);
+			Vector<MapKeyType> keys = new Vector<>(keySet());
+			keys.sort(compMapKeyType);
+			for (MapKeyType key : keys) {
+				out.printf("   %s%n", key);
+				Set<SetValueType> set = get(key);
+				Vector<SetValueType> values;
+				synchronized (set) { values = new Vector<>(set); }
+				values.sort(compSetValueType);
+				for (SetValueType value : values)
+					out.printf("      %s%n", value);
+			}
+		}
+	}
+	
 	public static class StringVectorMap<ValueType> extends VectorMap<String,ValueType> {
 		private static final long serialVersionUID = -8709491018088867713L;
 
@@ -0,0 +1,208 @@
+package net.schwarzbaer.java.games.snowrunner;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Vector;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Columnar view of numeric values of a set of rows (trucks, addons, truck components).
+ * <p>
+ * Each row gets a stable ordinal, its position in the row list given at creation.
+ * The values of a column are stored in a primitive array indexed by ordinal, missing values are marked in a {@link BitSet}.
+ * So filtering, sorting and statistics can scan the values without boxing.
+ * Values are compared like {@link Integer#compare(int, int)} and {@link Float#compare(float, float)}.
+ * <p>
+ * Table models build a view from the numeric columns of their table (see <code>VerySimpleTableModel</code>), so column IDs are the IDs of the table columns.
+ */
+public class MetricColumns<RowType> {
+
+	private final Vector<RowType> rows;
+	private final IdentityHashMap<RowType,Integer> ordinals;
+	private final HashMap<String,FloatColumn> floatColumns;
+	private final HashMap<String,IntColumn> intColumns;
+
+	public MetricColumns(Collection<RowType> rows) {
+		this.rows = new Vector<>(rows);
+		ordinals = new IdentityHashMap<>();
+		for (int i=0; i<this.rows.size(); i++)
+			ordinals.put(this.rows.get(i), i);
+		floatColumns = new HashMap<>();
+		intColumns = new HashMap<>();
+	}
+
+	public MetricColumns<RowType> addFloatColumn(String id, Function<RowType,Float> getValue) {
+		if (floatColumns.containsKey(id) || intColumns.containsKey(id)) throw new IllegalArgumentException(String.format("Column \"%s\" exists already", id));
+		float[] values = new float[rows.size()];
+		BitSet nulls = new BitSet(rows.size());
+		for (int i=0; i<values.length; i++) {
+			Float value = getValue.apply(rows.get(i));
+			if (value==null) nulls.set(i);
+			else values[i] = value.floatValue();
+		}
+		floatColumns.put(id, new FloatColumn(id, values, nulls));
+		return this;
+	}
+
+	public MetricColumns<RowType> addIntColumn(String id, Function<RowType,Integer> getValue) {
+		if (floatColumns.containsKey(id) || intColumns.containsKey(id)) throw new IllegalArgumentException(String.format("Column \"%s\" exists already", id));
+		int[] values = new int[rows.size()];
+		BitSet nulls = new BitSet(rows.size());
+		for (int i=0; i<values.length; i++) {
+			Integer value = getValue.apply(rows.get(i));
+			if (value==null) nulls.set(i);
+			else values[i] = value.intValue();
+		}
+		intColumns.put(id, new IntColumn(id, values, nulls));
+		return this;
+	}
+
+	public int size() { return rows.size(); }
+	public RowType getRow(int ordinal) { return rows.get(ordinal); }
+
+	/** @return ordinal of given row or -1, if it's not in this view */
+	public int getOrdinal(RowType row) {
+		Integer ordinal = ordinals.get(row);
+		return ordinal==null ? -1 : ordinal.intValue();
+	}
+
+	public FloatColumn getFloatColumn(String id) { return floatColumns.get(id); }
+	public IntColumn   getIntColumn  (String id) { return intColumns  .get(id); }
+
+	public static abstract class Column {
+		public final String id;
+		protected final BitSet nulls;
+
+		private Column(String id, BitSet nulls) {
+			this.id = id;
+			this.nulls = nulls;
+		}
+
+		public abstract int size();
+		public boolean isNull(int ordinal) { return nulls.get(ordinal); }
+		public int countValues() { return size() - nulls.cardinality(); }
+		public BitSet getNullOrdinals() { return (BitSet) nulls.clone(); }
+
+		/** @return <code>a</code> &lt; <code>b</code> : negative, <code>a</code> == <code>b</code> : 0, <code>a</code> &gt; <code>b</code> : positive (only for non null values) */
+		protected abstract int compareValues(int a, int b);
+
+		/**
+		 * @return all ordinals sorted by the values of this column, rows with equal values keep their order, rows without value are at the end
+		 */
+		public int[] getSortedOrdinals(boolean ascending) {
+			int[] ordinals = new int[size()];
+			int valueCount = 0;
+			for (int i = nulls.nextClearBit(0); i<ordinals.length; i = nulls.nextClearBit(i+1))
+				ordinals[valueCount++] = i;
+			int nullIndex = valueCount;
+			for (int i = nulls.nextSetBit(0); i>=0; i = nulls.nextSetBit(i+1))
+				ordinals[nullIndex++] = i;
+			
+			mergeSort(ordinals, new int[valueCount], 0, valueCount, ascending ? this::compareValues : (a,b)->compareValues(b,a));
+			return ordinals;
+		}
+
+		// stable sort of ordinals[from..to) without boxing
+		private static void mergeSort(int[] ordinals, int[] buffer, int from, int to, IntBinaryOperator compare) {
+			if (to-from<2) return;
+			int mid = (from+to)>>>1;
+			mergeSort(ordinals, buffer, from, mid, compare);
+			mergeSort(ordinals, buffer, mid, to, compare);
+			if (compare.applyAsInt(ordinals[mid-1], ordinals[mid])<=0) return;
+			
+			System.arraycopy(ordinals, from, buffer, from, to-from);
+			int i = from, j = mid, k = from;
+			while (i<mid && j<to)
+				ordinals[k++] = compare.applyAsInt(buffer[j], buffer[i])<0 ? buffer[j++] : buffer[i++];
+			while (i<mid) ordinals[k++] = buffer[i++];
+			while (j<to ) ordinals[k++] = buffer[j++];
+		}
+	}
+
+	public static class FloatColumn extends Column {
+		private final float[] values;
+
+		private FloatColumn(String id, float[] values, BitSet nulls) {
+			super(id, nulls);
+			this.values = values;
+		}
+
+		@Override public int size() { return values.length; }
+		@Override protected int compareValues(int a, int b) { return Float.compare(values[a], values[b]); }
+
+		public float get(int ordinal) { return values[ordinal]; }
+		public Float getValue(int ordinal) { return nulls.get(ordinal) ? null : values[ordinal]; }
+
+		/** @return ordinals of all rows with <code>min</code> &le; value &le; <code>max</code> (<code>null</code> == no limit) */
+		public BitSet filter(Float min, Float max) {
+			boolean hasMin = min!=null, hasMax = max!=null;
+			float min_ = hasMin ? min : 0, max_ = hasMax ? max : 0;
+			BitSet result = new BitSet(values.length);
+			for (int i = nulls.nextClearBit(0); i<values.length; i = nulls.nextClearBit(i+1))
+				if ((!hasMin || Float.compare(min_, values[i])<=0) && (!hasMax || Float.compare(values[i], max_)<=0))
+					result.set(i);
+			return result;
+		}
+
+		/** @return smallest value or <code>null</code>, if there are no values */
+		public Float getMin() {
+			int index = -1;
+			for (int i = nulls.nextClearBit(0); i<values.length; i = nulls.nextClearBit(i+1))
+				if (index<0 || Float.compare(values[i], values[index])<0) index = i;
+			return index<0 ? null : values[index];
+		}
+
+		/** @return biggest value or <code>null</code>, if there are no values */
+		public Float getMax() {
+			int index = -1;
+			for (int i = nulls.nextClearBit(0); i<values.length; i = nulls.nextClearBit(i+1))
+				if (index<0 || Float.compare(values[i], values[index])>0) index = i;
+			return index<0 ? null : values[index];
+		}
+	}
+
+	public static class IntColumn extends Column {
+		private final int[] values;
+
+		private IntColumn(String id, int[] values, BitSet nulls) {
+			super(id, nulls);
+			this.values = values;
+		}
+
+		@Override public int size() { return values.length; }
+		@Override protected int compareValues(int a, int b) { return Integer.compare(values[a], values[b]); }
+
+		public int get(int ordinal) { return values[ordinal]; }
+		public Integer getValue(int ordinal) { return nulls.get(ordinal) ? null : values[ordinal]; }
+
+		/** @return ordinals of all rows with <code>min</code> &le; value &le; <code>max</code> (<code>null</code> == no limit) */
+		public BitSet filter(Integer min, Integer max) {
+			boolean hasMin = min!=null, hasMax = max!=null;
+			int min_ = hasMin ? min : 0, max_ = hasMax ? max : 0;
+			BitSet result = new BitSet(values.length);
+			for (int i = nulls.nextClearBit(0); i<values.length; i = nulls.nextClearBit(i+1))
+				if ((!hasMin || Integer.compare(min_, values[i])<=0) && (!hasMax || Integer.compare(values[i], max_)<=0))
+					result.set(i);
+			return result;
+		}
+
+		/** @return smallest value or <code>null</code>, if there are no values */
+		public Integer getMin() {
+			int index = -1;
+			for (int i = nulls.nextClearBit(0); i<values.length; i = nulls.nextClearBit(i+1))
+				if (index<0 || Integer.compare(values[i], values[index])<0) index = i;
+			return index<0 ? null : values[index];
+		}
+
+		/** @return biggest value or <code>null</code>, if there are no values */
+		public Integer getMax() {
+			int index = -1;
+			for (int i = nulls.nextClearBit(0); i<values.length; i = nulls.nextClearBit(i+1))
+				if (index<0 || Integer.compare(values[i], values[index])>0) index = i;
+			return index<0 ? null : values[index];
+		}
+	}
+}
@@ -1,132 +1,797 @@
 package net.schwarzbaer.java.games.snowrunner;
 
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.Vector;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
 class PAKReader {
 
+	private static boolean useMappedReader() {
+		return SnowRunner.settings.getBool(SnowRunner.AppSettings.ValueKey.PAK_UseMappedReader, false);
+	}
+
 	static <ValueType> ValueType readPAK(File pakFile, NextParsingStage<ValueType> nextParsingStage) {
-		try (ZipFile zipFile = new ZipFile(pakFile, ZipFile.OPEN_READ); ) {
-			System.out.printf("Read \"%s\" ...%n", pakFile.getAbsolutePath());
-			ZipEntryTreeNode zipRoot = new ZipEntryTreeNode();
+		return readPAK(pakFile, useMappedReader(), nextParsingStage);
+	}
+
+	static PAKFile openPAK(File pakFile) throws IOException {
+		return openPAK(pakFile, useMappedReader());
+	}
+
+	static PAKFile openPAK(File pakFile, boolean useMappedReader) throws IOException {
+		return useMappedReader ? new MappedPAKFile(pakFile) : new ZipFilePAKFile(pakFile);
+	}
+
+	static <ValueType> ValueType readPAK(File pakFile, boolean useMappedReader, NextParsingStage<ValueType> nextParsingStage) {
+		try (PAKFile zipFile = openPAK(pakFile, useMappedReader); ) {
+			System.out.printf("Read \"%s\" [%s] ...%n", pakFile.getAbsolutePath(), useMappedReader ? "mapped" : "ZipFile");
+			PAKIndexCache indexCache = PAKIndexCache.load(pakFile, zipFile);
+			ZipEntryTreeNode zipRoot = indexCache.getZipRoot();
 			
-			Enumeration<? extends ZipEntry> entries = zipFile.entries();
-			while (entries.hasMoreElements()) {
-				ZipEntry entry = entries.nextElement();
-				zipRoot.addChild(entry);
-				//String entryName = entry.getName();
-				//System.out.printf("   \"%s\"%n", entryName);
+			if (zipRoot==null) {
+				ZipEntryTreeNode.Builder treeBuilder = new ZipEntryTreeNode.Builder();
+				
+				int entryCount = zipFile.getEntryCount();
+				for (int i=0; i<entryCount; i++) {
+					treeBuilder.addEntry(zipFile.getEntryName(i), i);
+					//System.out.printf("   \"%s\"%n", zipFile.getEntryName(i));
+				}
+				zipRoot = treeBuilder.build();
+				indexCache.setZipRoot(zipRoot);
 			}
-			
-			ValueType data = nextParsingStage.parse(zipFile, zipRoot);
+
+			ValueType data = nextParsingStage.parse(zipFile, zipRoot, indexCache);
+			indexCache.writeIfChanged();
 			System.out.printf("... done%n");
 			return data;
-			
+
 		} catch (IOException e) { e.printStackTrace(); }
-		
+
 		System.out.printf("... done with error%n");
 		return null;
 	}
-	
+
 	interface NextParsingStage<ValueType> {
-		ValueType parse(ZipFile zipFile, ZipEntryTreeNode zipRoot) throws IOException;
+		ValueType parse(PAKFile zipFile, ZipEntryTreeNode zipRoot, PAKIndexCache indexCache) throws IOException;
+	}
+
+	interface PAKFile extends Closeable {
+		String getName();
+		int    getEntryCount();
+		String getEntryName(int entryIndex);
+		long   getEntryCrc (int entryIndex);
+		long   getCompressedSize(int entryIndex);
+		long   getSize     (int entryIndex);
+
+		/**
+		 * Returns the uncompressed content of the given entry.
+		 * The returned buffer is owned by the caller. Implementations may return a read-only view into shared memory.
+		 */
+		ByteBuffer getEntryData(int entryIndex) throws IOException;
+		InputStream getInputStream(int entryIndex) throws IOException;
+
+		default InputStream getInputStream(ZipEntryTreeNode fileNode) throws IOException {
+			if (fileNode==null || !fileNode.isfile()) throw new IllegalArgumentException();
+			return getInputStream(fileNode.entryIndex);
+		}
+
+		default ByteBuffer getEntryData(ZipEntryTreeNode fileNode) throws IOException {
+			if (fileNode==null || !fileNode.isfile()) throw new IllegalArgumentException();
+			return getEntryData(fileNode.entryIndex);
+		}
+
+		/**
+		 * Computes a checksum over the central directory records (name, CRC and sizes of all entries).
+		 * Both implementations return the same value for the same file.
+		 */
+		default long getCentralDirectoryChecksum() {
+			CRC32 checksum = new CRC32();
+			ByteBuffer values = ByteBuffer.allocate(20);
+			int entryCount = getEntryCount();
+			for (int i=0; i<entryCount; i++) {
+				checksum.update(getEntryName(i).getBytes(StandardCharsets.UTF_8));
+				values.clear();
+				values.putInt((int) getEntryCrc(i)).putLong(getCompressedSize(i)).putLong(getSize(i)).flip();
+				checksum.update(values);
+			}
+			return checksum.getValue();
+		}
+	}
+
+	private static class ZipFilePAKFile implements PAKFile {
+
+		private final ZipFile zipFile;
+		private final ZipEntry[] entries;
+
+		ZipFilePAKFile(File pakFile) throws IOException {
+			zipFile = new ZipFile(pakFile, ZipFile.OPEN_READ);
+			Vector<ZipEntry> entries = new Vector<>();
+			Enumeration<? extends ZipEntry> enumeration = zipFile.entries();
+			while (enumeration.hasMoreElements())
+				entries.add(enumeration.nextElement());
+			this.entries = entries.toArray(ZipEntry[]::new);
+		}
+
+		@Override public void   close        () throws IOException { zipFile.close(); }
+		@Override public String getName      ()                    { return zipFile.getName(); }
+		@Override public int    getEntryCount()                    { return entries.length; }
+		@Override public String getEntryName (int entryIndex)      { return entries[entryIndex].getName(); }
+		@Override public long   getEntryCrc  (int entryIndex)      { return entries[entryIndex].getCrc(); }
+		@Override public long   getSize      (int entryIndex)      { return entries[entryIndex].getSize(); }
+		@Override public long   getCompressedSize(int entryIndex)  { return entries[entryIndex].getCompressedSize(); }
+
+		@Override public InputStream getInputStream(int entryIndex) throws IOException {
+			return zipFile.getInputStream(entries[entryIndex]);
+		}
+
+		@Override public ByteBuffer getEntryData(int entryIndex) throws IOException {
+			try (InputStream input = getInputStream(entryIndex)) {
+				return ByteBuffer.wrap(input.readAllBytes());
+			}
+		}
+	}
+
+	/**
+	 * Reads a ZIP archive through memory mapped regions of the file.
+	 * The central directory is parsed once into an offset table.
+	 * Entries are handed out as slices of the mapped regions (STORED) or inflated into a new buffer (DEFLATED).
+	 * All read methods use absolute buffer access only, so several threads can read entries at once.
+	 */
+	private static class MappedPAKFile implements PAKFile {
+
+		private static final int SIG_LOCAL_HEADER   = 0x04034b50;
+		private static final int SIG_CENTRAL_HEADER = 0x02014b50;
+		private static final int SIG_END_OF_CD      = 0x06054b50;
+		private static final int SIG_ZIP64_END_OF_CD         = 0x06064b50;
+		private static final int SIG_ZIP64_END_OF_CD_LOCATOR = 0x07064b50;
+		private static final int METHOD_STORED   = 0;
+		private static final int METHOD_DEFLATED = 8;
+
+		private static final long SEGMENT_SIZE    = 1L<<30;
+		private static final long SEGMENT_OVERLAP = 1L<<26; // entries crossing a segment border get their own mapping
+
+		private final String name;
+		private final FileChannel channel;
+		private final long fileSize;
+		private final MappedByteBuffer[] segments;
+
+		private final String[] entryNames;
+		private final long[] localHeaderOffsets;
+		private final int[] crcs;
+		private final long[] compressedSizes;
+		private final long[] uncompressedSizes;
+		private final short[] methods;
+
+		MappedPAKFile(File pakFile) throws IOException {
+			name = pakFile.getPath();
+			channel = FileChannel.open(pakFile.toPath(), StandardOpenOption.READ);
+			try {
+				fileSize = channel.size();
+
+				int segmentCount = (int) ((fileSize+SEGMENT_SIZE-1)/SEGMENT_SIZE);
+				segments = new MappedByteBuffer[segmentCount];
+				for (int i=0; i<segmentCount; i++) {
+					long start = i*SEGMENT_SIZE;
+					long length = Math.min(SEGMENT_SIZE+SEGMENT_OVERLAP, fileSize-start);
+					segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+					segments[i].order(ByteOrder.LITTLE_ENDIAN);
+				}
+
+				CentralDirectory cd = findCentralDirectory();
+				entryNames         = new String[cd.entryCount];
+				localHeaderOffsets = new long  [cd.entryCount];
+				crcs               = new int   [cd.entryCount];
+				compressedSizes    = new long  [cd.entryCount];
+				uncompressedSizes  = new long  [cd.entryCount];
+				methods            = new short [cd.entryCount];
+				readCentralDirectory(cd);
+
+			} catch (IOException | RuntimeException e) {
+				channel.close();
+				throw e;
+			}
+		}
+
+		private record CentralDirectory(long offset, long size, int entryCount) {}
+
+		@Override public void   close        () throws IOException { channel.close(); }
+		@Override public String getName      ()                    { return name; }
+		@Override public int    getEntryCount()                    { return entryNames.length; }
+		@Override public String getEntryName (int entryIndex)      { return entryNames[entryIndex]; }
+		@Override public long   getEntryCrc  (int entryIndex)      { return crcs[entryIndex] & 0xFFFFFFFFL; }
+		@Override public long   getSize      (int entryIndex)      { return uncompressedSizes[entryIndex]; }
+		@Override public long   getCompressedSize(int entryIndex)  { return compressedSizes[entryIndex]; }
+
+		private CentralDirectory findCentralDirectory() throws IOException {
+			if (fileSize<22)
+				throw new IOException(String.format("File \"%s\" is too small to be a ZIP file", name));
+
+			long minPos = Math.max(0, fileSize-22-0xFFFF);
+			long eocdPos = -1;
+			for (long pos=fileSize-22; pos>=minPos; pos--)
+				if (getInt(pos)==SIG_END_OF_CD && pos+22+getUShort(pos+20)==fileSize) {
+					eocdPos = pos;
+					break;
+				}
+			if (eocdPos<0)
+				throw new IOException(String.format("Can't find end of central directory in \"%s\"", name));
+
+			long entryCount = getUShort(eocdPos+10);
+			long cdSize     = getUInt  (eocdPos+12);
+			long cdOffset   = getUInt  (eocdPos+16);
+
+			if (eocdPos>=20 && getInt(eocdPos-20)==SIG_ZIP64_END_OF_CD_LOCATOR) {
+				long zip64EocdPos = getLong(eocdPos-20+8);
+				if (getInt(zip64EocdPos)!=SIG_ZIP64_END_OF_CD)
+					throw new IOException(String.format("Can't find ZIP64 end of central directory in \"%s\"", name));
+				entryCount = getLong(zip64EocdPos+32);
+				cdSize     = getLong(zip64EocdPos+40);
+				cdOffset   = getLong(zip64EocdPos+48);
+			}
+
+			if (entryCount>Integer.MAX_VALUE || cdOffset<0 || cdSize<0 || cdOffset+cdSize>fileSize)
+				throw new IOException(String.format("Found invalid central directory values in \"%s\"", name));
+
+			return new CentralDirectory(cdOffset, cdSize, (int) entryCount);
+		}
+
+		private void readCentralDirectory(CentralDirectory cd) throws IOException {
+			if (cd.size>Integer.MAX_VALUE)
+				throw new IOException(String.format("Central directory in \"%s\" is too big", name));
+			ByteBuffer buffer = getRegion(cd.offset, (int) cd.size).order(ByteOrder.LITTLE_ENDIAN);
+
+			int pos = 0;
+			for (int i=0; i<cd.entryCount; i++) {
+				if (pos+46>buffer.limit() || buffer.getInt(pos)!=SIG_CENTRAL_HEADER)
+					throw new IOException(String.format("Found corrupt central directory header [%d] in \"%s\"", i, name));
+
+				int  flags          = buffer.getShort(pos+ 8) & 0xFFFF;
+				int  method         = buffer.getShort(pos+10) & 0xFFFF;
+				int  crc            = buffer.getInt  (pos+16);
+				long compSize       = buffer.getInt  (pos+20) & 0xFFFFFFFFL;
+				long uncompSize     = buffer.getInt  (pos+24) & 0xFFFFFFFFL;
+				int  nameLength     = buffer.getShort(pos+28) & 0xFFFF;
+				int  extraLength    = buffer.getShort(pos+30) & 0xFFFF;
+				int  commentLength  = buffer.getShort(pos+32) & 0xFFFF;
+				long localHeaderPos = buffer.getInt  (pos+42) & 0xFFFFFFFFL;
+
+				if ((flags & 1)!=0)
+					throw new IOException(String.format("Found encrypted entry [%d] in \"%s\"", i, name));
+
+				byte[] nameBytes = new byte[nameLength];
+				buffer.get(pos+46, nameBytes);
+
+				int extraPos = pos+46+nameLength;
+				int extraEnd = extraPos+extraLength;
+				while (extraPos+4<=extraEnd) {
+					int headerID   = buffer.getShort(extraPos  ) & 0xFFFF;
+					int dataLength = buffer.getShort(extraPos+2) & 0xFFFF;
+					if (headerID==0x0001) { // ZIP64 extended information
+						int valuePos = extraPos+4;
+						if (uncompSize    ==0xFFFFFFFFL) { uncompSize     = buffer.getLong(valuePos); valuePos += 8; }
+						if (compSize      ==0xFFFFFFFFL) { compSize       = buffer.getLong(valuePos); valuePos += 8; }
+						if (localHeaderPos==0xFFFFFFFFL) { localHeaderPos = buffer.getLong(valuePos); valuePos += 8; }
+					}
+					extraPos += 4+dataLength;
+				}
+
+				entryNames        [i] = new String(nameBytes, StandardCharsets.UTF_8);
+				localHeaderOffsets[i] = localHeaderPos;
+				crcs              [i] = crc;
+				compressedSizes   [i] = compSize;
+				uncompressedSizes [i] = uncompSize;
+				methods           [i] = (short) method;
+
+				pos = extraEnd+commentLength;
+			}
+		}
+
+		private ByteBuffer getRawData(int entryIndex) throws IOException {
+			long headerPos = localHeaderOffsets[entryIndex];
+			if (headerPos+30>fileSize || getInt(headerPos)!=SIG_LOCAL_HEADER)
+				throw new IOException(String.format("Found corrupt local header for entry \"%s\" in \"%s\"", entryNames[entryIndex], name));
+
+			long dataPos = headerPos+30+getUShort(headerPos+26)+getUShort(headerPos+28);
+			long length = compressedSizes[entryIndex];
+			if (length>Integer.MAX_VALUE || dataPos+length>fileSize)
+				throw new IOException(String.format("Can't read entry \"%s\" in \"%s\": invalid size", entryNames[entryIndex], name));
+
+			return getRegion(dataPos, (int) length);
+		}
+
+		@Override public ByteBuffer getEntryData(int entryIndex) throws IOException {
+			ByteBuffer rawData = getRawData(entryIndex);
+			switch (methods[entryIndex]) {
+			case METHOD_STORED  : return rawData;
+			case METHOD_DEFLATED: return inflate(rawData, uncompressedSizes[entryIndex], entryNames[entryIndex]);
+			}
+			throw new IOException(String.format("Can't read entry \"%s\" in \"%s\": unsupported compression method %d", entryNames[entryIndex], name, methods[entryIndex]));
+		}
+
+		@Override public InputStream getInputStream(int entryIndex) throws IOException {
+			return new ByteBufferInputStream(getEntryData(entryIndex));
+		}
+
+		private ByteBuffer inflate(ByteBuffer rawData, long uncompressedSize, String entryName) throws IOException {
+			if (uncompressedSize>Integer.MAX_VALUE)
+				throw new IOException(String.format("Can't inflate entry \"%s\" in \"%s\": entry is too big", entryName, name));
+
+			ByteBuffer output = ByteBuffer.allocate((int) uncompressedSize);
+			Inflater inflater = new Inflater(true);
+			try {
+				inflater.setInput(rawData);
+				boolean dummyByteAdded = false;
+				while (!inflater.finished() && output.hasRemaining()) {
+					int n = inflater.inflate(output);
+					if (n==0 && inflater.needsInput()) {
+						// "nowrap" inflater may need an extra dummy byte at the end of input
+						if (dummyByteAdded)
+							throw new EOFException(String.format("Unexpected end of compressed data in entry \"%s\" in \"%s\"", entryName, name));
+						inflater.setInput(new byte[1]);
+						dummyByteAdded = true;
+					}
+					if (n==0 && inflater.needsDictionary())
+						throw new IOException(String.format("Can't inflate entry \"%s\" in \"%s\": dictionary needed", entryName, name));
+				}
+			} catch (DataFormatException e) {
+				throw new IOException(String.format("Can't inflate entry \"%s\" in \"%s\": %s", entryName, name, e.getMessage()), e);
+			} finally {
+				inflater.end();
+			}
+
+			if (output.hasRemaining())
+				throw new EOFException(String.format("Entry \"%s\" in \"%s\" is shorter than expected", entryName, name));
+
+			return output.flip();
+		}
+
+		private ByteBuffer getRegion(long pos, int length) throws IOException {
+			int segmentIndex = (int) (pos/SEGMENT_SIZE);
+			MappedByteBuffer segment = segments[segmentIndex];
+			long segmentStart = segmentIndex*SEGMENT_SIZE;
+			if (pos+length <= segmentStart+segment.capacity())
+				return segment.slice((int) (pos-segmentStart), length);
+			return channel.map(FileChannel.MapMode.READ_ONLY, pos, length);
+		}
+
+		private MappedByteBuffer getSegment(long pos, int length) {
+			int segmentIndex = (int) (pos/SEGMENT_SIZE);
+			if (segmentIndex>=segments.length || pos-segmentIndex*SEGMENT_SIZE+length > segments[segmentIndex].capacity())
+				throw new IndexOutOfBoundsException(String.format("Position %d is outside of file \"%s\"", pos, name));
+			return segments[segmentIndex];
+		}
+
+		private int  getUShort(long pos) { return getSegment(pos,2).getShort((int) (pos%SEGMENT_SIZE)) & 0xFFFF; }
+		private int  getInt   (long pos) { return getSegment(pos,4).getInt  ((int) (pos%SEGMENT_SIZE)); }
+		private long getUInt  (long pos) { return getInt(pos) & 0xFFFFFFFFL; }
+		private long getLong  (long pos) { return getSegment(pos,8).getLong ((int) (pos%SEGMENT_SIZE)); }
+	}
+
+	static class ByteBufferInputStream extends InputStream {
+
+		private final ByteBuffer buffer;
+
+		ByteBufferInputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override public int available() {
+			return buffer.remaining();
+		}
+
+		@Override public int read() {
+			if (!buffer.hasRemaining()) return -1;
+			return buffer.get() & 0xFF;
+		}
+
+		@Override public int read(byte[] bytes, int offset, int length) {
+			if (length==0) return 0;
+			if (!buffer.hasRemaining()) return -1;
+			int n = Math.min(length, buffer.remaining());
+			buffer.get(bytes, offset, n);
+			return n;
+		}
+
+		@Override public long skip(long n) {
+			int k = (int) Math.max(0, Math.min(n, buffer.remaining()));
+			buffer.position(buffer.position()+k);
+			return k;
+		}
+	}
+
+	/**
+	 * Persistent index of a PAK file in the data folder ({@link DataFiles.DataFile#PAKIndexCacheFile}).
+	 * It holds the entry tree and the class structure of the last read PAK file.
+	 * The cache is only used, if size, modification time and central directory checksum of the PAK file are unchanged.
+	 */
+	static class PAKIndexCache {
+		private static final int MAGIC   = 0x53524958; // "SRIX"
+		private static final int VERSION = 1;
+		private static final int MAX_FOLDER_DEPTH = 256;
+		
+		record TemplatesEntry(String templatesName, int entryIndex) {}
+		record ItemEntry(String updateLevel, String className, String subClassName, String itemName, int entryIndex) {}
+		
+		private final String pakPath;
+		private final long pakSize;
+		private final long pakModified;
+		private final long cdChecksum;
+		private final int entryCount;
+		private ZipEntryTreeNode zipRoot;
+		private TemplatesEntry[] templates;
+		private ItemEntry[] items;
+		private boolean changed;
+		
+		private PAKIndexCache(File pakFile, PAKFile zipFile) {
+			pakPath     = pakFile.getAbsolutePath();
+			pakSize     = pakFile.length();
+			pakModified = pakFile.lastModified();
+			cdChecksum  = zipFile.getCentralDirectoryChecksum();
+			entryCount  = zipFile.getEntryCount();
+			zipRoot   = null;
+			templates = null;
+			items     = null;
+			changed   = false;
+		}
+		
+		ZipEntryTreeNode getZipRoot() { return zipRoot; }
+		TemplatesEntry[] getTemplates() { return templates; }
+		ItemEntry[]      getItems    () { return items; }
+		
+		void setZipRoot(ZipEntryTreeNode zipRoot) {
+			this.zipRoot = zipRoot;
+			templates = null;
+			items     = null;
+			changed   = true;
+		}
+		
+		void setClassStructure(TemplatesEntry[] templates, ItemEntry[] items) {
+			this.templates = templates;
+			this.items     = items;
+			changed = true;
+		}
+		
+		static PAKIndexCache load(File pakFile, PAKFile zipFile) {
+			PAKIndexCache indexCache = new PAKIndexCache(pakFile, zipFile);
+			File cacheFile = DataFiles.DataFile.PAKIndexCacheFile.getFileIfExists();
+			if (cacheFile==null) return indexCache;
+			
+			try (FileChannel channel = FileChannel.open(cacheFile.toPath(), StandardOpenOption.READ)) {
+				ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+				if (indexCache.read(buffer))
+					System.out.printf("PAK index loaded from cache \"%s\"%n", cacheFile.getAbsolutePath());
+				
+			} catch (IOException | BufferUnderflowException | IndexOutOfBoundsException e) {
+				System.err.printf("Can't read PAK index cache \"%s\": %s%n", cacheFile.getAbsolutePath(), e.getMessage());
+				indexCache.zipRoot   = null;
+				indexCache.templates = null;
+				indexCache.items     = null;
+			}
+			return indexCache;
+		}
+		
+		void writeIfChanged() {
+			if (!changed || zipRoot==null) return;
+			File cacheFile = DataFiles.DataFile.PAKIndexCacheFile.getFileForWriting();
+			
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(cacheFile)))) {
+				write(out);
+				changed = false;
+				System.out.printf("PAK index written to cache \"%s\"%n", cacheFile.getAbsolutePath());
+				
+			} catch (IOException e) {
+				System.err.printf("Can't write PAK index cache \"%s\": %s%n", cacheFile.getAbsolutePath(), e.getMessage());
+			}
+		}
+		
+		private boolean read(ByteBuffer in) throws IOException {
+			if (in.getInt()!=MAGIC  ) throw new IOException("Wrong file format");
+			if (in.getInt()!=VERSION) return false;
+			if (!pakPath.equals(readString(in))) return false;
+			if (in.getLong()!=pakSize    ) return false;
+			if (in.getLong()!=pakModified) return false;
+			if (in.getLong()!=cdChecksum ) return false;
+			if (in.getInt ()!=entryCount ) return false;
+			
+			HashMap<String,String> internedNames = new HashMap<>();
+			Vector<ZipEntryTreeNode> fileNodes = new Vector<>();
+			ZipEntryTreeNode root = new ZipEntryTreeNode(null,"",-1);
+			readChildren(in, root, 0, internedNames, fileNodes, new BitSet(entryCount));
+			if (fileNodes.size()!=entryCount) throw new IOException("Wrong number of entries");
+			root.setEntryIndexMap(fileNodes); // all entry indexes are checked --> map size == entryCount
+			
+			TemplatesEntry[] templates = null;
+			ItemEntry[] items = null;
+			if (in.get()!=0) {
+				templates = new TemplatesEntry[readCount(in, 8)];
+				for (int i=0; i<templates.length; i++)
+					templates[i] = new TemplatesEntry(readString(in), readEntryIndex(in));
+				items = new ItemEntry[readCount(in, 20)];
+				for (int i=0; i<items.length; i++)
+					items[i] = new ItemEntry(readString(in), readString(in), readString(in), readString(in), readEntryIndex(in));
+			}
+			
+			zipRoot = root;
+			this.templates = templates;
+			this.items = items;
+			changed = false;
+			return true;
+		}
+		
+		private void readChildren(ByteBuffer in, ZipEntryTreeNode folderNode, int depth, HashMap<String,String> internedNames, Vector<ZipEntryTreeNode> fileNodes, BitSet usedEntryIndexes) throws IOException {
+			if (depth>MAX_FOLDER_DEPTH) throw new IOException("Folder structure is too deep");
+			ZipEntryTreeNode[] files = new ZipEntryTreeNode[readCount(in, 8)];
+			for (int i=0; i<files.length; i++) {
+				String name = intern(readName(in), internedNames);
+				int entryIndex = readEntryIndex(in);
+				if (usedEntryIndexes.get(entryIndex)) throw new IOException(String.format("Found entry index %d twice", entryIndex));
+				usedEntryIndexes.set(entryIndex);
+				fileNodes.add(files[i] = new ZipEntryTreeNode(folderNode, name, entryIndex));
+			}
+			ZipEntryTreeNode[] folders = new ZipEntryTreeNode[readCount(in, 12)];
+			for (int i=0; i<folders.length; i++) {
+				String name = intern(readName(in), internedNames);
+				folders[i] = new ZipEntryTreeNode(folderNode, name, -1);
+				readChildren(in, folders[i], depth+1, internedNames, fileNodes, usedEntryIndexes);
+			}
+			folderNode.files   = files  .length==0 ? ZipEntryTreeNode.NO_NODES : files;
+			folderNode.folders = folders.length==0 ? ZipEntryTreeNode.NO_NODES : folders;
+		}
+		
+		private int readEntryIndex(ByteBuffer in) throws IOException {
+			int entryIndex = in.getInt();
+			if (entryIndex<0 || entryIndex>=entryCount)
+				throw new IOException(String.format("Invalid entry index %d at position %d", entryIndex, in.position()-4));
+			return entryIndex;
+		}
+		
+		private static String readName(ByteBuffer in) throws IOException {
+			String name = readString(in);
+			if (name==null) throw new IOException(String.format("Found node without name before position %d", in.position()));
+			return name;
+		}
+		
+		private static String intern(String name, HashMap<String,String> internedNames) {
+			String interned = internedNames.putIfAbsent(name, name);
+			return interned==null ? name : interned;
+		}
+		
+		/**
+		 * @param minItemSize minimal number of bytes of one stored item
+		 * @throws IOException if the count is negative or if there are not enough bytes left for it (corrupt cache file)
+		 */
+		private static int readCount(ByteBuffer in, int minItemSize) throws IOException {
+			int count = in.getInt();
+			if (count<0 || count > in.remaining()/minItemSize)
+				throw new IOException(String.format("Invalid count %d at position %d", count, in.position()-4));
+			return count;
+		}
+		
+		private static String readString(ByteBuffer in) throws IOException {
+			int length = in.getInt();
+			if (length<0) return null;
+			if (length > in.remaining())
+				throw new IOException(String.format("Invalid string length %d at position %d", length, in.position()-4));
+			byte[] bytes = new byte[length];
+			in.get(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+		
+		private void write(DataOutputStream out) throws IOException {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			writeString(out, pakPath);
+			out.writeLong(pakSize);
+			out.writeLong(pakModified);
+			out.writeLong(cdChecksum);
+			out.writeInt(entryCount);
+			
+			writeChildren(out, zipRoot);
+			
+			if (templates==null || items==null)
+				out.writeByte(0);
+			else {
+				out.writeByte(1);
+				out.writeInt(templates.length);
+				for (TemplatesEntry entry : templates) {
+					writeString(out, entry.templatesName);
+					out.writeInt(entry.entryIndex);
+				}
+				out.writeInt(items.length);
+				for (ItemEntry entry : items) {
+					writeString(out, entry.updateLevel );
+					writeString(out, entry.className   );
+					writeString(out, entry.subClassName);
+					writeString(out, entry.itemName    );
+					out.writeInt(entry.entryIndex);
+				}
+			}
+		}
+		
+		private static void writeChildren(DataOutputStream out, ZipEntryTreeNode folderNode) throws IOException {
+			out.writeInt(folderNode.files.length);
+			for (ZipEntryTreeNode fileNode : folderNode.files) {
+				writeString(out, fileNode.name);
+				out.writeInt(fileNode.entryIndex);
+			}
+			out.writeInt(folderNode.folders.length);
+			for (ZipEntryTreeNode subFolder : folderNode.folders) {
+				writeString(out, subFolder.name);
+				writeChildren(out, subFolder);
+			}
+		}
+		
+		private static void writeString(DataOutputStream out, String str) throws IOException {
+			if (str==null) { out.writeInt(-1); return; }
+			byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
 	}
 
+	/**
+	 * Node of a compact path trie over the entries of a PAK file.
+	 * Name segments are interned while building, children are kept in arrays sorted by name (binary search),
+	 * full paths are rebuilt on demand via {@link #getPath()}.
+	 * The root node additionally holds a flat index (entry index -> file node).
+	 */
 	static class ZipEntryTreeNode {
+		private static final ZipEntryTreeNode[] NO_NODES = new ZipEntryTreeNode[0];
+		private static final Comparator<ZipEntryTreeNode> BY_NAME = Comparator.comparing(node->node.name);
+		
 		final ZipEntryTreeNode parent;
 		final String name;
-		final String path;
-		final ZipEntry entry;
-		final HashMap<String, ZipEntryTreeNode> folders;
-		final HashMap<String, ZipEntryTreeNode> files;
+		final int entryIndex;
+		private ZipEntryTreeNode[] folders;
+		private ZipEntryTreeNode[] files;
+		private ZipEntryTreeNode[] entryIndexMap; // only in root
 
-		private ZipEntryTreeNode() { // root
-			this(null,"",null);
-		}
-		
-		private ZipEntryTreeNode(ZipEntryTreeNode parent, String name, ZipEntry entry) {
+		private ZipEntryTreeNode(ZipEntryTreeNode parent, String name, int entryIndex) {
 			this.parent = parent;
 			this.name = name;
-			this.entry = entry;
-			this.folders = this.entry!=null ? null : new HashMap<>();
-			this.files   = this.entry!=null ? null : new HashMap<>();
-			if (this.parent==null) path = name;
-			else path = this.parent.path+"\\"+name;
+			this.entryIndex = entryIndex;
+			this.folders = this.entryIndex>=0 ? null : NO_NODES;
+			this.files   = this.entryIndex>=0 ? null : NO_NODES;
+			this.entryIndexMap = null;
 		}
-		
+
 		boolean isfile() {
-			return entry!=null;
+			return entryIndex>=0;
+		}
+
+		private void setEntryIndexMap(Vector<ZipEntryTreeNode> fileNodes) {
+			int maxEntryIndex = -1;
+			for (ZipEntryTreeNode fileNode : fileNodes)
+				maxEntryIndex = Math.max(maxEntryIndex, fileNode.entryIndex);
+			entryIndexMap = new ZipEntryTreeNode[maxEntryIndex+1];
+			for (ZipEntryTreeNode fileNode : fileNodes)
+				entryIndexMap[fileNode.entryIndex] = fileNode;
+		}
+
+		String getPath() {
+			if (parent==null) return name;
+			StringBuilder sb = new StringBuilder();
+			appendPath(sb);
+			return sb.toString();
+		}
+
+		private void appendPath(StringBuilder sb) {
+			if (parent!=null) {
+				parent.appendPath(sb);
+				sb.append('\\');
+			}
+			sb.append(name);
 		}
 
-		//String getPath() {
-		//	return path;
-		//	//if (parent==null) return name;
-		//	//return parent.getPath()+"\\"+name;
-		//}
+		/** @return sub folders, sorted by name; must not be modified */
+		ZipEntryTreeNode[] getFolders() { return folders; }
+		/** @return files in this folder, sorted by name; must not be modified */
+		ZipEntryTreeNode[] getFiles  () { return files; }
+
+		boolean hasFolders() { return folders!=null && folders.length>0; }
+		boolean hasFiles  () { return files  !=null && files  .length>0; }
+
+		/** Only valid for root node */
+		ZipEntryTreeNode getFileNode(int entryIndex) {
+			if (entryIndexMap==null) throw new IllegalStateException();
+			if (entryIndex<0 || entryIndex>=entryIndexMap.length) return null;
+			return entryIndexMap[entryIndex];
+		}
 
 		void forEachChild(Consumer<ZipEntryTreeNode> action) {
-			files.values().forEach(action);
-			folders.values().forEach(action);
+			for (ZipEntryTreeNode node : files  ) action.accept(node);
+			for (ZipEntryTreeNode node : folders) action.accept(node);
 		}
 
 		void traverseFiles(Consumer<ZipEntryTreeNode> action) {
-			files.values().forEach(action);
-			folders.values().forEach(node->node.traverseFiles(action));
+			for (ZipEntryTreeNode node : files  ) action.accept(node);
+			for (ZipEntryTreeNode node : folders) node.traverseFiles(action);
 		}
 
-		private void addChild(ZipEntry entry) {
-			String entryName = entry.getName();
-			String[] names = entryName.split("\\\\");
-			addChild(names,0,entry);
+		private static ZipEntryTreeNode find(ZipEntryTreeNode[] nodes, String name, int beginIndex, int endIndex) {
+			if (nodes==null) return null;
+			int low = 0;
+			int high = nodes.length-1;
+			while (low<=high) {
+				int mid = (low+high)>>>1;
+				int cmp = compare(nodes[mid].name, name, beginIndex, endIndex);
+				if      (cmp<0) low  = mid+1;
+				else if (cmp>0) high = mid-1;
+				else return nodes[mid];
+			}
+			return null;
 		}
 
-		private void addChild(String[] names, int index, ZipEntry entry) {
-			String name = names[index];
-			if (index==names.length-1) {
-				files.put(name, new ZipEntryTreeNode(this, name, entry));
-				return;
-			} else {
-				ZipEntryTreeNode folderNode = folders.get(name);
-				if (folderNode==null)
-					folders.put(name, folderNode = new ZipEntryTreeNode(this, name, null));
-				folderNode.addChild(names, index+1, entry);
+		// same order as String.compareTo, but without creating a substring of the search path
+		private static int compare(String nodeName, String str, int beginIndex, int endIndex) {
+			int len1 = nodeName.length();
+			int len2 = endIndex-beginIndex;
+			int n = Math.min(len1, len2);
+			for (int i=0; i<n; i++) {
+				char ch1 = nodeName.charAt(i);
+				char ch2 = str.charAt(beginIndex+i);
+				if (ch1!=ch2) return ch1-ch2;
 			}
+			return len1-len2;
 		}
 
 		ZipEntryTreeNode getSubFile(String folderPath, String fileName) {
 			ZipEntryTreeNode folderNode = getSubFolder(folderPath);
 			if (folderNode==null) return null;
-			return folderNode.files.get(fileName);
+			return find(folderNode.files, fileName, 0, fileName.length());
 		}
 
 		ZipEntryTreeNode[] getSubFiles(String folderPath) {
-			return getSubFiles(folderPath, str->true);
+			ZipEntryTreeNode folderNode = getSubFolder(folderPath);
+			if (folderNode==null) return null;
+			return folderNode.files.clone();
 		}
-		
+
 		ZipEntryTreeNode[] getSubFiles(String folderPath, Predicate<String> checkFileName) {
 			ZipEntryTreeNode folderNode = getSubFolder(folderPath);
 			if (folderNode==null) return null;
-			return folderNode.files
-					.values()
-					.stream()
+			return Arrays
+					.stream(folderNode.files)
 					.filter(fileNode->checkFileName.test(fileNode.name))
 					.toArray(ZipEntryTreeNode[]::new);
 		}
 
 		ZipEntryTreeNode getSubFolder(String folderPath) {
-			while (folderPath.endsWith("\\"))
-				folderPath = folderPath.substring(0, folderPath.length()-1);
-			String[] pathStrs = folderPath.split("\\\\");
+			int end = folderPath.length();
+			while (end>0 && folderPath.charAt(end-1)=='\\') end--;
 			ZipEntryTreeNode folderNode = this;
-			for (String str:pathStrs) {
-				if (folderNode==null) break;
-				folderNode = folderNode.folders.get(str);
+			int pos = 0;
+			while (folderNode!=null) {
+				int sep = folderPath.indexOf('\\', pos);
+				if (sep<0 || sep>end) sep = end;
+				folderNode = find(folderNode.folders, folderPath, pos, sep);
+				if (sep>=end) break;
+				pos = sep+1;
 			}
 			return folderNode;
 		}
@@ -134,8 +799,63 @@ class PAKReader {
 		ZipEntryTreeNode[] getSubFolders(String folderPath) {
 			ZipEntryTreeNode folderNode = getSubFolder(folderPath);
 			if (folderNode==null) return null;
-			return folderNode.folders.values().stream().toArray(ZipEntryTreeNode[]::new);
+			return folderNode.folders.clone();
+		}
+
+		/**
+		 * Collects entry names in temporary maps and turns them into sorted child arrays in {@link #build()}.
+		 */
+		private static class Builder {
+			private final ZipEntryTreeNode root;
+			private final HashMap<String,String> internedNames;
+			private final HashMap<ZipEntryTreeNode,HashMap<String,ZipEntryTreeNode>> folders;
+			private final HashMap<ZipEntryTreeNode,HashMap<String,ZipEntryTreeNode>> files;
+			private final Vector<ZipEntryTreeNode> fileNodes;
+
+			Builder() {
+				root = new ZipEntryTreeNode(null,"",-1);
+				internedNames = new HashMap<>();
+				folders = new HashMap<>();
+				files = new HashMap<>();
+				fileNodes = new Vector<>();
+			}
+
+			void addEntry(String entryName, int entryIndex) {
+				String[] names = entryName.split("\\\\");
+				ZipEntryTreeNode folderNode = root;
+				for (int i=0; i<names.length-1; i++) {
+					String name = intern(names[i]);
+					HashMap<String, ZipEntryTreeNode> subFolders = folders.computeIfAbsent(folderNode, node->new HashMap<>());
+					ZipEntryTreeNode subFolder = subFolders.get(name);
+					if (subFolder==null)
+						subFolders.put(name, subFolder = new ZipEntryTreeNode(folderNode, name, -1));
+					folderNode = subFolder;
+				}
+				String name = intern(names[names.length-1]);
+				ZipEntryTreeNode fileNode = new ZipEntryTreeNode(folderNode, name, entryIndex);
+				files.computeIfAbsent(folderNode, node->new HashMap<>()).put(name, fileNode);
+				fileNodes.add(fileNode);
+			}
+
+			private String intern(String name) {
+				String interned = internedNames.putIfAbsent(name, name);
+				return interned==null ? name : interned;
+			}
+
+			ZipEntryTreeNode build() {
+				folders.forEach((node,map)->node.folders = toSortedArray(map));
+				files  .forEach((node,map)->node.files   = toSortedArray(map));
+				
+				root.setEntryIndexMap(fileNodes);
+				return root;
+			}
+
+			private static ZipEntryTreeNode[] toSortedArray(HashMap<String, ZipEntryTreeNode> map) {
+				ZipEntryTreeNode[] nodes = map.values().toArray(ZipEntryTreeNode[]::new);
+				Arrays.sort(nodes, BY_NAME);
+				return nodes;
+			}
 		}
 	}
-	
+
 }
@@ -1,6 +1,7 @@
 package net.schwarzbaer.java.games.snowrunner;
 
 import java.awt.Window;
+import java.awt.event.HierarchyEvent;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Vector;
@@ -8,11 +9,13 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 
 import javax.swing.BorderFactory;
+import javax.swing.JLabel;
 import javax.swing.JMenuItem;
 import javax.swing.JScrollPane;
 import javax.swing.JSplitPane;
 import javax.swing.JTabbedPane;
 import javax.swing.JTree;
+import javax.swing.SwingUtilities;
 import javax.swing.tree.TreeNode;
 import javax.swing.tree.TreePath;
 
@@ -24,6 +27,8 @@ import net.schwarzbaer.java.games.snowrunner.SnowRunner.Controllers.Finalizable;
 import net.schwarzbaer.java.games.snowrunner.SnowRunner.Controllers.Finalizer;
 import net.schwarzbaer.java.games.snowrunner.SnowRunner.DataReceiver;
 import net.schwarzbaer.java.games.snowrunner.SnowRunner.LanguageListener;
+import net.schwarzbaer.java.games.snowrunner.XMLTemplateStructure.Class_;
+import net.schwarzbaer.java.games.snowrunner.XMLTemplateStructure.LoadException;
 import net.schwarzbaer.java.lib.gui.ContextMenu;
 import net.schwarzbaer.java.lib.gui.TextAreaDialog;
 import net.schwarzbaer.java.lib.jsonparser.JSON_Data;
@@ -38,9 +43,12 @@ class RawDataPanel extends JTabbedPane implements LanguageListener, DataReceiver
 
 	private final JTabbedPane globalTemplatesPanel;
 	private final JTabbedPane classesPanel;
+	private final Vector<String> incompleteClasses;
 	private final Window window;
 	private final JTabbedPane saveGameDataPanel;
 	private SaveGameData saveGameData;
+	private boolean isSaveGameDataPanelUpToDate;
+	private Object saveGameDataLoading; // != null, while raw save game data is read in background
 	private final Finalizer finalizer;
 
 	RawDataPanel(Window window, SnowRunner.GlobalFinalDataStructures gfds) {
@@ -49,6 +57,8 @@ class RawDataPanel extends JTabbedPane implements LanguageListener, DataReceiver
 		data = null;
 		language = null;
 		saveGameData = null;
+		isSaveGameDataPanelUpToDate = true;
+		saveGameDataLoading = null;
 		isShowingSaveGameDataSorted = SnowRunner.settings.getBool(SnowRunner.AppSettings.ValueKey.ShowingSaveGameDataSorted, false);
 		
 		globalTemplatesPanel = new JTabbedPane();
@@ -56,6 +66,7 @@ class RawDataPanel extends JTabbedPane implements LanguageListener, DataReceiver
 		
 		classesPanel = new JTabbedPane();
 		classesPanel.setBorder(BorderFactory.createTitledBorder("Classes"));
+		incompleteClasses = new Vector<>();
 		
 		JSplitPane xmlTempStructPanel = new JSplitPane(JSplitPane.HORIZONTAL_SPLIT, true);
 		xmlTempStructPanel.setLeftComponent(globalTemplatesPanel);
@@ -66,6 +77,19 @@ class RawDataPanel extends JTabbedPane implements LanguageListener, DataReceiver
 		addTab("XML Template Structure", xmlTempStructPanel);
 		addTab("SaveGame Data", saveGameDataPanel);
 		
+		// raw save game data is read when it's shown
+		addChangeListener(e -> updateSaveGameDataPanelIfShown());
+		saveGameDataPanel.addHierarchyListener(e -> {
+			if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0)
+				updateSaveGameDataPanelIfShown();
+		});
+		
+		// items of classes, that aren't loaded yet, are loaded in background, when they are shown
+		classesPanel.addHierarchyListener(e -> {
+			if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0)
+				loadIncompleteClassesIfShown();
+		});
+		
 		updatePanels();
 		
 		finalizer = gfds.controllers.createNewFinalizer();
@@ -103,9 +127,66 @@ class RawDataPanel extends JTabbedPane implements LanguageListener, DataReceiver
 		rebuildSaveGameDataPanel();
 	}
 
+	/**
+	 * Replaces only the tab of a changed save file, the other tabs keep their state.
+	 * If the panel isn't built yet, nothing is to do. It's built completely, when it's shown.
+	 */
+	void updateSaveGameFile(String fileName) {
+		if (saveGameData==null || !isSaveGameDataPanelUpToDate) return;
+		int index = saveGameDataPanel.indexOfTab(fileName);
+		if (index<0 || saveGameDataLoading!=null) { // new file or panel isn't filled yet
+			rebuildSaveGameDataPanel();
+			return;
+		}
+		
+		SaveGameData localSaveGameData = saveGameData;
+		new Thread(()->{
+			JSON_Data.Value<NV,V> value = localSaveGameData.getRawJsonData(fileName);
+			SwingUtilities.invokeLater(()->{
+				if (saveGameData!=localSaveGameData || saveGameDataLoading!=null || value==null) return;
+				int index_ = saveGameDataPanel.indexOfTab(fileName);
+				if (index_>=0)
+					saveGameDataPanel.setComponentAt(index_, new TreePanel(createJsonTreeNode(value), window, ()->language));
+			});
+		}, "RawDataPanel.SaveGameFileLoader").start();
+	}
+
+	void removeSaveGameFile(String fileName) {
+		if (saveGameData==null || !isSaveGameDataPanelUpToDate) return;
+		if (saveGameDataLoading!=null) {
+			rebuildSaveGameDataPanel();
+			return;
+		}
+		int index = saveGameDataPanel.indexOfTab(fileName);
+		if (index>=0) saveGameDataPanel.removeTabAt(index);
+	}
+
 	private void rebuildSaveGameDataPanel() {
 		saveGameDataPanel.removeAll();
-		addTreeTabs(saveGameDataPanel, this.saveGameData.rawJsonData, this::createJsonTreeNode);
+		saveGameDataLoading = null;
+		isSaveGameDataPanelUpToDate = false;
+		updateSaveGameDataPanelIfShown();
+	}
+	
+	private void updateSaveGameDataPanelIfShown() {
+		if (isSaveGameDataPanelUpToDate || !saveGameDataPanel.isShowing()) return;
+		isSaveGameDataPanelUpToDate = true;
+		if (saveGameData==null) return;
+		
+		// JSON trees are read in background (not in EDT), tabs are added in EDT
+		SaveGameData localSaveGameData = saveGameData;
+		Object loading = saveGameDataLoading = new Object();
+		saveGameDataPanel.addTab("SaveGame Data", new JLabel("Loading raw data ...", JLabel.CENTER));
+		
+		new Thread(()->{
+			HashMap<String, JSON_Data.Value<NV,V>> rawJsonData = localSaveGameData.getRawJsonData();
+			SwingUtilities.invokeLater(()->{
+				if (saveGameData!=localSaveGameData || saveGameDataLoading!=loading) return;
+				saveGameDataLoading = null;
+				saveGameDataPanel.removeAll();
+				addTreeTabs(saveGameDataPanel, rawJsonData, this::createJsonTreeNode);
+			});
+		}, "RawDataPanel.SaveGameDataLoader").start();
 	}
 	
 	private DataTrees.JsonTreeNode createJsonTreeNode(JSON_Data.Value<NV,V> value) {
@@ -115,12 +196,57 @@ class RawDataPanel extends JTabbedPane implements LanguageListener, DataReceiver
 	private void updatePanels() {
 		globalTemplatesPanel.removeAll();
 		classesPanel.removeAll();
+		incompleteClasses.clear();
 		
 		if (data!=null && data.rawdata!=null) {
 			addTreeTabs(globalTemplatesPanel, data.rawdata.globalTemplates, DataTrees.Templates_TreeNode::new);
-			addTreeTabs(classesPanel        , data.rawdata.classes        , DataTrees.    Class_TreeNode::new);
+			
+			Vector<String> keys = new Vector<>( data.rawdata.classes.keySet() );
+			keys.sort(null);
+			for (String key : keys) {
+				Class_ class_ = data.rawdata.classes.get(key);
+				if (class_.items.isComplete())
+					classesPanel.addTab(key, new TreePanel(new DataTrees.Class_TreeNode(class_), window, ()->language));
+				else {
+					classesPanel.addTab(key, new JLabel("Loading items ...", JLabel.CENTER));
+					incompleteClasses.add(key);
+				}
+			}
+			loadIncompleteClassesIfShown();
 		}
 	}
+	
+	private void loadIncompleteClassesIfShown() {
+		if (incompleteClasses.isEmpty() || !classesPanel.isShowing()) return;
+		
+		XMLTemplateStructure rawdata = data.rawdata;
+		Vector<String> classNames = new Vector<>(incompleteClasses);
+		incompleteClasses.clear();
+		
+		new Thread(()->{
+			String errorMessage = null;
+			try {
+				rawdata.prefetch(classNames);
+			} catch (LoadException e) {
+				System.err.printf("%s%n", e.getMessage());
+				errorMessage = e.getMessage();
+			}
+			
+			String errorMessage_ = errorMessage;
+			SwingUtilities.invokeLater(()->{
+				if (data==null || data.rawdata!=rawdata) return;
+				for (String className : classNames) {
+					int index = classesPanel.indexOfTab(className);
+					if (index<0) continue;
+					Class_ class_ = rawdata.classes.get(className);
+					if (class_.items.isComplete())
+						classesPanel.setComponentAt(index, new TreePanel(new DataTrees.Class_TreeNode(class_), window, ()->language));
+					else
+						classesPanel.setComponentAt(index, new JLabel(errorMessage_, JLabel.CENTER));
+				}
+			});
+		}, "RawDataPanel.ClassLoader").start();
+	}
 
 	private <ValueType> void addTreeTabs(JTabbedPane panel, HashMap<String, ValueType> map, Function<ValueType,TreeNode> treeNodeContructor) {
 		Vector<String> keys = new Vector<>( map.keySet() );
@@ -2,28 +2,31 @@ package net.schwarzbaer.java.games.snowrunner;
 
 import java.awt.Color;
 import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.TreeMap;
 import java.util.Vector;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import net.schwarzbaer.java.games.snowrunner.Data.MapIndex;
 import net.schwarzbaer.java.games.snowrunner.Data.Truck;
+import net.schwarzbaer.java.games.snowrunner.JsonPullReader.ObjectReader;
+import net.schwarzbaer.java.games.snowrunner.JsonPullReader.ParseException;
+import net.schwarzbaer.java.games.snowrunner.JsonPullReader.ValueType;
 import net.schwarzbaer.java.games.snowrunner.SnowRunner.TextOutput;
 import net.schwarzbaer.java.lib.jsonparser.JSON_Data;
-import net.schwarzbaer.java.lib.jsonparser.JSON_Data.JSON_Array;
-import net.schwarzbaer.java.lib.jsonparser.JSON_Data.JSON_Object;
-import net.schwarzbaer.java.lib.jsonparser.JSON_Data.TraverseException;
-import net.schwarzbaer.java.lib.jsonparser.JSON_Helper;
-import net.schwarzbaer.java.lib.jsonparser.JSON_Helper.KnownJsonValues;
 import net.schwarzbaer.java.lib.jsonparser.JSON_Parser;
-import net.schwarzbaer.java.lib.jsonparser.JSON_Parser.ParseException;
 
 public class SaveGameData {
 	
@@ -32,303 +35,463 @@ public class SaveGameData {
 	private static final String SAVEGAME_PREFIX = "CompleteSave";
 	private static final String SAVEGAME_SUFFIX = ".cfg";
 	
-	private static final JSON_Helper.KnownJsonValuesFactory<NV, V> KJV_FACTORY = new JSON_Helper.KnownJsonValuesFactory<NV, V>(packagePrefix);
-	private static final JSON_Helper.OptionalValues<NV, V> optionalValues = new JSON_Helper.OptionalValues<NV,V>();
+	private static final UnknownFields unknownFields = new UnknownFields();
 	
-	private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES__EMPTY_OBJECT = KJV_FACTORY.create();
-	private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES_Timestamp     = KJV_FACTORY.create()
-			.add("timestamp"      , JSON_Data.Value.Type.String);
-	private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES_NameValue     = KJV_FACTORY.create()
-			.add("name"           , JSON_Data.Value.Type.String );
+	private static final KnownFields KNOWN_JSON_VALUES__EMPTY_OBJECT = new KnownFields();
+	private static final KnownFields KNOWN_JSON_VALUES_Timestamp     = new KnownFields()
+			.add("timestamp"      , ValueType.String);
+	private static final KnownFields KNOWN_JSON_VALUES_NameValue     = new KnownFields()
+			.add("name"           , ValueType.String );
 	
-	@SuppressWarnings("unused")
-	private static void scanJSON(JSON_Object<NV, V> object, Object source) {
-		scanJSON(object, source.getClass());
+	/**
+	 * Known fields of a JSON object.
+	 * Other fields (or known fields with other types) are collected in {@link SaveGameData#unknownFields} while the object is read.
+	 * It's immutable after creation, so it can be used by SaveGames built in parallel.
+	 */
+	private static class KnownFields {
+		private final String blockLabel; // null -> debugOutputPrefixStr of object
+		private final HashMap<String, EnumSet<ValueType>> fields;
+		
+		KnownFields() { this((String) null); }
+		KnownFields(Class<?> source) { this(source, ""); }
+		KnownFields(Class<?> source, String suffix) { this(getBlockLabel(source)+suffix); }
+		KnownFields(String blockLabel) {
+			this.blockLabel = blockLabel;
+			fields = new HashMap<>();
+		}
+		
+		private static String getBlockLabel(Class<?> source) {
+			String label = source.getCanonicalName();
+			if (label.startsWith(packagePrefix))
+				label = label.substring(packagePrefix.length());
+			return "["+label+"]";
+		}
+		
+		KnownFields add(String name, ValueType type) {
+			fields.computeIfAbsent(name, n->EnumSet.noneOf(ValueType.class)).add(type);
+			return this;
+		}
+		
+		boolean isKnown(String name, ValueType type) {
+			EnumSet<ValueType> types = fields.get(name);
+			if (types==null) return false;
+			if (type==ValueType.Integer && types.contains(ValueType.Float)) return true; // a Float value without fraction
+			return types.contains(type);
+		}
+		
+		JsonPullReader.FieldListener listener(String debugOutputPrefixStr) {
+			return (name, type) -> {
+				if (!isKnown(name, type))
+					unknownFields.add(blockLabel!=null ? blockLabel : debugOutputPrefixStr, name, type);
+			};
+		}
 	}
-	private static void scanJSON(JSON_Object<NV, V> object, Class<?> source) {
-		String prefixStr = source.getCanonicalName();// getName();
-		if (prefixStr.startsWith(packagePrefix))
-			prefixStr = prefixStr.substring(packagePrefix.length());
-		prefixStr = "["+prefixStr+"]";
-		optionalValues.scan(object, prefixStr);
+	
+	/**
+	 * Collects unknown fields found while reading save files.
+	 * SaveGames are built in parallel, so it's synchronized.
+	 */
+	private static class UnknownFields {
+		private final TreeMap<String, TreeMap<String, EnumSet<ValueType>>> blocks = new TreeMap<>();
+		
+		synchronized void add(String blockLabel, String name, ValueType type) {
+			blocks
+				.computeIfAbsent(blockLabel, b->new TreeMap<>())
+				.computeIfAbsent(name, n->EnumSet.noneOf(ValueType.class))
+				.add(type);
+		}
+		
+		synchronized void clear() {
+			blocks.clear();
+		}
+		
+		synchronized void show(PrintStream out, String title) {
+			if (blocks.isEmpty()) return;
+			out.printf("%s:%n", title);
+			blocks.forEach((blockLabel, fields) -> {
+				out.printf("    Block \"%s\" [%d]%n", blockLabel, fields.size());
+				fields.forEach((name, types) -> {
+					for (ValueType type : types)
+						out.printf("        .add(\"%s\", ValueType.%s)%n", name, type);
+				});
+			});
+		}
 	}
 	
 	static class NV extends JSON_Data.NamedValueExtra.Dummy{}
 	static class V extends JSON_Data.ValueExtra.Dummy{}
 	
 	final File saveGameFolder;
-	final HashMap<String, JSON_Data.Value<NV,V>> rawJsonData;
 	final HashMap<String, SaveGame> saveGames;
+	private final Vector<File> rawDataFiles;
+	private HashMap<String, JSON_Data.Value<NV,V>> rawJsonData; // null == not read yet
 
 	SaveGameData(File saveGameFolder) {
 		this.saveGameFolder = saveGameFolder;
-		rawJsonData = new HashMap<>();
 		saveGames = new HashMap<>();
+		rawDataFiles = new Vector<>();
+		rawJsonData = null;
+	}
+
+	/**
+	 * The {@link SaveGame}s are built without JSON trees (see {@link #readSaveFile(File)}).
+	 * The JSON trees of the files are only read, if they are requested (e.g. by {@link RawDataPanel}).
+	 * @return a copy of the map of the JSON trees of all files read by {@link #readData()}, key == file name
+	 */
+	synchronized HashMap<String, JSON_Data.Value<NV,V>> getRawJsonData() {
+		return new HashMap<>(getOrReadRawJsonData());
+	}
+
+	/**
+	 * @return the JSON tree of a file read by {@link #readData()} or {@link #reloadSaveFile(File)}
+	 */
+	synchronized JSON_Data.Value<NV,V> getRawJsonData(String fileName) {
+		return getOrReadRawJsonData().get(fileName);
 	}
 
-	void readData() {
-		rawJsonData.clear();
+	private HashMap<String, JSON_Data.Value<NV,V>> getOrReadRawJsonData() {
+		if (rawJsonData==null) {
+			rawJsonData = new HashMap<>();
+			List<JSON_Data.Value<NV, V>> values = rawDataFiles.parallelStream().map(this::readJsonFile).toList();
+			for (int i=0; i<values.size(); i++)
+				if (values.get(i)!=null) rawJsonData.put(rawDataFiles.get(i).getName(), values.get(i));
+		}
+		return rawJsonData;
+	}
+
+	synchronized void readData() {
+		rawJsonData = null;
+		rawDataFiles.clear();
 		saveGames.clear();
-		KJV_FACTORY.clearStatementList();
-		optionalValues.clear();
+		unknownFields.clear();
 		
-		File[] defaultFiles = DEFAULT_FILES.stream().<File>map(name->new File(saveGameFolder,name)).toArray(File[]::new);
-		for (File file : defaultFiles) {
-			JSON_Data.Value<NV, V> value = readJsonFile(file);
-			if (value!=null) rawJsonData.put(file.getName(), value);
+		for (String name : DEFAULT_FILES) {
+			File file = new File(saveGameFolder,name);
+			if (file.isFile()) rawDataFiles.add(file); // only shown as raw data
 		}
 		
 		
-		File[] saveFiles = saveGameFolder.listFiles(file->{
-			if (!file.isFile()) return false;
-			String name = file.getName();
-			// "CompleteSave1.cfg"
-			if (!name.startsWith(SAVEGAME_PREFIX)) return false;
-			if (!name.  endsWith(SAVEGAME_SUFFIX)) return false;
-			return true; // !name.equals(SAVEGAME_PREFIX+SAVEGAME_SUFFIX); // "CompleteSave.cfg" is also a save file 
-		});
-		for (File file : saveFiles) {
-			JSON_Data.Value<NV, V> value = readJsonFile(file);
-			if (value!=null) {
-				String fileName = file.getName();
-				rawJsonData.put(fileName, value);
-				String indexStr = fileName.substring(SAVEGAME_PREFIX.length(), fileName.length()-SAVEGAME_SUFFIX.length());
-				try {
-					saveGames.put(indexStr, new SaveGame(fileName, indexStr, value));
-				} catch (TraverseException e) {
-					System.err.printf("Can't parse SaveGame \"%s\": %s%n", indexStr, e.getMessage());
-					//e.printStackTrace();
-				}
+		File[] saveFiles = saveGameFolder.listFiles(file->file.isFile() && isSaveFile(file.getName()));
+		Arrays.sort(saveFiles, Comparator.comparing(File::getName));
+		
+		// Each file is parsed and its SaveGame is built in parallel, but only a window of files ahead of the collecting loop.
+		// The results are collected in file order.
+		int maxFilesInFlight = Runtime.getRuntime().availableProcessors();
+		Vector<CompletableFuture<ReadResult>> readResults = new Vector<>();
+		for (int i=0; i<saveFiles.length && i<maxFilesInFlight; i++) {
+			File file = saveFiles[i];
+			readResults.add(CompletableFuture.supplyAsync(() -> readSaveFile(file)));
+		}
+		
+		for (int i=0; i<saveFiles.length; i++) {
+			if (i+maxFilesInFlight < saveFiles.length) {
+				File nextFile = saveFiles[i+maxFilesInFlight];
+				readResults.add(CompletableFuture.supplyAsync(() -> readSaveFile(nextFile)));
+			}
+			ReadResult readResult = readResults.get(i).join();
+			readResults.set(i, null);
+			if (readResult.isReadable()) {
+				rawDataFiles.add(saveFiles[i]);
+				if (readResult.saveGame()!=null) saveGames.put(readResult.saveGame().indexStr, readResult.saveGame());
 			}
 		}
 		
-		KJV_FACTORY.showStatementList(System.err, "Unknown Fields in parsed Data");
-		optionalValues.show("OptionalValues", System.out);
+		unknownFields.show(System.err, "Unknown Fields in parsed Data");
+	}
+	
+	private record ReadResult(boolean isReadable, SaveGame saveGame) {}
+	
+	/**
+	 * The save file is read with a {@link JsonPullReader}. The SaveGame is bound directly from the tokens, no JSON tree is built.
+	 * @return isReadable == <code>false</code>, if the file can't be opened
+	 */
+	private static ReadResult readSaveFile(File file) {
+		if (!file.isFile()) return new ReadResult(false, null);
+		String fileName = file.getName();
+		String indexStr = getIndexStr(fileName);
+		try (JsonPullReader reader = JsonPullReader.open(file)) {
+			return new ReadResult(true, new SaveGame(fileName, indexStr, reader));
+		} catch (IOException e) {
+			System.err.printf("IOException while reading SaveGame \"%s\": %s%n", file.getAbsolutePath(), e.getMessage());
+			return new ReadResult(false, null);
+		} catch (ParseException e) {
+			System.err.printf("Can't parse SaveGame \"%s\": %s%n", indexStr, e.getMessage());
+			//e.printStackTrace();
+			return new ReadResult(true, null);
+		}
+	}
+
+	static boolean isSaveFile(String fileName) {
+		// "CompleteSave1.cfg"
+		if (!fileName.startsWith(SAVEGAME_PREFIX)) return false;
+		if (!fileName.  endsWith(SAVEGAME_SUFFIX)) return false;
+		return true; // !name.equals(SAVEGAME_PREFIX+SAVEGAME_SUFFIX); // "CompleteSave.cfg" is also a save file 
+	}
+
+	private static String getIndexStr(String saveFileName) {
+		return saveFileName.substring(SAVEGAME_PREFIX.length(), saveFileName.length()-SAVEGAME_SUFFIX.length());
+	}
+
+	/**
+	 * Reads a single changed save file again.
+	 * The file is parsed and the SaveGame is built in the calling thread (not the EDT).
+	 * The SaveGame isn't stored in {@link #saveGames}. That's done by {@link #putSaveGame(SaveGame)} in the thread, that uses {@link #saveGames}.
+	 * @return the new SaveGame or <code>null</code>, if the file can't be read
+	 */
+	SaveGame reloadSaveFile(File file) {
+		if (!isSaveFile(file.getName())) throw new IllegalArgumentException();
+		SaveGame saveGame = readSaveFile(file).saveGame();
+		if (saveGame==null) return null;
+		
+		synchronized (this) {
+			if (!rawDataFiles.contains(file)) rawDataFiles.add(file);
+			if (rawJsonData!=null) { // JSON trees are requested -> replace only the tree of this file
+				JSON_Data.Value<NV, V> value = readJsonFile(file);
+				if (value!=null) rawJsonData.put(file.getName(), value);
+				else rawJsonData.remove(file.getName());
+			}
+			return saveGame;
+		}
+	}
+
+	void putSaveGame(SaveGame saveGame) {
+		saveGames.put(saveGame.indexStr, saveGame);
+	}
+
+	/**
+	 * Forgets a deleted save file.
+	 * Like in {@link #reloadSaveFile(File)} the SaveGame isn't removed from {@link #saveGames}. That's done by {@link #removeSaveGame(String)}.
+	 * @return the index of the SaveGame of the file
+	 */
+	String removeSaveFile(File file) {
+		if (!isSaveFile(file.getName())) throw new IllegalArgumentException();
+		synchronized (this) {
+			rawDataFiles.remove(file);
+			if (rawJsonData!=null) rawJsonData.remove(file.getName());
+		}
+		return getIndexStr(file.getName());
+	}
+
+	SaveGame removeSaveGame(String indexStr) {
+		return saveGames.remove(indexStr);
 	}
 
 	private JSON_Data.Value<NV, V> readJsonFile(File file) {
 		if (!file.isFile()) return null;
 		try {
 			return JSON_Parser.<NV, V>parse_withParseException(file, StandardCharsets.UTF_8, null, null);
-		} catch (ParseException e) {
+		} catch (JSON_Parser.ParseException e) {
 			System.err.printf("ParseException while parsing JSON file \"%s\": %s%n", file.getAbsolutePath(), e.getMessage());
 			//e.printStackTrace();
 			return null;
 		}
 	}
 
-	private static long parseTimestamp(JSON_Object<NV, V> object, String subValueName, String debugOutputPrefixStr) throws TraverseException
+	private static long parseTimestamp(JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 	{
-		JSON_Object<NV, V> saveTime = JSON_Data.getObjectValue(object, subValueName, debugOutputPrefixStr);
-		String timestampStr = JSON_Data.getStringValue(saveTime, "timestamp", debugOutputPrefixStr+".saveTime");
-		KNOWN_JSON_VALUES_Timestamp.scanUnexpectedValues(saveTime, debugOutputPrefixStr+".saveTime");
+		ObjectReader saveTime = reader.beginObject(debugOutputPrefixStr, KNOWN_JSON_VALUES_Timestamp.listener(debugOutputPrefixStr)).finish();
+		String timestampStr = saveTime.getString("timestamp");
 		
 		if (!timestampStr.startsWith("0x"))
-			throw new JSON_Data.TraverseException("Unexpected string value in %s: %s", debugOutputPrefixStr+".saveTime.timestamp", timestampStr);
+			throw new ParseException("Unexpected string value in %s: %s", debugOutputPrefixStr+".timestamp", timestampStr);
 		
 		return Long.parseUnsignedLong(timestampStr.substring(2), 16);
 	}
 
-	private static String parseNameValue(JSON_Object<NV, V> object, String fieldName, String debugOutputPrefixStr) throws TraverseException
+	private static String parseNameValue(JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 	{
-		JSON_Object<NV, V> obj2 = JSON_Data.getObjectValue(object, fieldName, debugOutputPrefixStr              );
-		String             str  = JSON_Data.getStringValue(obj2  , "name"   , debugOutputPrefixStr+"."+fieldName);
-		KNOWN_JSON_VALUES_NameValue.scanUnexpectedValues(obj2, debugOutputPrefixStr+"."+fieldName);
-		return str;
+		ObjectReader obj2 = reader.beginObject(debugOutputPrefixStr, KNOWN_JSON_VALUES_NameValue.listener(debugOutputPrefixStr)).finish();
+		return obj2.getString("name");
 	}
 	
 	private interface ParseObjectAction
 	{
-		void parse(JSON_Data.Value<NV,V> jsonValue, String fieldName, String local_debugOutputPrefixStr) throws TraverseException;
+		void parse(String fieldName, String local_debugOutputPrefixStr) throws ParseException;
 	}
 	
-	private static void parseObject(JSON_Object<NV, V> object, String debugOutputPrefixStr, ParseObjectAction action) throws TraverseException
+	/**
+	 * Reads an object, whose field names are keys (e.g. map IDs). <code>action</code> has to read the value of each field.
+	 */
+	private static void parseObject(JsonPullReader reader, String debugOutputPrefixStr, ParseObjectAction action) throws ParseException
 	{
-		if (object!=null)
-			for (JSON_Data.NamedValue<NV,V> nv : object)
-				action.parse(nv.value, nv.name, debugOutputPrefixStr+"."+nv.name);
+		ObjectReader object = reader.beginObject(debugOutputPrefixStr, null);
+		while (object.nextEntry())
+			action.parse(object.name, object.local);
 	}
 	
 	private interface ParseArrayAction
 	{
-		void parse(JSON_Data.Value<NV,V> jsonValue, int index, String local_debugOutputPrefixStr) throws TraverseException;
+		void parse(int index, String local_debugOutputPrefixStr) throws ParseException;
 	}
 	
-	private static void parseArray(JSON_Array<NV, V> array, String debugOutputPrefixStr, ParseArrayAction action) throws TraverseException
+	/**
+	 * <code>action</code> has to read each value of the array.
+	 */
+	private static void parseArray(JsonPullReader reader, String debugOutputPrefixStr, ParseArrayAction action) throws ParseException
 	{
-		if (array!=null)
-			for (int i=0; i<array.size(); i++)
-				action.parse(array.get(i), i, debugOutputPrefixStr+"["+i+"]");
+		reader.beginArray(debugOutputPrefixStr);
+		for (int i=0; reader.hasNextValue(); i++)
+			action.parse(i, debugOutputPrefixStr+"["+i+"]");
+		reader.endArray(debugOutputPrefixStr);
 	}
 	
-	private static long[] parseArray_Integer(JSON_Array<NV, V> jsonArray, String debugOutputPrefixStr) throws TraverseException
+	private static long[] parseArray_Integer(JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 	{
-		if (jsonArray==null) return null;
-		long[] arr = new long[jsonArray.size()];
-		parseArray(jsonArray, debugOutputPrefixStr, (jsonValue, index, local_debugOutputPrefixStr) -> arr[index] = JSON_Data.getIntegerValue(jsonValue, local_debugOutputPrefixStr) );
-		return arr;
+		long[] arr = new long[16];
+		int n = 0;
+		reader.beginArray(debugOutputPrefixStr);
+		for (; reader.hasNextValue(); n++)
+		{
+			if (n==arr.length) arr = Arrays.copyOf(arr, n*2);
+			arr[n] = reader.nextInteger(debugOutputPrefixStr+"["+n+"]");
+		}
+		reader.endArray(debugOutputPrefixStr);
+		return Arrays.copyOf(arr, n);
 	}
 	
-	private static double[] parseArray_Float(JSON_Array<NV, V> jsonArray, String debugOutputPrefixStr) throws TraverseException
+	private static double[] parseArray_Float(JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 	{
-		if (jsonArray==null) return null;
-		double[] arr = new double[jsonArray.size()];
-		parseArray(jsonArray, debugOutputPrefixStr, (jsonValue, index, local_debugOutputPrefixStr) -> arr[index] = JSON_Data.getFloatValue(jsonValue, local_debugOutputPrefixStr) );
-		return arr;
+		double[] arr = new double[16];
+		int n = 0;
+		reader.beginArray(debugOutputPrefixStr);
+		for (; reader.hasNextValue(); n++)
+		{
+			if (n==arr.length) arr = Arrays.copyOf(arr, n*2);
+			arr[n] = reader.nextFloat(debugOutputPrefixStr+"["+n+"]");
+		}
+		reader.endArray(debugOutputPrefixStr);
+		return Arrays.copyOf(arr, n);
 	}
 	
-	private static boolean[] parseArray_Bool(JSON_Array<NV, V> jsonArray, String debugOutputPrefixStr) throws TraverseException
+	private static boolean[] parseArray_Bool(JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 	{
-		if (jsonArray==null) return null;
-		boolean[] arr = new boolean[jsonArray.size()];
-		parseArray(jsonArray, debugOutputPrefixStr, (jsonValue, index, local_debugOutputPrefixStr) -> arr[index] = JSON_Data.getBoolValue(jsonValue, local_debugOutputPrefixStr) );
-		return arr;
+		boolean[] arr = new boolean[16];
+		int n = 0;
+		reader.beginArray(debugOutputPrefixStr);
+		for (; reader.hasNextValue(); n++)
+		{
+			if (n==arr.length) arr = Arrays.copyOf(arr, n*2);
+			arr[n] = reader.nextBool(debugOutputPrefixStr+"["+n+"]");
+		}
+		reader.endArray(debugOutputPrefixStr);
+		return Arrays.copyOf(arr, n);
 	}
 	
 	private interface Constructor<Type>
 	{
-		Type create(JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException;
+		Type create(JsonPullReader reader, String debugOutputPrefixStr) throws ParseException;
 	}
 	
-	private static <Type, TargetCollection extends Collection<Type>> TargetCollection parseArray_Object(JSON_Array<NV, V> array, String debugOutputPrefixStr, Constructor<Type> constructor, TargetCollection targetCollection) throws TraverseException
+	private static <Type, TargetCollection extends Collection<Type>> TargetCollection parseArray_Object(JsonPullReader reader, String debugOutputPrefixStr, Constructor<Type> constructor, TargetCollection targetCollection) throws ParseException
 	{
-		parseArray(array, debugOutputPrefixStr, (value,i,localPrefixStr) -> {
-			JSON_Object<NV, V> obj = JSON_Data.getObjectValue(value, localPrefixStr);
-			targetCollection.add(constructor.create(obj, localPrefixStr));
+		parseArray(reader, debugOutputPrefixStr, (i,localPrefixStr) -> {
+			targetCollection.add(constructor.create(reader, localPrefixStr));
 		});
 		return targetCollection;
 	}
 	
-	private static <TargetCollection extends Collection<String>> TargetCollection parseArray_String(JSON_Array<NV, V> array, String debugOutputPrefixStr, TargetCollection targetCollection) throws TraverseException
+	private static <TargetCollection extends Collection<String>> TargetCollection parseArray_String(JsonPullReader reader, String debugOutputPrefixStr, TargetCollection targetCollection) throws ParseException
 	{
-		parseArray(array, debugOutputPrefixStr, (value,i,localPrefixStr) -> {
-			String str = JSON_Data.getStringValue(value, localPrefixStr);
+		parseArray(reader, debugOutputPrefixStr, (i,localPrefixStr) -> {
+			String str = reader.nextString(localPrefixStr);
 			targetCollection.add(str);
 		});
 		return targetCollection;
 	}
 	
-	private static <Type> Type parseObjectOrNull(JSON_Object<NV, V> object, JSON_Data.Null null_, Constructor<Type> constructor, String debugOutputPrefixStr) throws TraverseException
-	{
-		checkObjectOrNull(object, null_, debugOutputPrefixStr);
-		if (object == null) return null;
-		return constructor.create(object, debugOutputPrefixStr);
-	}
-	
-	private static void checkObjectOrNull(JSON_Object<NV, V> object, JSON_Data.Null null_, String debugOutputPrefixStr) throws TraverseException
+	private static void checkEmptyArray(JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 	{
-		if (object==null && null_==null)
-			throw new TraverseException("%s isn't a ObjectValue or Null", debugOutputPrefixStr);
-	}
-	
-	private static void checkEmptyArrayOrUnset(JSON_Array<NV, V> array, String debugOutputPrefixStr)
-	{
-		if (array!=null && !array.isEmpty())
+		reader.beginArray(debugOutputPrefixStr);
+		if (reader.hasNextValue())
+		{
 			System.err.printf("Array %s is not empty as expected.%n", debugOutputPrefixStr);
+			while (reader.hasNextValue()) reader.skipValue();
+		}
+		reader.endArray(debugOutputPrefixStr);
 	}
 	
-	private static void checkEmptyObjectOrUnsetOrNull(JSON_Data.Value<NV, V> objectBaseValue, String debugOutputPrefixStr) throws TraverseException
+	private static void checkEmptyObject(JsonPullReader reader, String debugOutputPrefixStr, boolean reportAsUnknownFields) throws ParseException
 	{
-		if (objectBaseValue==null)
-			return; // unset -> OK
-		if (objectBaseValue.type!=JSON_Data.Value.Type.Object && objectBaseValue.type!=JSON_Data.Value.Type.Null)
-			throw new TraverseException("%s isn't a ObjectValue or Null", debugOutputPrefixStr);
-		if (objectBaseValue.type==JSON_Data.Value.Type.Object)
+		if (reportAsUnknownFields)
 		{
-			JSON_Data.ObjectValue<NV, V> objectValue = objectBaseValue.castToObjectValue();
-			if (objectValue==null) throw new IllegalStateException();
-			if (!objectValue.value.isEmpty())
-				System.err.printf("Object %s is not empty as expected.%n", debugOutputPrefixStr);
+			reader.beginObject(debugOutputPrefixStr, KNOWN_JSON_VALUES__EMPTY_OBJECT.listener(debugOutputPrefixStr)).finish();
+			return;
 		}
-	}
-	
-	private static void checkEmptyArrayOrUnsetOrNull(JSON_Data.Value<NV, V> arrayBaseValue, String debugOutputPrefixStr) throws TraverseException
-	{
-		if (arrayBaseValue==null)
-			return; // unset -> OK
-		if (arrayBaseValue.type!=JSON_Data.Value.Type.Array && arrayBaseValue.type!=JSON_Data.Value.Type.Null)
-			throw new TraverseException("%s isn't a ArrayValue or Null", debugOutputPrefixStr);
-		if (arrayBaseValue.type==JSON_Data.Value.Type.Array)
+		
+		ObjectReader object = reader.beginObject(debugOutputPrefixStr, null);
+		if (object.nextEntry())
 		{
-			JSON_Data.ArrayValue<NV, V> arrayValue = arrayBaseValue.castToArrayValue();
-			if (arrayValue==null) throw new IllegalStateException();
-			if (!arrayValue.value.isEmpty())
-				System.err.printf("Array %s is not empty as expected.%n", debugOutputPrefixStr);
+			System.err.printf("Object %s is not empty as expected.%n", debugOutputPrefixStr);
+			while (object.nextEntry()) {}
 		}
 	}
 
-	private static void checkEmptyObject(JSON_Object<NV, V> object, String debugOutputPrefixStr)
-	{
-		KNOWN_JSON_VALUES__EMPTY_OBJECT.scanUnexpectedValues(object, debugOutputPrefixStr);
-	}
-
 	public static class SaveGame {
 		
-		private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES_Root = KJV_FACTORY.create("[SaveGame]<root>")
-		//		.add("CompleteSave#"  , JSON_Data.Value.Type.Object)
-				.add("cfg_version"    , JSON_Data.Value.Type.Integer);
-		private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES_CompleteSave = KJV_FACTORY.create("[SaveGame]<root>.CompleteSave#")
-				.add("SslValue"       , JSON_Data.Value.Type.Object)
-				.add("SslType"        , JSON_Data.Value.Type.String);
-		private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES_watchPointsData = KJV_FACTORY.create()
-				.add("data"           , JSON_Data.Value.Type.Object);
-		private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES_gameStatByRegion = KJV_FACTORY.create()
-				.add("PAYMENTS_RECEIVED", JSON_Data.Value.Type.Object);
+		private static final KnownFields KNOWN_JSON_VALUES_Root = new KnownFields("[SaveGame]<root>")
+		//		.add("CompleteSave#"  , ValueType.Object)
+				.add("cfg_version"    , ValueType.Integer);
+		private static final KnownFields KNOWN_JSON_VALUES_CompleteSave = new KnownFields("[SaveGame]<root>.CompleteSave#")
+				.add("SslValue"       , ValueType.Object)
+				.add("SslType"        , ValueType.String);
+		private static final KnownFields KNOWN_JSON_VALUES_watchPointsData = new KnownFields()
+				.add("data"           , ValueType.Object);
+		private static final KnownFields KNOWN_JSON_VALUES_gameStatByRegion = new KnownFields()
+				.add("PAYMENTS_RECEIVED", ValueType.Object);
 		
-		private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES_SslValue = KJV_FACTORY.create("[SaveGame]<root>.CompleteSave#.SslValue")
-				.add("birthVersion"                      , JSON_Data.Value.Type.Integer)
-				.add("cargoLoadingCounts"                , JSON_Data.Value.Type.Object )
-				.add("discoveredObjectives"              , JSON_Data.Value.Type.Array  )
-				.add("discoveredObjects"                 , JSON_Data.Value.Type.Array  )
-				.add("finishedObjs"                      , JSON_Data.Value.Type.Array  )
-				.add("forcedModelStates"                 , JSON_Data.Value.Type.Object )
-				.add("gameDifficultyMode"                , JSON_Data.Value.Type.Integer)
-				.add("gameDifficultySettings"            , JSON_Data.Value.Type.Object ) // unparsed
-				.add("gameDifficultySettings"            , JSON_Data.Value.Type.Null   ) // unparsed
-				.add("gameStat"                          , JSON_Data.Value.Type.Object )
-				.add("gameStatByRegion"                  , JSON_Data.Value.Type.Object )
-				.add("gameTime"                          , JSON_Data.Value.Type.Float  )
-				.add("garagesData"                       , JSON_Data.Value.Type.Object )
-				.add("garagesShopData"                   , JSON_Data.Value.Type.Object ) // empty
-				.add("garagesShopData"                   , JSON_Data.Value.Type.Null   )
-				.add("givenTrialRewards"                 , JSON_Data.Value.Type.Array  ) // empty
-				.add("hiddenCargoes"                     , JSON_Data.Value.Type.Object )
-				.add("isFirstGarageDiscovered"           , JSON_Data.Value.Type.Bool   )
-				.add("isHardMode"                        , JSON_Data.Value.Type.Bool   )
-				.add("justDiscoveredObjects"             , JSON_Data.Value.Type.Object ) // empty
-				.add("lastLevelState"                    , JSON_Data.Value.Type.Integer)
-				.add("lastLoadedLevel"                   , JSON_Data.Value.Type.String )
-				.add("lastPhantomMode"                   , JSON_Data.Value.Type.Integer)
-				.add("levelGarageStatuses"               , JSON_Data.Value.Type.Object )
-				.add("levelGarageStatuses"               , JSON_Data.Value.Type.Null   )
-				.add("metricSystem"                      , JSON_Data.Value.Type.Integer)
-				.add("modTruckOnLevels"                  , JSON_Data.Value.Type.Object )
-				.add("modTruckRefundValues"              , JSON_Data.Value.Type.Object ) // empty
-				.add("modTruckTypesRefundValues"         , JSON_Data.Value.Type.Object ) // empty
-				.add("objVersion"                        , JSON_Data.Value.Type.Integer)
-				.add("objectiveStates"                   , JSON_Data.Value.Type.Object )
-				.add("objectivesValidated"               , JSON_Data.Value.Type.Bool   )
-				.add("persistentProfileData"             , JSON_Data.Value.Type.Object )
-				.add("persistentProfileData"             , JSON_Data.Value.Type.Null   )
-				.add("saveId"                            , JSON_Data.Value.Type.Integer)
-				.add("saveTime"                          , JSON_Data.Value.Type.Object )
-				.add("savedCargoNeedToBeRemovedOnRestart", JSON_Data.Value.Type.Object )
-				.add("trackedObjective"                  , JSON_Data.Value.Type.String )
-				.add("tutorialStates"                    , JSON_Data.Value.Type.Object )
-				.add("tutorialStates"                    , JSON_Data.Value.Type.Null   )
-				.add("upgradableGarages"                 , JSON_Data.Value.Type.Object )
-				.add("upgradesGiverData"                 , JSON_Data.Value.Type.Object )
-				.add("viewedUnactivatedObjectives"       , JSON_Data.Value.Type.Array  )
-				.add("visitedLevels"                     , JSON_Data.Value.Type.Array  )
-				.add("watchPointsData"                   , JSON_Data.Value.Type.Object )
-				.add("watchPointsData"                   , JSON_Data.Value.Type.Null   )
-				.add("waypoints"                         , JSON_Data.Value.Type.Object )
-				.add("worldConfiguration"                , JSON_Data.Value.Type.String )
+		private static final KnownFields KNOWN_JSON_VALUES_SslValue = new KnownFields("[SaveGame]<root>.CompleteSave#.SslValue")
+				.add("birthVersion"                      , ValueType.Integer)
+				.add("cargoLoadingCounts"                , ValueType.Object )
+				.add("discoveredObjectives"              , ValueType.Array  )
+				.add("discoveredObjects"                 , ValueType.Array  )
+				.add("finishedObjs"                      , ValueType.Array  )
+				.add("forcedModelStates"                 , ValueType.Object )
+				.add("gameDifficultyMode"                , ValueType.Integer)
+				.add("gameDifficultySettings"            , ValueType.Object ) // unparsed
+				.add("gameDifficultySettings"            , ValueType.Null   ) // unparsed
+				.add("gameStat"                          , ValueType.Object )
+				.add("gameStatByRegion"                  , ValueType.Object )
+				.add("gameTime"                          , ValueType.Float  )
+				.add("garagesData"                       , ValueType.Object )
+				.add("garagesShopData"                   , ValueType.Object ) // empty
+				.add("garagesShopData"                   , ValueType.Null   )
+				.add("givenTrialRewards"                 , ValueType.Array  ) // empty
+				.add("hiddenCargoes"                     , ValueType.Object )
+				.add("isFirstGarageDiscovered"           , ValueType.Bool   )
+				.add("isHardMode"                        , ValueType.Bool   )
+				.add("justDiscoveredObjects"             , ValueType.Object ) // empty
+				.add("lastLevelState"                    , ValueType.Integer)
+				.add("lastLoadedLevel"                   , ValueType.String )
+				.add("lastPhantomMode"                   , ValueType.Integer)
+				.add("levelGarageStatuses"               , ValueType.Object )
+				.add("levelGarageStatuses"               , ValueType.Null   )
+				.add("metricSystem"                      , ValueType.Integer)
+				.add("modTruckOnLevels"                  , ValueType.Object )
+				.add("modTruckRefundValues"              , ValueType.Object ) // empty
+				.add("modTruckTypesRefundValues"         , ValueType.Object ) // empty
+				.add("objVersion"                        , ValueType.Integer)
+				.add("objectiveStates"                   , ValueType.Object )
+				.add("objectivesValidated"               , ValueType.Bool   )
+				.add("persistentProfileData"             , ValueType.Object )
+				.add("persistentProfileData"             , ValueType.Null   )
+				.add("saveId"                            , ValueType.Integer)
+				.add("saveTime"                          , ValueType.Object )
+				.add("savedCargoNeedToBeRemovedOnRestart", ValueType.Object )
+				.add("trackedObjective"                  , ValueType.String )
+				.add("tutorialStates"                    , ValueType.Object )
+				.add("tutorialStates"                    , ValueType.Null   )
+				.add("upgradableGarages"                 , ValueType.Object )
+				.add("upgradesGiverData"                 , ValueType.Object )
+				.add("viewedUnactivatedObjectives"       , ValueType.Array  )
+				.add("visitedLevels"                     , ValueType.Array  )
+				.add("watchPointsData"                   , ValueType.Object )
+				.add("watchPointsData"                   , ValueType.Null   )
+				.add("waypoints"                         , ValueType.Object )
+				.add("worldConfiguration"                , ValueType.String )
 				;
 
 		public final String fileName;
 		public final String indexStr;
-		public final JSON_Data.Value<NV, V> data;
 		
 		// basic values
 		public final long saveTime;
@@ -359,86 +522,122 @@ public class SaveGameData {
 		public final HashMap<String, String> forcedModelStates;
 		public final GameStat gameStat;
 
-		private SaveGame(String fileName, String indexStr, JSON_Data.Value<NV, V> data) throws TraverseException {
-			if (data==null)
+		private SaveGame(String fileName, String indexStr, JsonPullReader reader) throws ParseException {
+			if (reader==null)
 				throw new IllegalArgumentException();
 			
 			this.fileName = fileName;
 			this.indexStr = indexStr;
-			this.data = data;
 			regions    = new HashMap<>();
 			maps       = new HashMap<>();
 			objectives = new HashMap<>();
 			addons     = new HashMap<>();
 			trucks     = new HashMap<>();
-			
-			JSON_Object<NV, V> rootObject      = JSON_Data.getObjectValue(this.data      ,                          "SaveGame.<root>");
-			JSON_Object<NV, V> complSaveObject = JSON_Data.getObjectValue(rootObject     , "CompleteSave"+indexStr, "SaveGame.<root>");
-			JSON_Object<NV, V> sslValueObj     = JSON_Data.getObjectValue(complSaveObject, "SslValue"             , "SaveGame.<root>.CompleteSave"+indexStr);
-			KNOWN_JSON_VALUES_Root.add("CompleteSave"+indexStr, JSON_Data.Value.Type.Object); // adding known fields dynamically :)
-			KNOWN_JSON_VALUES_Root        .scanUnexpectedValues(rootObject     );
-			KNOWN_JSON_VALUES_CompleteSave.scanUnexpectedValues(complSaveObject);
+			forcedModelStates = new HashMap<>();
+			tutorialStates    = new HashMap<>();
+			
+			// The save file is bound while it's read. Scalar values of an object are read after its complex values.
+			String completeSaveName = "CompleteSave"+indexStr;
+			JsonPullReader.FieldListener rootListener = KNOWN_JSON_VALUES_Root.listener("SaveGame.<root>");
+			ObjectReader rootObject = reader.beginObject("SaveGame.<root>", (name, type) -> {
+				if (!name.equals(completeSaveName) || type!=ValueType.Object) // "CompleteSave#" is a known field :)
+					rootListener.fieldFound(name, type);
+			});
 			
 			String debugOutputPrefixStr = "CompleteSave"+indexStr+".SslValue";
 			
-			@SuppressWarnings("unused")
-			JSON_Object<NV, V> garagesShopData;
+			ObjectReader sslValueObj = null;
+			PersistentProfileData persistentProfileData = null;
+			GameStat gameStat = null;
+			Long saveTime = null;
 			
-			JSON_Object<NV, V> cargoLoadingCounts, forcedModelStates, gameStat, gameStatByRegion, garagesData, hiddenCargoes, justDiscoveredObjects, levelGarageStatuses,
-				modTruckOnLevels, modTruckRefundValues, modTruckTypesRefundValues, objectiveStates, persistentProfileData,
-				savedCargoNeedToBeRemovedOnRestart, tutorialStates, upgradableGarages, upgradesGiverData, watchPointsData, waypoints;
-			
-			JSON_Array<NV, V> visitedLevels, discoveredObjectives, discoveredObjects, finishedObjs, givenTrialRewards, viewedUnactivatedObjectives;
-			
-			JSON_Data.Null levelGarageStatuses_Null, persistentProfileData_Null, tutorialStates_Null, watchPointsData_Null;
-			JSON_Data.Value<NV,V> garagesShopData_Value;
+			while (rootObject.nextField())
+			{
+				if (!rootObject.name.equals(completeSaveName)) continue;
+				ObjectReader complSaveObject = reader.beginObject("SaveGame.<root>."+completeSaveName, KNOWN_JSON_VALUES_CompleteSave.listener("SaveGame.<root>."+completeSaveName));
+				
+				while (complSaveObject.nextField())
+				{
+					if (!complSaveObject.name.equals("SslValue")) continue;
+					sslValueObj = reader.beginObject(debugOutputPrefixStr, KNOWN_JSON_VALUES_SslValue.listener(debugOutputPrefixStr));
+					
+					while (sslValueObj.nextField())
+					{
+						String local = sslValueObj.local;
+						switch (sslValueObj.name)
+						{
+							case "cargoLoadingCounts"                : MapInfos .parseCargoLoadingCounts                (maps      , reader, local); break;
+							case "discoveredObjects"                 : MapInfos .parseDiscoveredObjects                 (maps      , reader, local); break;
+							case "garagesData"                       : MapInfos .parseGaragesData                       (maps      , reader, local); break;
+							case "levelGarageStatuses"               : MapInfos .parseLevelGarageStatuses               (maps      , reader, local); break;
+							case "modTruckOnLevels"                  : MapInfos .parseModTruckOnLevels                  (maps      , reader, local); break;
+							case "upgradableGarages"                 : MapInfos .parseUpgradableGarages                 (maps      , reader, local); break;
+							case "upgradesGiverData"                 : MapInfos .parseUpgradesGiverData                 (maps      , reader, local); break;
+							case "visitedLevels"                     : MapInfos .parseVisitedLevels                     (maps      , reader, local); break;
+							case "waypoints"                         : MapInfos .parseWaypoints                         (maps      , reader, local); break;
+							case "discoveredObjectives"              : Objective.parseDiscoveredObjectives              (objectives, reader, local); break;
+							case "finishedObjs"                      : Objective.parseFinishedObjs                      (objectives, reader, local); break;
+							case "hiddenCargoes"                     : Objective.parseHiddenCargoes                     (objectives, reader, local); break;
+							case "objectiveStates"                   : Objective.parseObjectiveStates                   (objectives, reader, local); break;
+							case "savedCargoNeedToBeRemovedOnRestart": Objective.parseSavedCargoNeedToBeRemovedOnRestart(objectives, reader, local); break;
+							case "viewedUnactivatedObjectives"       : Objective.parseViewedUnactivatedObjectives       (objectives, reader, local); break;
+							
+							case "persistentProfileData"             : persistentProfileData = new PersistentProfileData(reader, local); break;
+							case "gameStat"                          : gameStat = new GameStat(reader, local); break;
+							case "saveTime"                          : saveTime = parseTimestamp(reader, local); break;
+							
+							case "forcedModelStates":
+								parseObject(reader, local, (modelName, localPrefixStr) -> {
+									String state = reader.nextString(localPrefixStr);
+									
+									if (this.forcedModelStates.containsKey(modelName))
+										System.err.printf("[ForcedModelStates] Found more than 1 entry with same Model name \"%s\" in %s%n", modelName, localPrefixStr);
+									else
+										this.forcedModelStates.put(modelName, state);
+								});
+								break;
+								
+							case "watchPointsData":
+								ObjectReader watchPointsData = reader.beginObject(local, KNOWN_JSON_VALUES_watchPointsData.listener(local));
+								while (watchPointsData.nextField())
+									if (watchPointsData.name.equals("data"))
+										MapInfos.parseWatchPoints(maps, reader, watchPointsData.local);
+								watchPointsData.checkType("data", ValueType.Object);
+								break;
+								
+							case "gameStatByRegion":
+								ObjectReader gameStatByRegion = reader.beginObject(local, KNOWN_JSON_VALUES_gameStatByRegion.listener(local));
+								while (gameStatByRegion.nextField())
+									if (gameStatByRegion.name.equals("PAYMENTS_RECEIVED"))
+										RegionInfos.parsePaymentsReceived(regions, reader, gameStatByRegion.local);
+								break;
+								
+							case "tutorialStates":
+								parseObject(reader, local, (tutorialStep, localPrefixStr) -> {
+									boolean state = reader.nextBool(localPrefixStr);
+									
+									if (this.tutorialStates.containsKey(tutorialStep))
+										System.err.printf("[TutorialStates] Found more than 1 entry with same TutorialStep name \"%s\" in %s%n", tutorialStep, localPrefixStr);
+									else
+										this.tutorialStates.put(tutorialStep, state);
+								});
+								break;
+							
+							// empty
+							case "garagesShopData"          : checkEmptyObject(reader, local, false); break;
+							case "givenTrialRewards"        : checkEmptyArray (reader, local       ); break;
+							case "justDiscoveredObjects"    : checkEmptyObject(reader, local, true ); break;
+							case "modTruckRefundValues"     : checkEmptyObject(reader, local, true ); break;
+							case "modTruckTypesRefundValues": checkEmptyObject(reader, local, true ); break;
+						}
+					}
+				}
+				complSaveObject.checkType("SslValue", ValueType.Object);
+			}
+			rootObject.checkType(completeSaveName, ValueType.Object);
+			reader.endDocument();
 			
-			birthVersion                       = JSON_Data.getIntegerValue  (sslValueObj, "birthVersion"                      , debugOutputPrefixStr);
-			cargoLoadingCounts                 = JSON_Data.getObjectValue   (sslValueObj, "cargoLoadingCounts"                , debugOutputPrefixStr);
-			discoveredObjectives               = JSON_Data.getArrayValue    (sslValueObj, "discoveredObjectives"              , debugOutputPrefixStr);
-			discoveredObjects                  = JSON_Data.getArrayValue    (sslValueObj, "discoveredObjects"                 , debugOutputPrefixStr);
-			finishedObjs                       = JSON_Data.getArrayValue    (sslValueObj, "finishedObjs"                      , true, false, debugOutputPrefixStr);
-			forcedModelStates                  = JSON_Data.getObjectValue   (sslValueObj, "forcedModelStates"                 , debugOutputPrefixStr);
-			gameDifficultyMode                 = JSON_Data.getIntegerValue  (sslValueObj, "gameDifficultyMode"                , true, false, debugOutputPrefixStr);
-			gameStat                           = JSON_Data.getObjectValue   (sslValueObj, "gameStat"                          , debugOutputPrefixStr);
-			gameStatByRegion                   = JSON_Data.getObjectValue   (sslValueObj, "gameStatByRegion"                  , debugOutputPrefixStr);
-			gameTime                           = JSON_Data.getFloatValue    (sslValueObj, "gameTime"                          , debugOutputPrefixStr);
-			garagesData                        = JSON_Data.getObjectValue   (sslValueObj, "garagesData"                       , debugOutputPrefixStr);
-			garagesShopData                    = JSON_Data.getObjectValue   (sslValueObj, "garagesShopData"                   , true, true, debugOutputPrefixStr);
-			garagesShopData_Value              = JSON_Data.getValue         (sslValueObj, "garagesShopData"                   , true, debugOutputPrefixStr);
-			givenTrialRewards                  = JSON_Data.getArrayValue    (sslValueObj, "givenTrialRewards"                 , debugOutputPrefixStr);
-			hiddenCargoes                      = JSON_Data.getObjectValue   (sslValueObj, "hiddenCargoes"                     , debugOutputPrefixStr);
-			isFirstGarageDiscovered            = JSON_Data.getBoolValue     (sslValueObj, "isFirstGarageDiscovered"           , debugOutputPrefixStr);
-			isHardMode                         = JSON_Data.getBoolValue     (sslValueObj, "isHardMode"                        , debugOutputPrefixStr);
-			justDiscoveredObjects              = JSON_Data.getObjectValue   (sslValueObj, "justDiscoveredObjects"             , debugOutputPrefixStr);
-			lastLevelState                     = JSON_Data.getIntegerValue  (sslValueObj, "lastLevelState"                    , debugOutputPrefixStr);
-			lastLoadedLevel                    = JSON_Data.getStringValue   (sslValueObj, "lastLoadedLevel"                   , debugOutputPrefixStr);
-			lastPhantomMode                    = JSON_Data.getIntegerValue  (sslValueObj, "lastPhantomMode"                   , debugOutputPrefixStr);
-			levelGarageStatuses                = JSON_Data.getObjectValue   (sslValueObj, "levelGarageStatuses"               , false, true, debugOutputPrefixStr);
-			levelGarageStatuses_Null           = JSON_Data.getNullValue     (sslValueObj, "levelGarageStatuses"               , false, true, debugOutputPrefixStr);
-			metricSystem                       = JSON_Data.getIntegerValue  (sslValueObj, "metricSystem"                      , debugOutputPrefixStr);
-			modTruckOnLevels                   = JSON_Data.getObjectValue   (sslValueObj, "modTruckOnLevels"                  , debugOutputPrefixStr);
-			modTruckRefundValues               = JSON_Data.getObjectValue   (sslValueObj, "modTruckRefundValues"              , debugOutputPrefixStr);
-			modTruckTypesRefundValues          = JSON_Data.getObjectValue   (sslValueObj, "modTruckTypesRefundValues"         , debugOutputPrefixStr);
-			objVersion                         = JSON_Data.getIntegerValue  (sslValueObj, "objVersion"                        , debugOutputPrefixStr);
-			objectiveStates                    = JSON_Data.getObjectValue   (sslValueObj, "objectiveStates"                   , debugOutputPrefixStr);
-			objectivesValidated                = JSON_Data.getBoolValue     (sslValueObj, "objectivesValidated"               , debugOutputPrefixStr);
-			persistentProfileData              = JSON_Data.getObjectValue   (sslValueObj, "persistentProfileData"             , false, true, debugOutputPrefixStr);
-			persistentProfileData_Null         = JSON_Data.getNullValue     (sslValueObj, "persistentProfileData"             , false, true, debugOutputPrefixStr);
-			saveId                             = JSON_Data.getIntegerValue  (sslValueObj, "saveId"                            , debugOutputPrefixStr);
-			saveTime                           = parseTimestamp             (sslValueObj, "saveTime"                          , debugOutputPrefixStr);
-			savedCargoNeedToBeRemovedOnRestart = JSON_Data.getObjectValue   (sslValueObj, "savedCargoNeedToBeRemovedOnRestart", debugOutputPrefixStr);
-			trackedObjective                   = JSON_Data.getStringValue   (sslValueObj, "trackedObjective"                  , debugOutputPrefixStr);
-			tutorialStates                     = JSON_Data.getObjectValue   (sslValueObj, "tutorialStates"                    , false, true, debugOutputPrefixStr);
-			tutorialStates_Null                = JSON_Data.getNullValue     (sslValueObj, "tutorialStates"                    , false, true, debugOutputPrefixStr);
-			upgradableGarages                  = JSON_Data.getObjectValue   (sslValueObj, "upgradableGarages"                 , true, false, debugOutputPrefixStr);
-			upgradesGiverData                  = JSON_Data.getObjectValue   (sslValueObj, "upgradesGiverData"                 , debugOutputPrefixStr);
-			viewedUnactivatedObjectives        = JSON_Data.getArrayValue    (sslValueObj, "viewedUnactivatedObjectives"       , debugOutputPrefixStr);
-			visitedLevels                      = JSON_Data.getArrayValue    (sslValueObj, "visitedLevels"                     , debugOutputPrefixStr);
-			watchPointsData                    = JSON_Data.getObjectValue   (sslValueObj, "watchPointsData"                   , false, true, debugOutputPrefixStr);
-			watchPointsData_Null               = JSON_Data.getNullValue     (sslValueObj, "watchPointsData"                   , false, true, debugOutputPrefixStr);
-			waypoints                          = JSON_Data.getObjectValue   (sslValueObj, "waypoints"                         , debugOutputPrefixStr);
-			worldConfiguration                 = JSON_Data.getStringValue   (sslValueObj, "worldConfiguration"                , debugOutputPrefixStr);
+			if (sslValueObj==null) throw new IllegalStateException();
 			/*
 				unparsed:
 					gameDifficultySettings
@@ -448,75 +647,52 @@ public class SaveGameData {
 				empty:
 					garagesShopData, givenTrialRewards, justDiscoveredObjects, modTruckRefundValues, modTruckTypesRefundValues
 			 */
-			KNOWN_JSON_VALUES_SslValue.scanUnexpectedValues(sslValueObj);
-			
-			checkObjectOrNull(levelGarageStatuses  , levelGarageStatuses_Null  , debugOutputPrefixStr+".levelGarageStatuses"  );
-			checkObjectOrNull(tutorialStates       , tutorialStates_Null       , debugOutputPrefixStr+".tutorialStates"       );
-			checkObjectOrNull(watchPointsData      , watchPointsData_Null      , debugOutputPrefixStr+".watchPointsData"      );
-			checkEmptyArrayOrUnset(givenTrialRewards        , debugOutputPrefixStr+".givenTrialRewards"        );
-			checkEmptyObject      (justDiscoveredObjects    , debugOutputPrefixStr+".justDiscoveredObjects"    );
-			checkEmptyObject      (modTruckRefundValues     , debugOutputPrefixStr+".modTruckRefundValues"     );
-			checkEmptyObject      (modTruckTypesRefundValues, debugOutputPrefixStr+".modTruckTypesRefundValues");
-			checkEmptyObjectOrUnsetOrNull(garagesShopData_Value, debugOutputPrefixStr+".garagesShopData");
-			
-			ppd = parseObjectOrNull(persistentProfileData, persistentProfileData_Null, PersistentProfileData::new, debugOutputPrefixStr+".persistentProfileData");
-			this.gameStat = new GameStat(gameStat, debugOutputPrefixStr+".gameStat");
-			
-			this.forcedModelStates = new HashMap<String,String>();
-			parseObject(forcedModelStates, debugOutputPrefixStr+".forcedModelStates", (value, modelName, localPrefixStr) -> {
-				String state = JSON_Data.getStringValue(value, localPrefixStr);
-				
-				if (this.forcedModelStates.containsKey(modelName))
-					System.err.printf("[ForcedModelStates] Found more than 1 entry with same Model name \"%s\" in %s%n", modelName, localPrefixStr);
-				else
-					this.forcedModelStates.put(modelName, state);
-			});
-			
-			this.tutorialStates = new HashMap<>();
-			parseObject(tutorialStates, debugOutputPrefixStr+".tutorialStates", (value, tutorialStep, localPrefixStr) -> {
-				boolean state = JSON_Data.getBoolValue(value, localPrefixStr);
-				
-				if (this.tutorialStates.containsKey(tutorialStep))
-					System.err.printf("[TutorialStates] Found more than 1 entry with same TutorialStep name \"%s\" in %s%n", tutorialStep, localPrefixStr);
-				else
-					this.tutorialStates.put(tutorialStep, state);
-			});
-			
-			JSON_Object<NV, V> watchPointsData_data = null;
-			if (watchPointsData!=null)
-			{
-				watchPointsData_data = JSON_Data.getObjectValue(watchPointsData, "data", debugOutputPrefixStr+".watchPointsData");
-				KNOWN_JSON_VALUES_watchPointsData.scanUnexpectedValues(watchPointsData, debugOutputPrefixStr+".watchPointsData");
-			}
-			
-			parseObject(gameStatByRegion, debugOutputPrefixStr+".gameStatByRegion", (value, name, localPrefixStr) -> {
-				JSON_Object<NV, V> object;
-				switch (name)
-				{
-					case "PAYMENTS_RECEIVED":
-						object = JSON_Data.getObjectValue(value, localPrefixStr);
-						RegionInfos.parsePaymentsReceived(regions, object, localPrefixStr);
-						break;
-				}
-			});
-			KNOWN_JSON_VALUES_gameStatByRegion.scanUnexpectedValues(gameStatByRegion, debugOutputPrefixStr+".gameStatByRegion");
-			
-			MapInfos .parseCargoLoadingCounts                (maps      , cargoLoadingCounts                , debugOutputPrefixStr+".cargoLoadingCounts"                );
-			MapInfos .parseDiscoveredObjects                 (maps      , discoveredObjects                 , debugOutputPrefixStr+".discoveredObjects"                 );
-			MapInfos .parseGaragesData                       (maps      , garagesData                       , debugOutputPrefixStr+".garagesData"                       );
-			MapInfos .parseLevelGarageStatuses               (maps      , levelGarageStatuses               , debugOutputPrefixStr+".levelGarageStatuses"               );
-			MapInfos .parseModTruckOnLevels                  (maps      , modTruckOnLevels                  , debugOutputPrefixStr+".modTruckOnLevels"                  );
-			MapInfos .parseUpgradableGarages                 (maps      , upgradableGarages                 , debugOutputPrefixStr+".upgradableGarages"                 );
-			MapInfos .parseUpgradesGiverData                 (maps      , upgradesGiverData                 , debugOutputPrefixStr+".upgradesGiverData"                 );
-			MapInfos .parseVisitedLevels                     (maps      , visitedLevels                     , debugOutputPrefixStr+".visitedLevels"                     );
-			MapInfos .parseWatchPoints                       (maps      , watchPointsData_data              , debugOutputPrefixStr+".watchPointsData.data"              );
-			MapInfos .parseWaypoints                         (maps      , waypoints                         , debugOutputPrefixStr+".waypoints"                         );
-			Objective.parseDiscoveredObjectives              (objectives, discoveredObjectives              , debugOutputPrefixStr+".discoveredObjectives"              );
-			Objective.parseFinishedObjs                      (objectives, finishedObjs                      , debugOutputPrefixStr+".finishedObjs"                      );
-			Objective.parseHiddenCargoes                     (objectives, hiddenCargoes                     , debugOutputPrefixStr+".hiddenCargoes"                     );
-			Objective.parseObjectiveStates                   (objectives, objectiveStates                   , debugOutputPrefixStr+".objectiveStates"                   );
-			Objective.parseSavedCargoNeedToBeRemovedOnRestart(objectives, savedCargoNeedToBeRemovedOnRestart, debugOutputPrefixStr+".savedCargoNeedToBeRemovedOnRestart");
-			Objective.parseViewedUnactivatedObjectives       (objectives, viewedUnactivatedObjectives       , debugOutputPrefixStr+".viewedUnactivatedObjectives"       );
+			birthVersion            = sslValueObj.getInteger("birthVersion"           );
+			gameDifficultyMode      = sslValueObj.getInteger("gameDifficultyMode"     , true, false);
+			gameTime                = sslValueObj.getFloat  ("gameTime"               );
+			isFirstGarageDiscovered = sslValueObj.getBool   ("isFirstGarageDiscovered");
+			isHardMode              = sslValueObj.getBool   ("isHardMode"             );
+			lastLevelState          = sslValueObj.getInteger("lastLevelState"         );
+			lastLoadedLevel         = sslValueObj.getString ("lastLoadedLevel"        );
+			lastPhantomMode         = sslValueObj.getInteger("lastPhantomMode"        );
+			metricSystem            = sslValueObj.getInteger("metricSystem"           );
+			objVersion              = sslValueObj.getInteger("objVersion"             );
+			objectivesValidated     = sslValueObj.getBool   ("objectivesValidated"    );
+			saveId                  = sslValueObj.getInteger("saveId"                 );
+			trackedObjective        = sslValueObj.getString ("trackedObjective"       );
+			worldConfiguration      = sslValueObj.getString ("worldConfiguration"     );
+			
+			sslValueObj.checkType("cargoLoadingCounts"                , ValueType.Object);
+			sslValueObj.checkType("discoveredObjectives"              , ValueType.Array );
+			sslValueObj.checkType("discoveredObjects"                 , ValueType.Array );
+			sslValueObj.checkType("finishedObjs"                      , ValueType.Array , true , false);
+			sslValueObj.checkType("forcedModelStates"                 , ValueType.Object);
+			sslValueObj.checkType("gameStat"                          , ValueType.Object);
+			sslValueObj.checkType("gameStatByRegion"                  , ValueType.Object);
+			sslValueObj.checkType("garagesData"                       , ValueType.Object);
+			sslValueObj.checkType("garagesShopData"                   , ValueType.Object, true , true );
+			sslValueObj.checkType("givenTrialRewards"                 , ValueType.Array );
+			sslValueObj.checkType("hiddenCargoes"                     , ValueType.Object);
+			sslValueObj.checkType("justDiscoveredObjects"             , ValueType.Object);
+			sslValueObj.checkType("levelGarageStatuses"               , ValueType.Object, false, true );
+			sslValueObj.checkType("modTruckOnLevels"                  , ValueType.Object);
+			sslValueObj.checkType("modTruckRefundValues"              , ValueType.Object);
+			sslValueObj.checkType("modTruckTypesRefundValues"         , ValueType.Object);
+			sslValueObj.checkType("objectiveStates"                   , ValueType.Object);
+			sslValueObj.checkType("persistentProfileData"             , ValueType.Object, false, true );
+			sslValueObj.checkType("saveTime"                          , ValueType.Object);
+			sslValueObj.checkType("savedCargoNeedToBeRemovedOnRestart", ValueType.Object);
+			sslValueObj.checkType("tutorialStates"                    , ValueType.Object, false, true );
+			sslValueObj.checkType("upgradableGarages"                 , ValueType.Object, true , false);
+			sslValueObj.checkType("upgradesGiverData"                 , ValueType.Object);
+			sslValueObj.checkType("viewedUnactivatedObjectives"       , ValueType.Array );
+			sslValueObj.checkType("visitedLevels"                     , ValueType.Array );
+			sslValueObj.checkType("watchPointsData"                   , ValueType.Object, false, true );
+			sslValueObj.checkType("waypoints"                         , ValueType.Object);
+			
+			this.ppd      = persistentProfileData;
+			this.gameStat = gameStat;
+			this.saveTime = saveTime;
 		}
 
 		public String getGameTimeStr()
@@ -618,21 +794,21 @@ public class SaveGameData {
 
 		public static class Coord3F
 		{
-			private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES = KJV_FACTORY.create(Coord3F.class)
-					.add("x", JSON_Data.Value.Type.Float)
-					.add("y", JSON_Data.Value.Type.Float)
-					.add("z", JSON_Data.Value.Type.Float);
+			private static final KnownFields KNOWN_JSON_VALUES = new KnownFields(Coord3F.class)
+					.add("x", ValueType.Float)
+					.add("y", ValueType.Float)
+					.add("z", ValueType.Float);
 			
 			public final double x;
 			public final double y;
 			public final double z;
 			
-			private Coord3F(JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+			private Coord3F(JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				x = JSON_Data.getFloatValue(object, "x", debugOutputPrefixStr);
-				y = JSON_Data.getFloatValue(object, "y", debugOutputPrefixStr);
-				z = JSON_Data.getFloatValue(object, "z", debugOutputPrefixStr);
-				KNOWN_JSON_VALUES.scanUnexpectedValues(object);
+				ObjectReader object = reader.beginObject(debugOutputPrefixStr, KNOWN_JSON_VALUES.listener(debugOutputPrefixStr)).finish();
+				x = object.getFloat("x");
+				y = object.getFloat("y");
+				z = object.getFloat("z");
 			}
 
 			public boolean isZero() { return x==0.0 && y==0.0 && z==0.0; }
@@ -640,19 +816,19 @@ public class SaveGameData {
 
 		public class GameStat
 		{
-			private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES = KJV_FACTORY.create(GameStat.class)
-					.add("ADDON_BOUGHT"                 , JSON_Data.Value.Type.Integer)
-					.add("ADDON_SOLD"                   , JSON_Data.Value.Type.Integer)
-					.add("MONEY_EARNED"                 , JSON_Data.Value.Type.Integer)
-					.add("MONEY_SPENT"                  , JSON_Data.Value.Type.Integer)
-					.add("MULTIPLAYER_MISSIONS_FINISHED", JSON_Data.Value.Type.Integer)
-					.add("MULTIPLAYER_MONEY_EARNED"     , JSON_Data.Value.Type.Integer)
-					.add("MULTIPLAYER_SESSIONS_PLAYED"  , JSON_Data.Value.Type.Integer)
-					.add("SESSION_NUMBER"               , JSON_Data.Value.Type.Integer)
-					.add("TRAILER_BOUGHT"               , JSON_Data.Value.Type.Integer)
-					.add("TRAILER_SOLD"                 , JSON_Data.Value.Type.Integer)
-					.add("TRUCK_BOUGHT"                 , JSON_Data.Value.Type.Integer)
-					.add("TRUCK_SOLD"                   , JSON_Data.Value.Type.Integer)
+			private static final KnownFields KNOWN_JSON_VALUES = new KnownFields(GameStat.class)
+					.add("ADDON_BOUGHT"                 , ValueType.Integer)
+					.add("ADDON_SOLD"                   , ValueType.Integer)
+					.add("MONEY_EARNED"                 , ValueType.Integer)
+					.add("MONEY_SPENT"                  , ValueType.Integer)
+					.add("MULTIPLAYER_MISSIONS_FINISHED", ValueType.Integer)
+					.add("MULTIPLAYER_MONEY_EARNED"     , ValueType.Integer)
+					.add("MULTIPLAYER_SESSIONS_PLAYED"  , ValueType.Integer)
+					.add("SESSION_NUMBER"               , ValueType.Integer)
+					.add("TRAILER_BOUGHT"               , ValueType.Integer)
+					.add("TRAILER_SOLD"                 , ValueType.Integer)
+					.add("TRUCK_BOUGHT"                 , ValueType.Integer)
+					.add("TRUCK_SOLD"                   , ValueType.Integer)
 					;
 			/*
 			    Block "[SaveGameData.SaveGame.GameStat]" [12]
@@ -682,53 +858,51 @@ public class SaveGameData {
 			public final Long trucksBought;
 			public final Long trucksSold;
 			
-			private GameStat(JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+			private GameStat(JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				//scanJSON(object, this);
-				
-				addonsBought                = JSON_Data.getIntegerValue(object, "ADDON_BOUGHT"                 , true, false, debugOutputPrefixStr);
-				addonsSold                  = JSON_Data.getIntegerValue(object, "ADDON_SOLD"                   , true, false, debugOutputPrefixStr);
-				moneyEarned                 = JSON_Data.getIntegerValue(object, "MONEY_EARNED"                 , true, false, debugOutputPrefixStr);
-				moneySpent                  = JSON_Data.getIntegerValue(object, "MONEY_SPENT"                  , true, false, debugOutputPrefixStr);
-				multiplayerMissionsFinished = JSON_Data.getIntegerValue(object, "MULTIPLAYER_MISSIONS_FINISHED", true, false, debugOutputPrefixStr);
-				multiplayerMoneyEarned      = JSON_Data.getIntegerValue(object, "MULTIPLAYER_MONEY_EARNED"     , true, false, debugOutputPrefixStr);
-				multiplayerSessionsPlayed   = JSON_Data.getIntegerValue(object, "MULTIPLAYER_SESSIONS_PLAYED"  , true, false, debugOutputPrefixStr);
-				sessionNumber               = JSON_Data.getIntegerValue(object, "SESSION_NUMBER"               , true, false, debugOutputPrefixStr);
-				trailersBought              = JSON_Data.getIntegerValue(object, "TRAILER_BOUGHT"               , true, false, debugOutputPrefixStr);
-				trailersSold                = JSON_Data.getIntegerValue(object, "TRAILER_SOLD"                 , true, false, debugOutputPrefixStr);
-				trucksBought                = JSON_Data.getIntegerValue(object, "TRUCK_BOUGHT"                 , true, false, debugOutputPrefixStr);
-				trucksSold                  = JSON_Data.getIntegerValue(object, "TRUCK_SOLD"                   , true, false, debugOutputPrefixStr);
+				ObjectReader object = reader.beginObject(debugOutputPrefixStr, KNOWN_JSON_VALUES.listener(debugOutputPrefixStr)).finish();
 				
-				KNOWN_JSON_VALUES.scanUnexpectedValues(object);
+				addonsBought                = object.getInteger("ADDON_BOUGHT"                 , true, false);
+				addonsSold                  = object.getInteger("ADDON_SOLD"                   , true, false);
+				moneyEarned                 = object.getInteger("MONEY_EARNED"                 , true, false);
+				moneySpent                  = object.getInteger("MONEY_SPENT"                  , true, false);
+				multiplayerMissionsFinished = object.getInteger("MULTIPLAYER_MISSIONS_FINISHED", true, false);
+				multiplayerMoneyEarned      = object.getInteger("MULTIPLAYER_MONEY_EARNED"     , true, false);
+				multiplayerSessionsPlayed   = object.getInteger("MULTIPLAYER_SESSIONS_PLAYED"  , true, false);
+				sessionNumber               = object.getInteger("SESSION_NUMBER"               , true, false);
+				trailersBought              = object.getInteger("TRAILER_BOUGHT"               , true, false);
+				trailersSold                = object.getInteger("TRAILER_SOLD"                 , true, false);
+				trucksBought                = object.getInteger("TRUCK_BOUGHT"                 , true, false);
+				trucksSold                  = object.getInteger("TRUCK_SOLD"                   , true, false);
 			}
 		}
 
 		public class PersistentProfileData
 		{
-			private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES = KJV_FACTORY.create(PersistentProfileData.class)
-					.add("experience"              , JSON_Data.Value.Type.Integer)
-					.add("money"                   , JSON_Data.Value.Type.Integer)
-					.add("rank"                    , JSON_Data.Value.Type.Integer)
-					.add("ownedTrucks"             , JSON_Data.Value.Type.Object )
-					.add("trucksInWarehouse"       , JSON_Data.Value.Type.Array  )
-					.add("contestAttempts"         , JSON_Data.Value.Type.Object )
-					.add("contestLastTimes"        , JSON_Data.Value.Type.Object )
-					.add("contestTimes"            , JSON_Data.Value.Type.Object )
-					.add("addons"                  , JSON_Data.Value.Type.Object )
-					.add("customizationRefundMoney", JSON_Data.Value.Type.Integer)
-					.add("damagableAddons"         , JSON_Data.Value.Type.Object )
-					.add("discoveredTrucks"        , JSON_Data.Value.Type.Object )
-					.add("discoveredUpgrades"      , JSON_Data.Value.Type.Object )
-					.add("distance"                , JSON_Data.Value.Type.Object )
-					.add("dlcNotes"                , JSON_Data.Value.Type.Array  )
-					.add("isNewProfile"            , JSON_Data.Value.Type.Bool   )
-					.add("knownRegions"            , JSON_Data.Value.Type.Array  )
-					.add("newTrucks"               , JSON_Data.Value.Type.Array  )
-					.add("refundGarageTruckDescs"  , JSON_Data.Value.Type.Array  ) // empty array
-					.add("refundMoney"             , JSON_Data.Value.Type.Integer)
-					.add("refundTruckDescs"        , JSON_Data.Value.Type.Object ) // empty object
-					.add("unlockedItemNames"       , JSON_Data.Value.Type.Object )
-					.add("userId"                  , JSON_Data.Value.Type.Object ) // empty object
+			private static final KnownFields KNOWN_JSON_VALUES = new KnownFields(PersistentProfileData.class)
+					.add("experience"              , ValueType.Integer)
+					.add("money"                   , ValueType.Integer)
+					.add("rank"                    , ValueType.Integer)
+					.add("ownedTrucks"             , ValueType.Object )
+					.add("trucksInWarehouse"       , ValueType.Array  )
+					.add("contestAttempts"         , ValueType.Object )
+					.add("contestLastTimes"        , ValueType.Object )
+					.add("contestTimes"            , ValueType.Object )
+					.add("addons"                  , ValueType.Object )
+					.add("customizationRefundMoney", ValueType.Integer)
+					.add("damagableAddons"         , ValueType.Object )
+					.add("discoveredTrucks"        , ValueType.Object )
+					.add("discoveredUpgrades"      , ValueType.Object )
+					.add("distance"                , ValueType.Object )
+					.add("dlcNotes"                , ValueType.Array  )
+					.add("isNewProfile"            , ValueType.Bool   )
+					.add("knownRegions"            , ValueType.Array  )
+					.add("newTrucks"               , ValueType.Array  )
+					.add("refundGarageTruckDescs"  , ValueType.Array  ) // empty array
+					.add("refundMoney"             , ValueType.Integer)
+					.add("refundTruckDescs"        , ValueType.Object ) // empty object
+					.add("unlockedItemNames"       , ValueType.Object )
+					.add("userId"                  , ValueType.Object ) // empty object
 					;
 			
 			public final long experience;
@@ -741,35 +915,53 @@ public class SaveGameData {
 			public final Vector<String> dlcNotes;
 			public final HashMap<String, Boolean> unlockedItemNames;
 			
-			private PersistentProfileData(JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+			private PersistentProfileData(JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				JSON_Object<NV, V> ownedTrucks, contestAttempts, contestLastTimes, contestTimes, addons, damagableAddons,
-					discoveredTrucks, discoveredUpgrades, distance, refundTruckDescs, unlockedItemNames, userId;
-				JSON_Array<NV, V> dlcNotes, knownRegions, newTrucks, refundGarageTruckDescs, trucksInWarehouse;
-				experience                = JSON_Data.getIntegerValue(object, "experience"              , debugOutputPrefixStr);
-				money                     = JSON_Data.getIntegerValue(object, "money"                   , debugOutputPrefixStr);
-				rank                      = JSON_Data.getIntegerValue(object, "rank"                    , debugOutputPrefixStr);
-				ownedTrucks               = JSON_Data.getObjectValue (object, "ownedTrucks"             , debugOutputPrefixStr);
-				trucksInWarehouse         = JSON_Data.getArrayValue  (object, "trucksInWarehouse"       , debugOutputPrefixStr);
-				contestAttempts           = JSON_Data.getObjectValue (object, "contestAttempts"         , debugOutputPrefixStr);
-				contestLastTimes          = JSON_Data.getObjectValue (object, "contestLastTimes"        , true, false, debugOutputPrefixStr);
-				contestTimes              = JSON_Data.getObjectValue (object, "contestTimes"            , debugOutputPrefixStr);
+				this.dlcNotes          = new Vector<>();
+				this.trucksInWarehouse = new Vector<>();
+				this.unlockedItemNames = new HashMap<>();
+				
+				ObjectReader object = reader.beginObject(debugOutputPrefixStr, KNOWN_JSON_VALUES.listener(debugOutputPrefixStr));
+				while (object.nextField())
+				{
+					String local = object.local;
+					switch (object.name)
+					{
+						case "ownedTrucks"       : TruckInfos .parseOwnedTrucks       (SaveGame.this.trucks    , reader, local); break;
+						case "newTrucks"         : TruckInfos .parseNewTrucks         (SaveGame.this.trucks    , reader, local); break;
+						case "distance"          : RegionInfos.parseDistances         (SaveGame.this.regions   , reader, local); break;
+						case "knownRegions"      : RegionInfos.parseKnownRegions      (SaveGame.this.regions   , reader, local); break;
+						case "discoveredTrucks"  : MapInfos   .parseDiscoveredTrucks  (SaveGame.this.maps      , reader, local); break;
+						case "discoveredUpgrades": MapInfos   .parseDiscoveredUpgrades(SaveGame.this.maps      , reader, local); break;
+						case "contestAttempts"   : Objective  .parseContestAttempts   (SaveGame.this.objectives, reader, local); break;
+						case "contestLastTimes"  : Objective  .parseContestLastTimes  (SaveGame.this.objectives, reader, local); break;
+						case "contestTimes"      : Objective  .parseContestTimes      (SaveGame.this.objectives, reader, local); break;
+						case "addons"            : Addon      .parseOwned             (SaveGame.this.addons    , reader, local); break;
+						case "damagableAddons"   : Addon      .parseDamagableAddons   (SaveGame.this.addons    , reader, local); break;
+						
+						case "dlcNotes"          : parseArray_String(reader, local, this.dlcNotes); break;
+						case "trucksInWarehouse" : parseArray_Object(reader, local, TruckDesc::new, this.trucksInWarehouse); break;
+						
+						case "unlockedItemNames":
+							parseObject(reader, local, (name, localPrefixStr) -> {
+								boolean boolValue = reader.nextBool(localPrefixStr);
+								this.unlockedItemNames.put(name, boolValue);
+							});
+							break;
+						
+						// empty
+						case "refundGarageTruckDescs": checkEmptyArray (reader, local      ); break;
+						case "refundTruckDescs"      : checkEmptyObject(reader, local, true); break;
+						case "userId"                : checkEmptyObject(reader, local, true); break;
+					}
+				}
 				
-				addons                    = JSON_Data.getObjectValue (object, "addons"                  , debugOutputPrefixStr);
-				customizationRefundMoney  = JSON_Data.getIntegerValue(object, "customizationRefundMoney", true, false, debugOutputPrefixStr);
-				damagableAddons           = JSON_Data.getObjectValue (object, "damagableAddons"         , debugOutputPrefixStr);
-				discoveredTrucks          = JSON_Data.getObjectValue (object, "discoveredTrucks"        , debugOutputPrefixStr);
-				discoveredUpgrades        = JSON_Data.getObjectValue (object, "discoveredUpgrades"      , debugOutputPrefixStr);
-				distance                  = JSON_Data.getObjectValue (object, "distance"                , debugOutputPrefixStr);
-				dlcNotes                  = JSON_Data.getArrayValue  (object, "dlcNotes"                , debugOutputPrefixStr);
-				isNewProfile              = JSON_Data.getBoolValue   (object, "isNewProfile"            , true, false, debugOutputPrefixStr);
-				knownRegions              = JSON_Data.getArrayValue  (object, "knownRegions"            , debugOutputPrefixStr);
-				newTrucks                 = JSON_Data.getArrayValue  (object, "newTrucks"            , debugOutputPrefixStr);
-				refundGarageTruckDescs    = JSON_Data.getArrayValue  (object, "refundGarageTruckDescs"  , debugOutputPrefixStr);
-				refundMoney               = JSON_Data.getIntegerValue(object, "refundMoney"             , debugOutputPrefixStr);
-				refundTruckDescs          = JSON_Data.getObjectValue (object, "refundTruckDescs"        , debugOutputPrefixStr);
-				unlockedItemNames         = JSON_Data.getObjectValue (object, "unlockedItemNames"       , debugOutputPrefixStr);
-				userId                    = JSON_Data.getObjectValue (object, "userId"                  , debugOutputPrefixStr);
+				experience                = object.getInteger("experience"              );
+				money                     = object.getInteger("money"                   );
+				rank                      = object.getInteger("rank"                    );
+				customizationRefundMoney  = object.getInteger("customizationRefundMoney", true, false);
+				isNewProfile              = object.getBool   ("isNewProfile"            , true, false);
+				refundMoney               = object.getInteger("refundMoney"             );
 				/*
 					unparsed:
 						
@@ -779,93 +971,94 @@ public class SaveGameData {
 						refundGarageTruckDescs, refundTruckDescs, userId
 				 */
 				
-				KNOWN_JSON_VALUES.scanUnexpectedValues(object);
-				
-				checkEmptyObject      (refundTruckDescs      , debugOutputPrefixStr+".refundTruckDescs"      );
-				checkEmptyObject      (userId                , debugOutputPrefixStr+".userId"                );
-				checkEmptyArrayOrUnset(refundGarageTruckDescs, debugOutputPrefixStr+".refundGarageTruckDescs");
-				
-				this.dlcNotes          = parseArray_String(dlcNotes         , debugOutputPrefixStr+".dlcNotes"         , new Vector<>());
-				this.trucksInWarehouse = parseArray_Object(trucksInWarehouse, debugOutputPrefixStr+".trucksInWarehouse", TruckDesc::new, new Vector<>());
-				
-				this.unlockedItemNames = new HashMap<>();
-				parseObject(unlockedItemNames, debugOutputPrefixStr+".unlockedItemNames", (value, name, localPrefixStr) -> {
-					boolean boolValue = JSON_Data.getBoolValue(value, localPrefixStr);
-					this.unlockedItemNames.put(name, boolValue);
-				});
-				
-				TruckInfos .parseOwnedTrucks       (SaveGame.this.trucks    , ownedTrucks       , debugOutputPrefixStr+".ownedTrucks"       );
-				TruckInfos .parseNewTrucks         (SaveGame.this.trucks    , newTrucks         , debugOutputPrefixStr+".newTrucks"         );
-				RegionInfos.parseDistances         (SaveGame.this.regions   , distance          , debugOutputPrefixStr+".distance"          );
-				RegionInfos.parseKnownRegions      (SaveGame.this.regions   , knownRegions      , debugOutputPrefixStr+".knownRegions"      );
-				MapInfos   .parseDiscoveredTrucks  (SaveGame.this.maps      , discoveredTrucks  , debugOutputPrefixStr+".discoveredTrucks"  );
-				MapInfos   .parseDiscoveredUpgrades(SaveGame.this.maps      , discoveredUpgrades, debugOutputPrefixStr+".discoveredUpgrades");
-				Objective  .parseContestAttempts   (SaveGame.this.objectives, contestAttempts   , debugOutputPrefixStr+".contestAttempts"   );
-				Objective  .parseContestLastTimes  (SaveGame.this.objectives, contestLastTimes  , debugOutputPrefixStr+".contestLastTimes"  );
-				Objective  .parseContestTimes      (SaveGame.this.objectives, contestTimes      , debugOutputPrefixStr+".contestTimes"      );
-				Addon      .parseOwned             (SaveGame.this.addons    , addons            , debugOutputPrefixStr+".addons"            );
-				Addon      .parseDamagableAddons   (SaveGame.this.addons    , damagableAddons   , debugOutputPrefixStr+".damagableAddons"   );
-				
+				object.checkType("ownedTrucks"           , ValueType.Object);
+				object.checkType("trucksInWarehouse"     , ValueType.Array );
+				object.checkType("contestAttempts"       , ValueType.Object);
+				object.checkType("contestLastTimes"      , ValueType.Object, true, false);
+				object.checkType("contestTimes"          , ValueType.Object);
+				object.checkType("addons"                , ValueType.Object);
+				object.checkType("damagableAddons"       , ValueType.Object);
+				object.checkType("discoveredTrucks"      , ValueType.Object);
+				object.checkType("discoveredUpgrades"    , ValueType.Object);
+				object.checkType("distance"              , ValueType.Object);
+				object.checkType("dlcNotes"              , ValueType.Array );
+				object.checkType("knownRegions"          , ValueType.Array );
+				object.checkType("newTrucks"             , ValueType.Array );
+				object.checkType("refundGarageTruckDescs", ValueType.Array );
+				object.checkType("refundTruckDescs"      , ValueType.Object);
+				object.checkType("unlockedItemNames"     , ValueType.Object);
+				object.checkType("userId"                , ValueType.Object);
 			}
 		}
 		
 		public static class Garage
 		{
-			private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES_Garage = KJV_FACTORY.create(Garage.class)
-					.add("selectedSlot"  , JSON_Data.Value.Type.String)
-					.add("slotsDatas"    , JSON_Data.Value.Type.Object);
-			
-			private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES_slotsDatas = KJV_FACTORY.create(Garage.class, " -> slotsDatas")
-					.add("garage_interior_slot_1", JSON_Data.Value.Type.Object)
-					.add("garage_interior_slot_2", JSON_Data.Value.Type.Object)
-					.add("garage_interior_slot_3", JSON_Data.Value.Type.Object)
-					.add("garage_interior_slot_4", JSON_Data.Value.Type.Object)
-					.add("garage_interior_slot_5", JSON_Data.Value.Type.Object)
-					.add("garage_interior_slot_6", JSON_Data.Value.Type.Object);
-			
-			private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES_garageSlot = KJV_FACTORY.create(Garage.class, " -> slotsDatas.garageSlot")
-					.add("garageSlotZoneId", JSON_Data.Value.Type.String)
-					.add("truckDesc"       , JSON_Data.Value.Type.Null  )
-					.add("truckDesc"       , JSON_Data.Value.Type.Object);
+			private static final KnownFields KNOWN_JSON_VALUES_Garage = new KnownFields(Garage.class)
+					.add("selectedSlot"  , ValueType.String)
+					.add("slotsDatas"    , ValueType.Object);
+			
+			private static final KnownFields KNOWN_JSON_VALUES_slotsDatas = new KnownFields(Garage.class, " -> slotsDatas")
+					.add("garage_interior_slot_1", ValueType.Object)
+					.add("garage_interior_slot_2", ValueType.Object)
+					.add("garage_interior_slot_3", ValueType.Object)
+					.add("garage_interior_slot_4", ValueType.Object)
+					.add("garage_interior_slot_5", ValueType.Object)
+					.add("garage_interior_slot_6", ValueType.Object);
+			
+			private static final KnownFields KNOWN_JSON_VALUES_garageSlot = new KnownFields(Garage.class, " -> slotsDatas.garageSlot")
+					.add("garageSlotZoneId", ValueType.String)
+					.add("truckDesc"       , ValueType.Null  )
+					.add("truckDesc"       , ValueType.Object);
 			
 			public final String name;
 			public final String selectedSlot;
 			public final TruckDesc[] garageSlots;
 		
-			private Garage(JSON_Object<NV, V> object, String name, String debugOutputPrefixStr) throws TraverseException
+			private Garage(JsonPullReader reader, String name, String debugOutputPrefixStr) throws ParseException
 			{
 				this.name = name;
+				garageSlots = new TruckDesc[6];
 				
-				JSON_Object<NV, V> slotsDatas;
-				selectedSlot = JSON_Data.getStringValue(object, "selectedSlot", debugOutputPrefixStr);
-				slotsDatas   = JSON_Data.getObjectValue(object, "slotsDatas"  , debugOutputPrefixStr);
+				ObjectReader object = reader.beginObject(debugOutputPrefixStr, KNOWN_JSON_VALUES_Garage.listener(debugOutputPrefixStr));
+				while (object.nextField())
+					if (object.name.equals("slotsDatas"))
+						parseSlotsDatas(reader, object.local);
 				
-				garageSlots = new TruckDesc[6];
-				String local_PrefixStr = debugOutputPrefixStr+".slotsDatas";
-				for (int i=0; i<6; i++)
+				selectedSlot = object.getString("selectedSlot");
+				object.checkType("slotsDatas", ValueType.Object);
+			}
+			
+			private static String getGarageSlotName(int i)
+			{
+				return String.format("garage_interior_slot_%d", i+1);
+			}
+			
+			private void parseSlotsDatas(JsonPullReader reader, String local_PrefixStr) throws ParseException
+			{
+				ObjectReader slotsDatas = reader.beginObject(local_PrefixStr, KNOWN_JSON_VALUES_slotsDatas.listener(local_PrefixStr));
+				while (slotsDatas.nextField())
 				{
-					String garageSlotName = String.format("garage_interior_slot_%d", i+1);
-					JSON_Object<NV, V> garageSlot = JSON_Data.getObjectValue(slotsDatas, garageSlotName, local_PrefixStr);
+					int i = 0;
+					while (i<garageSlots.length && !getGarageSlotName(i).equals(slotsDatas.name)) i++;
+					if (i>=garageSlots.length) continue;
 					
-					String slot_PrefixStr = local_PrefixStr+"."+garageSlotName;
+					String garageSlotName = slotsDatas.name;
+					String slot_PrefixStr = slotsDatas.local;
 					
-					String             garageSlotZoneId = JSON_Data.getStringValue(garageSlot, "garageSlotZoneId",       slot_PrefixStr);
-					JSON_Data.Null     truckDesc_NULL   = JSON_Data.getNullValue  (garageSlot, "truckDesc", false, true, slot_PrefixStr);
-					JSON_Object<NV, V> truckDesc        = JSON_Data.getObjectValue(garageSlot, "truckDesc", false, true, slot_PrefixStr);
+					ObjectReader garageSlot = reader.beginObject(slot_PrefixStr, KNOWN_JSON_VALUES_garageSlot.listener(slot_PrefixStr));
+					while (garageSlot.nextField())
+						if (garageSlot.name.equals("truckDesc"))
+							garageSlots[i] = new TruckDesc(reader, garageSlot.local);
+					
+					String garageSlotZoneId = garageSlot.getString("garageSlotZoneId");
+					garageSlot.checkType("truckDesc", ValueType.Object, false, true);
 					
 					if (!garageSlotZoneId.equals(garageSlotName))
 						System.err.printf("%s.garageSlotZoneId (\"%s\")  !=  expected value (\"%s\")%n", slot_PrefixStr, garageSlotZoneId, garageSlotName);
-						
-					if (truckDesc==null && truckDesc_NULL==null)
-						throw new JSON_Data.TraverseException("%s.truckDesc has unexpected type", slot_PrefixStr);
-					
-					garageSlots[i] = truckDesc==null ? null : new TruckDesc(truckDesc, slot_PrefixStr+".truckDesc");
-					
-					KNOWN_JSON_VALUES_garageSlot.scanUnexpectedValues(garageSlot);
 				}
 				
-				KNOWN_JSON_VALUES_Garage    .scanUnexpectedValues(object);
-				KNOWN_JSON_VALUES_slotsDatas.scanUnexpectedValues(slotsDatas);
+				for (int i=0; i<garageSlots.length; i++)
+					slotsDatas.checkType(getGarageSlotName(i), ValueType.Object);
 			}
 			
 		}
@@ -908,95 +1101,107 @@ public class SaveGameData {
 			public final long[]   wheelsDamage;
 			public final double[] wheelsSuspHeight;
 
-			private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES = KJV_FACTORY.create(TruckDesc.class)
-					.add("type"                      , JSON_Data.Value.Type.String )
-					.add("globalId"                  , JSON_Data.Value.Type.String )
-					.add("id"                        , JSON_Data.Value.Type.String )
-					.add("retainedMapId"             , JSON_Data.Value.Type.String )
-					.add("isInvalid"                 , JSON_Data.Value.Type.Bool   )
-					.add("isPacked"                  , JSON_Data.Value.Type.Bool   )
-					.add("isUnlocked"                , JSON_Data.Value.Type.Bool   )
+			private static final KnownFields KNOWN_JSON_VALUES = new KnownFields(TruckDesc.class)
+					.add("type"                      , ValueType.String )
+					.add("globalId"                  , ValueType.String )
+					.add("id"                        , ValueType.String )
+					.add("retainedMapId"             , ValueType.String )
+					.add("isInvalid"                 , ValueType.Bool   )
+					.add("isPacked"                  , ValueType.Bool   )
+					.add("isUnlocked"                , ValueType.Bool   )
 					                                 
-					.add("addons"                    , JSON_Data.Value.Type.Array  )
-					.add("constraints"               , JSON_Data.Value.Type.Array  )
-					.add("controlConstrPosition"     , JSON_Data.Value.Type.Array  )
-					.add("customizationPreset"       , JSON_Data.Value.Type.Object )
-					.add("damage"                    , JSON_Data.Value.Type.Integer)
-					.add("damageDecals"              , JSON_Data.Value.Type.Array  )
-					.add("engine"                    , JSON_Data.Value.Type.Object )
-					.add("engineDamage"              , JSON_Data.Value.Type.Integer)
-					.add("fuel"                      , JSON_Data.Value.Type.Float  )
-					.add("fuelTankDamage"            , JSON_Data.Value.Type.Integer)
-					.add("gearbox"                   , JSON_Data.Value.Type.Object )
-					.add("gearboxDamage"             , JSON_Data.Value.Type.Integer)
-					.add("isPoweredEngaged"          , JSON_Data.Value.Type.Array  )
-					.add("itemForObjectiveId"        , JSON_Data.Value.Type.String )
-					.add("needToInstallDefaultAddons", JSON_Data.Value.Type.Bool   )
-					.add("phantomMode"               , JSON_Data.Value.Type.Integer)
-					.add("repairs"                   , JSON_Data.Value.Type.Integer)
-					.add("rims"                      , JSON_Data.Value.Type.String )
-					.add("suspension"                , JSON_Data.Value.Type.String )
-					.add("suspensionDamage"          , JSON_Data.Value.Type.Integer)
-					.add("tires"                     , JSON_Data.Value.Type.String )
-					.add("tmBodies"                  , JSON_Data.Value.Type.Array  )
-					.add("trailerGlobalId"           , JSON_Data.Value.Type.String )
-					.add("truckCRC"                  , JSON_Data.Value.Type.Integer)
-					.add("water"                     , JSON_Data.Value.Type.Float  )
-					.add("wheelRepairs"              , JSON_Data.Value.Type.Integer)
-					.add("wheelsDamage"              , JSON_Data.Value.Type.Array  )
-					.add("wheelsScale"               , JSON_Data.Value.Type.Float  )
-					.add("wheelsSuspHeight"          , JSON_Data.Value.Type.Array  )
-					.add("wheelsType"                , JSON_Data.Value.Type.String )
-					.add("winchUpgrade"              , JSON_Data.Value.Type.Object )
+					.add("addons"                    , ValueType.Array  )
+					.add("constraints"               , ValueType.Array  )
+					.add("controlConstrPosition"     , ValueType.Array  )
+					.add("customizationPreset"       , ValueType.Object )
+					.add("damage"                    , ValueType.Integer)
+					.add("damageDecals"              , ValueType.Array  )
+					.add("engine"                    , ValueType.Object )
+					.add("engineDamage"              , ValueType.Integer)
+					.add("fuel"                      , ValueType.Float  )
+					.add("fuelTankDamage"            , ValueType.Integer)
+					.add("gearbox"                   , ValueType.Object )
+					.add("gearboxDamage"             , ValueType.Integer)
+					.add("isPoweredEngaged"          , ValueType.Array  )
+					.add("itemForObjectiveId"        , ValueType.String )
+					.add("needToInstallDefaultAddons", ValueType.Bool   )
+					.add("phantomMode"               , ValueType.Integer)
+					.add("repairs"                   , ValueType.Integer)
+					.add("rims"                      , ValueType.String )
+					.add("suspension"                , ValueType.String )
+					.add("suspensionDamage"          , ValueType.Integer)
+					.add("tires"                     , ValueType.String )
+					.add("tmBodies"                  , ValueType.Array  )
+					.add("trailerGlobalId"           , ValueType.String )
+					.add("truckCRC"                  , ValueType.Integer)
+					.add("water"                     , ValueType.Float  )
+					.add("wheelRepairs"              , ValueType.Integer)
+					.add("wheelsDamage"              , ValueType.Array  )
+					.add("wheelsScale"               , ValueType.Float  )
+					.add("wheelsSuspHeight"          , ValueType.Array  )
+					.add("wheelsType"                , ValueType.String )
+					.add("winchUpgrade"              , ValueType.Object )
 					;
 		
-			private TruckDesc(JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+			private TruckDesc(JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				// scanJSON(object, this);
+				Vector<InstalledAddon> addons = null;
+				CustomizationPreset customizationPreset = null;
+				double[] damageDecals = null, wheelsSuspHeight = null;
+				long[] wheelsDamage = null;
+				String engine = null, gearbox = null, winch = null;
 				
-				JSON_Object<NV, V> customizationPreset;
-				JSON_Array<NV, V> addons, constraints, controlConstrPosition, damageDecals, isPoweredEngaged, tmBodies, wheelsDamage, wheelsSuspHeight;
+				ObjectReader object = reader.beginObject(debugOutputPrefixStr, KNOWN_JSON_VALUES.listener(debugOutputPrefixStr));
+				while (object.nextField())
+				{
+					String local = object.local;
+					switch (object.name)
+					{
+						case "addons"             : addons              = parseArray_Object      (reader, local, InstalledAddon::new, new Vector<>()); break;
+						case "customizationPreset": customizationPreset = new CustomizationPreset(reader, local); break;
+						case "damageDecals"       : damageDecals        = parseArray_Float       (reader, local); break;
+						case "engine"             : engine              = parseNameValue         (reader, local); break;
+						case "gearbox"            : gearbox             = parseNameValue         (reader, local); break;
+						case "wheelsDamage"       : wheelsDamage        = parseArray_Integer     (reader, local); break;
+						case "wheelsSuspHeight"   : wheelsSuspHeight    = parseArray_Float       (reader, local); break;
+						case "winchUpgrade"       : winch               = parseNameValue         (reader, local); break;
+						
+						// empty
+						case "constraints"          :
+						case "controlConstrPosition":
+						case "isPoweredEngaged"     :
+						case "tmBodies"             : checkEmptyArray(reader, local); break;
+					}
+				}
 				
 				String retainedMapId;
-				type                       = JSON_Data.getStringValue (object, "type"                      , debugOutputPrefixStr);
-				globalId                   = JSON_Data.getStringValue (object, "globalId"                  , debugOutputPrefixStr);
-				id                         = JSON_Data.getStringValue (object, "id"                        , debugOutputPrefixStr);
-				retainedMapId              = JSON_Data.getStringValue (object, "retainedMapId"             , debugOutputPrefixStr);
-				isInvalid                  = JSON_Data.getBoolValue   (object, "isInvalid"                 , debugOutputPrefixStr);
-				isPacked                   = JSON_Data.getBoolValue   (object, "isPacked"                  , debugOutputPrefixStr);
-				isUnlocked                 = JSON_Data.getBoolValue   (object, "isUnlocked"                , debugOutputPrefixStr);
-				                                                                                           
-				addons                     = JSON_Data.getArrayValue  (object, "addons"                    , debugOutputPrefixStr);
-				constraints                = JSON_Data.getArrayValue  (object, "constraints"               , debugOutputPrefixStr);
-				controlConstrPosition      = JSON_Data.getArrayValue  (object, "controlConstrPosition"     , true, false, debugOutputPrefixStr);
-				customizationPreset        = JSON_Data.getObjectValue (object, "customizationPreset"       , debugOutputPrefixStr);
-				damage                     = JSON_Data.getIntegerValue(object, "damage"                    , debugOutputPrefixStr);
-				damageDecals               = JSON_Data.getArrayValue  (object, "damageDecals"              , debugOutputPrefixStr);
-				engine                     = parseNameValue           (object, "engine"                    , debugOutputPrefixStr);
-				engineDamage               = JSON_Data.getIntegerValue(object, "engineDamage"              , debugOutputPrefixStr);
-				fuel                       = JSON_Data.getFloatValue  (object, "fuel"                      , debugOutputPrefixStr);
-				fuelTankDamage             = JSON_Data.getIntegerValue(object, "fuelTankDamage"            , debugOutputPrefixStr);
-				gearbox                    = parseNameValue           (object, "gearbox"                   , debugOutputPrefixStr);
-				gearboxDamage              = JSON_Data.getIntegerValue(object, "gearboxDamage"             , debugOutputPrefixStr);
-				isPoweredEngaged           = JSON_Data.getArrayValue  (object, "isPoweredEngaged"          , debugOutputPrefixStr);
-				itemForObjectiveId         = JSON_Data.getStringValue (object, "itemForObjectiveId"        , debugOutputPrefixStr);
-				needToInstallDefaultAddons = JSON_Data.getBoolValue   (object, "needToInstallDefaultAddons", debugOutputPrefixStr);
-				phantomMode                = JSON_Data.getIntegerValue(object, "phantomMode"               , debugOutputPrefixStr);
-				repairs                    = JSON_Data.getIntegerValue(object, "repairs"                   , debugOutputPrefixStr);
-				rims                       = JSON_Data.getStringValue (object, "rims"                      , debugOutputPrefixStr);
-				suspension                 = JSON_Data.getStringValue (object, "suspension"                , debugOutputPrefixStr);
-				suspensionDamage           = JSON_Data.getIntegerValue(object, "suspensionDamage"          , debugOutputPrefixStr);
-				tires                      = JSON_Data.getStringValue (object, "tires"                     , debugOutputPrefixStr);
-				tmBodies                   = JSON_Data.getArrayValue  (object, "tmBodies"                  , debugOutputPrefixStr);
-				trailerGlobalId            = JSON_Data.getStringValue (object, "trailerGlobalId"           , debugOutputPrefixStr);
-				truckCRC                   = JSON_Data.getIntegerValue(object, "truckCRC"                  , true, false, debugOutputPrefixStr);
-				water                      = JSON_Data.getFloatValue  (object, "water"                     , true, false, debugOutputPrefixStr);
-				wheelRepairs               = JSON_Data.getIntegerValue(object, "wheelRepairs"              , debugOutputPrefixStr);
-				wheelsDamage               = JSON_Data.getArrayValue  (object, "wheelsDamage"              , debugOutputPrefixStr);
-				wheelsScale                = JSON_Data.getFloatValue  (object, "wheelsScale"               , debugOutputPrefixStr);
-				wheelsSuspHeight           = JSON_Data.getArrayValue  (object, "wheelsSuspHeight"          , debugOutputPrefixStr);
-				wheels                     = JSON_Data.getStringValue (object, "wheelsType"                , debugOutputPrefixStr);
-				winch                      = parseNameValue           (object, "winchUpgrade"              , debugOutputPrefixStr);
+				type                       = object.getString ("type"                      );
+				globalId                   = object.getString ("globalId"                  );
+				id                         = object.getString ("id"                        );
+				retainedMapId              = object.getString ("retainedMapId"             );
+				isInvalid                  = object.getBool   ("isInvalid"                 );
+				isPacked                   = object.getBool   ("isPacked"                  );
+				isUnlocked                 = object.getBool   ("isUnlocked"                );
+				
+				damage                     = object.getInteger("damage"                    );
+				engineDamage               = object.getInteger("engineDamage"              );
+				fuel                       = object.getFloat  ("fuel"                      );
+				fuelTankDamage             = object.getInteger("fuelTankDamage"            );
+				gearboxDamage              = object.getInteger("gearboxDamage"             );
+				itemForObjectiveId         = object.getString ("itemForObjectiveId"        );
+				needToInstallDefaultAddons = object.getBool   ("needToInstallDefaultAddons");
+				phantomMode                = object.getInteger("phantomMode"               );
+				repairs                    = object.getInteger("repairs"                   );
+				rims                       = object.getString ("rims"                      );
+				suspension                 = object.getString ("suspension"                );
+				suspensionDamage           = object.getInteger("suspensionDamage"          );
+				tires                      = object.getString ("tires"                     );
+				trailerGlobalId            = object.getString ("trailerGlobalId"           );
+				truckCRC                   = object.getInteger("truckCRC"                  , true, false);
+				water                      = object.getFloat  ("water"                     , true, false);
+				wheelRepairs               = object.getInteger("wheelRepairs"              );
+				wheelsScale                = object.getFloat  ("wheelsScale"               );
+				wheels                     = object.getString ("wheelsType"                );
 				/*
 					unparsed:
 						
@@ -1005,19 +1210,29 @@ public class SaveGameData {
 					empty:
 						constraints, controlConstrPosition, isPoweredEngaged, tmBodies
 				 */
-
-				KNOWN_JSON_VALUES.scanUnexpectedValues(object);
-				checkEmptyArrayOrUnset(constraints          , debugOutputPrefixStr+".constraints"          );
-				checkEmptyArrayOrUnset(controlConstrPosition, debugOutputPrefixStr+".controlConstrPosition");
-				checkEmptyArrayOrUnset(isPoweredEngaged     , debugOutputPrefixStr+".isPoweredEngaged"     );
-				checkEmptyArrayOrUnset(tmBodies             , debugOutputPrefixStr+".tmBodies"             );
 				
-				this.addons              = parseArray_Object      (addons             , debugOutputPrefixStr+".addons"             , InstalledAddon::new, new Vector<>());
-				this.customizationPreset = new CustomizationPreset(customizationPreset, debugOutputPrefixStr+".customizationPreset");
-				this.damageDecals        = parseArray_Float       (damageDecals       , debugOutputPrefixStr+".damageDecals"       );
+				object.checkType("addons"               , ValueType.Array );
+				object.checkType("constraints"          , ValueType.Array );
+				object.checkType("controlConstrPosition", ValueType.Array , true, false);
+				object.checkType("customizationPreset"  , ValueType.Object);
+				object.checkType("damageDecals"         , ValueType.Array );
+				object.checkType("engine"               , ValueType.Object);
+				object.checkType("gearbox"              , ValueType.Object);
+				object.checkType("isPoweredEngaged"     , ValueType.Array );
+				object.checkType("tmBodies"             , ValueType.Array );
+				object.checkType("wheelsDamage"         , ValueType.Array );
+				object.checkType("wheelsSuspHeight"     , ValueType.Array );
+				object.checkType("winchUpgrade"         , ValueType.Object);
+				
+				this.addons              = addons;
+				this.customizationPreset = customizationPreset;
+				this.damageDecals        = damageDecals;
+				this.engine              = engine;
+				this.gearbox             = gearbox;
 				this.retainedMap         = MapIndex.parse(retainedMapId);
-				this.wheelsDamage        = parseArray_Integer     (wheelsDamage       , debugOutputPrefixStr+".wheelsDamage"       );
-				this.wheelsSuspHeight    = parseArray_Float       (wheelsSuspHeight   , debugOutputPrefixStr+".wheelsSuspHeight"   );
+				this.wheelsDamage        = wheelsDamage;
+				this.wheelsSuspHeight    = wheelsSuspHeight;
+				this.winch               = winch;
 				
 				this.addonIDs = new HashSet<String>();
 				for (InstalledAddon addon : this.addons)
@@ -1026,13 +1241,13 @@ public class SaveGameData {
 			
 			public static class CustomizationPreset
 			{
-				private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES = KJV_FACTORY.create(CustomizationPreset.class)
-						.add("gameDataXmlNode"     , JSON_Data.Value.Type.Null   )
-						.add("id"                  , JSON_Data.Value.Type.Integer)
-						.add("isSpecialSkin"       , JSON_Data.Value.Type.Bool   )
-						.add("overrideMaterialName", JSON_Data.Value.Type.String )
-						.add("tintsColors"         , JSON_Data.Value.Type.Array  )
-						.add("uiName"              , JSON_Data.Value.Type.String )
+				private static final KnownFields KNOWN_JSON_VALUES = new KnownFields(CustomizationPreset.class)
+						.add("gameDataXmlNode"     , ValueType.Null   )
+						.add("id"                  , ValueType.Integer)
+						.add("isSpecialSkin"       , ValueType.Bool   )
+						.add("overrideMaterialName", ValueType.String )
+						.add("tintsColors"         , ValueType.Array  )
+						.add("uiName"              , ValueType.String )
 						;
 				public final long id;
 				public final boolean isSpecialSkin;
@@ -1050,22 +1265,21 @@ public class SaveGameData {
 				        tintsColors[]:Object -> Tint
 				        
 				 */
-				public CustomizationPreset(JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+				public CustomizationPreset(JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 				{
-					//scanJSON(object, this);
+					colors = new Vector<>();
 					
-					@SuppressWarnings("unused")
-					JSON_Data.Null gameDataXmlNode_Null;
-					JSON_Array<NV, V> tintsColors;
-					gameDataXmlNode_Null = JSON_Data.getNullValue   (object, "gameDataXmlNode"     , debugOutputPrefixStr);
-					id                   = JSON_Data.getIntegerValue(object, "id"                  , debugOutputPrefixStr);
-					isSpecialSkin        = JSON_Data.getBoolValue   (object, "isSpecialSkin"       , debugOutputPrefixStr);
-					overrideMaterialName = JSON_Data.getStringValue (object, "overrideMaterialName", debugOutputPrefixStr);
-					tintsColors          = JSON_Data.getArrayValue  (object, "tintsColors"         , debugOutputPrefixStr);
-					uiName               = JSON_Data.getStringValue (object, "uiName"              , debugOutputPrefixStr);
-					KNOWN_JSON_VALUES.scanUnexpectedValues(object);
+					ObjectReader object = reader.beginObject(debugOutputPrefixStr, KNOWN_JSON_VALUES.listener(debugOutputPrefixStr));
+					while (object.nextField())
+						if (object.name.equals("tintsColors"))
+							parseArray_Object(reader, object.local, Tint::new, colors);
 					
-					colors = parseArray_Object(tintsColors, debugOutputPrefixStr, Tint::new, new Vector<>());
+					object.checkType("gameDataXmlNode"     , ValueType.Null);
+					id                   = object.getInteger("id"                  );
+					isSpecialSkin        = object.getBool   ("isSpecialSkin"       );
+					overrideMaterialName = object.getString ("overrideMaterialName");
+					object.checkType("tintsColors"         , ValueType.Array);
+					uiName               = object.getString ("uiName"              );
 				}
 				
 				public Color[] toColorArray()
@@ -1088,11 +1302,11 @@ public class SaveGameData {
 
 				public static class Tint
 				{
-					private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES = KJV_FACTORY.create(Tint.class)
-							.add("a", JSON_Data.Value.Type.Float)
-							.add("r", JSON_Data.Value.Type.Float)
-							.add("g", JSON_Data.Value.Type.Float)
-							.add("b", JSON_Data.Value.Type.Float);
+					private static final KnownFields KNOWN_JSON_VALUES = new KnownFields(Tint.class)
+							.add("a", ValueType.Float)
+							.add("r", ValueType.Float)
+							.add("g", ValueType.Float)
+							.add("b", ValueType.Float);
 					/*
 					Block "[SaveGameData.SaveGame.TruckDesc.CustomizationPreset].tintsColors[]" [4]
 					    a:Float
@@ -1105,43 +1319,42 @@ public class SaveGameData {
 					public final double g;
 					public final double b;
 					
-					public Tint(JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+					public Tint(JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 					{
-						//scanJSON(object, this);
-						a = JSON_Data.getFloatValue(object, "a", debugOutputPrefixStr);
-						r = JSON_Data.getFloatValue(object, "r", debugOutputPrefixStr);
-						g = JSON_Data.getFloatValue(object, "g", debugOutputPrefixStr);
-						b = JSON_Data.getFloatValue(object, "b", debugOutputPrefixStr);
-						KNOWN_JSON_VALUES.scanUnexpectedValues(object);
+						ObjectReader object = reader.beginObject(debugOutputPrefixStr, KNOWN_JSON_VALUES.listener(debugOutputPrefixStr)).finish();
+						a = object.getFloat("a");
+						r = object.getFloat("r");
+						g = object.getFloat("g");
+						b = object.getFloat("b");
 					}
 				}
 			}
 			
 			public static class InstalledAddon
 			{
-				private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES = KJV_FACTORY.create(InstalledAddon.class)
-						.add("addonCRC"             , JSON_Data.Value.Type.Integer)
-						.add("constraints"          , JSON_Data.Value.Type.Null   )
-						.add("constraints"          , JSON_Data.Value.Type.Array  )
-						.add("controlConstrPosition", JSON_Data.Value.Type.Null   )
-						.add("controlConstrPosition", JSON_Data.Value.Type.Array  )
-						.add("eulerAngles"          , JSON_Data.Value.Type.Object )
-						.add("extraParents"         , JSON_Data.Value.Type.Array  )
-						.add("firstSlot"            , JSON_Data.Value.Type.Integer)
-						.add("fuel"                 , JSON_Data.Value.Type.Float  )
-						.add("isInCockpit"          , JSON_Data.Value.Type.Bool   )
-						.add("isPoweredEngaged"     , JSON_Data.Value.Type.Null   )
-						.add("isPoweredEngaged"     , JSON_Data.Value.Type.Array  )
-						.add("name"                 , JSON_Data.Value.Type.String )
-						.add("overrideMaterial"     , JSON_Data.Value.Type.String )
-						.add("parentAddonType"      , JSON_Data.Value.Type.String )
-						.add("parentFrame"          , JSON_Data.Value.Type.String )
-						.add("position"             , JSON_Data.Value.Type.Object )
-						.add("repairs"              , JSON_Data.Value.Type.Integer)
-						.add("tmBodies"             , JSON_Data.Value.Type.Null   )
-						.add("tmBodies"             , JSON_Data.Value.Type.Array  )
-						.add("water"                , JSON_Data.Value.Type.Float  )
-						.add("wheelRepairs"         , JSON_Data.Value.Type.Integer)
+				private static final KnownFields KNOWN_JSON_VALUES = new KnownFields(InstalledAddon.class)
+						.add("addonCRC"             , ValueType.Integer)
+						.add("constraints"          , ValueType.Null   )
+						.add("constraints"          , ValueType.Array  )
+						.add("controlConstrPosition", ValueType.Null   )
+						.add("controlConstrPosition", ValueType.Array  )
+						.add("eulerAngles"          , ValueType.Object )
+						.add("extraParents"         , ValueType.Array  )
+						.add("firstSlot"            , ValueType.Integer)
+						.add("fuel"                 , ValueType.Float  )
+						.add("isInCockpit"          , ValueType.Bool   )
+						.add("isPoweredEngaged"     , ValueType.Null   )
+						.add("isPoweredEngaged"     , ValueType.Array  )
+						.add("name"                 , ValueType.String )
+						.add("overrideMaterial"     , ValueType.String )
+						.add("parentAddonType"      , ValueType.String )
+						.add("parentFrame"          , ValueType.String )
+						.add("position"             , ValueType.Object )
+						.add("repairs"              , ValueType.Integer)
+						.add("tmBodies"             , ValueType.Null   )
+						.add("tmBodies"             , ValueType.Array  )
+						.add("water"                , ValueType.Float  )
+						.add("wheelRepairs"         , ValueType.Integer)
 						;
 				/*
 					Block "[SaveGameData.SaveGame.TruckDesc.InstalledAddon]" [18]
@@ -1195,55 +1408,59 @@ public class SaveGameData {
 				public final Double  water;
 				public final long    wheelRepairs;
 
-				public InstalledAddon(JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+				public InstalledAddon(JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 				{
-					//scanJSON(object, this);
+					Coord3F eulerAngles = null, position = null;
+					extraParents = new Vector<>();
 					
-					JSON_Data.Value<NV,V> constraints_Value, controlConstrPosition_Value, isPoweredEngaged_Value, tmBodies_Value;
-					JSON_Object<NV,V> eulerAngles, position;
-					@SuppressWarnings("unused")
-					JSON_Array<NV,V> constraints, controlConstrPosition, extraParents, isPoweredEngaged, tmBodies;
+					ObjectReader object = reader.beginObject(debugOutputPrefixStr, KNOWN_JSON_VALUES.listener(debugOutputPrefixStr));
+					while (object.nextField())
+					{
+						String local = object.local;
+						switch (object.name)
+						{
+							case "eulerAngles" : eulerAngles = new Coord3F(reader, local); break;
+							case "position"    : position    = new Coord3F(reader, local); break;
+							case "extraParents": parseArray_Object(reader, local, ExtraParent::new, extraParents); break;
+							
+							// empty
+							case "constraints"          :
+							case "controlConstrPosition":
+							case "isPoweredEngaged"     :
+							case "tmBodies"             : checkEmptyArray(reader, local); break;
+						}
+					}
 					
-					addonCRC                    = JSON_Data.getIntegerValue(object, "addonCRC"             , true, false, debugOutputPrefixStr);
-					constraints                 = JSON_Data.getArrayValue  (object, "constraints"          , true,  true, debugOutputPrefixStr);
-					constraints_Value           = JSON_Data.getValue       (object, "constraints"          , true,  debugOutputPrefixStr);
-					controlConstrPosition       = JSON_Data.getArrayValue  (object, "controlConstrPosition", true,  true, debugOutputPrefixStr);
-					controlConstrPosition_Value = JSON_Data.getValue       (object, "controlConstrPosition", true,  debugOutputPrefixStr);
-					eulerAngles                 = JSON_Data.getObjectValue (object, "eulerAngles"          , debugOutputPrefixStr);
-					extraParents                = JSON_Data.getArrayValue  (object, "extraParents"         , debugOutputPrefixStr);
-					firstSlot                   = JSON_Data.getIntegerValue(object, "firstSlot"            , debugOutputPrefixStr);
-					fuel                        = JSON_Data.getFloatValue  (object, "fuel"                 , debugOutputPrefixStr);
-					isInCockpit                 = JSON_Data.getBoolValue   (object, "isInCockpit"          , debugOutputPrefixStr);
-					isPoweredEngaged            = JSON_Data.getArrayValue  (object, "isPoweredEngaged"     , true,  true, debugOutputPrefixStr);
-					isPoweredEngaged_Value      = JSON_Data.getValue       (object, "isPoweredEngaged"     , true,  debugOutputPrefixStr);
-					name                        = JSON_Data.getStringValue (object, "name"                 , debugOutputPrefixStr);
-					overrideMaterial            = JSON_Data.getStringValue (object, "overrideMaterial"     , debugOutputPrefixStr);
-					parentAddonType             = JSON_Data.getStringValue (object, "parentAddonType"      , debugOutputPrefixStr);
-					parentFrame                 = JSON_Data.getStringValue (object, "parentFrame"          , debugOutputPrefixStr);
-					position                    = JSON_Data.getObjectValue (object, "position"             , debugOutputPrefixStr);
-					repairs                     = JSON_Data.getIntegerValue(object, "repairs"              , debugOutputPrefixStr);
-					tmBodies                    = JSON_Data.getArrayValue  (object, "tmBodies"             , true,  true, debugOutputPrefixStr);
-					tmBodies_Value              = JSON_Data.getValue       (object, "tmBodies"             , true,  debugOutputPrefixStr);
-					water                       = JSON_Data.getFloatValue  (object, "water"                , true, false, debugOutputPrefixStr);
-					wheelRepairs                = JSON_Data.getIntegerValue(object, "wheelRepairs"         , debugOutputPrefixStr);
+					addonCRC                    = object.getInteger("addonCRC"             , true, false);
+					firstSlot                   = object.getInteger("firstSlot"            );
+					fuel                        = object.getFloat  ("fuel"                 );
+					isInCockpit                 = object.getBool   ("isInCockpit"          );
+					name                        = object.getString ("name"                 );
+					overrideMaterial            = object.getString ("overrideMaterial"     );
+					parentAddonType             = object.getString ("parentAddonType"      );
+					parentFrame                 = object.getString ("parentFrame"          );
+					repairs                     = object.getInteger("repairs"              );
+					water                       = object.getFloat  ("water"                , true, false);
+					wheelRepairs                = object.getInteger("wheelRepairs"         );
 					
-					KNOWN_JSON_VALUES.scanUnexpectedValues(object);
+					object.checkType("constraints"          , ValueType.Array , true, true);
+					object.checkType("controlConstrPosition", ValueType.Array , true, true);
+					object.checkType("eulerAngles"          , ValueType.Object);
+					object.checkType("extraParents"         , ValueType.Array );
+					object.checkType("isPoweredEngaged"     , ValueType.Array , true, true);
+					object.checkType("position"             , ValueType.Object);
+					object.checkType("tmBodies"             , ValueType.Array , true, true);
 					
-					checkEmptyArrayOrUnsetOrNull(constraints_Value          , debugOutputPrefixStr+".constraints"          );
-					checkEmptyArrayOrUnsetOrNull(controlConstrPosition_Value, debugOutputPrefixStr+".controlConstrPosition");
-					checkEmptyArrayOrUnsetOrNull(isPoweredEngaged_Value     , debugOutputPrefixStr+".isPoweredEngaged"     );
-					checkEmptyArrayOrUnsetOrNull(tmBodies_Value             , debugOutputPrefixStr+".tmBodies"             );
-					this.position     = new Coord3F(position   , debugOutputPrefixStr+".position"   );
-					this.eulerAngles  = new Coord3F(eulerAngles, debugOutputPrefixStr+".eulerAngles");
-					this.extraParents = parseArray_Object(extraParents, debugOutputPrefixStr+".extraParents", ExtraParent::new, new Vector<>());
+					this.position     = position;
+					this.eulerAngles  = eulerAngles;
 				}
 				
 				public static class ExtraParent
 				{
-					private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES = KJV_FACTORY.create(ExtraParent.class)
-							.add("eulerAngles", JSON_Data.Value.Type.Object)
-							.add("frame"      , JSON_Data.Value.Type.String)
-							.add("position"   , JSON_Data.Value.Type.Object);
+					private static final KnownFields KNOWN_JSON_VALUES = new KnownFields(ExtraParent.class)
+							.add("eulerAngles", ValueType.Object)
+							.add("frame"      , ValueType.String)
+							.add("position"   , ValueType.Object);
 					/*
 						Block "[SaveGameData.SaveGame.TruckDesc.InstalledAddon].extraParents[]" [3]
 						    eulerAngles:Object
@@ -1263,20 +1480,24 @@ public class SaveGameData {
 					public final String frame;
 					public final Coord3F position;
 					
-					private ExtraParent(JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+					private ExtraParent(JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 					{
-						//scanJSON(object, this);
+						Coord3F eulerAngles = null, position = null;
 						
-						JSON_Object<NV, V> eulerAngles, position;
-						
-						eulerAngles = JSON_Data.getObjectValue (object, "eulerAngles", debugOutputPrefixStr);
-						frame       = JSON_Data.getStringValue (object, "frame"      , debugOutputPrefixStr);
-						position    = JSON_Data.getObjectValue (object, "position"   , debugOutputPrefixStr);
+						ObjectReader object = reader.beginObject(debugOutputPrefixStr, KNOWN_JSON_VALUES.listener(debugOutputPrefixStr));
+						while (object.nextField())
+							switch (object.name)
+							{
+								case "eulerAngles": eulerAngles = new Coord3F(reader, object.local); break;
+								case "position"   : position    = new Coord3F(reader, object.local); break;
+							}
 						
-						KNOWN_JSON_VALUES.scanUnexpectedValues(object);
+						frame = object.getString("frame");
+						object.checkType("eulerAngles", ValueType.Object);
+						object.checkType("position"   , ValueType.Object);
 						
-						this.position     = new Coord3F(position   , debugOutputPrefixStr+".position"   );
-						this.eulerAngles  = new Coord3F(eulerAngles, debugOutputPrefixStr+".eulerAngles");
+						this.position     = position;
+						this.eulerAngles  = eulerAngles;
 					}
 				}
 			}
@@ -1298,19 +1519,19 @@ public class SaveGameData {
 				return value;
 			}
 			
-			void parseStringArray(HashMap<String, ValueType> valueMap, JSON_Array<NV, V> array, String debugOutputPrefixStr, Consumer<ValueType> setValue) throws TraverseException
+			void parseStringArray(HashMap<String, ValueType> valueMap, JsonPullReader reader, String debugOutputPrefixStr, Consumer<ValueType> setValue) throws ParseException
 			{
-				parseArray(array, debugOutputPrefixStr, (jsonValue, i, local_debugOutputPrefixStr) -> {
-					String valueID = JSON_Data.getStringValue(jsonValue, local_debugOutputPrefixStr);
+				parseArray(reader, debugOutputPrefixStr, (i, local_debugOutputPrefixStr) -> {
+					String valueID = reader.nextString(local_debugOutputPrefixStr);
 					ValueType value = get(valueMap, valueID);
 					setValue.accept(value);
 				});
 			}
 			
-			<Name extends SplittedName> void parseStringArray(HashMap<String, ValueType> valueMap, JSON_Array<NV, V> array, String debugOutputPrefixStr, Function<String,Name> splitName, BiConsumer<ValueType, Name> setValue) throws TraverseException
+			<Name extends SplittedName> void parseStringArray(HashMap<String, ValueType> valueMap, JsonPullReader reader, String debugOutputPrefixStr, Function<String,Name> splitName, BiConsumer<ValueType, Name> setValue) throws ParseException
 			{
-				parseArray(array, debugOutputPrefixStr, (jsonValue, i, local_debugOutputPrefixStr) -> {
-					String str = JSON_Data.getStringValue(jsonValue, local_debugOutputPrefixStr);
+				parseArray(reader, debugOutputPrefixStr, (i, local_debugOutputPrefixStr) -> {
+					String str = reader.nextString(local_debugOutputPrefixStr);
 					Name name = splitName.apply(str);
 					ValueType value = get(valueMap, name.valueID);
 					setValue.accept(value,name);
@@ -1319,14 +1540,17 @@ public class SaveGameData {
 			
 			private interface Action<ValueType>
 			{
-				void parseValues(ValueType value, JSON_Data.Value<NV,V> jsonValue, String local_debugOutputPrefixStr) throws TraverseException;
+				void parseValues(ValueType value, String local_debugOutputPrefixStr) throws ParseException;
 			}
 			
-			void parseObject(HashMap<String, ValueType> valueMap, JSON_Object<NV, V> object, String debugOutputPrefixStr, Action<ValueType> parseValues) throws TraverseException
+			/**
+			 * <code>parseValues</code> has to read the value of each field from <code>reader</code>.
+			 */
+			void parseObject(HashMap<String, ValueType> valueMap, JsonPullReader reader, String debugOutputPrefixStr, Action<ValueType> parseValues) throws ParseException
 			{
-				SaveGameData.parseObject(object, debugOutputPrefixStr, (jsonValue, valueID, local_debugOutputPrefixStr) -> {
+				SaveGameData.parseObject(reader, debugOutputPrefixStr, (valueID, local_debugOutputPrefixStr) -> {
 					ValueType value = get(valueMap, valueID);
-					parseValues.parseValues(value, jsonValue, local_debugOutputPrefixStr);
+					parseValues.parseValues(value, local_debugOutputPrefixStr);
 				});
 			}
 			
@@ -1363,16 +1587,16 @@ public class SaveGameData {
 			
 			private interface Action2<ValueType, Name extends SplittedName>
 			{
-				void parseValues(ValueType value, Name name, JSON_Data.Value<NV,V> jsonValue, String local_debugOutputPrefixStr) throws TraverseException;
+				void parseValues(ValueType value, Name name, String local_debugOutputPrefixStr) throws ParseException;
 			}
 			
-			<Name extends SplittedName> void parseObject(HashMap<String, ValueType> valueMap, JSON_Object<NV, V> object, String debugOutputPrefixStr, Function<String,Name> splitName, Action2<ValueType, Name> parseValues) throws TraverseException
+			<Name extends SplittedName> void parseObject(HashMap<String, ValueType> valueMap, JsonPullReader reader, String debugOutputPrefixStr, Function<String,Name> splitName, Action2<ValueType, Name> parseValues) throws ParseException
 			{
-				SaveGameData.parseObject(object, debugOutputPrefixStr, (jsonValue, jsonValueName, local_debugOutputPrefixStr) -> {
+				SaveGameData.parseObject(reader, debugOutputPrefixStr, (jsonValueName, local_debugOutputPrefixStr) -> {
 					Name name = splitName.apply(jsonValueName);
 					String valueID = name.valueID;
 					ValueType value = get(valueMap, valueID);
-					parseValues.parseValues(value, name, jsonValue, local_debugOutputPrefixStr);
+					parseValues.parseValues(value, name, local_debugOutputPrefixStr);
 				});
 			}
 		}
@@ -1390,17 +1614,17 @@ public class SaveGameData {
 				this.truckId = truckId;
 			}
 			
-			private static void parseNewTrucks(HashMap<String, TruckInfos> trucks, JSON_Array<NV, V> array, String debugOutputPrefixStr) throws TraverseException
+			private static void parseNewTrucks(HashMap<String, TruckInfos> trucks, JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				helper.parseStringArray(trucks, array, debugOutputPrefixStr, truck -> {
+				helper.parseStringArray(trucks, reader, debugOutputPrefixStr, truck -> {
 					truck.isNew = true;
 				});
 			}
 			
-			private static void parseOwnedTrucks(HashMap<String, TruckInfos> trucks, JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+			private static void parseOwnedTrucks(HashMap<String, TruckInfos> trucks, JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				helper.parseObject(trucks, object, debugOutputPrefixStr, (truck, value, local) -> {
-					truck.owned = JSON_Data.getIntegerValue(value, local);
+				helper.parseObject(trucks, reader, debugOutputPrefixStr, (truck, local) -> {
+					truck.owned = reader.nextInteger(local);
 				});
 			}
 		}
@@ -1419,24 +1643,24 @@ public class SaveGameData {
 				this.region = MapIndex.parse(regionId);
 			}
 			
-			private static void parseKnownRegions(HashMap<String, RegionInfos> regions, JSON_Array<NV, V> array, String debugOutputPrefixStr) throws TraverseException
+			private static void parseKnownRegions(HashMap<String, RegionInfos> regions, JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				helper.parseStringArray(regions, array, debugOutputPrefixStr, map -> {
+				helper.parseStringArray(regions, reader, debugOutputPrefixStr, map -> {
 					map.isKnown = true;
 				});
 			}
 			
-			private static void parseDistances(HashMap<String, RegionInfos> regions, JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+			private static void parseDistances(HashMap<String, RegionInfos> regions, JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				helper.parseObject(regions, object, debugOutputPrefixStr, (region, value, local) -> {
-					region.distance = JSON_Data.getIntegerValue(value, local);
+				helper.parseObject(regions, reader, debugOutputPrefixStr, (region, local) -> {
+					region.distance = reader.nextInteger(local);
 				});
 			}
 			
-			private static void parsePaymentsReceived(HashMap<String, RegionInfos> regions, JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+			private static void parsePaymentsReceived(HashMap<String, RegionInfos> regions, JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				helper.parseObject(regions, object, debugOutputPrefixStr, (region, value, local) -> {
-					region.paymentsReceived = JSON_Data.getIntegerValue(value, local);
+				helper.parseObject(regions, reader, debugOutputPrefixStr, (region, local) -> {
+					region.paymentsReceived = reader.nextInteger(local);
 				});
 			}
 		}
@@ -1463,12 +1687,11 @@ public class SaveGameData {
 				this.map = MapIndex.parse(mapId);
 			}
 			
-			private static void parseCargoLoadingCounts(HashMap<String, MapInfos> maps, JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+			private static void parseCargoLoadingCounts(HashMap<String, MapInfos> maps, JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				helper.parseObject(maps, object, debugOutputPrefixStr, SpreadedValuesHelper.SplittedName.SplitName_TwoOrs::split, (map, name, value, local_debugOutputPrefixStr) -> {
+				helper.parseObject(maps, reader, debugOutputPrefixStr, SpreadedValuesHelper.SplittedName.SplitName_TwoOrs::split, (map, name, local_debugOutputPrefixStr) -> {
 					
-					JSON_Object<NV, V> object2 = JSON_Data.getObjectValue(value, local_debugOutputPrefixStr);
-					CargoLoadingCounts station = new CargoLoadingCounts(object2, name.secondPart, local_debugOutputPrefixStr);
+					CargoLoadingCounts station = new CargoLoadingCounts(reader, name.secondPart, local_debugOutputPrefixStr);
 					
 					if (name.secondPart==null)
 						System.err.printf("[CargoLoadingCounts] Found a station with no name on 1 map: %s%n", local_debugOutputPrefixStr);
@@ -1479,12 +1702,11 @@ public class SaveGameData {
 				});
 			}
 			
-			private static void parseUpgradableGarages(HashMap<String, MapInfos> maps, JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+			private static void parseUpgradableGarages(HashMap<String, MapInfos> maps, JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				helper.parseObject(maps, object, debugOutputPrefixStr, SpreadedValuesHelper.SplittedName.SplitName_TwoOrs::split, (map, name, value, local_debugOutputPrefixStr) -> {
+				helper.parseObject(maps, reader, debugOutputPrefixStr, SpreadedValuesHelper.SplittedName.SplitName_TwoOrs::split, (map, name, local_debugOutputPrefixStr) -> {
 					
-					JSON_Object<NV, V> object2 = JSON_Data.getObjectValue(value, local_debugOutputPrefixStr);
-					UpgradableGarage garage = new UpgradableGarage(object2, name.secondPart, local_debugOutputPrefixStr);
+					UpgradableGarage garage = new UpgradableGarage(reader, name.secondPart, local_debugOutputPrefixStr);
 					
 					if (name.secondPart==null)
 						System.err.printf("[UpgradableGarages] Found a garage with no name on 1 map: %s%n", local_debugOutputPrefixStr);
@@ -1495,10 +1717,10 @@ public class SaveGameData {
 				});
 			}
 		
-			private static void parseDiscoveredObjects(HashMap<String, MapInfos> maps, JSON_Array<NV, V> array, String debugOutputPrefixStr) throws TraverseException
+			private static void parseDiscoveredObjects(HashMap<String, MapInfos> maps, JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
 				// "level_us_03_01 || US_03_01_CR_WD_01"
-				helper.parseStringArray(maps, array, debugOutputPrefixStr, SpreadedValuesHelper.SplittedName.SplitName_TwoOrs::split, (map, name) -> {
+				helper.parseStringArray(maps, reader, debugOutputPrefixStr, SpreadedValuesHelper.SplittedName.SplitName_TwoOrs::split, (map, name) -> {
 					if (name.secondPart==null)
 						System.err.printf("[DiscoveredObjects] Found a discovered object (\"%s\") with no name: %s%n", name.originalStr, debugOutputPrefixStr);
 					else
@@ -1506,30 +1728,28 @@ public class SaveGameData {
 				});
 			}
 		
-			private static void parseDiscoveredTrucks(HashMap<String, MapInfos> maps, JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+			private static void parseDiscoveredTrucks(HashMap<String, MapInfos> maps, JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				parseDiscoveredObjects(maps, (map,dobs)->map.discoveredTrucks = dobs, object, debugOutputPrefixStr);
+				parseDiscoveredObjects(maps, (map,dobs)->map.discoveredTrucks = dobs, reader, debugOutputPrefixStr);
 			}
 		
-			private static void parseDiscoveredUpgrades(HashMap<String, MapInfos> maps, JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+			private static void parseDiscoveredUpgrades(HashMap<String, MapInfos> maps, JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				parseDiscoveredObjects(maps, (map,dobs)->map.discoveredUpgrades = dobs, object, debugOutputPrefixStr);
+				parseDiscoveredObjects(maps, (map,dobs)->map.discoveredUpgrades = dobs, reader, debugOutputPrefixStr);
 			}
 		
-			private static void parseDiscoveredObjects(HashMap<String, MapInfos> maps, BiConsumer<MapInfos,DiscoveredObjects> setValue, JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+			private static void parseDiscoveredObjects(HashMap<String, MapInfos> maps, BiConsumer<MapInfos,DiscoveredObjects> setValue, JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				helper.parseObject(maps, object, debugOutputPrefixStr, (map, value, local) -> {
-					JSON_Object<NV, V> dataObj = JSON_Data.getObjectValue(value, local);
-					setValue.accept(map, new DiscoveredObjects(dataObj, local));
+				helper.parseObject(maps, reader, debugOutputPrefixStr, (map, local) -> {
+					setValue.accept(map, new DiscoveredObjects(reader, local));
 				});
 			}
 			
-			private static void parseGaragesData(HashMap<String, MapInfos> maps, JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+			private static void parseGaragesData(HashMap<String, MapInfos> maps, JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				helper.parseObject(maps, object, debugOutputPrefixStr, (map, value, local_debugOutputPrefixStr) -> {
+				helper.parseObject(maps, reader, debugOutputPrefixStr, (map, local_debugOutputPrefixStr) -> {
 					
-					JSON_Object<NV, V> garageObject = JSON_Data.getObjectValue(value, local_debugOutputPrefixStr);
-					Garage             garage       = new Garage(garageObject, map.map.originalMapID(), local_debugOutputPrefixStr);
+					Garage garage = new Garage(reader, map.map.originalMapID(), local_debugOutputPrefixStr);
 					
 					if (map.garage!=null)
 						System.err.printf("[GaragesData] Found more than 1 garage on 1 map: %s%n", local_debugOutputPrefixStr);
@@ -1538,29 +1758,27 @@ public class SaveGameData {
 				});
 			}
 		
-			private static void parseLevelGarageStatuses(HashMap<String, MapInfos> maps, JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+			private static void parseLevelGarageStatuses(HashMap<String, MapInfos> maps, JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				helper.parseObject(maps, object, debugOutputPrefixStr, (map, value, local) -> {
-					map.garageStatus = JSON_Data.getIntegerValue(value, local);
+				helper.parseObject(maps, reader, debugOutputPrefixStr, (map, local) -> {
+					map.garageStatus = reader.nextInteger(local);
 				});
 			}
 		
-			private static void parseModTruckOnLevels(HashMap<String, MapInfos> maps, JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+			private static void parseModTruckOnLevels(HashMap<String, MapInfos> maps, JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				helper.parseObject(maps, object, debugOutputPrefixStr, (map, value, local) -> {
-					JSON_Array<NV, V> array = JSON_Data.getArrayValue(value, local);
-					checkEmptyArrayOrUnset(array, local);
+				helper.parseObject(maps, reader, debugOutputPrefixStr, (map, local) -> {
+					checkEmptyArray(reader, local);
 				});
 			}
 		
-			private static void parseUpgradesGiverData(HashMap<String, MapInfos> maps, JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+			private static void parseUpgradesGiverData(HashMap<String, MapInfos> maps, JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				helper.parseObject(maps, object, debugOutputPrefixStr, (map, value, local_debugOutputPrefixStr) -> {
+				helper.parseObject(maps, reader, debugOutputPrefixStr, (map, local_debugOutputPrefixStr) -> {
 					
-					JSON_Object<NV, V> object2 = JSON_Data.getObjectValue(value, local_debugOutputPrefixStr);
-					parseObject(object2, local_debugOutputPrefixStr, (value2, upgrade, local2_debugOutputPrefixStr) -> {
+					parseObject(reader, local_debugOutputPrefixStr, (upgrade, local2_debugOutputPrefixStr) -> {
 						
-						long state = JSON_Data.getIntegerValue(value2, local2_debugOutputPrefixStr);
+						long state = reader.nextInteger(local2_debugOutputPrefixStr);
 						if (map.upgradesGiverData.containsKey(upgrade))
 							System.err.printf("[UpgradesGiverData] Found more than 1 entry with same upgrade name in map: %s%n", local2_debugOutputPrefixStr);
 						else
@@ -1569,21 +1787,20 @@ public class SaveGameData {
 				});
 			}
 		
-			private static void parseVisitedLevels(HashMap<String, MapInfos> maps, JSON_Array<NV, V> array, String debugOutputPrefixStr) throws TraverseException
+			private static void parseVisitedLevels(HashMap<String, MapInfos> maps, JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				helper.parseStringArray(maps, array, debugOutputPrefixStr, map -> {
+				helper.parseStringArray(maps, reader, debugOutputPrefixStr, map -> {
 					map.wasVisited = true;
 				});
 			}
 		
-			private static void parseWatchPoints(HashMap<String, MapInfos> maps, JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+			private static void parseWatchPoints(HashMap<String, MapInfos> maps, JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				helper.parseObject(maps, object, debugOutputPrefixStr, (map, value, local_debugOutputPrefixStr) -> {
+				helper.parseObject(maps, reader, debugOutputPrefixStr, (map, local_debugOutputPrefixStr) -> {
 					
-					JSON_Object<NV, V> object2 = JSON_Data.getObjectValue(value, local_debugOutputPrefixStr);
-					parseObject(object2, local_debugOutputPrefixStr, (value2, watchPointName, local2_debugOutputPrefixStr) -> {
+					parseObject(reader, local_debugOutputPrefixStr, (watchPointName, local2_debugOutputPrefixStr) -> {
 						
-						boolean state = JSON_Data.getBoolValue(value2, local2_debugOutputPrefixStr);
+						boolean state = reader.nextBool(local2_debugOutputPrefixStr);
 						if (map.watchPoints.containsKey(watchPointName))
 							System.err.printf("[WatchPoints] Found more than 1 entry with same watchPoint name in map: %s%n", local2_debugOutputPrefixStr);
 						else
@@ -1592,57 +1809,57 @@ public class SaveGameData {
 				});
 			}
 		
-			private static void parseWaypoints(HashMap<String, MapInfos> maps, JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+			private static void parseWaypoints(HashMap<String, MapInfos> maps, JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				helper.parseObject(maps, object, debugOutputPrefixStr, (map, value1, local1) -> {
-					JSON_Array<NV, V> array = JSON_Data.getArrayValue(value1, local1);
+				helper.parseObject(maps, reader, debugOutputPrefixStr, (map, local1) -> {
 					if (!map.waypoints.isEmpty())
 						System.err.printf("[Waypoints] Array MapInfos.waypoints is not empty as expected, because more than 1 waypoint list is stored in SaveGame: %s%n", debugOutputPrefixStr);
 					else
-						parseArray_Object(array, local1, Waypoint::new, map.waypoints);
+						parseArray_Object(reader, local1, Waypoint::new, map.waypoints);
 				});
 			}
 		
 			public static class Waypoint
 			{
-				private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES = KJV_FACTORY.create(Waypoint.class)
-						.add("modelHeightBounds", JSON_Data.Value.Type.Null   )
-						.add("point"            , JSON_Data.Value.Type.Object )
-						.add("type"             , JSON_Data.Value.Type.Integer);
+				private static final KnownFields KNOWN_JSON_VALUES = new KnownFields(Waypoint.class)
+						.add("modelHeightBounds", ValueType.Null   )
+						.add("point"            , ValueType.Object )
+						.add("type"             , ValueType.Integer);
 				
 				public final long type;
 				public final Coord3F point;
 		
-				private Waypoint(JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+				private Waypoint(JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 				{
-					// scanJSON(object, this);
-					@SuppressWarnings("unused")
-					JSON_Data.Null modelHeightBounds;
-					JSON_Object<NV, V> point;
-					modelHeightBounds = JSON_Data.getNullValue   (object, "modelHeightBounds", debugOutputPrefixStr);
-					point             = JSON_Data.getObjectValue (object, "point"            , debugOutputPrefixStr);
-					type              = JSON_Data.getIntegerValue(object, "type"             , debugOutputPrefixStr);
-					KNOWN_JSON_VALUES.scanUnexpectedValues(object);
+					Coord3F point = null;
+					
+					ObjectReader object = reader.beginObject(debugOutputPrefixStr, KNOWN_JSON_VALUES.listener(debugOutputPrefixStr));
+					while (object.nextField())
+						if (object.name.equals("point"))
+							point = new Coord3F(reader, object.local);
+					
+					object.checkType("modelHeightBounds", ValueType.Null  );
+					object.checkType("point"            , ValueType.Object);
+					type = object.getInteger("type");
 					
-					this.point = new Coord3F(point, debugOutputPrefixStr+".point");
+					this.point = point;
 				}
 			}
 		
 			public static class DiscoveredObjects
 			{
-				private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES = KJV_FACTORY.create(DiscoveredObjects.class)
-						.add("all"    , JSON_Data.Value.Type.Integer)
-						.add("current", JSON_Data.Value.Type.Integer);
+				private static final KnownFields KNOWN_JSON_VALUES = new KnownFields(DiscoveredObjects.class)
+						.add("all"    , ValueType.Integer)
+						.add("current", ValueType.Integer);
 				
 				public final long all;
 				public final long current;
 				
-				private DiscoveredObjects(JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+				private DiscoveredObjects(JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 				{
-					// scanJSON(object, this);
-					all     = JSON_Data.getIntegerValue(object, "all"    , debugOutputPrefixStr);
-					current = JSON_Data.getIntegerValue(object, "current", debugOutputPrefixStr);
-					KNOWN_JSON_VALUES.scanUnexpectedValues(object);
+					ObjectReader object = reader.beginObject(debugOutputPrefixStr, KNOWN_JSON_VALUES.listener(debugOutputPrefixStr)).finish();
+					all     = object.getInteger("all"    );
+					current = object.getInteger("current");
 				}
 			
 				@Override public String toString() { return String.format("%d / %d", current, all); }
@@ -1653,13 +1870,13 @@ public class SaveGameData {
 				public final String stationName;
 				public final HashMap<String, Long> counts;
 			
-				private CargoLoadingCounts(JSON_Object<NV, V> object, String stationName, String debugOutputPrefixStr) throws TraverseException
+				private CargoLoadingCounts(JsonPullReader reader, String stationName, String debugOutputPrefixStr) throws ParseException
 				{
 					this.stationName = stationName;
 					this.counts = new HashMap<>();
 					
-					parseObject(object, debugOutputPrefixStr, (value, cargoType, local) -> {
-						long count = JSON_Data.getIntegerValue(value, local);
+					parseObject(reader, debugOutputPrefixStr, (cargoType, local) -> {
+						long count = reader.nextInteger(local);
 						if (counts.containsKey(cargoType))
 							System.err.printf("[CargoLoadingCounts] Found more than 1 count entry with same cargoType in 1 station: %s%n", local);
 						else
@@ -1670,10 +1887,10 @@ public class SaveGameData {
 			
 			public static class UpgradableGarage
 			{
-				private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES = KJV_FACTORY.create(UpgradableGarage.class)
-						.add("featureStates", JSON_Data.Value.Type.Array )
-						.add("isUpgradable" , JSON_Data.Value.Type.Bool  )
-						.add("zoneGlobalId" , JSON_Data.Value.Type.String)
+				private static final KnownFields KNOWN_JSON_VALUES = new KnownFields(UpgradableGarage.class)
+						.add("featureStates", ValueType.Array )
+						.add("isUpgradable" , ValueType.Bool  )
+						.add("zoneGlobalId" , ValueType.String)
 						;
 				/*
 				    Block "[SaveGameData.SaveGame.MapInfos.UpgradableGarage]" [3]
@@ -1687,19 +1904,21 @@ public class SaveGameData {
 				public final String zoneGlobalId;
 				public final boolean[] featureStates;
 			
-				private UpgradableGarage(JSON_Object<NV, V> object, String zoneName, String debugOutputPrefixStr) throws TraverseException
+				private UpgradableGarage(JsonPullReader reader, String zoneName, String debugOutputPrefixStr) throws ParseException
 				{
 					this.zoneName = zoneName;
-					//scanJSON(object, this);
+					boolean[] featureStates = null;
 					
-					JSON_Array<NV, V> featureStates;
-					featureStates = JSON_Data.getArrayValue (object, "featureStates", debugOutputPrefixStr);
-					isUpgradable  = JSON_Data.getBoolValue  (object, "isUpgradable" , debugOutputPrefixStr);
-					zoneGlobalId  = JSON_Data.getStringValue(object, "zoneGlobalId" , debugOutputPrefixStr);
+					ObjectReader object = reader.beginObject(debugOutputPrefixStr, KNOWN_JSON_VALUES.listener(debugOutputPrefixStr));
+					while (object.nextField())
+						if (object.name.equals("featureStates"))
+							featureStates = parseArray_Bool(reader, object.local);
 					
-					this.featureStates = parseArray_Bool(featureStates, debugOutputPrefixStr+".featureStates");
+					object.checkType("featureStates", ValueType.Array);
+					isUpgradable  = object.getBool  ("isUpgradable");
+					zoneGlobalId  = object.getString("zoneGlobalId");
 					
-					KNOWN_JSON_VALUES.scanUnexpectedValues(object);
+					this.featureStates = featureStates;
 				}
 			}
 		}
@@ -1717,59 +1936,40 @@ public class SaveGameData {
 				this.addonId = addonId;
 			}
 
-			private static void parseOwned(HashMap<String, Addon> addons, JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+			private static void parseOwned(HashMap<String, Addon> addons, JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				helper.parseObject(addons, object, debugOutputPrefixStr, (addon, value, local) -> {
-					addon.owned = JSON_Data.getIntegerValue(value, local);
+				helper.parseObject(addons, reader, debugOutputPrefixStr, (addon, local) -> {
+					addon.owned = reader.nextInteger(local);
 				});
 			}
 
-			private static void parseDamagableAddons(HashMap<String, Addon> addons, JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+			private static void parseDamagableAddons(HashMap<String, Addon> addons, JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				helper.parseObject(addons, object, debugOutputPrefixStr, (addon, value, local) -> {
-					JSON_Object<NV, V> datObj = JSON_Data.getObjectValue(value, local);
-					addon.damagable = new DamagableData(datObj, local);
+				helper.parseObject(addons, reader, debugOutputPrefixStr, (addon, local) -> {
+					addon.damagable = new DamagableData(reader, local);
 				});
 			}
 			
 			public static class DamagableData
 			{
-				private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES = KJV_FACTORY.create(DamagableData.class)
-						.add("itemsDamage", JSON_Data.Value.Type.Array);
+				private static final KnownFields KNOWN_JSON_VALUES = new KnownFields(DamagableData.class)
+						.add("itemsDamage", ValueType.Array);
 				
 				public final long[][] itemsDamage;
 				
-				private DamagableData(JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+				private DamagableData(JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 				{
-					// scanJSON(object, this);
+					Vector<long[]> itemsDamage_parsed = new Vector<>();
 					
-					JSON_Array<NV, V> itemsDamage = JSON_Data.getArrayValue(object, "itemsDamage", debugOutputPrefixStr);
-					KNOWN_JSON_VALUES.scanUnexpectedValues(object);
+					ObjectReader object = reader.beginObject(debugOutputPrefixStr, KNOWN_JSON_VALUES.listener(debugOutputPrefixStr));
+					while (object.nextField())
+						if (object.name.equals("itemsDamage"))
+							parseArray(reader, object.local, (i, prefixStr1) -> {
+								itemsDamage_parsed.add(parseArray_Integer(reader, prefixStr1));
+							});
+					object.checkType("itemsDamage", ValueType.Array);
 					
-					Vector<Vector<Long>> itemsDamage_parsed = new Vector<>();
-					
-					parseArray(itemsDamage, debugOutputPrefixStr+".itemsDamage", (value1, i, prefixStr1) -> {
-						JSON_Array<NV, V> array_unparsed = JSON_Data.getArrayValue(value1, prefixStr1);
-						Vector<Long> vector_parsed = new Vector<>();
-						itemsDamage_parsed.add(vector_parsed);
-						
-						parseArray(array_unparsed, prefixStr1, (value2, j, prefixStr2) -> {
-							long value = JSON_Data.getIntegerValue(value2, prefixStr2);
-							vector_parsed.add(value);
-						});
-					});
-					
-					this.itemsDamage = new long[itemsDamage_parsed.size()][];
-					for (int i=0; i<itemsDamage_parsed.size(); i++)
-					{
-						Vector<Long> vec1 = itemsDamage_parsed.get(i);
-						this.itemsDamage[i] = new long[vec1.size()];
-						for (int j=0; j<vec1.size(); j++)
-						{
-							Long value = vec1.get(j);
-							this.itemsDamage[i][j] = value;
-						}
-					}
+					this.itemsDamage = itemsDamage_parsed.toArray(new long[itemsDamage_parsed.size()][]);
 				}
 
 				@Override
@@ -1801,54 +2001,52 @@ public class SaveGameData {
 				this.objectiveId = objectiveId;
 			}
 
-			private static void parseContestAttempts(HashMap<String, Objective> objectives, JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+			private static void parseContestAttempts(HashMap<String, Objective> objectives, JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				helper.parseObject(objectives, object, debugOutputPrefixStr, (objective, value, local) -> {
-					objective.attempts  = JSON_Data.getIntegerValue(value, local);
+				helper.parseObject(objectives, reader, debugOutputPrefixStr, (objective, local) -> {
+					objective.attempts  = reader.nextInteger(local);
 				});
 			}
 
-			private static void parseContestLastTimes(HashMap<String, Objective> objectives, JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+			private static void parseContestLastTimes(HashMap<String, Objective> objectives, JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				helper.parseObject(objectives, object, debugOutputPrefixStr, (objective, value, local) -> {
-					objective.lastTimes = JSON_Data.getIntegerValue(value, local);
+				helper.parseObject(objectives, reader, debugOutputPrefixStr, (objective, local) -> {
+					objective.lastTimes = reader.nextInteger(local);
 				});
 			}
 
-			private static void parseContestTimes(HashMap<String, Objective> objectives, JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+			private static void parseContestTimes(HashMap<String, Objective> objectives, JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				helper.parseObject(objectives, object, debugOutputPrefixStr, (objective, value, local) -> {
-					objective.times     = JSON_Data.getIntegerValue(value, local);
+				helper.parseObject(objectives, reader, debugOutputPrefixStr, (objective, local) -> {
+					objective.times     = reader.nextInteger(local);
 				});
 			}
 
-			private static void parseDiscoveredObjectives(HashMap<String, Objective> objectives, JSON_Array<NV, V> array, String debugOutputPrefixStr) throws TraverseException
+			private static void parseDiscoveredObjectives(HashMap<String, Objective> objectives, JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				helper.parseStringArray(objectives, array, debugOutputPrefixStr, objective -> {
+				helper.parseStringArray(objectives, reader, debugOutputPrefixStr, objective -> {
 					objective.discovered = true;
 				});
 			}
 
-			private static void parseFinishedObjs(HashMap<String, Objective> objectives, JSON_Array<NV, V> array, String debugOutputPrefixStr) throws TraverseException
+			private static void parseFinishedObjs(HashMap<String, Objective> objectives, JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				helper.parseStringArray(objectives, array, debugOutputPrefixStr, objective -> {
+				helper.parseStringArray(objectives, reader, debugOutputPrefixStr, objective -> {
 					objective.finished = true;
 				});
 			}
 
-			private static void parseHiddenCargoes(HashMap<String, Objective> objectives, JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+			private static void parseHiddenCargoes(HashMap<String, Objective> objectives, JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				helper.parseObject(objectives, object, debugOutputPrefixStr, (objective, value, local) -> {
-					JSON_Array<NV, V> array = JSON_Data.getArrayValue(value, local);
-					checkEmptyArrayOrUnset(array, local);
+				helper.parseObject(objectives, reader, debugOutputPrefixStr, (objective, local) -> {
+					checkEmptyArray(reader, local);
 				});
 			}
 
-			public static void parseObjectiveStates(HashMap<String, Objective> objectives, JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+			public static void parseObjectiveStates(HashMap<String, Objective> objectives, JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				helper.parseObject(objectives, object, debugOutputPrefixStr, (objective, value, local) -> {
-					JSON_Object<NV, V>      object2 = JSON_Data.getObjectValue(value  , local);
-					ObjectiveStates objectiveStates = new ObjectiveStates     (object2, local);
+				helper.parseObject(objectives, reader, debugOutputPrefixStr, (objective, local) -> {
+					ObjectiveStates objectiveStates = new ObjectiveStates(reader, local);
 					
 					if (objective.objectiveStates!=null)
 						System.err.printf("[ObjectiveStates] Found more than 1 objectiveStates block: %s%n", local);
@@ -1857,13 +2055,12 @@ public class SaveGameData {
 				});
 			}
 
-			private static void parseSavedCargoNeedToBeRemovedOnRestart(HashMap<String, Objective> objectives, JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+			private static void parseSavedCargoNeedToBeRemovedOnRestart(HashMap<String, Objective> objectives, JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				helper.parseObject(objectives, object, debugOutputPrefixStr, (objective, value, local1_debugOutputPrefixStr) -> {
-					JSON_Array<NV, V> array = JSON_Data.getArrayValue(value, local1_debugOutputPrefixStr);
-					parseArray(array, local1_debugOutputPrefixStr, (jsonValue, i, local2_debugOutputPrefixStr) -> {
+				helper.parseObject(objectives, reader, debugOutputPrefixStr, (objective, local1_debugOutputPrefixStr) -> {
+					parseArray(reader, local1_debugOutputPrefixStr, (i, local2_debugOutputPrefixStr) -> {
 						
-						String cargoType = JSON_Data.getStringValue(jsonValue, local2_debugOutputPrefixStr);
+						String cargoType = reader.nextString(local2_debugOutputPrefixStr);
 						if (objective.savedCargoNeedToBeRemovedOnRestart.contains(cargoType))
 							System.err.printf("[SavedCargoNeedToBeRemovedOnRestart] Found redundant cargoTypes in set: %s%n", local2_debugOutputPrefixStr);
 						else
@@ -1872,23 +2069,23 @@ public class SaveGameData {
 				});
 			}
 
-			private static void parseViewedUnactivatedObjectives(HashMap<String, Objective> objectives, JSON_Array<NV, V> array, String debugOutputPrefixStr) throws TraverseException
+			private static void parseViewedUnactivatedObjectives(HashMap<String, Objective> objectives, JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 			{
-				helper.parseStringArray(objectives, array, debugOutputPrefixStr, contest -> {
+				helper.parseStringArray(objectives, reader, debugOutputPrefixStr, contest -> {
 					contest.viewedUnactivated = true;
 				});
 			}
 			
 			public static class ObjectiveStates
 			{
-				private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES = KJV_FACTORY.create(ObjectiveStates.class)
-						.add("failReasons"            , JSON_Data.Value.Type.Object)
-						.add("id"                     , JSON_Data.Value.Type.String)
-						.add("isFinished"             , JSON_Data.Value.Type.Bool  )
-						.add("isTimerStarted"         , JSON_Data.Value.Type.Bool  )
-						.add("spentTime"              , JSON_Data.Value.Type.Float )
-						.add("stagesState"            , JSON_Data.Value.Type.Array )
-						.add("wasCompletedAtLeastOnce", JSON_Data.Value.Type.Bool  )
+				private static final KnownFields KNOWN_JSON_VALUES = new KnownFields(ObjectiveStates.class)
+						.add("failReasons"            , ValueType.Object)
+						.add("id"                     , ValueType.String)
+						.add("isFinished"             , ValueType.Bool  )
+						.add("isTimerStarted"         , ValueType.Bool  )
+						.add("spentTime"              , ValueType.Float )
+						.add("stagesState"            , ValueType.Array )
+						.add("wasCompletedAtLeastOnce", ValueType.Bool  )
 						;
 				/*
 				    Block "[SaveGameData.SaveGame.Objective.ObjectiveStates]" [7]
@@ -1909,42 +2106,41 @@ public class SaveGameData {
 				public final Boolean wasCompletedAtLeastOnce;
 				public final Vector<StagesState> stagesState;
 
-				private ObjectiveStates(JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+				private ObjectiveStates(JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 				{
-					// scanJSON(object, this);
+					this.stagesState = new Vector<>();
 					
-					JSON_Object<NV, V> failReasons;
-					JSON_Array<NV, V> stagesState;
-					
-					failReasons            = JSON_Data.getObjectValue(object, "failReasons"            , debugOutputPrefixStr);
-					id                     = JSON_Data.getStringValue(object, "id"                     , debugOutputPrefixStr);
-					isFinished             = JSON_Data.getBoolValue  (object, "isFinished"             , debugOutputPrefixStr);
-					isTimerStarted         = JSON_Data.getBoolValue  (object, "isTimerStarted"         , true, false, debugOutputPrefixStr);
-					spentTime              = JSON_Data.getFloatValue (object, "spentTime"              , debugOutputPrefixStr);
-					stagesState            = JSON_Data.getArrayValue (object, "stagesState"            , debugOutputPrefixStr);
-					wasCompletedAtLeastOnce= JSON_Data.getBoolValue  (object, "wasCompletedAtLeastOnce", true, false, debugOutputPrefixStr);
-					
-					KNOWN_JSON_VALUES.scanUnexpectedValues(object);
-					
-					checkEmptyObject(failReasons, debugOutputPrefixStr+".failReasons");
+					ObjectReader object = reader.beginObject(debugOutputPrefixStr, KNOWN_JSON_VALUES.listener(debugOutputPrefixStr));
+					while (object.nextField())
+						switch (object.name)
+						{
+							case "failReasons": checkEmptyObject(reader, object.local, true); break;
+							case "stagesState": parseArray_Object(reader, object.local, StagesState::new, this.stagesState); break;
+						}
 					
-					this.stagesState = parseArray_Object(stagesState, debugOutputPrefixStr+".stagesState", StagesState::new, new Vector<>());
+					object.checkType("failReasons", ValueType.Object);
+					id                     = object.getString("id"                     );
+					isFinished             = object.getBool  ("isFinished"             );
+					isTimerStarted         = object.getBool  ("isTimerStarted"         , true, false);
+					spentTime              = object.getFloat ("spentTime"              );
+					object.checkType("stagesState", ValueType.Array);
+					wasCompletedAtLeastOnce= object.getBool  ("wasCompletedAtLeastOnce", true, false);
 				}
 				
 				public static class StagesState
 				{
-					private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES = KJV_FACTORY.create(StagesState.class)
-							.add("cargoDeliveryActions", JSON_Data.Value.Type.Array )
-							.add("cargoSpawnState"     , JSON_Data.Value.Type.Array )
-							.add("changeTruckState"    , JSON_Data.Value.Type.Null  )
-							.add("farmingState"        , JSON_Data.Value.Type.Null  )
-							.add("livingAreaState"     , JSON_Data.Value.Type.Null  )
-							.add("livingAreaState"     , JSON_Data.Value.Type.Object)
-							.add("makeActionInZone"    , JSON_Data.Value.Type.Null  )
-							.add("truckDeliveryStates" , JSON_Data.Value.Type.Array )
-							.add("truckRepairStates"   , JSON_Data.Value.Type.Array )
-							.add("visitAllZonesState"  , JSON_Data.Value.Type.Object)
-							.add("visitAllZonesState"  , JSON_Data.Value.Type.Null  )
+					private static final KnownFields KNOWN_JSON_VALUES = new KnownFields(StagesState.class)
+							.add("cargoDeliveryActions", ValueType.Array )
+							.add("cargoSpawnState"     , ValueType.Array )
+							.add("changeTruckState"    , ValueType.Null  )
+							.add("farmingState"        , ValueType.Null  )
+							.add("livingAreaState"     , ValueType.Null  )
+							.add("livingAreaState"     , ValueType.Object)
+							.add("makeActionInZone"    , ValueType.Null  )
+							.add("truckDeliveryStates" , ValueType.Array )
+							.add("truckRepairStates"   , ValueType.Array )
+							.add("visitAllZonesState"  , ValueType.Object)
+							.add("visitAllZonesState"  , ValueType.Null  )
 							;
 					/*
 					    Block "[SaveGameData.SaveGame.Objective.ObjectiveStates.StagesState]" [9]
@@ -1971,44 +2167,51 @@ public class SaveGameData {
 					public final Vector<TruckDeliveryState> truckDeliveryStates;
 					public final Vector<TruckRepairState> truckRepairStates;
 					
-					private StagesState(JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+					private StagesState(JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 					{
-						//scanJSON(object, this);
+						LivingAreaState livingAreaState = null;
+						VisitAllZonesState visitAllZonesState = null;
+						this.cargoDeliveryActions = new Vector<>();
+						this.cargoSpawnState      = new Vector<>();
+						this.truckDeliveryStates  = new Vector<>();
+						this.truckRepairStates    = new Vector<>();
 						
-						@SuppressWarnings("unused")
-						JSON_Data.Null changeTruckState_Null, farmingState_Null, livingAreaState_Null, makeActionInZone_Null, visitAllZonesState_Null;
-						JSON_Object<NV, V> livingAreaState, visitAllZonesState;
-						JSON_Array<NV, V> cargoDeliveryActions, cargoSpawnState, truckDeliveryStates, truckRepairStates;
-						
-						cargoDeliveryActions    = JSON_Data.getArrayValue (object, "cargoDeliveryActions", debugOutputPrefixStr);
-						cargoSpawnState         = JSON_Data.getArrayValue (object, "cargoSpawnState"     , debugOutputPrefixStr);
-						changeTruckState_Null   = JSON_Data.getNullValue  (object, "changeTruckState"    , debugOutputPrefixStr);
-						farmingState_Null       = JSON_Data.getNullValue  (object, "farmingState"        , true, false, debugOutputPrefixStr);
-						livingAreaState         = JSON_Data.getObjectValue(object, "livingAreaState"     , false, true, debugOutputPrefixStr);
-						livingAreaState_Null    = JSON_Data.getNullValue  (object, "livingAreaState"     , false, true, debugOutputPrefixStr);
-						makeActionInZone_Null   = JSON_Data.getNullValue  (object, "makeActionInZone"    , debugOutputPrefixStr);
-						truckDeliveryStates     = JSON_Data.getArrayValue (object, "truckDeliveryStates" , debugOutputPrefixStr);
-						truckRepairStates       = JSON_Data.getArrayValue (object, "truckRepairStates"   , debugOutputPrefixStr);
-						visitAllZonesState      = JSON_Data.getObjectValue(object, "visitAllZonesState"  , false, true, debugOutputPrefixStr);
-						visitAllZonesState_Null = JSON_Data.getNullValue  (object, "visitAllZonesState"  , false, true, debugOutputPrefixStr);
+						ObjectReader object = reader.beginObject(debugOutputPrefixStr, KNOWN_JSON_VALUES.listener(debugOutputPrefixStr));
+						while (object.nextField())
+						{
+							String local = object.local;
+							switch (object.name)
+							{
+								case "livingAreaState"     : livingAreaState    = new LivingAreaState   (reader, local); break;
+								case "visitAllZonesState"  : visitAllZonesState = new VisitAllZonesState(reader, local); break;
+								case "cargoDeliveryActions": parseArray_Object(reader, local, CargoDeliveryAction::new, this.cargoDeliveryActions); break;
+								case "cargoSpawnState"     : parseArray_Object(reader, local, CargoSpawnState    ::new, this.cargoSpawnState     ); break;
+								case "truckDeliveryStates" : parseArray_Object(reader, local, TruckDeliveryState ::new, this.truckDeliveryStates ); break;
+								case "truckRepairStates"   : parseArray_Object(reader, local, TruckRepairState   ::new, this.truckRepairStates   ); break;
+							}
+						}
 						
-						KNOWN_JSON_VALUES.scanUnexpectedValues(object);
+						object.checkType("cargoDeliveryActions", ValueType.Array );
+						object.checkType("cargoSpawnState"     , ValueType.Array );
+						object.checkType("changeTruckState"    , ValueType.Null  );
+						object.checkType("farmingState"        , ValueType.Null  , true, false);
+						object.checkType("livingAreaState"     , ValueType.Object, false, true);
+						object.checkType("makeActionInZone"    , ValueType.Null  );
+						object.checkType("truckDeliveryStates" , ValueType.Array );
+						object.checkType("truckRepairStates"   , ValueType.Array );
+						object.checkType("visitAllZonesState"  , ValueType.Object, false, true);
 						
-						this.livingAreaState      = parseObjectOrNull(livingAreaState   , livingAreaState_Null   , LivingAreaState   ::new, debugOutputPrefixStr+".livingAreaState");
-						this.visitAllZonesState   = parseObjectOrNull(visitAllZonesState, visitAllZonesState_Null, VisitAllZonesState::new, debugOutputPrefixStr+".visitAllZonesState");
-						this.cargoDeliveryActions = parseArray_Object(cargoDeliveryActions, debugOutputPrefixStr+".cargoDeliveryActions", CargoDeliveryAction::new, new Vector<>());
-						this.cargoSpawnState      = parseArray_Object(cargoSpawnState     , debugOutputPrefixStr+".cargoSpawnState"     , CargoSpawnState    ::new, new Vector<>());
-						this.truckDeliveryStates  = parseArray_Object(truckDeliveryStates , debugOutputPrefixStr+".truckDeliveryStates" , TruckDeliveryState ::new, new Vector<>());
-						this.truckRepairStates    = parseArray_Object(truckRepairStates   , debugOutputPrefixStr+".truckRepairStates"   , TruckRepairState   ::new, new Vector<>());
+						this.livingAreaState    = livingAreaState;
+						this.visitAllZonesState = visitAllZonesState;
 					}
 					
 					public static class LivingAreaState
 					{
-						private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES = KJV_FACTORY.create(LivingAreaState.class)
-								.add("currentLivingAreaValue", JSON_Data.Value.Type.Integer)
-								.add("isSynced"              , JSON_Data.Value.Type.Bool   )
-								.add("neededLivingAreaValue" , JSON_Data.Value.Type.Integer)
-								.add("zoneGlobalId"          , JSON_Data.Value.Type.String )
+						private static final KnownFields KNOWN_JSON_VALUES = new KnownFields(LivingAreaState.class)
+								.add("currentLivingAreaValue", ValueType.Integer)
+								.add("isSynced"              , ValueType.Bool   )
+								.add("neededLivingAreaValue" , ValueType.Integer)
+								.add("zoneGlobalId"          , ValueType.String )
 								;
 						/*
 						    Block "[SaveGameData.SaveGame.Objective.ObjectiveStates.StagesState.LivingAreaState]" [4]
@@ -2022,22 +2225,21 @@ public class SaveGameData {
 						public final long neededLivingAreaValue;
 						public final String zoneGlobalId;
 						
-						private LivingAreaState(JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+						private LivingAreaState(JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 						{
-							//scanJSON(object, this);
-							currentLivingAreaValue = JSON_Data.getIntegerValue(object, "currentLivingAreaValue", debugOutputPrefixStr);
-							isSynced               = JSON_Data.getBoolValue   (object, "isSynced"              , debugOutputPrefixStr);
-							neededLivingAreaValue  = JSON_Data.getIntegerValue(object, "neededLivingAreaValue" , debugOutputPrefixStr);
-							zoneGlobalId           = JSON_Data.getStringValue (object, "zoneGlobalId"          , debugOutputPrefixStr);
-							KNOWN_JSON_VALUES.scanUnexpectedValues(object);
+							ObjectReader object = reader.beginObject(debugOutputPrefixStr, KNOWN_JSON_VALUES.listener(debugOutputPrefixStr)).finish();
+							currentLivingAreaValue = object.getInteger("currentLivingAreaValue");
+							isSynced               = object.getBool   ("isSynced"              );
+							neededLivingAreaValue  = object.getInteger("neededLivingAreaValue" );
+							zoneGlobalId           = object.getString ("zoneGlobalId"          );
 						}
 					}
 					
 					public static class VisitAllZonesState
 					{
-						private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES = KJV_FACTORY.create(VisitAllZonesState.class)
-								.add("map"       , JSON_Data.Value.Type.String)
-								.add("zoneStates", JSON_Data.Value.Type.Array )
+						private static final KnownFields KNOWN_JSON_VALUES = new KnownFields(VisitAllZonesState.class)
+								.add("map"       , ValueType.String)
+								.add("zoneStates", ValueType.Array )
 								;
 						/*
 						    Block "[SaveGameData.SaveGame.Objective.ObjectiveStates.StagesState.VisitAllZonesState]" [2]
@@ -2049,23 +2251,24 @@ public class SaveGameData {
 						public final String map;
 						public final Vector<ZoneState> zoneStates;
 						
-						private VisitAllZonesState(JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+						private VisitAllZonesState(JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 						{
-							//scanJSON(object, this);
-							JSON_Array<NV, V> zoneStates;
-							map        = JSON_Data.getStringValue(object, "map"       , debugOutputPrefixStr);
-							zoneStates = JSON_Data.getArrayValue (object, "zoneStates", debugOutputPrefixStr);
-							KNOWN_JSON_VALUES.scanUnexpectedValues(object);
-							this.zoneStates = parseArray_Object(zoneStates, debugOutputPrefixStr+".zoneStates", ZoneState::new, new Vector<>());
+							this.zoneStates = new Vector<>();
+							ObjectReader object = reader.beginObject(debugOutputPrefixStr, KNOWN_JSON_VALUES.listener(debugOutputPrefixStr));
+							while (object.nextField())
+								if (object.name.equals("zoneStates"))
+									parseArray_Object(reader, object.local, ZoneState::new, this.zoneStates);
+							map = object.getString("map");
+							object.checkType("zoneStates", ValueType.Array);
 						}
 						
 						public static class ZoneState
 						{
-							private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES = KJV_FACTORY.create(ZoneState.class)
-									.add("isVisitWithCertainTruck", JSON_Data.Value.Type.Bool  )
-									.add("isVisited"              , JSON_Data.Value.Type.Bool  )
-									.add("truckUid"               , JSON_Data.Value.Type.String)
-									.add("zone"                   , JSON_Data.Value.Type.String)
+							private static final KnownFields KNOWN_JSON_VALUES = new KnownFields(ZoneState.class)
+									.add("isVisitWithCertainTruck", ValueType.Bool  )
+									.add("isVisited"              , ValueType.Bool  )
+									.add("truckUid"               , ValueType.String)
+									.add("zone"                   , ValueType.String)
 									;
 							/*
 							    Block "[SaveGameData.SaveGame.Objective.ObjectiveStates.StagesState.VisitAllZonesState.ZoneState]" [4]
@@ -2079,29 +2282,28 @@ public class SaveGameData {
 							public final String truckUid;
 							public final String zone;
 							
-							private ZoneState(JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+							private ZoneState(JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 							{
-								//scanJSON(object, this);
-								isVisitWithCertainTruck = JSON_Data.getBoolValue  (object, "isVisitWithCertainTruck", debugOutputPrefixStr);
-								isVisited               = JSON_Data.getBoolValue  (object, "isVisited"              , debugOutputPrefixStr);
-								truckUid                = JSON_Data.getStringValue(object, "truckUid"               , debugOutputPrefixStr);
-								zone                    = JSON_Data.getStringValue(object, "zone"                   , debugOutputPrefixStr);
-								KNOWN_JSON_VALUES.scanUnexpectedValues(object);
+								ObjectReader object = reader.beginObject(debugOutputPrefixStr, KNOWN_JSON_VALUES.listener(debugOutputPrefixStr)).finish();
+								isVisitWithCertainTruck = object.getBool  ("isVisitWithCertainTruck");
+								isVisited               = object.getBool  ("isVisited"              );
+								truckUid                = object.getString("truckUid"               );
+								zone                    = object.getString("zone"                   );
 							}
 						}
 					}
 					
 					public static class CargoDeliveryAction
 					{
-						private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES = KJV_FACTORY.create(CargoDeliveryAction.class)
-								.add("cargoState"        , JSON_Data.Value.Type.Object )
-								.add("isNeedVisitOnTruck", JSON_Data.Value.Type.Bool   )
-								.add("map"               , JSON_Data.Value.Type.String )
-								.add("modelBuildingTag"  , JSON_Data.Value.Type.String )
-								.add("platformId"        , JSON_Data.Value.Type.String )
-								.add("truckUid"          , JSON_Data.Value.Type.String )
-								.add("unloadingMode"     , JSON_Data.Value.Type.Integer)
-								.add("zones"             , JSON_Data.Value.Type.Array  )
+						private static final KnownFields KNOWN_JSON_VALUES = new KnownFields(CargoDeliveryAction.class)
+								.add("cargoState"        , ValueType.Object )
+								.add("isNeedVisitOnTruck", ValueType.Bool   )
+								.add("map"               , ValueType.String )
+								.add("modelBuildingTag"  , ValueType.String )
+								.add("platformId"        , ValueType.String )
+								.add("truckUid"          , ValueType.String )
+								.add("unloadingMode"     , ValueType.Integer)
+								.add("zones"             , ValueType.Array  )
 								;
 						/*
 						    Block "[SaveGameData.SaveGame.Objective.ObjectiveStates.StagesState.CargoDeliveryAction]" [8]
@@ -2125,31 +2327,37 @@ public class SaveGameData {
 						public final long unloadingMode;
 						public final Vector<String> zones;
 						
-						private CargoDeliveryAction(JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+						private CargoDeliveryAction(JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 						{
-							//scanJSON(object, this);
-							JSON_Object<NV, V> cargoState;
-							JSON_Array<NV, V> zones;
-							cargoState         = JSON_Data.getObjectValue (object, "cargoState"        , debugOutputPrefixStr);
-							isNeedVisitOnTruck = JSON_Data.getBoolValue   (object, "isNeedVisitOnTruck", debugOutputPrefixStr);
-							map                = JSON_Data.getStringValue (object, "map"               , debugOutputPrefixStr);
-							modelBuildingTag   = JSON_Data.getStringValue (object, "modelBuildingTag"  , debugOutputPrefixStr);
-							platformId         = JSON_Data.getStringValue (object, "platformId"        , debugOutputPrefixStr);
-							truckUid           = JSON_Data.getStringValue (object, "truckUid"          , debugOutputPrefixStr);
-							unloadingMode      = JSON_Data.getIntegerValue(object, "unloadingMode"     , debugOutputPrefixStr);
-							zones              = JSON_Data.getArrayValue  (object, "zones"             , debugOutputPrefixStr);
-							KNOWN_JSON_VALUES.scanUnexpectedValues(object);
+							CargoState cargoState = null;
+							this.zones = new Vector<>();
+							
+							ObjectReader object = reader.beginObject(debugOutputPrefixStr, KNOWN_JSON_VALUES.listener(debugOutputPrefixStr));
+							while (object.nextField())
+								switch (object.name)
+								{
+									case "cargoState": cargoState = new CargoState(reader, object.local); break;
+									case "zones"     : parseArray_String(reader, object.local, this.zones); break;
+								}
 							
-							this.cargoState = new CargoState   (cargoState, debugOutputPrefixStr+".cargoState");
-							this.zones      = parseArray_String(zones     , debugOutputPrefixStr+".zones", new Vector<>());
+							object.checkType("cargoState", ValueType.Object);
+							isNeedVisitOnTruck = object.getBool   ("isNeedVisitOnTruck");
+							map                = object.getString ("map"               );
+							modelBuildingTag   = object.getString ("modelBuildingTag"  );
+							platformId         = object.getString ("platformId"        );
+							truckUid           = object.getString ("truckUid"          );
+							unloadingMode      = object.getInteger("unloadingMode"     );
+							object.checkType("zones", ValueType.Array);
+							
+							this.cargoState = cargoState;
 						}
 						
 						public static class CargoState
 						{
-							private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES = KJV_FACTORY.create(CargoState.class)
-									.add("aimValue", JSON_Data.Value.Type.Integer)
-									.add("curValue", JSON_Data.Value.Type.Integer)
-									.add("type"    , JSON_Data.Value.Type.String )
+							private static final KnownFields KNOWN_JSON_VALUES = new KnownFields(CargoState.class)
+									.add("aimValue", ValueType.Integer)
+									.add("curValue", ValueType.Integer)
+									.add("type"    , ValueType.String )
 									;
 							/*
 						    Block "[SaveGameData.SaveGame.Objective.ObjectiveStates.StagesState.CargoDeliveryAction.CargoState]" [3]
@@ -2161,25 +2369,24 @@ public class SaveGameData {
 							public final long curValue;
 							public final String type;
 							
-							private CargoState(JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+							private CargoState(JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 							{
-								//scanJSON(object, this);
-								aimValue = JSON_Data.getIntegerValue(object, "aimValue", debugOutputPrefixStr);
-								curValue = JSON_Data.getIntegerValue(object, "curValue", debugOutputPrefixStr);
-								type     = JSON_Data.getStringValue (object, "type"    , debugOutputPrefixStr);
-								KNOWN_JSON_VALUES.scanUnexpectedValues(object);
+								ObjectReader object = reader.beginObject(debugOutputPrefixStr, KNOWN_JSON_VALUES.listener(debugOutputPrefixStr)).finish();
+								aimValue = object.getInteger("aimValue");
+								curValue = object.getInteger("curValue");
+								type     = object.getString ("type"    );
 							}
 						}
 					}
 					
 					public static class CargoSpawnState
 					{
-						private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES = KJV_FACTORY.create(CargoSpawnState.class)
-								.add("cargos"                             , JSON_Data.Value.Type.Array )
-								.add("ignoreHidingCargoWhenNotTracked"    , JSON_Data.Value.Type.Bool  )
-								.add("needToBeDiscoveredByMetallodetector", JSON_Data.Value.Type.Bool  )
-								.add("spawned"                            , JSON_Data.Value.Type.Bool  )
-								.add("zone"                               , JSON_Data.Value.Type.Object)
+						private static final KnownFields KNOWN_JSON_VALUES = new KnownFields(CargoSpawnState.class)
+								.add("cargos"                             , ValueType.Array )
+								.add("ignoreHidingCargoWhenNotTracked"    , ValueType.Bool  )
+								.add("needToBeDiscoveredByMetallodetector", ValueType.Bool  )
+								.add("spawned"                            , ValueType.Bool  )
+								.add("zone"                               , ValueType.Object)
 								;
 						/*
 						    Block "[SaveGameData.SaveGame.Objective.ObjectiveStates.StagesState.CargoSpawnState]" [4]
@@ -2197,26 +2404,33 @@ public class SaveGameData {
 						public final boolean spawned;
 						public final Zone zone;
 						
-						private CargoSpawnState(JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+						private CargoSpawnState(JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 						{
-							//scanJSON(object, this);
-							JSON_Object<NV, V> zone;
-							JSON_Array<NV, V> cargos;
-							cargos                              = JSON_Data.getArrayValue (object, "cargos"                             , debugOutputPrefixStr);
-							ignoreHidingCargoWhenNotTracked     = JSON_Data.getBoolValue  (object, "ignoreHidingCargoWhenNotTracked"    , debugOutputPrefixStr);
-							needToBeDiscoveredByMetallodetector = JSON_Data.getBoolValue  (object, "needToBeDiscoveredByMetallodetector", debugOutputPrefixStr);
-							spawned                             = JSON_Data.getBoolValue  (object, "spawned"                            , debugOutputPrefixStr);
-							zone                                = JSON_Data.getObjectValue(object, "zone"                               , debugOutputPrefixStr);
-							KNOWN_JSON_VALUES.scanUnexpectedValues(object);
-							this.cargos = parseArray_Object(cargos, debugOutputPrefixStr+".cargos", Cargo::new, new Vector<>());
-							this.zone   = new Zone         (zone  , debugOutputPrefixStr+".zone"  );
+							Zone zone = null;
+							this.cargos = new Vector<>();
+							
+							ObjectReader object = reader.beginObject(debugOutputPrefixStr, KNOWN_JSON_VALUES.listener(debugOutputPrefixStr));
+							while (object.nextField())
+								switch (object.name)
+								{
+									case "cargos": parseArray_Object(reader, object.local, Cargo::new, this.cargos); break;
+									case "zone"  : zone = new Zone(reader, object.local); break;
+								}
+							
+							object.checkType("cargos", ValueType.Array);
+							ignoreHidingCargoWhenNotTracked     = object.getBool("ignoreHidingCargoWhenNotTracked"    );
+							needToBeDiscoveredByMetallodetector = object.getBool("needToBeDiscoveredByMetallodetector");
+							spawned                             = object.getBool("spawned"                            );
+							object.checkType("zone", ValueType.Object);
+							
+							this.zone = zone;
 						}
 						
 						public static class Cargo
 						{
-							private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES = KJV_FACTORY.create(Cargo.class)
-									.add("count", JSON_Data.Value.Type.Integer)
-									.add("name" , JSON_Data.Value.Type.String )
+							private static final KnownFields KNOWN_JSON_VALUES = new KnownFields(Cargo.class)
+									.add("count", ValueType.Integer)
+									.add("name" , ValueType.String )
 									;
 							/*
 							    Block "[SaveGameData.SaveGame.Objective.ObjectiveStates.StagesState.CargoSpawnState.Cargo]" [2]
@@ -2226,22 +2440,21 @@ public class SaveGameData {
 							public final long count;
 							public final String name;
 							
-							private Cargo(JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+							private Cargo(JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 							{
-								//scanJSON(object, this);
-								count = JSON_Data.getIntegerValue(object, "count", debugOutputPrefixStr);
-								name  = JSON_Data.getStringValue (object, "name" , debugOutputPrefixStr);
-								KNOWN_JSON_VALUES.scanUnexpectedValues(object);
+								ObjectReader object = reader.beginObject(debugOutputPrefixStr, KNOWN_JSON_VALUES.listener(debugOutputPrefixStr)).finish();
+								count = object.getInteger("count");
+								name  = object.getString ("name" );
 							}
 						}
 						
 						public static class Zone
 						{
-							private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES = KJV_FACTORY.create(Zone.class)
-									.add("cached"      , JSON_Data.Value.Type.Bool  )
-									.add("globalZoneId", JSON_Data.Value.Type.String)
-									.add("map"         , JSON_Data.Value.Type.String)
-									.add("zoneLocal"   , JSON_Data.Value.Type.String)
+							private static final KnownFields KNOWN_JSON_VALUES = new KnownFields(Zone.class)
+									.add("cached"      , ValueType.Bool  )
+									.add("globalZoneId", ValueType.String)
+									.add("map"         , ValueType.String)
+									.add("zoneLocal"   , ValueType.String)
 									;
 							/*
 							    Block "[SaveGameData.SaveGame.Objective.ObjectiveStates.StagesState.CargoSpawnState.Zone]" [4]
@@ -2255,25 +2468,24 @@ public class SaveGameData {
 							public final String map;
 							public final String zoneLocal;
 							
-							private Zone(JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+							private Zone(JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 							{
-								//scanJSON(object, this);
-								cached       = JSON_Data.getBoolValue  (object, "cached"      , debugOutputPrefixStr);
-								globalZoneId = JSON_Data.getStringValue(object, "globalZoneId", debugOutputPrefixStr);
-								map          = JSON_Data.getStringValue(object, "map"         , debugOutputPrefixStr);
-								zoneLocal    = JSON_Data.getStringValue(object, "zoneLocal"   , debugOutputPrefixStr);
-								KNOWN_JSON_VALUES.scanUnexpectedValues(object);
+								ObjectReader object = reader.beginObject(debugOutputPrefixStr, KNOWN_JSON_VALUES.listener(debugOutputPrefixStr)).finish();
+								cached       = object.getBool  ("cached"      );
+								globalZoneId = object.getString("globalZoneId");
+								map          = object.getString("map"         );
+								zoneLocal    = object.getString("zoneLocal"   );
 							}
 						}
 					}
 					
 					public static class TruckDeliveryState
 					{
-						private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES = KJV_FACTORY.create(TruckDeliveryState.class)
-								.add("deliveryZones", JSON_Data.Value.Type.Array )
-								.add("isDelivered"  , JSON_Data.Value.Type.Bool  )
-								.add("mapDelivery"  , JSON_Data.Value.Type.String)
-								.add("truckId"      , JSON_Data.Value.Type.String)
+						private static final KnownFields KNOWN_JSON_VALUES = new KnownFields(TruckDeliveryState.class)
+								.add("deliveryZones", ValueType.Array )
+								.add("isDelivered"  , ValueType.Bool  )
+								.add("mapDelivery"  , ValueType.String)
+								.add("truckId"      , ValueType.String)
 								;
 						/*
 						    Block "[SaveGameData.SaveGame.Objective.ObjectiveStates.StagesState.TruckDeliveryState]" [4]
@@ -2289,26 +2501,28 @@ public class SaveGameData {
 						public final String truckId;
 						public final Vector<String> deliveryZones;
 						
-						private TruckDeliveryState(JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+						private TruckDeliveryState(JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 						{
-							//scanJSON(object, this);
-							JSON_Array<NV, V> deliveryZones;
-							deliveryZones = JSON_Data.getArrayValue (object, "deliveryZones", debugOutputPrefixStr);
-							isDelivered   = JSON_Data.getBoolValue  (object, "isDelivered"  , debugOutputPrefixStr);
-							mapDelivery   = JSON_Data.getStringValue(object, "mapDelivery"  , debugOutputPrefixStr);
-							truckId       = JSON_Data.getStringValue(object, "truckId"      , debugOutputPrefixStr);
-							KNOWN_JSON_VALUES.scanUnexpectedValues(object);
+							this.deliveryZones = new Vector<>();
+							
+							ObjectReader object = reader.beginObject(debugOutputPrefixStr, KNOWN_JSON_VALUES.listener(debugOutputPrefixStr));
+							while (object.nextField())
+								if (object.name.equals("deliveryZones"))
+									parseArray_String(reader, object.local, this.deliveryZones);
 							
-							this.deliveryZones = parseArray_String(deliveryZones, debugOutputPrefixStr+".deliveryZones", new Vector<>());
+							object.checkType("deliveryZones", ValueType.Array);
+							isDelivered   = object.getBool  ("isDelivered"  );
+							mapDelivery   = object.getString("mapDelivery"  );
+							truckId       = object.getString("truckId"      );
 						}
 					}
 					
 					public static class TruckRepairState
 					{
-						private static final KnownJsonValues<NV, V> KNOWN_JSON_VALUES = KJV_FACTORY.create(TruckRepairState.class)
-								.add("isRefueled", JSON_Data.Value.Type.Bool  )
-								.add("isRepaired", JSON_Data.Value.Type.Bool  )
-								.add("truckId"   , JSON_Data.Value.Type.String)
+						private static final KnownFields KNOWN_JSON_VALUES = new KnownFields(TruckRepairState.class)
+								.add("isRefueled", ValueType.Bool  )
+								.add("isRepaired", ValueType.Bool  )
+								.add("truckId"   , ValueType.String)
 								;
 						/*
 						    Block "[SaveGameData.SaveGame.Objective.ObjectiveStates.StagesState.TruckRepairState]" [3]
@@ -2320,13 +2534,12 @@ public class SaveGameData {
 						public final boolean isRepaired;
 						public final String truckId;
 						
-						private TruckRepairState(JSON_Object<NV, V> object, String debugOutputPrefixStr) throws TraverseException
+						private TruckRepairState(JsonPullReader reader, String debugOutputPrefixStr) throws ParseException
 						{
-							//scanJSON(object, this);
-							isRefueled = JSON_Data.getBoolValue  (object, "isRefueled", debugOutputPrefixStr);
-							isRepaired = JSON_Data.getBoolValue  (object, "isRepaired", debugOutputPrefixStr);
-							truckId    = JSON_Data.getStringValue(object, "truckId"   , debugOutputPrefixStr);
-							KNOWN_JSON_VALUES.scanUnexpectedValues(object);
+							ObjectReader object = reader.beginObject(debugOutputPrefixStr, KNOWN_JSON_VALUES.listener(debugOutputPrefixStr)).finish();
+							isRefueled = object.getBool  ("isRefueled");
+							isRepaired = object.getBool  ("isRepaired");
+							truckId    = object.getString("truckId"   );
 						}
 					}
 				}
@@ -0,0 +1,178 @@
+package net.schwarzbaer.java.games.snowrunner;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Watches a save game folder for changed files.
+ * <p>
+ * The game writes a save file in several steps. So events are collected until the folder is quiet for {@link #DEBOUNCE_TIME_ms}.
+ * Then the content hash of each changed file is compared with the last known one.
+ * Only files with a new content are passed to the handler (in the watcher thread).
+ * Deleted files are passed to the same handler. Then {@link File#isFile()} of the passed file returns <code>false</code>.
+ * <p>
+ * After {@link #stop()} has returned, the handler isn't called anymore.
+ */
+class SaveGameFolderWatcher {
+
+	private static final long DEBOUNCE_TIME_ms = 1500;
+
+	private final File folder;
+	private final Predicate<String> isWatchedFile;
+	private final Consumer<File> changedFileHandler;
+	private final HashMap<String,byte[]> contentHashes; // file name -> hash, only used by watcher thread
+	private WatchService watchService;
+	private Thread thread;
+	private volatile boolean isStopped;
+
+	SaveGameFolderWatcher(File folder, Predicate<String> isWatchedFile, Consumer<File> changedFileHandler) {
+		this.folder = folder;
+		this.isWatchedFile = isWatchedFile;
+		this.changedFileHandler = changedFileHandler;
+		contentHashes = new HashMap<>();
+		watchService = null;
+		thread = null;
+		isStopped = false;
+	}
+
+	/**
+	 * Registers the folder and starts the watcher thread, that computes the content hashes of all watched files first.
+	 * Call it before reading the files, so that no change gets lost.
+	 */
+	synchronized boolean start() {
+		if (thread!=null || isStopped) throw new IllegalStateException();
+
+		WatchService localWatchService;
+		try {
+			localWatchService = folder.toPath().getFileSystem().newWatchService();
+			folder.toPath().register(localWatchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+		} catch (IOException e) {
+			System.err.printf("Can't watch SaveGame folder \"%s\": %s%n", folder.getAbsolutePath(), e.getMessage());
+			return false;
+		}
+
+		watchService = localWatchService;
+		thread = new Thread(() -> run(localWatchService), "SaveGameFolderWatcher");
+		thread.setDaemon(true);
+		thread.start();
+		return true;
+	}
+
+	/**
+	 * Stops the watcher thread and waits until a running call of the handler is finished.
+	 * So the handler of a stopped watcher doesn't run concurrently to anything started after this.
+	 */
+	void stop() {
+		Thread localThread;
+		synchronized (this) {
+			isStopped = true;
+			if (watchService!=null) {
+				try { watchService.close(); }
+				catch (IOException e) {
+					System.err.printf("IOException while closing WatchService of \"%s\": %s%n", folder.getAbsolutePath(), e.getMessage());
+				}
+				watchService = null;
+			}
+			localThread = thread;
+		}
+		if (localThread==null || localThread==Thread.currentThread()) return;
+		try { localThread.join(); }
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void run(WatchService watchService) {
+		File[] initialFiles = folder.listFiles(file -> file.isFile() && isWatchedFile.test(file.getName()));
+		if (initialFiles!=null)
+			for (File file : initialFiles) {
+				if (isStopped) return;
+				byte[] hash = computeHash(file);
+				if (hash!=null) contentHashes.put(file.getName(), hash);
+			}
+
+		TreeSet<String> changedFiles = new TreeSet<>();
+		try {
+			while (true) {
+				WatchKey key = changedFiles.isEmpty() ? watchService.take() : watchService.poll(DEBOUNCE_TIME_ms, TimeUnit.MILLISECONDS);
+
+				if (key==null) { // folder is quiet --> write burst is over
+					if (isStopped) return;
+					for (String fileName : changedFiles.toArray(String[]::new))
+						if (checkFile(fileName))
+							changedFiles.remove(fileName);
+					continue;
+				}
+
+				for (WatchEvent<?> event : key.pollEvents()) {
+					if (event.kind()==StandardWatchEventKinds.OVERFLOW) {
+						File[] files = folder.listFiles(file -> file.isFile() && isWatchedFile.test(file.getName()));
+						if (files!=null) for (File file : files) changedFiles.add(file.getName());
+						continue;
+					}
+					if (event.context() instanceof Path path) {
+						String fileName = path.getFileName().toString();
+						if (isWatchedFile.test(fileName))
+							changedFiles.add(fileName);
+					}
+				}
+
+				if (!key.reset()) {
+					System.err.printf("SaveGame folder \"%s\" can't be watched anymore.%n", folder.getAbsolutePath());
+					return;
+				}
+			}
+		}
+		catch (InterruptedException | ClosedWatchServiceException e) {
+			// watcher was stopped
+		}
+	}
+
+	/**
+	 * @return <code>true</code>, if file is done, <code>false</code>, if file couldn't be read (--> next try after next quiet period)
+	 */
+	private boolean checkFile(String fileName) {
+		File file = new File(folder, fileName);
+		if (!file.isFile()) { // deleted
+			if (contentHashes.remove(fileName)!=null && !isStopped)
+				changedFileHandler.accept(file);
+			return true;
+		}
+
+		byte[] hash = computeHash(file);
+		if (hash==null) return false;
+
+		byte[] oldHash = contentHashes.put(fileName, hash);
+		if (!Arrays.equals(hash, oldHash) && !isStopped)
+			changedFileHandler.accept(file);
+		return true;
+	}
+
+	private static byte[] computeHash(File file) {
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(file.toPath()));
+		}
+		catch (IOException e) {
+			System.err.printf("IOException while reading \"%s\": %s%n", file.getAbsolutePath(), e.getMessage());
+			return null;
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
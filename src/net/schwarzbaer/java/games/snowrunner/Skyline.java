@@ -0,0 +1,252 @@
+package net.schwarzbaer.java.games.snowrunner;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Vector;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Computes the skyline (Pareto set) of points with several objectives.
+ * A point is in the skyline, if no other point is at least as good in all objectives and better in one of them.
+ * Equal points don't dominate each other.
+ * <p>
+ * 2 objectives: sweep over the points sorted by the 1st objective, O(n log n).<br>
+ * 3 or more objectives: divide and conquer over the 1st objective.
+ * The partial skylines are merged with a sorted sweep (3 objectives) or by comparing the points of both partial skylines (more objectives).
+ * <p>
+ * The values are stored in primitive arrays: <code>values[objective][point]</code>.
+ */
+public class Skyline {
+
+	public record Objective<ItemType>(ToDoubleFunction<ItemType> getValue, boolean isHigherBetter) {}
+
+	private static final int BRUTE_FORCE_SIZE = 32;
+
+	/**
+	 * Items, that have a NaN value in an objective (e.g. a missing value), are never part of the skyline.
+	 * @return all items of the skyline in the order of <code>items</code>
+	 */
+	@SafeVarargs
+	public static <ItemType> Vector<ItemType> compute(Collection<ItemType> items, Objective<ItemType>... objectives) {
+		Vector<ItemType> itemList = new Vector<>(items);
+		double[][] values = new double[objectives.length][itemList.size()];
+		boolean[] isHigherBetter = new boolean[objectives.length];
+		for (int o=0; o<objectives.length; o++) {
+			isHigherBetter[o] = objectives[o].isHigherBetter;
+			for (int i=0; i<itemList.size(); i++)
+				values[o][i] = objectives[o].getValue.applyAsDouble(itemList.get(i));
+		}
+
+		BitSet skyline = compute(values, isHigherBetter);
+		Vector<ItemType> result = new Vector<>();
+		for (int i = skyline.nextSetBit(0); i>=0; i = skyline.nextSetBit(i+1))
+			result.add(itemList.get(i));
+		return result;
+	}
+
+	/**
+	 * @return indexes of all points in the skyline
+	 */
+	public static BitSet compute2D(float[] x, float[] y, boolean isXHigherBetter, boolean isYHigherBetter) {
+		if (x.length!=y.length) throw new IllegalArgumentException();
+		double[][] values = new double[2][x.length];
+		for (int i=0; i<x.length; i++) {
+			values[0][i] = x[i];
+			values[1][i] = y[i];
+		}
+		return compute(values, new boolean[] { isXHigherBetter, isYHigherBetter });
+	}
+
+	/**
+	 * @param values <code>values[objective][point]</code>, NaN values exclude a point from the skyline
+	 * @return indexes of all points in the skyline
+	 */
+	public static BitSet compute(double[][] values, boolean[] isHigherBetter) {
+		if (values.length!=isHigherBetter.length) throw new IllegalArgumentException();
+		if (values.length==0) throw new IllegalArgumentException();
+		int n = values[0].length;
+
+		// normalize: higher is better in all objectives
+		double[][] v = new double[values.length][];
+		for (int o=0; o<values.length; o++) {
+			if (values[o].length!=n) throw new IllegalArgumentException();
+			v[o] = normalize(values[o], !isHigherBetter[o]);
+		}
+
+		int[] points = validPointsSortedByFirstObjective(v, n);
+		BitSet skyline = new BitSet(n);
+		if (v.length==1) {
+			for (int i=0; i<points.length && v[0][points[i]]==v[0][points[0]]; i++)
+				skyline.set(points[i]);
+		} else if (v.length==2) {
+			sweep2D(v, points, skyline);
+		} else {
+			for (int p : divideAndConquer(v, points, 0, points.length))
+				skyline.set(p);
+		}
+		return skyline;
+	}
+
+	/**
+	 * Sorting uses {@link Double#compare(double, double)}, grouping and dominance use <code>==</code> and <code>&lt;</code>.
+	 * Both only agree, if there is no -0.0. So -0.0 is replaced by 0.0.
+	 */
+	private static double[] normalize(double[] values, boolean negate) {
+		double[] result = new double[values.length];
+		for (int i=0; i<values.length; i++) {
+			double value = negate ? -values[i] : values[i];
+			result[i] = value==0 ? 0.0 : value;
+		}
+		return result;
+	}
+
+	private static int[] validPointsSortedByFirstObjective(double[][] v, int n) {
+		Vector<Integer> valid = new Vector<>();
+		for (int i=0; i<n; i++) {
+			boolean isValid = true;
+			for (double[] values : v)
+				if (Double.isNaN(values[i])) { isValid = false; break; }
+			if (isValid) valid.add(i);
+		}
+		// 1st objective descending, then 2nd objective descending, ...
+		valid.sort((p1,p2)->{
+			for (double[] values : v) {
+				int result = Double.compare(values[p2], values[p1]);
+				if (result!=0) return result;
+			}
+			return Integer.compare(p1, p2);
+		});
+		int[] points = new int[valid.size()];
+		for (int i=0; i<points.length; i++) points[i] = valid.get(i);
+		return points;
+	}
+
+	/**
+	 * Points with a higher x are seen before. Points with the same x are sorted by y (descending).
+	 * A point is dominated, if a point with a higher x has at least the same y
+	 * or if a point with the same x has a higher y.
+	 */
+	private static void sweep2D(double[][] v, int[] points, BitSet skyline) {
+		double[] x = v[0];
+		double[] y = v[1];
+		double maxYOfHigherX = Double.NEGATIVE_INFINITY;
+		for (int groupStart=0; groupStart<points.length; ) {
+			int groupEnd = groupStart;
+			while (groupEnd<points.length && x[points[groupEnd]]==x[points[groupStart]]) groupEnd++;
+
+			double maxYOfGroup = y[points[groupStart]];
+			for (int i=groupStart; i<groupEnd; i++) {
+				double py = y[points[i]];
+				if (py<=maxYOfHigherX) break; // sorted by y
+				if (py<maxYOfGroup) break;
+				skyline.set(points[i]);
+			}
+			maxYOfHigherX = Math.max(maxYOfHigherX, maxYOfGroup);
+			groupStart = groupEnd;
+		}
+	}
+
+	/**
+	 * @param points sorted by 1st objective (descending)
+	 * @return skyline of points[from..to)
+	 */
+	private static int[] divideAndConquer(double[][] v, int[] points, int from, int to) {
+		if (to-from<=BRUTE_FORCE_SIZE)
+			return bruteForce(v, points, from, to);
+
+		// split between different values of the 1st objective --> each point of the upper half is better in it than each point of the lower half
+		double[] first = v[0];
+		int mid = (from+to)/2;
+		int split = mid;
+		while (split<to && first[points[split]]==first[points[split-1]]) split++;
+		if (split>=to) {
+			split = mid;
+			while (split>from && first[points[split]]==first[points[split-1]]) split--;
+			if (split<=from) return bruteForce(v, points, from, to);
+		}
+
+		int[] upper = divideAndConquer(v, points, from , split);
+		int[] lower = divideAndConquer(v, points, split, to   );
+
+		int[] result = Arrays.copyOf(upper, upper.length+lower.length);
+		int length = upper.length;
+		if (v.length==3) {
+			UpperSet2D upperSet = new UpperSet2D(v[1], v[2], upper);
+			for (int p : lower)
+				if (!upperSet.hasPointAtLeast(v[1][p], v[2][p]))
+					result[length++] = p;
+		} else {
+			for (int p : lower)
+				if (!isWeaklyDominated(v, 1, p, upper))
+					result[length++] = p;
+		}
+		return Arrays.copyOf(result, length);
+	}
+
+	/** @return <code>true</code>, if a point in <code>others</code> is at least as good as <code>p</code> in all objectives from <code>firstObjective</code> on */
+	private static boolean isWeaklyDominated(double[][] v, int firstObjective, int p, int[] others) {
+		for (int q : others) {
+			boolean isAtLeast = true;
+			for (int o=firstObjective; o<v.length && isAtLeast; o++)
+				isAtLeast = v[o][q]>=v[o][p];
+			if (isAtLeast) return true;
+		}
+		return false;
+	}
+
+	private static int[] bruteForce(double[][] v, int[] points, int from, int to) {
+		int[] result = new int[to-from];
+		int length = 0;
+		for (int i=from; i<to; i++) {
+			int p = points[i];
+			boolean isDominated = false;
+			for (int j=from; j<to && !isDominated; j++)
+				isDominated = j!=i && dominates(v, points[j], p);
+			if (!isDominated) result[length++] = p;
+		}
+		return Arrays.copyOf(result, length);
+	}
+
+	private static boolean dominates(double[][] v, int q, int p) {
+		boolean isBetter = false;
+		for (double[] values : v) {
+			if (values[q]<values[p]) return false;
+			if (values[q]>values[p]) isBetter = true;
+		}
+		return isBetter;
+	}
+
+	/**
+	 * Points sorted by a (descending) with the running maximum of b.
+	 * So "is there a point with a' &ge; a and b' &ge; b" is a binary search.
+	 */
+	private static class UpperSet2D {
+		private final double[] a;
+		private final double[] maxB;
+
+		UpperSet2D(double[] aValues, double[] bValues, int[] points) {
+			Integer[] sorted = new Integer[points.length];
+			for (int i=0; i<points.length; i++) sorted[i] = points[i];
+			Arrays.sort(sorted, (p1,p2)->Double.compare(aValues[p2], aValues[p1]));
+
+			a    = new double[sorted.length];
+			maxB = new double[sorted.length];
+			for (int i=0; i<sorted.length; i++) {
+				a   [i] = aValues[sorted[i]];
+				maxB[i] = i==0 ? bValues[sorted[i]] : Math.max(maxB[i-1], bValues[sorted[i]]);
+			}
+		}
+
+		boolean hasPointAtLeast(double aValue, double bValue) {
+			// last index with a[i] >= aValue
+			int low = 0, high = a.length-1, last = -1;
+			while (low<=high) {
+				int mid = (low+high)>>>1;
+				if (a[mid]>=aValue) { last = mid; low = mid+1; }
+				else high = mid-1;
+			}
+			return last>=0 && maxB[last]>=bValue;
+		}
+	}
+}
@@ -159,6 +159,7 @@ public class SnowRunner {
 	
 	private Data data;
 	private SaveGameData saveGameData;
+	private SaveGameFolderWatcher saveGameFolderWatcher;
 	private SaveGame selectedSaveGame;
 	private File loadedInitialPAK;
 	private final StandardMainWindow mainWindow;
@@ -175,6 +176,7 @@ public class SnowRunner {
 		
 		data = null;
 		saveGameData = null;
+		saveGameFolderWatcher = null;
 		selectedSaveGame = null;
 		loadedInitialPAK = null;
 		
@@ -224,6 +226,9 @@ public class SnowRunner {
 			if (changed) updateAfterDataChange();
 		}));
 		baseDataMenu.add(createCheckBoxMenuItem("Hide Known Bugs", KnownBugs.getInstance().isHideKnownBugs(), null, true, KnownBugs.getInstance()::setHideKnownBugs));
+		baseDataMenu.add(createCheckBoxMenuItem("Use Memory Mapped PAK Reader", settings.getBool(AppSettings.ValueKey.PAK_UseMappedReader, false), null, true, b->{
+			settings.putBool(AppSettings.ValueKey.PAK_UseMappedReader, b);
+		}));
 		//fileMenu.add(createMenuItem("Reset application settings", true, e->{
 		//	for (AppSettings.ValueKey key:AppSettings.ValueKey.values())
 		//		settings.remove(key);
@@ -282,7 +287,34 @@ public class SnowRunner {
 		if (saveGameFolder==null) return;
 		
 		System.out.printf("Read Data from SaveGame Folder \"%s\" ...%n", saveGameFolder.getAbsolutePath());
-		saveGameData = new SaveGameData(saveGameFolder);
+		SaveGameData localSaveGameData = saveGameData = new SaveGameData(saveGameFolder);
+		
+		// old watcher is stopped before reading (it shares the collectors of SaveGameData)
+		// new watcher is started before reading, so that no change gets lost
+		if (saveGameFolderWatcher!=null) saveGameFolderWatcher.stop();
+		saveGameFolderWatcher = new SaveGameFolderWatcher(saveGameFolder, SaveGameData::isSaveFile, file -> {
+			if (!file.isFile()) {
+				System.out.printf("SaveGame file \"%s\" was deleted --> remove it%n", file.getName());
+				String indexStr = localSaveGameData.removeSaveFile(file);
+				SwingUtilities.invokeLater(() -> {
+					if (saveGameData!=localSaveGameData) return;
+					saveGameData.removeSaveGame(indexStr);
+					updateAfterSaveFileRemoval(indexStr, file.getName());
+				});
+				return;
+			}
+			System.out.printf("SaveGame file \"%s\" has changed --> reload it%n", file.getName());
+			// parsed and built in watcher thread, only the finished SaveGame is passed to the EDT
+			SaveGame saveGame = localSaveGameData.reloadSaveFile(file);
+			if (saveGame!=null)
+				SwingUtilities.invokeLater(() -> {
+					if (saveGameData!=localSaveGameData) return;
+					saveGameData.putSaveGame(saveGame);
+					updateAfterSaveFileChange(saveGame);
+				});
+		});
+		saveGameFolderWatcher.start();
+		
 		saveGameData.readData();
 		System.out.printf("... done%n");
 		
@@ -309,6 +341,43 @@ public class SnowRunner {
 				settings.putString(AppSettings.ValueKey.SelectedSaveGame, selectedSaveGameIndexStr);
 		}
 		
+		updateSelectedSaveGameMenu();
+		
+		rawDataPanel.setData(saveGameData);
+		
+		miSGValuesSorted  .setEnabled(true);
+		miSGValuesOriginal.setEnabled(true);
+		
+		updateAfterSaveGameChange();
+	}
+
+	/**
+	 * Updates the changed SaveGame only. Other SaveGames, the selection and the state of the panels are kept.
+	 */
+	private void updateAfterSaveFileChange(SaveGame saveGame) {
+		updateSelectedSaveGameMenu();
+		rawDataPanel.updateSaveGameFile(saveGame.fileName);
+		if (selectedSaveGame!=null && selectedSaveGame.indexStr.equals(saveGame.indexStr)) {
+			selectedSaveGame = saveGame;
+			updateAfterSaveGameChange();
+		}
+	}
+
+	/**
+	 * Removes a deleted SaveGame only. If it was the selected one, no SaveGame is selected afterwards.
+	 */
+	private void updateAfterSaveFileRemoval(String indexStr, String fileName) {
+		boolean wasSelected = selectedSaveGame!=null && selectedSaveGame.indexStr.equals(indexStr);
+		if (wasSelected) selectedSaveGame = null;
+		updateSelectedSaveGameMenu();
+		rawDataPanel.removeSaveGameFile(fileName);
+		if (wasSelected) updateAfterSaveGameChange();
+	}
+
+	private void updateSelectedSaveGameMenu() {
+		Vector<String> indexStrs = new Vector<>(saveGameData.saveGames.keySet());
+		indexStrs.sort(null);
+		
 		ButtonGroup bg = new ButtonGroup();
 		selectedSaveGameMenu.removeAll();
 		selectedSaveGameMenu.setEnabled(true);
@@ -323,13 +392,6 @@ public class SnowRunner {
 				updateAfterSaveGameChange();
 			}));
 		}
-		
-		rawDataPanel.setData(saveGameData);
-		
-		miSGValuesSorted  .setEnabled(true);
-		miSGValuesOriginal.setEnabled(true);
-		
-		updateAfterSaveGameChange();
 	}
 
 	private String getSaveGameLabel(String indexStr) {
@@ -362,15 +424,35 @@ public class SnowRunner {
 	}
 	
 	private Data readXMLTemplateStructure(ProgressDialog pd, File initialPAK) {
-		setTask(pd, "Read XMLTemplateStructure");
-		XMLTemplateStructure structure = XMLTemplateStructure.readPAK(initialPAK,mainWindow);
+		setTask(pd, "Read Data Snapshot");
+		XMLTemplateStructure structure = DataSnapshot.load(initialPAK);
+		boolean isFromSnapshot = structure!=null;
+		if (!isFromSnapshot) {
+			setTask(pd, "Read XMLTemplateStructure");
+			structure = XMLTemplateStructure.readPAK(initialPAK,mainWindow,Data.RAW_DATA_CLASSES);
+		}
 		if (structure==null) return null;
 		if (Thread.currentThread().isInterrupted()) return null;
+		setTask(pd, "Load Items of Classes");
+		try {
+			// loads all needed classes at once, if they weren't prefetched while reading the PAK file
+			structure.prefetch(Data.RAW_DATA_CLASSES);
+		} catch (XMLTemplateStructure.LoadException e) {
+			System.err.printf("%s%n", e.getMessage());
+			e.printStackTrace();
+			return null;
+		}
+		if (Thread.currentThread().isInterrupted()) return null;
 		setTask(pd, "Parse Data from XMLTemplateStructure");
 		System.out.printf("Parse Data from XMLTemplateStructure ...%n");
 		Data data = new Data(structure);
 		System.out.printf("... done%n");
 		if (Thread.currentThread().isInterrupted()) return null;
+		if (!isFromSnapshot) {
+			// the snapshot needs all classes, so it's written in background (classes, that aren't loaded yet, are loaded only for writing)
+			XMLTemplateStructure structure_ = structure;
+			new Thread(()->DataSnapshot.write(structure_), "DataSnapshot.Writer").start();
+		}
 		return data;
 	}
 
@@ -2062,6 +2144,7 @@ public class SnowRunner {
 		public enum ValueKey {
 			SteamLibraryFolder, Language, InitialPAK, SaveGameFolder,
 			SelectedSaveGame, ShowingSaveGameDataSorted, XML_HideKnownBugs,
+			PAK_UseMappedReader,
 			
 			//TruckTableModel_enableOwnedTrucksHighlighting,
 			//TruckTableModel_enableDLCTrucksHighlighting,
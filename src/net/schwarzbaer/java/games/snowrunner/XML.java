@@ -3,6 +3,7 @@ package net.schwarzbaer.java.games.snowrunner;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.PushbackInputStream;
 import java.io.Reader;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
@@ -10,10 +11,17 @@ import java.util.Iterator;
 import java.util.Vector;
 import java.util.function.Consumer;
 
+import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
+import org.w3c.dom.DOMException;
 import org.w3c.dom.Document;
+import org.w3c.dom.Element;
 import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -73,6 +81,88 @@ class XML {
 	static Document parseReader(Reader reader) {
 		return parseInputSource(new InputSource(reader));
 	}
+	
+	static Document parseUTF8Compact(InputStream input) {
+		return parseReaderCompact(new InputStreamReader(input, StandardCharsets.UTF_8));
+	}
+	
+	/** Skips the UTF8 marker bytes at the start of <code>input</code>, if there are any. */
+	static InputStream skipUTF8BOM(InputStream input) throws IOException {
+		PushbackInputStream pushbackInput = new PushbackInputStream(input, 3);
+		byte[] bytes = new byte[3];
+		int n = pushbackInput.readNBytes(bytes, 0, 3);
+		boolean isBOM = n==3 && (bytes[0]&0xFF)==0xEF && (bytes[1]&0xFF)==0xBB && (bytes[2]&0xFF)==0xBF;
+		if (!isBOM && n>0) pushbackInput.unread(bytes, 0, n);
+		return pushbackInput;
+	}
+	
+	private static final ThreadLocal<DocumentBuilder> documentBuilder = ThreadLocal.withInitial(()->{
+		try { return DocumentBuilderFactory.newInstance().newDocumentBuilder(); }
+		catch (ParserConfigurationException e) { throw new IllegalStateException(e); }
+	});
+	
+	private static final ThreadLocal<XMLInputFactory> inputFactory = ThreadLocal.withInitial(()->{
+		XMLInputFactory factory = XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+		factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		return factory;
+	});
+	
+	/**
+	 * Reads the XML with a StAX parser and builds a reduced DOM.
+	 * Comments, processing instructions and text nodes containing only whitespace are left out.
+	 * Parser and document builder are reused per thread.
+	 */
+	static Document parseReaderCompact(Reader reader) {
+		if (reader==null) return null;
+		XMLStreamReader xmlReader = null;
+		try {
+			xmlReader = inputFactory.get().createXMLStreamReader(reader);
+			Document doc = documentBuilder.get().newDocument();
+			Node currentNode = doc;
+			
+			while (xmlReader.hasNext()) {
+				switch (xmlReader.next()) {
+				case XMLStreamConstants.START_ELEMENT:
+					Element element = doc.createElement(getQName(xmlReader.getPrefix(), xmlReader.getLocalName()));
+					for (int i=0; i<xmlReader.getAttributeCount(); i++)
+						element.setAttribute(getQName(xmlReader.getAttributePrefix(i), xmlReader.getAttributeLocalName(i)), xmlReader.getAttributeValue(i));
+					currentNode.appendChild(element);
+					currentNode = element;
+					break;
+					
+				case XMLStreamConstants.END_ELEMENT:
+					currentNode = currentNode.getParentNode();
+					break;
+					
+				case XMLStreamConstants.CHARACTERS:
+				case XMLStreamConstants.CDATA:
+					if (currentNode!=doc && !xmlReader.isWhiteSpace()) {
+						String text = xmlReader.getText();
+						if (!text.isBlank())
+							currentNode.appendChild(doc.createTextNode(text));
+					}
+					break;
+				}
+			}
+			return doc;
+			
+		} catch (XMLStreamException | DOMException e) {
+			System.err.printf("Exception while parsing XML -> %s: %s%n", e.getClass().getName(), e.getMessage());
+			return null;
+			
+		} finally {
+			if (xmlReader!=null)
+				try { xmlReader.close(); } catch (XMLStreamException e) {}
+		}
+	}
+	
+	private static String getQName(String prefix, String localName) {
+		if (prefix==null || prefix.isEmpty()) return localName;
+		return prefix+":"+localName;
+	}
 
 	static Document parseInputSource(InputSource is) {
 		if (is==null) return null;
@@ -2,26 +2,46 @@ package net.schwarzbaer.java.games.snowrunner;
 
 import java.awt.Window;
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Vector;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
-import java.util.zip.ZipFile;
 
 import javax.swing.JButton;
+import javax.swing.SwingUtilities;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.NamedNodeMap;
@@ -29,6 +49,8 @@ import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 import net.schwarzbaer.java.games.snowrunner.MapTypes.StringVectorMap;
+import net.schwarzbaer.java.games.snowrunner.PAKReader.PAKFile;
+import net.schwarzbaer.java.games.snowrunner.PAKReader.PAKIndexCache;
 import net.schwarzbaer.java.games.snowrunner.PAKReader.ZipEntryTreeNode;
 import net.schwarzbaer.java.games.snowrunner.XMLTemplateStructure.GenericXmlNode.InheritRemoveException;
 import net.schwarzbaer.java.games.snowrunner.XMLTemplateStructure.GenericXmlNode.Source;
@@ -39,17 +61,41 @@ import net.schwarzbaer.java.lib.system.DateTimeFormatter;
 class XMLTemplateStructure {
 	
 	private static final boolean SHOW_UNEXPECTED_TEXT = false; 
+	private static final boolean SHOW_TEMPLATE_RESOLUTION_CACHE_STATS = false;
 	private static TestingGround testingGround;
 	
 	final HashMap<String, Templates> globalTemplates;
 	final HashMap<String, Class_> classes;
 	final Vector<String> ignoredFiles;
 	final HashMap<String, Data.Language> languages;
+	final PAKFingerprint pakFingerprint; // null, if restored from DataSnapshot
+	private final ItemSource itemSource;
+	
+	/** Path, size and modification time of a PAK file, taken before it's read. */
+	/** <code>hideKnownBugs</code> is part of the fingerprint, because it decides, which files are listed in {@link #ignoredFiles}. */
+	record PAKFingerprint(String path, long size, long lastModified, boolean hideKnownBugs) {
+		static PAKFingerprint of(File pakFile) {
+			return new PAKFingerprint(pakFile.getAbsolutePath(), pakFile.length(), pakFile.lastModified(), KnownBugs.getInstance().isHideKnownBugs());
+		}
+		/** @return <code>true</code>, if the PAK file wasn't changed since this fingerprint was taken */
+		boolean matches(File pakFile) {
+			return pakFile.length()==size && pakFile.lastModified()==lastModified;
+		}
+	}
 
 	static XMLTemplateStructure readPAK(File pakFile, Window mainWindow) {
-		return PAKReader.readPAK(pakFile, (zipFile, zipRoot) -> {
+		return readPAK(pakFile, mainWindow, List.of());
+	}
+	
+	/**
+	 * Items of classes are loaded on first access.
+	 * Items of <code>prefetchedClasses</code> are loaded while the PAK file is read.
+	 */
+	static XMLTemplateStructure readPAK(File pakFile, Window mainWindow, Collection<String> prefetchedClasses) {
+		PAKFingerprint pakFingerprint = PAKFingerprint.of(pakFile);
+		return PAKReader.readPAK(pakFile, (zipFile, zipRoot, indexCache) -> {
 			try {
-				return new XMLTemplateStructure(zipFile, zipRoot, mainWindow);
+				return new XMLTemplateStructure(zipFile, zipRoot, indexCache, pakFingerprint, mainWindow, prefetchedClasses);
 			} catch (EntryStructureException e) {
 				e.printStackTrace();
 			} catch (ParseException e) {
@@ -60,7 +106,18 @@ class XMLTemplateStructure {
 		});
 	}
 	
-	XMLTemplateStructure(ZipFile zipFile, ZipEntryTreeNode zipRoot, Window mainWindow) throws IOException, EntryStructureException, ParseException {
+	XMLTemplateStructure(HashMap<String, Templates> globalTemplates, HashMap<String, Class_> classes, Vector<String> ignoredFiles, HashMap<String, Data.Language> languages) {
+		// restored from DataSnapshot
+		this.globalTemplates = globalTemplates;
+		this.classes = classes;
+		this.ignoredFiles = ignoredFiles;
+		this.languages = languages;
+		this.pakFingerprint = null;
+		this.itemSource = null;
+	}
+	
+	XMLTemplateStructure(PAKFile zipFile, ZipEntryTreeNode zipRoot, PAKIndexCache indexCache, PAKFingerprint pakFingerprint, Window mainWindow, Collection<String> prefetchedClasses) throws IOException, EntryStructureException, ParseException {
+		this.pakFingerprint = pakFingerprint;
 		
 		languages = new HashMap<>();
 		Data.readLanguages(zipFile, zipRoot, languages);
@@ -70,49 +127,293 @@ class XMLTemplateStructure {
 			throw new EntryStructureException("Found no content root folder \"[media]\" in \"%s\"", zipFile.getName());
 		
 		testingGround = new TestingGround(zipFile, contentRootFolder, mainWindow);
-		testingGround.testContentRootFolder();
 		
-		ClassStructur classStructur = new ClassStructur(contentRootFolder);
+		ClassStructur classStructur = ClassStructur.fromCache(zipRoot, indexCache);
+		if (classStructur==null) {
+			testingGround.testContentRootFolder();
+			classStructur = new ClassStructur(contentRootFolder);
+			if (indexCache!=null) classStructur.writeToCache(indexCache);
+		}
 		
 		ignoredFiles = new Vector<>();
-		globalTemplates = readGlobalTemplates(zipFile, classStructur.templates);
-		if (globalTemplates==null) throw new IllegalStateException();
-		
 		classes = new HashMap<>();
-		for (ClassStructur.StructClass structClass : classStructur.classes.values())
-			classes.put(structClass.className, new Class_(zipFile, structClass, globalTemplates, ignoredFiles));
-		
-		if (!ignoredFiles.isEmpty()) {
-			System.err.printf("IgnoredFiles: [%d]%n", ignoredFiles.size());
-			for (int i=0; i<ignoredFiles.size(); i++)
-				System.err.printf("   [%d] %s%n", i+1, ignoredFiles.get(i));
+		ItemSource.Session session = new ItemSource.Session(ignoredFiles);
+		try (XmlReadPipeline xmlFiles = new XmlReadPipeline(zipFile)) {
+			
+			xmlFiles.prefetch(classStructur.templates.values());
+			globalTemplates = readGlobalTemplates(xmlFiles, classStructur.templates);
+			if (globalTemplates==null) throw new IllegalStateException();
+			
+			itemSource = new ItemSource(pakFingerprint, globalTemplates, ignoredFiles);
+			for (ClassStructur.StructClass structClass : classStructur.classes.values())
+				classes.put(structClass.className, new Class_(structClass, itemSource));
+			
+			itemSource.loadClasses(xmlFiles, session, getItems(prefetchedClasses));
+		} finally {
+			session.end();
 		}
 		
 		//testingGround.writeToFile("TestingGround.results.txt");
 	}
 
-	private HashMap<String,Templates> readGlobalTemplates(ZipFile zipFile, HashMap<String,ZipEntryTreeNode> templates) throws EntryStructureException, IOException, ParseException {
-		if (zipFile==null) throw new IllegalArgumentException();
+	/**
+	 * Loads all items of the given classes, that aren't loaded yet.
+	 * Unknown class names are ignored.
+	 * Must not be called in the event dispatch thread.
+	 * @throws LoadException if the items couldn't be loaded (these classes stay incomplete)
+	 */
+	void prefetch(Collection<String> classNames) throws LoadException {
+		Vector<Class_.Items> items = getItems(classNames);
+		items.removeIf(Class_.Items::isComplete);
+		Vector<Class_.Items> itemsFromPAK = new Vector<>();
+		for (Class_.Items classItems : items)
+			if (classItems.storedItems!=null)
+				classItems.restoreStoredItems();
+			else
+				itemsFromPAK.add(classItems);
+		if (!itemsFromPAK.isEmpty())
+			itemSource.loadClasses(itemsFromPAK);
+	}
+	
+	interface ClassItemsConsumer {
+		void accept(String className, HashMap<String,Class_.Item> items) throws IOException;
+	}
+	
+	/**
+	 * Passes the items of all classes to <code>consumer</code>, one class after another (e.g. to write a {@link DataSnapshot}).
+	 * Classes, that aren't loaded completely, are loaded in one session without being stored in this structure.
+	 * So they are only in memory, while <code>consumer</code> uses them, and the lazy loading of this structure isn't affected.
+	 * @param allIgnoredFiles gets the ignored files of all classes
+	 * @throws LoadException if a class couldn't be loaded or <code>consumer</code> has thrown an {@link IOException}
+	 */
+	void forEachClass(ClassItemsConsumer consumer, Vector<String> allIgnoredFiles) throws LoadException {
+		if (itemSource==null) throw new IllegalStateException();
+		allIgnoredFiles.addAll(ignoredFiles);
+		
+		Vector<Class_> incompleteClasses = new Vector<>();
+		for (Class_ class_ : classes.values()) {
+			if (!class_.items.isComplete())
+				incompleteClasses.add(class_);
+			else
+				try { consumer.accept(class_.name, class_.items.getAll()); }
+				catch (IOException e) { throw new LoadException(e, "Can't pass items of class \"%s\": %s", class_.name, e.getMessage()); }
+		}
+		if (!incompleteClasses.isEmpty())
+			itemSource.loadDetached(incompleteClasses, allIgnoredFiles, consumer);
+	}
+	
+	private Vector<Class_.Items> getItems(Collection<String> classNames) {
+		Vector<Class_.Items> items = new Vector<>();
+		for (String className : classNames) {
+			Class_ class_ = classes.get(className);
+			if (class_!=null) items.add(class_.items);
+		}
+		return items;
+	}
+	
+	/**
+	 * Loads items from the PAK file on demand.
+	 * The PAK file is opened again for each loading session. Sessions of a structure run one after another.
+	 * Loading in the event dispatch thread isn't allowed, classes used by the GUI have to be loaded before.
+	 */
+	private static class ItemSource {
+		
+		private final Object sessionLock = new Object();
+		
+		private final File pakFile;
+		private final PAKFingerprint pakFingerprint;
+		private final HashMap<String, Templates> globalTemplates;
+		private final Vector<String> ignoredFiles;
+		
+		ItemSource(PAKFingerprint pakFingerprint, HashMap<String, Templates> globalTemplates, Vector<String> ignoredFiles) {
+			this.pakFingerprint = pakFingerprint;
+			this.globalTemplates = globalTemplates;
+			this.ignoredFiles = ignoredFiles;
+			pakFile = new File(pakFingerprint.path());
+		}
+		
+		/** State of one loading session. */
+		private static class Session {
+			
+			final TemplateResolutionCache templateResolutionCache;
+			private final Vector<String> ignoredFiles;
+			private final int ignoredFilesBefore;
+			
+			Session(Vector<String> ignoredFiles) {
+				this.ignoredFiles = ignoredFiles;
+				ignoredFilesBefore = ignoredFiles.size();
+				templateResolutionCache = new TemplateResolutionCache();
+			}
+			
+			void end() {
+				if (SHOW_TEMPLATE_RESOLUTION_CACHE_STATS)
+					System.out.printf("TemplateResolutionCache: %s%n", templateResolutionCache);
+				
+				if (ignoredFiles.size()>ignoredFilesBefore) {
+					System.err.printf("IgnoredFiles: [%d]%n", ignoredFiles.size()-ignoredFilesBefore);
+					for (int i=ignoredFilesBefore; i<ignoredFiles.size(); i++)
+						System.err.printf("   [%d] %s%n", i+1, ignoredFiles.get(i));
+				}
+			}
+		}
+		
+		void loadItem(Class_.Items items, String itemName) throws LoadException {
+			runSession(String.format("item \"%s\" of class \"%s\"", itemName, items.structClass.className), (xmlFiles,session)->{
+				items.load(xmlFiles, session, globalTemplates, ignoredFiles, itemName);
+			});
+		}
+		
+		void loadClasses(Collection<Class_.Items> itemsList) throws LoadException {
+			Vector<String> classNames = new Vector<>();
+			for (Class_.Items items : itemsList)
+				classNames.add(items.structClass.className);
+			runSession(String.format("items of classes %s", classNames), (xmlFiles,session)->{
+				loadClasses(xmlFiles, session, itemsList);
+			});
+		}
+		
+		void loadClasses(XmlReadPipeline xmlFiles, Session session, Collection<Class_.Items> itemsList) throws IOException, EntryStructureException, ParseException {
+			Vector<Class_.Items> list = new Vector<>(itemsList);
+			list.removeIf(Class_.Items::isComplete);
+			
+			// items of next class are inflated and parsed while current class is built
+			if (!list.isEmpty())
+				xmlFiles.prefetchItems(list.get(0).structClass);
+			for (int i=0; i<list.size(); i++) {
+				if (i+1<list.size())
+					xmlFiles.prefetchItems(list.get(i+1).structClass);
+				list.get(i).load(xmlFiles, session, globalTemplates, ignoredFiles, null);
+			}
+		}
+		
+		/**
+		 * Loads the given classes one after another into new {@link Class_.Items}, that aren't stored in the classes.
+		 */
+		void loadDetached(Vector<Class_> classes, Vector<String> ignoredFiles, ClassItemsConsumer consumer) throws LoadException {
+			Vector<String> classNames = new Vector<>();
+			for (Class_ class_ : classes)
+				classNames.add(class_.name);
+			runSession(String.format("detached items of classes %s", classNames), (xmlFiles,session)->{
+				xmlFiles.prefetchItems(classes.get(0).items.structClass);
+				for (int i=0; i<classes.size(); i++) {
+					if (i+1<classes.size())
+						xmlFiles.prefetchItems(classes.get(i+1).items.structClass);
+					Class_.Items items = new Class_.Items(classes.get(i).items.structClass, this);
+					items.load(xmlFiles, session, globalTemplates, ignoredFiles, null);
+					consumer.accept(classes.get(i).name, items.loadedItems);
+				}
+			});
+		}
+		
+		private interface SessionTask {
+			void run(XmlReadPipeline xmlFiles, Session session) throws IOException, EntryStructureException, ParseException;
+		}
+		
+		private void runSession(String label, SessionTask task) throws LoadException {
+			if (SwingUtilities.isEventDispatchThread())
+				throw new IllegalStateException(String.format("Can't load %s in the event dispatch thread", label));
+			
+			synchronized (sessionLock) {
+				Session session = new Session(ignoredFiles);
+				try {
+					if (!pakFingerprint.matches(pakFile))
+						throw new IOException(String.format("PAK file \"%s\" was changed since it was read", pakFile.getAbsolutePath()));
+					
+					try (
+						PAKFile zipFile = PAKReader.openPAK(pakFile);
+						XmlReadPipeline xmlFiles = new XmlReadPipeline(zipFile);
+					) {
+						task.run(xmlFiles, session);
+					}
+					
+				} catch (IOException | EntryStructureException | ParseException e) {
+					throw new LoadException(e, "Can't load %s: %s", label, e.getMessage());
+					
+				} finally {
+					session.end();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Reads the global templates in 3 steps:
+	 * <ol>
+	 * <li>All template files are read in parallel and their <code>Include</code> attributes are scanned.</li>
+	 * <li>The includes are checked (missing templates, "include loops") and the files are sorted into waves by their depth in the include graph.</li>
+	 * <li>The waves are built one after another, the files of a wave in parallel. Each template set is published to a concurrent map,
+	 * so that the template sets of the following waves find their includes there.</li>
+	 * </ol>
+	 */
+	private HashMap<String,Templates> readGlobalTemplates(XmlReadPipeline xmlFiles, HashMap<String,ZipEntryTreeNode> templates) throws EntryStructureException, IOException, ParseException {
+		if (xmlFiles==null) throw new IllegalArgumentException();
 		if (templates==null) throw new IllegalArgumentException();
 		
-		HashMap<String,Templates> globalTemplates = new HashMap<>();
-		for (String templateName : templates.keySet()) {
-			ZipEntryTreeNode fileNode = templates.get(templateName);
-			readGlobalTemplates_(zipFile, globalTemplates, templateName, fileNode);
+		// step 1: read & scan includes
+		Vector<String> templateNames = new Vector<>(templates.keySet());
+		Vector<TemplatesFile> templatesFiles = xmlFiles.runParallel(templateNames, templateName->readTemplatesFile(xmlFiles, templateName, templates.get(templateName)));
+		
+		HashMap<String,TemplatesFile> scannedFiles = new HashMap<>();
+		for (TemplatesFile templatesFile : templatesFiles)
+			if (templatesFile!=null)
+				scannedFiles.put(templatesFile.templateName(), templatesFile);
+		
+		// step 2: check includes & sort into waves
+		Vector<Vector<TemplatesFile>> waves = new Vector<>();
+		HashMap<String, Integer> depths = new HashMap<>();
+		for (TemplatesFile templatesFile : scannedFiles.values()) {
+			int depth = getIncludeDepth(templatesFile, scannedFiles, depths, new HashSet<>());
+			while (waves.size()<=depth) waves.add(new Vector<>());
+			waves.get(depth).add(templatesFile);
+		}
+		
+		// step 3: build
+		ConcurrentHashMap<String,Templates> globalTemplates = new ConcurrentHashMap<>();
+		for (Vector<TemplatesFile> wave : waves)
+			xmlFiles.runParallel(wave, templatesFile->{
+				Templates templatesSet = new Templates(templatesFile.templatesNode(), globalTemplates, templatesFile.fileNode(), null);
+				globalTemplates.put(templatesFile.templateName(), templatesSet);
+				return templatesSet;
+			});
+		
+		return new HashMap<>(globalTemplates);
+	}
+	
+	private record TemplatesFile(String templateName, ZipEntryTreeNode fileNode, Node templatesNode, String includeFile) {}
+
+	private static int getIncludeDepth(TemplatesFile templatesFile, HashMap<String,TemplatesFile> scannedFiles, HashMap<String, Integer> depths, HashSet<String> blockedFiles) throws EntryStructureException {
+		String templateName = templatesFile.templateName();
+		Integer depth = depths.get(templateName);
+		if (depth!=null) return depth;
+		
+		String includeFile = templatesFile.includeFile();
+		if (includeFile==null)
+			depth = 0;
+		
+		else {
+			TemplatesFile includedFile = scannedFiles.get(includeFile);
+			if (includedFile==null)
+				throw new EntryStructureException("Can't find templates to include (\"%s\") in <_templates> node in file \"%s\"", includeFile, templatesFile.fileNode().getPath());
+			
+			blockedFiles.add(templateName);
+			if (blockedFiles.contains(includeFile))
+				throw new EntryStructureException("Found \"include loop\" for templates \"%s\" in <_templates> node in file \"%s\"", includeFile, templatesFile.fileNode().getPath());
+			
+			depth = getIncludeDepth(includedFile, scannedFiles, depths, blockedFiles)+1;
 		}
 		
-		return globalTemplates;
+		depths.put(templateName, depth);
+		return depth;
 	}
 
-	private void readGlobalTemplates_(ZipFile zipFile, HashMap<String, Templates> globalTemplates, String templateName, ZipEntryTreeNode fileNode)
-			throws EntryStructureException, IOException, ParseException {
-		//System.out.printf("Read template \"%s\" ...%n", fileNode.path);
+	private TemplatesFile readTemplatesFile(XmlReadPipeline xmlFiles, String templateName, ZipEntryTreeNode fileNode) throws EntryStructureException, IOException, ParseException {
+		//System.out.printf("Read template \"%s\" ...%n", fileNode.getPath());
 		
-		NodeList nodes = readXML(zipFile, fileNode);
+		NodeList nodes = xmlFiles.readXML(fileNode);
 		if (nodes==null) {
-			System.err.printf("Can't read xml file \"%s\" --> Templates file will be ignored%n", fileNode.path);
-			ignoredFiles.add(fileNode.path);
-			return;
+			System.err.printf("Can't read xml file \"%s\" --> Templates file will be ignored%n", fileNode.getPath());
+			ignoredFiles.add(fileNode.getPath());
+			return null;
 		}
 		
 		Node templatesNode = null; 
@@ -121,24 +422,23 @@ class XMLTemplateStructure {
 			if (node.getNodeType()==Node.COMMENT_NODE) {
 				// is Ok, do nothing
 					
-			} else if (isEmptyTextNode(node, ()->String.format("template file \"%s\"", fileNode.path))) {
+			} else if (isEmptyTextNode(node, ()->String.format("template file \"%s\"", fileNode.getPath()))) {
 				// is Ok, do nothing
 				
 			} else if (node.getNodeType()==Node.ELEMENT_NODE) {
 				if (!node.getNodeName().equals("_templates"))
-					throw new ParseException("Found unexpected element node in template file \"%s\": %s", fileNode.path, XML.toDebugString(node));
+					throw new ParseException("Found unexpected element node in template file \"%s\": %s", fileNode.getPath(), XML.toDebugString(node));
 				if (templatesNode!=null)
-					throw new ParseException("Found more than one <_templates> node in template file \"%s\"", fileNode.path);
+					throw new ParseException("Found more than one <_templates> node in template file \"%s\"", fileNode.getPath());
 				templatesNode = node;
 				
 			} else
-				throw new ParseException("Found unexpected node in template file \"%s\": %s", fileNode.path, XML.toDebugString(node));
+				throw new ParseException("Found unexpected node in template file \"%s\": %s", fileNode.getPath(), XML.toDebugString(node));
 		}
 		if (templatesNode==null)
-			throw new ParseException("Found no <_templates> node in template file \"%s\"", fileNode.path);
+			throw new ParseException("Found no <_templates> node in template file \"%s\"", fileNode.getPath());
 		
-		globalTemplates.put(templateName, new Templates(templatesNode, null, fileNode, null));
-		//System.out.printf("... done [read template]%n");
+		return new TemplatesFile(templateName, fileNode, templatesNode, Templates.getIncludeFile(templatesNode, fileNode));
 	}
 
 	private static boolean isEmptyTextNode(Node node, Supplier<String> getNodeLabel) throws ParseException {
@@ -166,14 +466,14 @@ class XMLTemplateStructure {
 			showNode(node);
 	}
 	
-	private static void showBytes(ZipFile zipFile, ZipEntryTreeNode fileNode, int length) {
+	private static void showBytes(PAKFile zipFile, ZipEntryTreeNode fileNode, int length) {
 		
-		try (BufferedInputStream in = new BufferedInputStream(zipFile.getInputStream(fileNode.entry));) {
+		try (BufferedInputStream in = new BufferedInputStream(zipFile.getInputStream(fileNode));) {
 			byte[] bytes = new byte[length];
 			int n, pos=0;
 			while ( pos<bytes.length && (n=in.read(bytes,pos,bytes.length-pos))>=0 ) pos += n;
 			if (pos<bytes.length) bytes = Arrays.copyOfRange(bytes, 0, pos);
-			System.err.printf("First %d bytes of file \"%s\":%n  %s%n", bytes.length, fileNode.path, toHexString(bytes));
+			System.err.printf("First %d bytes of file \"%s\":%n  %s%n", bytes.length, fileNode.getPath(), toHexString(bytes));
 		} catch (IOException e1) {
 			e1.printStackTrace();
 		}
@@ -189,38 +489,172 @@ class XMLTemplateStructure {
 		return str.isEmpty() ? "[]" : String.format("[ %s ]", str);
 	}
 
-	private static NodeList readXML(ZipFile zipFile, ZipEntryTreeNode fileNode) throws EntryStructureException, IOException {
+	private static NodeList readXML(PAKFile zipFile, ZipEntryTreeNode fileNode) throws EntryStructureException, IOException {
 		if (zipFile ==null) throw new IllegalArgumentException();
+		checkXmlFile(fileNode);
+		return readXML(zipFile.getInputStream(fileNode), fileNode);
+	}
+
+	private static void checkXmlFile(ZipEntryTreeNode fileNode) throws EntryStructureException {
 		if (fileNode==null) throw new IllegalArgumentException();
 		if (!fileNode.isfile())
-			throw new EntryStructureException("Given ZipEntryTreeNode isn't a file: %s", fileNode.path);
+			throw new EntryStructureException("Given ZipEntryTreeNode isn't a file: %s", fileNode.getPath());
 		if (!fileNode.name.endsWith(".xml"))
-			throw new EntryStructureException("Found a Non XML File: %s", fileNode.path);
-		
+			throw new EntryStructureException("Found a Non XML File: %s", fileNode.getPath());
+	}
+
+	private static NodeList readXML(InputStream input, ZipEntryTreeNode fileNode) {
 		try {
-			return readXML(zipFile.getInputStream(fileNode.entry), fileNode.path);
+			return readXML(input, fileNode.getPath());
 		} catch (ParseException e) {
-			System.err.printf("ParseException while basic reading of \"%s\":%n   %s%n", fileNode.path, e.getMessage());
+			System.err.printf("ParseException while basic reading of \"%s\":%n   %s%n", fileNode.getPath(), e.getMessage());
 			return null;
 		}
 	}
 	
 	private static NodeList readXML(InputStream input, String filePath) throws ParseException {
 		Document doc;
-		try
+		try (InputStream fixedInput = KnownBugs.getInstance().getFixedXML(input, filePath))
 		{
-			doc = XML.parseUTF8(input,content->{
-				KnownBugs knownBugs = KnownBugs.getInstance();
-				content = knownBugs.fixRawXML(content, filePath);
-				content = knownBugs.addBracketNode(content);
-				return content;
-			});
+			doc = XML.parseUTF8Compact(fixedInput);
 		}
 		catch (XML.FixXMLException e) { throw new ParseException(e); }
+		catch (IOException e) {
+			e.printStackTrace();
+			return null;
+		}
 		if (doc==null) return null;
 		return KnownBugs.getInstance().removeBracketNode(doc, filePath);
 	}
 	
+	/**
+	 * Reads XML files of the PAK in a staged pipeline:
+	 * Stage 1 inflates entries on a bounded pool, stage 2 parses the bytes to DOM on another bounded pool.
+	 * Stage 3 (building of GenericXmlNodes) is done by the caller, which takes the results via {@link #readXML(ZipEntryTreeNode)}
+	 * and can use the {@link #buildExecutor} for it.
+	 * Files, that weren't prefetched, are read synchronously.
+	 */
+	private static class XmlReadPipeline implements AutoCloseable {
+		
+		private final PAKFile zipFile;
+		private final ExecutorService inflateExecutor;
+		private final ExecutorService parseExecutor;
+		private final ExecutorService buildExecutor;
+		private final HashMap<ZipEntryTreeNode, CompletableFuture<NodeList>> prefetched;
+		
+		XmlReadPipeline(PAKFile zipFile) {
+			if (zipFile==null) throw new IllegalArgumentException();
+			this.zipFile = zipFile;
+			int nThreads = Math.max(1, Runtime.getRuntime().availableProcessors());
+			inflateExecutor = createExecutor("XmlReadPipeline.Inflate", Math.max(1, nThreads/4));
+			parseExecutor   = createExecutor("XmlReadPipeline.Parse"  , nThreads);
+			buildExecutor   = createExecutor("XmlReadPipeline.Build"  , nThreads);
+			prefetched = new HashMap<>();
+		}
+		
+		private static ExecutorService createExecutor(String name, int nThreads) {
+			AtomicInteger threadIndex = new AtomicInteger(0);
+			return Executors.newFixedThreadPool(nThreads, runnable->{
+				Thread thread = new Thread(runnable, String.format("%s-%d", name, threadIndex.incrementAndGet()));
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		
+		@Override public void close() {
+			inflateExecutor.shutdownNow();
+			parseExecutor  .shutdownNow();
+			buildExecutor  .shutdownNow();
+			synchronized (prefetched) { prefetched.clear(); }
+		}
+
+		void prefetchItems(ClassStructur.StructClass structClass) {
+			for (ClassStructur.StructItem structItem : structClass.items.values())
+				prefetch(structItem.itemFile);
+		}
+
+		void prefetch(Iterable<ZipEntryTreeNode> fileNodes) {
+			for (ZipEntryTreeNode fileNode : fileNodes)
+				prefetch(fileNode);
+		}
+
+		private void prefetch(ZipEntryTreeNode fileNode) {
+			if (fileNode==null || !fileNode.isfile() || !fileNode.name.endsWith(".xml")) return; // will be reported by readXML
+			synchronized (prefetched) {
+				if (prefetched.containsKey(fileNode)) return;
+				prefetched.put(fileNode, startReading(fileNode));
+			}
+		}
+
+		private CompletableFuture<NodeList> startReading(ZipEntryTreeNode fileNode) {
+			return CompletableFuture
+				.supplyAsync(()->{
+					try { return zipFile.getEntryData(fileNode); }
+					catch (IOException e) { throw new UncheckedIOException(e); }
+				}, inflateExecutor)
+				.thenApplyAsync(data->XMLTemplateStructure.readXML(new PAKReader.ByteBufferInputStream(data), fileNode), parseExecutor);
+		}
+
+		NodeList readXML(ZipEntryTreeNode fileNode) throws EntryStructureException, IOException {
+			checkXmlFile(fileNode);
+			
+			CompletableFuture<NodeList> future;
+			synchronized (prefetched) { future = prefetched.remove(fileNode); }
+			if (future==null)
+				return XMLTemplateStructure.readXML(zipFile, fileNode);
+			
+			try {
+				return future.get();
+				
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException(String.format("Interrupted while reading \"%s\"", fileNode.getPath()));
+				
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof UncheckedIOException ex) throw ex.getCause();
+				if (cause instanceof RuntimeException    ex) throw ex;
+				if (cause instanceof Error               ex) throw ex;
+				throw new IllegalStateException(cause);
+			}
+		}
+		
+		/** A task for the {@link #buildExecutor}, see {@link #runParallel(Vector, Task)}. */
+		interface Task<SourceType,ResultType> {
+			ResultType run(SourceType source) throws IOException, EntryStructureException, ParseException;
+		}
+		
+		<SourceType,ResultType> Vector<ResultType> runParallel(Vector<SourceType> sources, Task<SourceType,ResultType> task) throws IOException, EntryStructureException, ParseException {
+			Vector<Future<ResultType>> futures = new Vector<>();
+			for (SourceType source : sources)
+				futures.add(buildExecutor.submit(()->task.run(source)));
+			
+			Vector<ResultType> results = new Vector<>();
+			try {
+				for (Future<ResultType> future : futures)
+					results.add(future.get());
+				
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while building XML structures");
+				
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof IOException             ex) throw ex;
+				if (cause instanceof EntryStructureException ex) throw ex;
+				if (cause instanceof ParseException          ex) throw ex;
+				if (cause instanceof RuntimeException        ex) throw ex;
+				if (cause instanceof Error                   ex) throw ex;
+				throw new IllegalStateException(cause);
+				
+			} finally {
+				for (Future<ResultType> future : futures)
+					future.cancel(true);
+			}
+			return results;
+		}
+	}
+	
 	private static class ClassStructur {
 	
 		final HashMap<String, ZipEntryTreeNode> templates;
@@ -233,25 +667,67 @@ class XMLTemplateStructure {
 			scanDLCs   (classes,     contentRootFolder.getSubFolder("_dlc"      ));
 		}
 		
+		private ClassStructur() {
+			templates = new HashMap<>();
+			classes = new HashMap<>();
+		}
+		
+		static ClassStructur fromCache(ZipEntryTreeNode zipRoot, PAKIndexCache indexCache) {
+			if (indexCache==null) return null;
+			PAKIndexCache.TemplatesEntry[] cachedTemplates = indexCache.getTemplates();
+			PAKIndexCache.ItemEntry[] cachedItems = indexCache.getItems();
+			if (cachedTemplates==null || cachedItems==null) return null;
+			
+			ClassStructur classStructur = new ClassStructur();
+			for (PAKIndexCache.TemplatesEntry entry : cachedTemplates) {
+				ZipEntryTreeNode fileNode = zipRoot.getFileNode(entry.entryIndex());
+				if (fileNode==null) return null;
+				classStructur.templates.put(entry.templatesName(), fileNode);
+			}
+			for (PAKIndexCache.ItemEntry entry : cachedItems) {
+				ZipEntryTreeNode fileNode = zipRoot.getFileNode(entry.entryIndex());
+				if (fileNode==null) return null;
+				StructClass class_ = classStructur.classes.get(entry.className());
+				if (class_==null) classStructur.classes.put(entry.className(), class_ = new StructClass(entry.className()));
+				class_.items.put(entry.itemName(), new StructItem(entry.updateLevel(), entry.className(), entry.subClassName(), entry.itemName(), fileNode));
+			}
+			return classStructur;
+		}
+		
+		void writeToCache(PAKIndexCache indexCache) {
+			PAKIndexCache.TemplatesEntry[] cachedTemplates = templates
+					.entrySet()
+					.stream()
+					.map(e->new PAKIndexCache.TemplatesEntry(e.getKey(), e.getValue().entryIndex))
+					.toArray(PAKIndexCache.TemplatesEntry[]::new);
+			PAKIndexCache.ItemEntry[] cachedItems = classes
+					.values()
+					.stream()
+					.flatMap(class_->class_.items.values().stream())
+					.map(item->new PAKIndexCache.ItemEntry(item.updateLevel, item.className, item.subClassName, item.itemName, item.itemFile.entryIndex))
+					.toArray(PAKIndexCache.ItemEntry[]::new);
+			indexCache.setClassStructure(cachedTemplates, cachedItems);
+		}
+		
 		private static void scanDLCs(HashMap<String, StructClass> classes, ZipEntryTreeNode dlcsFolder) throws EntryStructureException {
 			if ( dlcsFolder==null) throw new EntryStructureException("No DLCs folder");
-			if (!dlcsFolder.files  .isEmpty()) throw new EntryStructureException("Found unexpected files in DLCs folder \"%s\"", dlcsFolder.path);
-			if ( dlcsFolder.folders.isEmpty()) throw new EntryStructureException("Found no DLC folders in DLCs folder \"%s\"", dlcsFolder.path);
+			if ( dlcsFolder.hasFiles  ()) throw new EntryStructureException("Found unexpected files in DLCs folder \"%s\"", dlcsFolder.getPath());
+			if (!dlcsFolder.hasFolders()) throw new EntryStructureException("Found no DLC folders in DLCs folder \"%s\"", dlcsFolder.getPath());
 			
-			for (ZipEntryTreeNode dlcNode:dlcsFolder.folders.values()) {
+			for (ZipEntryTreeNode dlcNode:dlcsFolder.getFolders()) {
 				String dlcName = dlcNode.name;
-				if (!dlcNode.files.isEmpty()) throw new EntryStructureException("Found unexpected files in DLC folder \"%s\"", dlcNode.path);
+				if ( dlcNode.hasFiles()) throw new EntryStructureException("Found unexpected files in DLC folder \"%s\"", dlcNode.getPath());
 				
 				ZipEntryTreeNode classesFolder = null;
-				for (ZipEntryTreeNode subFolder:dlcNode.folders.values()) {
+				for (ZipEntryTreeNode subFolder:dlcNode.getFolders()) {
 					if (!subFolder.name.equals("classes"))
-						throw new EntryStructureException("Found unexpected folder (\"%s\") in DLC folder \"%s\"", subFolder.name, dlcNode.path);
+						throw new EntryStructureException("Found unexpected folder (\"%s\") in DLC folder \"%s\"", subFolder.name, dlcNode.getPath());
 					if (classesFolder != null)
-						throw new EntryStructureException("Found dublicate \"classes\" folder in DLC folder \"%s\"", dlcNode.path);
+						throw new EntryStructureException("Found dublicate \"classes\" folder in DLC folder \"%s\"", dlcNode.getPath());
 					classesFolder = subFolder;
 				}
 				if (classesFolder == null)
-					throw new EntryStructureException("Found no \"classes\" folder in DLC folder \"%s\"", dlcNode.path);
+					throw new EntryStructureException("Found no \"classes\" folder in DLC folder \"%s\"", dlcNode.getPath());
 				
 				scanClasses(classes,dlcName, classesFolder);
 			}
@@ -259,10 +735,10 @@ class XMLTemplateStructure {
 	
 		private static void scanClasses(HashMap<String, StructClass> classes, String dlc, ZipEntryTreeNode classesFolder) throws EntryStructureException {
 			if ( classesFolder==null) throw new EntryStructureException("No classes folder");
-			if (!classesFolder.files  .isEmpty()) throw new EntryStructureException("Found unexpected files in classes folder \"%s\"", classesFolder.path);
-			if ( classesFolder.folders.isEmpty()) throw new EntryStructureException("Found no sub folders in classes folder \"%s\"", classesFolder.path);
+			if ( classesFolder.hasFiles  ()) throw new EntryStructureException("Found unexpected files in classes folder \"%s\"", classesFolder.getPath());
+			if (!classesFolder.hasFolders()) throw new EntryStructureException("Found no sub folders in classes folder \"%s\"", classesFolder.getPath());
 			
-			for (ZipEntryTreeNode classFolder : classesFolder.folders.values()) {
+			for (ZipEntryTreeNode classFolder : classesFolder.getFolders()) {
 				String className = classFolder.name;
 				StructClass class_ = classes.get(className);
 				if (class_==null) classes.put(className, class_ = new StructClass(className));
@@ -271,9 +747,9 @@ class XMLTemplateStructure {
 		}
 		
 		private static void scanClass(StructClass class_, String dlc, ZipEntryTreeNode classFolder) throws EntryStructureException {
-			for (ZipEntryTreeNode subClassFolder : classFolder.folders.values()) {
-				if (!subClassFolder.folders.isEmpty()) throw new EntryStructureException("Found unexpected folders in sub class folder \"%s\"", subClassFolder.path);
-				if ( subClassFolder.files  .isEmpty()) throw new EntryStructureException("Found no item files in sub class folder \"%s\"", subClassFolder.path);
+			for (ZipEntryTreeNode subClassFolder : classFolder.getFolders()) {
+				if ( subClassFolder.hasFolders()) throw new EntryStructureException("Found unexpected folders in sub class folder \"%s\"", subClassFolder.getPath());
+				if (!subClassFolder.hasFiles  ()) throw new EntryStructureException("Found no item files in sub class folder \"%s\"", subClassFolder.getPath());
 				
 				scanItems(class_, dlc, subClassFolder.name, subClassFolder);
 			}
@@ -282,25 +758,25 @@ class XMLTemplateStructure {
 		}
 
 		private static void scanItems(StructClass class_, String dlc, String subClassName, ZipEntryTreeNode folder) throws EntryStructureException {
-			for (ZipEntryTreeNode itemFile : folder.files.values()) {
+			for (ZipEntryTreeNode itemFile : folder.getFiles()) {
 				String itemName = getXmlItemName(itemFile);
 				StructItem otherItem = class_.items.get(itemName);
 				if (otherItem!=null)
-					throw new EntryStructureException("Found more than one item file with name \"%s\" in class folder \"%s\"", itemName, folder.path);
+					throw new EntryStructureException("Found more than one item file with name \"%s\" in class folder \"%s\"", itemName, folder.getPath());
 				class_.items.put(itemName, new StructItem(dlc, class_.className, subClassName, itemName, itemFile));
 			}
 		}
 
 		private static HashMap<String,ZipEntryTreeNode> scanTemplates(ZipEntryTreeNode templatesFolder) throws EntryStructureException {
 			if ( templatesFolder==null) throw new EntryStructureException("No templates folder");
-			if (!templatesFolder.folders.isEmpty()) throw new EntryStructureException("Found unexpected folders in templates folder \"%s\"", templatesFolder.path);
-			if ( templatesFolder.files  .isEmpty()) throw new EntryStructureException("Found no files in templates folder \"%s\"", templatesFolder.path);
+			if ( templatesFolder.hasFolders()) throw new EntryStructureException("Found unexpected folders in templates folder \"%s\"", templatesFolder.getPath());
+			if (!templatesFolder.hasFiles  ()) throw new EntryStructureException("Found no files in templates folder \"%s\"", templatesFolder.getPath());
 			
 			HashMap<String,ZipEntryTreeNode> templates = new HashMap<>();
-			for (ZipEntryTreeNode templatesNode:templatesFolder.files.values()) {
+			for (ZipEntryTreeNode templatesNode:templatesFolder.getFiles()) {
 				String itemName = getXmlItemName(templatesNode);
 				if (templates.containsKey(itemName))
-					throw new EntryStructureException("Found more than one templates file with name \"%s\" in templates folder \"%s\"", itemName, templatesFolder.path);
+					throw new EntryStructureException("Found more than one templates file with name \"%s\" in templates folder \"%s\"", itemName, templatesFolder.getPath());
 				templates.put(itemName, templatesNode);
 			}
 			return templates;
@@ -308,7 +784,7 @@ class XMLTemplateStructure {
 	
 		private static String getXmlItemName(ZipEntryTreeNode node) throws EntryStructureException {
 			if (!node.name.endsWith(".xml"))
-				throw new EntryStructureException("Found a Non XML File: %s", node.path);
+				throw new EntryStructureException("Found a Non XML File: %s", node.getPath());
 			return node.name.substring(0, Math.max(0, node.name.length()-".xml".length()));
 		}
 	
@@ -338,7 +814,7 @@ class XMLTemplateStructure {
 				this.subClassName = subClassName;
 				this.itemName = itemName;
 				this.itemFile = itemFile;
-				this.itemFilePath = itemFile.path;
+				this.itemFilePath = itemFile.getPath();
 			}
 			
 		}
@@ -347,13 +823,13 @@ class XMLTemplateStructure {
 
 	private static class TestingGround {
 		
-		private final ZipFile zipFile;
+		private final PAKFile zipFile;
 		private final ZipEntryTreeNode contentRootFolder;
 		private final HashMap<String,Vector<String>> parentRelations;
 		private final HashMap<String,HashMap<String,Integer>> specialAttributes;
 		private final Window mainWindow;
 
-		TestingGround(ZipFile zipFile, ZipEntryTreeNode contentRootFolder, Window mainWindow) {
+		TestingGround(PAKFile zipFile, ZipEntryTreeNode contentRootFolder, Window mainWindow) {
 			this.zipFile = zipFile;
 			this.contentRootFolder = contentRootFolder;
 			this.mainWindow = mainWindow;
@@ -420,17 +896,17 @@ class XMLTemplateStructure {
 			return path.substring(0, pos);
 		}
 
-		void addParentFileInfo(ZipEntryTreeNode itemFile, String parentFile) {
+		synchronized void addParentFileInfo(ZipEntryTreeNode itemFile, String parentFile) {
 			if (itemFile==null) throw new IllegalArgumentException();
 			if (parentFile==null) return;
 			
 			String filename = parentFile+".xml";
-			String itemPath = itemFile.path;
+			String itemPath = itemFile.getPath();
 			
 			Vector<String> possibleParents = new Vector<>();
 			contentRootFolder.traverseFiles(node->{
 				if (node.name.equalsIgnoreCase(filename))
-					possibleParents.add(node.path);
+					possibleParents.add(node.getPath());
 			});
 			if (possibleParents.isEmpty())
 				System.err.printf("Can't find parent \"%s\" for item \"%s\"%n", parentFile, itemPath);
@@ -450,27 +926,27 @@ class XMLTemplateStructure {
 			HashMap<String,ZipEntryTreeNode> fileNames = new HashMap<>();
 			contentRootFolder.traverseFiles(fileNode->{
 				
-				//if (fileNode.path.equals("\\[media]\\classes\\trucks\\step_310e.xml"))
+				//if (fileNode.getPath().equals("\\[media]\\classes\\trucks\\step_310e.xml"))
 				//	showBytes(zipFile, fileNode, 30);
 			
 				// all files are XML
 				if (!fileNode.name.endsWith(".xml"))
-					System.err.printf("Found a Non XML File: %s%n", fileNode.path);
+					System.err.printf("Found a Non XML File: %s%n", fileNode.getPath());
 				
 				// dublicate filenames
 				//ZipEntryTreeNode existingNode = fileNames.get(fileNode.name);
 				//if (existingNode!=null)
-				//	System.err.printf("Found dublicate filenames:%n   \"%s\"%n   \"%s\"%n", existingNode.path, fileNode.path);
+				//	System.err.printf("Found dublicate filenames:%n   \"%s\"%n   \"%s\"%n", existingNode.getPath(), fileNode.getPath());
 				//else
 				//	fileNames.put(fileNode.name,fileNode);
 			});
 			
 			contentRootFolder.forEachChild(node->{
 				if (node.isfile())
-					System.err.printf("Found a File in content root folder: %s%n", node.path);
+					System.err.printf("Found a File in content root folder: %s%n", node.getPath());
 				else {
 					if (!node.name.equals("_dlc") && !node.name.equals("_templates") && !node.name.equals("classes"))
-						System.err.printf("Found a unexpected subfolder in content root folder: %s%n", node.path);
+						System.err.printf("Found a unexpected subfolder in content root folder: %s%n", node.getPath());
 				}
 			});
 		}
@@ -488,7 +964,7 @@ class XMLTemplateStructure {
 			}
 		}
 
-		private String specialAttributesToString() {
+		private synchronized String specialAttributesToString() {
 			StringBuilder sb = new StringBuilder();
 			Vector<String> attrNames = new Vector<>(specialAttributes.keySet());
 			attrNames.sort(null);
@@ -503,7 +979,7 @@ class XMLTemplateStructure {
 			return sb.toString();
 		}
 
-		void addSpecialAttribute(String attrName, String attrValue) {
+		synchronized void addSpecialAttribute(String attrName, String attrValue) {
 			HashMap<String, Integer> values = specialAttributes.get(attrName);
 			if (values == null) specialAttributes.put(attrName, values = new HashMap<>());
 			Integer count = values.get(attrValue);
@@ -519,6 +995,19 @@ class XMLTemplateStructure {
 		EntryStructureException(String format, Object... objects) { super(String.format(format, objects)); }
 	}
 
+	/** Items of a class couldn't be loaded from the PAK file. */
+	static class LoadException extends Exception {
+		private static final long serialVersionUID = 2516040829532405862L;
+		LoadException(Throwable cause, String format, Object... objects) { super(String.format(format, objects), cause); }
+	}
+
+	/** A {@link LoadException} thrown by a method of {@link Class_.Items}, that loads its items on first access. */
+	static class UncheckedLoadException extends RuntimeException {
+		private static final long serialVersionUID = -3358390157316917352L;
+		UncheckedLoadException(LoadException cause) { super(cause.getMessage(), cause); }
+		@Override public synchronized LoadException getCause() { return (LoadException) super.getCause(); }
+	}
+
 	private static class ParseException extends Exception {
 		private static final long serialVersionUID = 7047000831781614584L;
 		ParseException(String msg) { super(msg); }
@@ -536,83 +1025,243 @@ class XMLTemplateStructure {
 	static class Class_ {
 		
 		final String name;
-		final HashMap<String,Item> items;
+		final Items items;
 	
-		public Class_(ZipFile zipFile, ClassStructur.StructClass structClass, HashMap<String, Templates> globalTemplates, Vector<String> ignoredFiles) throws IOException, EntryStructureException, ParseException {
-			if (zipFile==null) throw new IllegalArgumentException();
+		private Class_(ClassStructur.StructClass structClass, ItemSource itemSource) {
 			if ( structClass==null) throw new IllegalArgumentException();
-			if (globalTemplates==null) throw new IllegalArgumentException();
-			if (ignoredFiles==null) throw new IllegalArgumentException();
-			
+			if ( itemSource==null) throw new IllegalArgumentException();
 			name = structClass.className;
-			
-			items = new HashMap<>();
-			new ItemLoader(zipFile, structClass.items, globalTemplates, items, ignoredFiles).run();
+			items = new Items(structClass, itemSource);
 		}
 		
-		private interface LoadMethod {
-			Item readItem(ZipEntryTreeNode itemFile) throws IOException, EntryStructureException, ParseException;
+		Class_(String name, StoredItems storedItems) {
+			this.name = name;
+			this.items = new Items(name, storedItems);
 		}
 		
-		private static class ItemLoader implements Item.ParentFinder {
+		/** Items of a class, that are restored on first access (e.g. from a {@link DataSnapshot}). */
+		interface StoredItems {
+			int size();
+			HashMap<String,Item> read() throws IOException;
+		}
+		
+		/**
+		 * Items of a class. They are loaded from the PAK file or restored from {@link StoredItems} on first access:
+		 * {@link #get(String)} loads only the requested item and its parent chain (from PAK file), all other methods load the whole class.
+		 * Loading is done outside of the lock of this object, so several threads can use it.
+		 * If loading fails, an {@link UncheckedLoadException} is thrown and the next access tries it again.
+		 */
+		static class Items {
+			
+			private final HashMap<String,Item> loadedItems;
+			private final HashSet<String> ignoredItems;
+			private final ClassStructur.StructClass structClass;
+			private final ItemSource itemSource;
+			private final String className;
+			private final StoredItems storedItems;
+			private boolean isComplete;
+			
+			private Items(ClassStructur.StructClass structClass, ItemSource itemSource) {
+				this.structClass = structClass;
+				this.itemSource = itemSource;
+				className = structClass.className;
+				storedItems = null;
+				loadedItems = new HashMap<>();
+				ignoredItems = new HashSet<>();
+				isComplete = structClass.items.isEmpty();
+			}
+			
+			private Items(String className, StoredItems storedItems) {
+				structClass = null;
+				itemSource = null;
+				this.className = className;
+				this.storedItems = storedItems;
+				loadedItems = new HashMap<>();
+				ignoredItems = new HashSet<>();
+				isComplete = storedItems.size()==0;
+			}
 			
-			private final ZipFile zipFile;
+			synchronized boolean isComplete() { return isComplete; }
+			
+			Item get(String itemName) {
+				synchronized (this) {
+					Item item = loadedItems.get(itemName);
+					if (item!=null || isComplete || ignoredItems.contains(itemName))
+						return item;
+					if (storedItems==null && !structClass.items.containsKey(itemName))
+						return null;
+				}
+				if (storedItems!=null)
+					return getAll().get(itemName);
+				
+				try { itemSource.loadItem(this, itemName); }
+				catch (LoadException e) { throw new UncheckedLoadException(e); }
+				synchronized (this) {
+					return loadedItems.get(itemName);
+				}
+			}
+			
+			/**
+			 * Doesn't load the items.
+			 * If the items aren't loaded yet, an item file counts as item, even if it can't be read later.
+			 */
+			synchronized boolean isEmpty() {
+				if (isComplete) return loadedItems.isEmpty();
+				if (storedItems!=null) return storedItems.size()==0;
+				return structClass.items.isEmpty();
+			}
+			
+			int                          size   () { return getAll().size(); }
+			Collection<String>           keySet () { return Collections.unmodifiableCollection(getAll().keySet()); }
+			Collection<Item>             values () { return Collections.unmodifiableCollection(getAll().values()); }
+			void forEach(BiConsumer<String,Item> action) { getAll().forEach(action); }
+			
+			private HashMap<String,Item> getAll() {
+				if (!isComplete())
+					try {
+						if (storedItems!=null)
+							restoreStoredItems();
+						else
+							itemSource.loadClasses(List.of(this));
+					}
+					catch (LoadException e) { throw new UncheckedLoadException(e); }
+				// loadedItems isn't changed anymore after completion
+				return loadedItems;
+			}
+			
+			private void restoreStoredItems() throws LoadException {
+				synchronized (storedItems) { // restored only once, also if several threads want the items
+					if (isComplete()) return;
+					HashMap<String,Item> items;
+					try { items = storedItems.read(); }
+					catch (IOException | RuntimeException e) {
+						throw new LoadException(e, "Can't restore items of class \"%s\": %s", className, e);
+					}
+					synchronized (this) {
+						loadedItems.putAll(items);
+						isComplete = true;
+					}
+				}
+			}
+			
+			private synchronized Item getLoadedItem(String itemName) { return loadedItems.get(itemName); }
+			private synchronized void addLoadedItem(Item item) { loadedItems.put(item.name, item); }
+			private synchronized void addIgnoredItem(String itemName) { ignoredItems.add(itemName); }
+			private synchronized boolean isLoadedOrIgnored(String itemName) { return loadedItems.containsKey(itemName) || ignoredItems.contains(itemName); }
+			private synchronized void setComplete() { isComplete = true; }
+			
+			private void load(XmlReadPipeline xmlFiles, ItemSource.Session session, HashMap<String, Templates> globalTemplates, Vector<String> ignoredFiles, String itemName) throws IOException, EntryStructureException, ParseException {
+				if (isComplete()) return;
+				ItemLoader itemLoader = new ItemLoader(xmlFiles, structClass.items, globalTemplates, this, ignoredFiles, session.templateResolutionCache);
+				if (itemName==null) {
+					itemLoader.run(structClass.items.keySet());
+					setComplete();
+				} else
+					itemLoader.run(List.of(itemName));
+			}
+		}
+		
+		/**
+		 * Loads items of a class in 3 steps:
+		 * <ol>
+		 * <li>The requested items and their parents, that aren't loaded yet, are prepared in parallel (XML, local templates, parent file).</li>
+		 * <li>The parent relations are checked (missing parents, "parent loops") and the items are sorted into waves by their depth in the parent tree.</li>
+		 * <li>The waves are built one after another, the items of a wave in parallel. So each item finds its parent already built.</li>
+		 * </ol>
+		 */
+		private static class ItemLoader {
+			
+			private final XmlReadPipeline xmlFiles;
 			private final HashMap<String,ClassStructur.StructItem> structItems;
 			private final HashMap<String, Templates> globalTemplates;
-			private final HashMap<String, Item> loadedItems;
-			private final HashSet<String> blockedItems;
+			private final Items items;
 			private final Vector<String> ignoredFiles;
+			private final TemplateResolutionCache templateResolutionCache;
 
-			ItemLoader(ZipFile zipFile, HashMap<String,ClassStructur.StructItem> structItems, HashMap<String, Templates> globalTemplates, HashMap<String, Item> loadedItems, Vector<String> ignoredFiles) {
-				this.zipFile = zipFile;
+			ItemLoader(XmlReadPipeline xmlFiles, HashMap<String,ClassStructur.StructItem> structItems, HashMap<String, Templates> globalTemplates, Items items, Vector<String> ignoredFiles, TemplateResolutionCache templateResolutionCache) {
+				this.xmlFiles = xmlFiles;
 				this.structItems = structItems;
 				this.globalTemplates = globalTemplates;
-				this.loadedItems = loadedItems;
+				this.items = items;
 				this.ignoredFiles = ignoredFiles;
-				blockedItems = new HashSet<>();
+				this.templateResolutionCache = templateResolutionCache;
 			}
 			
-			void run() throws IOException, EntryStructureException, ParseException {
-				for (ClassStructur.StructItem structItem:structItems.values()) {
-					if (!loadedItems.containsKey(structItem.itemName))
-						readItem(structItem);
+			void run(Collection<String> itemNames) throws IOException, EntryStructureException, ParseException {
+				// step 1: prepare
+				HashMap<String, Item.Preparation> preparedItems = new HashMap<>();
+				Collection<String> namesToPrepare = itemNames;
+				while (true) {
+					Vector<ClassStructur.StructItem> structItemList = new Vector<>();
+					for (String itemName : namesToPrepare) {
+						ClassStructur.StructItem structItem = structItems.get(itemName);
+						if (structItem!=null && !preparedItems.containsKey(itemName) && !items.isLoadedOrIgnored(itemName))
+							structItemList.add(structItem);
+					}
+					if (structItemList.isEmpty()) break;
+					
+					Vector<Item.Preparation> preparations = xmlFiles.runParallel(structItemList, structItem->Item.prepare(xmlFiles, structItem, globalTemplates));
+					
+					HashSet<String> parentNames = new HashSet<>();
+					for (int i=0; i<structItemList.size(); i++) {
+						ClassStructur.StructItem structItem = structItemList.get(i);
+						Item.Preparation preparation = preparations.get(i);
+						if (preparation == null) {
+							items.addIgnoredItem(structItem.itemName);
+							if (!KnownBugs.getInstance().hideIgnoredFile(structItem.itemFilePath))
+								ignoredFiles.add(structItem.itemFilePath);
+						} else {
+							preparedItems.put(structItem.itemName, preparation);
+							if (preparation.parentFile()!=null)
+								parentNames.add(preparation.parentFile());
+						}
+					}
+					namesToPrepare = parentNames;
 				}
-			}
-
-			private Item readItem(ClassStructur.StructItem structItem) throws IOException, EntryStructureException, ParseException {
-				
-				blockedItems.add(structItem.itemFilePath);
 				
-				Item item = Item.read(zipFile, structItem, globalTemplates, this);
-				if (item == null)
-				{
-					if (!KnownBugs.getInstance().hideIgnoredFile(structItem.itemFilePath))
-						ignoredFiles.add(structItem.itemFilePath);
+				// step 2: check parents & sort into waves
+				Vector<Vector<Item.Preparation>> waves = new Vector<>();
+				HashMap<String, Integer> depths = new HashMap<>();
+				for (Item.Preparation preparation : preparedItems.values()) {
+					int depth = getDepth(preparation, preparedItems, depths, new HashSet<>());
+					while (waves.size()<=depth) waves.add(new Vector<>());
+					waves.get(depth).add(preparation);
 				}
-				else loadedItems.put(structItem.itemName, item);
-				
-				blockedItems.remove(structItem.itemFilePath);
 				
-				return item;
+				// step 3: build
+				for (Vector<Item.Preparation> wave : waves) {
+					Vector<Item> builtItems = xmlFiles.runParallel(wave, preparation->new Item(preparation, preparation.parentFile()==null ? null : items.getLoadedItem(preparation.parentFile()), templateResolutionCache));
+					for (Item item : builtItems)
+						items.addLoadedItem(item);
+				}
 			}
 
-			@Override
-			public Item getParent(String parentFile) throws IOException, EntryStructureException, ParseException {
-				Item parentItem = loadedItems.get(parentFile);
-				if (parentItem!=null) return parentItem;
-				
-				ClassStructur.StructItem parentStructItem = structItems.get(parentFile);
-				if (parentStructItem == null)
-					throw new EntryStructureException("Can't find parent item \"%s\"", parentFile);
+			private int getDepth(Item.Preparation preparation, HashMap<String, Item.Preparation> preparedItems, HashMap<String, Integer> depths, HashSet<String> blockedItems) throws EntryStructureException {
+				String itemName = preparation.structItem().itemName;
+				Integer depth = depths.get(itemName);
+				if (depth!=null) return depth;
 				
-				if (blockedItems.contains(parentStructItem.itemFilePath))
-					throw new EntryStructureException("Found \"parent loop\" for parent item \"%s\"", parentFile);
+				String parentFile = preparation.parentFile();
+				if (parentFile==null || items.getLoadedItem(parentFile)!=null)
+					depth = 0;
 				
-				parentItem = readItem(parentStructItem);
-				if (parentItem==null)
-					throw new EntryStructureException("Can't read parent item \"%s\"", parentFile);
+				else {
+					if (!structItems.containsKey(parentFile))
+						throw new EntryStructureException("Can't find parent item \"%s\"", parentFile);
+					
+					Item.Preparation parent = preparedItems.get(parentFile);
+					if (parent==null)
+						throw new EntryStructureException("Can't read parent item \"%s\"", parentFile);
+					
+					blockedItems.add(itemName);
+					if (blockedItems.contains(parentFile))
+						throw new EntryStructureException("Found \"parent loop\" for parent item \"%s\"", parentFile);
+					
+					depth = getDepth(parent, preparedItems, depths, blockedItems)+1;
+				}
 				
-				return parentItem;
+				depths.put(itemName, depth);
+				return depth;
 			}
 		}
 		
@@ -625,44 +1274,25 @@ class XMLTemplateStructure {
 			final String subClassName;
 			final GenericXmlNode content;
 
-			static Item read(ZipFile zipFile, ClassStructur.StructItem structItem, HashMap<String,Templates> globalTemplates, ParentFinder parentFinder) throws IOException, EntryStructureException, ParseException {
+			/** Result of the first loading step of an item: XML is read, local templates are created and the parent file is known. */
+			private record Preparation(ClassStructur.StructItem structItem, Node contentNode, Templates localTemplates, String parentFile) {}
+			
+			private static Preparation prepare(XmlReadPipeline xmlFiles, ClassStructur.StructItem structItem, HashMap<String,Templates> globalTemplates) throws IOException, EntryStructureException, ParseException {
 				if (globalTemplates==null) throw new IllegalArgumentException();
 				if (structItem==null) throw new IllegalArgumentException();
 				if (!structItem.itemFile.isfile()) throw new IllegalStateException();
 				
-				//System.out.printf("Read Item \"%s\" ...%n", itemFile.path);
+				//System.out.printf("Read Item \"%s\" ...%n", itemFile.getPath());
 				
 				if (KnownBugs.getInstance().isKnownWrongClassFile_ignore(structItem))
 					return null;
 				
-				NodeList nodes = readXML(zipFile, structItem.itemFile);
+				NodeList nodes = xmlFiles.readXML(structItem.itemFile);
 				if (nodes==null) {
 					System.err.printf("Can't read xml file \"%s\" --> Item will be ignored%n", structItem.itemFilePath);
 					return null;
 				}
 				
-				Item item = new Item(nodes, structItem, globalTemplates, parentFinder);
-				
-				//System.out.printf("... done [read item]%n");
-				return item;
-			}
-			
-			interface ParentFinder {
-				Item getParent(String parentFile) throws IOException, EntryStructureException, ParseException;
-			}
-			
-			Item(NodeList nodes, ClassStructur.StructItem structItem, HashMap<String,Templates> globalTemplates, ParentFinder parentFinder) throws IOException, EntryStructureException, ParseException {
-				if (globalTemplates==null) throw new IllegalArgumentException();
-				if (structItem==null) throw new IllegalArgumentException();
-				if (nodes==null) throw new IllegalArgumentException();
-				if (parentFinder==null) throw new IllegalArgumentException();
-				
-				this.name = structItem.itemName;
-				this.filePath = structItem.itemFilePath;
-				this.updateLevel = structItem.updateLevel;
-				this.className = structItem.className;
-				this.subClassName = structItem.subClassName;
-				
 				Node templatesNode = null;
 				Node parentNode = null;
 				Node contentNode = null;
@@ -715,12 +1345,34 @@ class XMLTemplateStructure {
 				String parentFile = getParentFile(parentNode, structItem.itemFilePath);
 				
 				testingGround.addParentFileInfo(structItem.itemFile,parentFile);
-				Item parentItem = parentFile==null ? null : parentFinder.getParent(parentFile);
+				
+				//System.out.printf("... done [read item]%n");
+				return new Preparation(structItem, contentNode, localTemplates, parentFile);
+			}
+			
+			Item(String name, String filePath, String updateLevel, String className, String subClassName, GenericXmlNode content) {
+				this.name = name;
+				this.filePath = filePath;
+				this.updateLevel = updateLevel;
+				this.className = className;
+				this.subClassName = subClassName;
+				this.content = content;
+			}
+			
+			private Item(Preparation preparation, Item parentItem, TemplateResolutionCache templateResolutionCache) throws ParseException {
+				if (preparation==null) throw new IllegalArgumentException();
+				ClassStructur.StructItem structItem = preparation.structItem();
+				
+				this.name = structItem.itemName;
+				this.filePath = structItem.itemFilePath;
+				this.updateLevel = structItem.updateLevel;
+				this.className = structItem.className;
+				this.subClassName = structItem.subClassName;
 				
 				try {
-					content = new GenericXmlNode(null, contentNode, localTemplates, parentItem==null ? null : parentItem.content, GenericXmlNode.Source.create(structItem.itemFile));
+					content = new GenericXmlNode(null, preparation.contentNode(), preparation.localTemplates(), parentItem==null ? null : parentItem.content, GenericXmlNode.Source.create(structItem.itemFile, templateResolutionCache));
 				} catch (InheritRemoveException e) {
-					throw new ParseException("Found unexpected attribute (\"%s\") in content node in file \"%s\"", GenericXmlNode.ATTR_INHERIT_REMOVE, structItem.itemFile.path);
+					throw new ParseException("Found unexpected attribute (\"%s\") in content node in file \"%s\"", GenericXmlNode.ATTR_INHERIT_REMOVE, structItem.itemFile.getPath());
 				}
 			}
 			
@@ -762,12 +1414,17 @@ class XMLTemplateStructure {
 		final HashMap<String, HashMap<String, GenericXmlNode>> templates;
 		final Templates includedTemplates;
 	
-		Templates(String className, HashMap<String, Templates> globalTemplates, ZipEntryTreeNode sourceFile) throws ParseException, EntryStructureException {
+		Templates(HashMap<String, HashMap<String, GenericXmlNode>> templates, Templates includedTemplates) {
+			this.templates = templates;
+			this.includedTemplates = includedTemplates;
+		}
+		
+		Templates(String className, Map<String, Templates> globalTemplates, ZipEntryTreeNode sourceFile) throws ParseException, EntryStructureException {
 			includedTemplates = getIncludedTemplates(globalTemplates, sourceFile, className, false);
 			templates = new HashMap<>();
 		}
 
-		Templates(Node templatesNode, HashMap<String,Templates> globalTemplates, ZipEntryTreeNode sourceFile, KnownBugs.WrongParentNodePlacingWorkaround wpnpWorkaround) throws ParseException, EntryStructureException {
+		Templates(Node templatesNode, Map<String,Templates> globalTemplates, ZipEntryTreeNode sourceFile, KnownBugs.WrongParentNodePlacingWorkaround wpnpWorkaround) throws ParseException, EntryStructureException {
 			if (templatesNode==null) throw new IllegalArgumentException();
 			if (!templatesNode.getNodeName().equals("_templates")) throw new IllegalStateException();
 			if (templatesNode.getNodeType()!=Node.ELEMENT_NODE) throw new IllegalStateException();
@@ -781,38 +1438,38 @@ class XMLTemplateStructure {
 				if (node.getNodeType()==Node.COMMENT_NODE) {
 					// is Ok, do nothing
 						
-				} else if (isEmptyTextNode(node, ()->String.format("<_templates> node in file \"%s\"", sourceFile.path))) {
+				} else if (isEmptyTextNode(node, ()->String.format("<_templates> node in file \"%s\"", sourceFile.getPath()))) {
 					// is Ok, do nothing
 					
 				} else if (node.getNodeType()==Node.ELEMENT_NODE) {
 					
 					String originalNodeName = node.getNodeName();
-					if (KnownBugs.getInstance().fixWrongParentNodePlacing_InsideTemplates_continue(node, originalNodeName, wpnpWorkaround, sourceFile.path))
+					if (KnownBugs.getInstance().fixWrongParentNodePlacing_InsideTemplates_continue(node, originalNodeName, wpnpWorkaround, sourceFile.getPath()))
 						continue;
 					if (KnownBugs.getInstance().fixTemplateList_continue(this, node, originalNodeName, sourceFile))
 						continue;
-					if (KnownBugs.getInstance().isWrongTemplateList_ignore(originalNodeName, sourceFile.path, templates))
+					if (KnownBugs.getInstance().isWrongTemplateList_ignore(originalNodeName, sourceFile.getPath(), templates))
 						continue;
 					
-					HashMap<String, GenericXmlNode> templateList = createNewTemplateList(this, originalNodeName, sourceFile.path);
+					HashMap<String, GenericXmlNode> templateList = createNewTemplateList(this, originalNodeName, sourceFile.getPath());
 					parseTemplates(this, node, templateList, originalNodeName, sourceFile);
 					
 					
 				} else
-					throw new ParseException("Found unexpected node in <_templates> node in file \"%s\": %s", sourceFile.path, XML.toDebugString(node));
+					throw new ParseException("Found unexpected node in <_templates> node in file \"%s\": %s", sourceFile.getPath(), XML.toDebugString(node));
 			}
 		}
 
-		private static Templates getIncludedTemplates(HashMap<String, Templates> globalTemplates, ZipEntryTreeNode sourceFile, String includeFile, boolean expectingExistance) throws ParseException, EntryStructureException {
+		private static Templates getIncludedTemplates(Map<String, Templates> globalTemplates, ZipEntryTreeNode sourceFile, String includeFile, boolean expectingExistance) throws ParseException, EntryStructureException {
 			if (includeFile==null)
 				return null;
 			
 			if (globalTemplates==null)
-				throw new ParseException("Found \"Include\" attribute (\"%s\") in <_templates> node in file \"%s\" but no globalTemplates are defined", includeFile, sourceFile.path);
+				throw new ParseException("Found \"Include\" attribute (\"%s\") in <_templates> node in file \"%s\" but no globalTemplates are defined", includeFile, sourceFile.getPath());
 			
 			Templates includedTemplates = globalTemplates.get(includeFile);
 			if (includedTemplates==null && expectingExistance)
-				throw new EntryStructureException("Can't find templates to include (\"%s\") in <_templates> node in file \"%s\"", includeFile, sourceFile.path);
+				throw new EntryStructureException("Can't find templates to include (\"%s\") in <_templates> node in file \"%s\"", includeFile, sourceFile.getPath());
 			
 			return includedTemplates;
 		}
@@ -831,7 +1488,7 @@ class XMLTemplateStructure {
 			if (!listNode.getNodeName().equals(originalNodeName)) throw new IllegalStateException();
 			if (listNode.getNodeType()!=Node.ELEMENT_NODE) throw new IllegalStateException();
 			if (listNode.hasAttributes())
-				throw new ParseException("Found unexpected attriutes in template list for node name \"%s\" in <_templates> node in file \"%s\"", originalNodeName, sourceFile.path);
+				throw new ParseException("Found unexpected attriutes in template list for node name \"%s\" in <_templates> node in file \"%s\"", originalNodeName, sourceFile.getPath());
 			
 			NodeList childNodes = listNode.getChildNodes();
 			HashMap<String, Node> templateNodes = new HashMap<>();
@@ -839,20 +1496,20 @@ class XMLTemplateStructure {
 				if (node.getNodeType()==Node.COMMENT_NODE) {
 					// is Ok, do nothing
 						
-				} else if (isEmptyTextNode(node, ()->String.format("template list for node name \"%s\" in <_templates> node in file \"%s\"", originalNodeName, sourceFile.path))) {
+				} else if (isEmptyTextNode(node, ()->String.format("template list for node name \"%s\" in <_templates> node in file \"%s\"", originalNodeName, sourceFile.getPath()))) {
 					// is Ok, do nothing
 					
 				} else if (node.getNodeType()==Node.ELEMENT_NODE) {
 					String templateName = node.getNodeName();
 					Node existingTemplate = templateNodes.get(templateName);
 					if (existingTemplate!=null)
-						// throwParseException(false,"Found more than one template with name \"%s\" for node name \"%s\" in <_templates> node in file \"%s\" --> new template ignored", templateName, originalNodeName, sourceFile.path);
+						// throwParseException(false,"Found more than one template with name \"%s\" for node name \"%s\" in <_templates> node in file \"%s\" --> new template ignored", templateName, originalNodeName, sourceFile.getPath());
 						; // replace existing one
 					else
 						templateNodes.put(templateName, node);
 					
 				} else
-					throw new ParseException("Found unexpected node in <_templates> node in file \"%s\": %s", sourceFile.path, XML.toDebugString(node));
+					throw new ParseException("Found unexpected node in <_templates> node in file \"%s\": %s", sourceFile.getPath(), XML.toDebugString(node));
 			}
 			
 			new TemplateLoader(templates, templateNodes, originalNodeName, templatesList, sourceFile).load();
@@ -906,7 +1563,7 @@ class XMLTemplateStructure {
 				if (otherNode==null) return null;
 				
 				if (blockedNodes.contains(templateName))
-					throw new ParseException("Found _template cycle (\"%s\") in <_templates> node in file \"%s\"", templateName, sourceFile.path);
+					throw new ParseException("Found _template cycle (\"%s\") in <_templates> node in file \"%s\"", templateName, sourceFile.getPath());
 				
 				return addNewTemplate(otherNode, templateName);
 			}
@@ -922,7 +1579,7 @@ class XMLTemplateStructure {
 			try {
 				template = new GenericXmlNode(null, originalNodeName, node, ti, null, GenericXmlNode.Source.create(sourceFile));
 			} catch (InheritRemoveException e) {
-				throw new ParseException("Found unexpected attribute (\"%s\") in <_templates> node in file \"%s\"", GenericXmlNode.ATTR_INHERIT_REMOVE, sourceFile.path);
+				throw new ParseException("Found unexpected attribute (\"%s\") in <_templates> node in file \"%s\"", GenericXmlNode.ATTR_INHERIT_REMOVE, sourceFile.getPath());
 			}
 			templatesList.put(templateName, template);
 			return template;
@@ -932,18 +1589,18 @@ class XMLTemplateStructure {
 			if (node==null) return null;
 			if (!node.getNodeName().equals("_templates")) throw new IllegalStateException();
 			//if (node.getChildNodes().getLength()!=0)
-			//	throw new ParseException("Found unexpected child nodes in <_templates> node in file \"%s\"", file.path);
+			//	throw new ParseException("Found unexpected child nodes in <_templates> node in file \"%s\"", file.getPath());
 			
 			NamedNodeMap attributes = node.getAttributes();
 			
 			String includeFile = null;
 			for (Node attrNode : XML.makeIterable(attributes)) {
 				if (!attrNode.getNodeName().equals("Include"))
-					throw new ParseException("Found unexpected attribute (\"%s\") in <_templates> node in file \"%s\"", attrNode.getNodeName(), file.path);
+					throw new ParseException("Found unexpected attribute (\"%s\") in <_templates> node in file \"%s\"", attrNode.getNodeName(), file.getPath());
 				includeFile = attrNode.getNodeValue();
 			}
 			//if (includeFile == null)
-			//	throw new ParseException("Can't find \"Include\" attribute in <_templates> node in item file \"%s\"", file.path);
+			//	throw new ParseException("Can't find \"Include\" attribute in <_templates> node in item file \"%s\"", file.getPath());
 			
 			return includeFile;
 		}
@@ -960,6 +1617,161 @@ class XMLTemplateStructure {
 		}
 	}
 
+	/**
+	 * Holds resolved nodes, whose attributes and child nodes can be shared by other nodes, that are resolved from the same sources:
+	 * <ul>
+	 * <li>{@link Key}: nodes resolved from a template and a parent node only (no own attributes or child nodes)</li>
+	 * <li>{@link SubtreeKey}: template subtrees merged into an already resolved node (e.g. a template child node inherited from a parent item)</li>
+	 * </ul>
+	 * Keys are compared by identity. Can be used by several threads.
+	 */
+	static class TemplateResolutionCache {
+		
+		record Key(GenericXmlNode templateNode, GenericXmlNode parentNode) {}
+		
+		/** Identifies the resolved data by the attributes and child nodes of the source node, so also shallow copies of a node find the entry. */
+		record SubtreeKey(GenericXmlNode.Attributes sourceAttributes, StringVectorMap<GenericXmlNode> sourceNodes, GenericXmlNode templateNode) {
+			@Override public boolean equals(Object obj) {
+				return obj instanceof SubtreeKey other && sourceAttributes==other.sourceAttributes && sourceNodes==other.sourceNodes && templateNode==other.templateNode;
+			}
+			@Override public int hashCode() {
+				return (System.identityHashCode(sourceAttributes)*31 + System.identityHashCode(sourceNodes))*31 + System.identityHashCode(templateNode);
+			}
+		}
+		
+		private final ConcurrentHashMap<Object, GenericXmlNode> resolvedNodes = new ConcurrentHashMap<>();
+		private final LongAdder hits   = new LongAdder();
+		private final LongAdder misses = new LongAdder();
+		
+		GenericXmlNode get(Record key) {
+			GenericXmlNode node = resolvedNodes.get(key);
+			if (node==null) misses.increment();
+			else            hits  .increment();
+			return node;
+		}
+		
+		void put(Record key, GenericXmlNode node) {
+			resolvedNodes.putIfAbsent(key, node);
+		}
+		
+		long getHits  () { return hits  .sum(); }
+		long getMisses() { return misses.sum(); }
+		int  size     () { return resolvedNodes.size(); }
+		
+		@Override public String toString() {
+			return String.format("%d hits, %d misses, %d entries", getHits(), getMisses(), size());
+		}
+	}
+
+	/**
+	 * Measures how much node data of loaded items is shared.
+	 * "distinct" counts each object once. "as tree" counts a shared object once for each node that uses it,
+	 * which is the number of objects needed when inherited attributes and child nodes are copied instead of shared.
+	 * Items of classes that aren't loaded yet are not counted.
+	 */
+	static class SharingStatistics {
+		
+		private record TreeSize(long nodes, long attributeValues) {}
+		
+		private final IdentityHashMap<GenericXmlNode, Boolean> nodes = new IdentityHashMap<>();
+		private final IdentityHashMap<GenericXmlNode.Attributes, Boolean> attributes = new IdentityHashMap<>();
+		private final IdentityHashMap<StringVectorMap<GenericXmlNode>, TreeSize> childNodes = new IdentityHashMap<>();
+		private int items = 0;
+		private long attributeValues = 0;
+		private long nodesAsTree = 0;
+		private long attributeValuesAsTree = 0;
+		
+		static SharingStatistics of(Collection<Class_> classes) {
+			SharingStatistics statistics = new SharingStatistics();
+			for (Class_ class_ : classes) {
+				if (!class_.items.isComplete()) continue;
+				for (Class_.Item item : class_.items.values()) {
+					if (item.content==null) continue;
+					TreeSize size = statistics.add(item.content);
+					statistics.items++;
+					statistics.nodesAsTree += size.nodes;
+					statistics.attributeValuesAsTree += size.attributeValues;
+				}
+			}
+			return statistics;
+		}
+		
+		private TreeSize add(GenericXmlNode node) {
+			nodes.put(node, true);
+			if (attributes.put(node.attributes, true)==null)
+				attributeValues += node.attributes.size();
+			
+			// a shared child node map is walked only once, its size "as tree" is reused
+			TreeSize childSize = childNodes.get(node.nodes);
+			if (childSize==null) {
+				long childNodeCount = 0;
+				long childAttributeValues = 0;
+				for (Vector<GenericXmlNode> list : node.nodes.values())
+					for (GenericXmlNode childNode : list) {
+						TreeSize size = add(childNode);
+						childNodeCount += size.nodes;
+						childAttributeValues += size.attributeValues;
+					}
+				childNodes.put(node.nodes, childSize = new TreeSize(childNodeCount, childAttributeValues));
+			}
+			return new TreeSize(1+childSize.nodes, node.attributes.size()+childSize.attributeValues);
+		}
+		
+		/**
+		 * Copies the contents of all loaded items (e.g. to compare the retained size of node data with and without sharing).
+		 * With <code>keepSharing</code> attributes and child nodes, that are shared in the original, are shared in the copy too.
+		 * Otherwise each node gets its own attributes and child nodes.
+		 */
+		static Vector<GenericXmlNode> copyItemContents(Collection<Class_> classes, boolean keepSharing) {
+			IdentityHashMap<GenericXmlNode.Attributes, GenericXmlNode.Attributes> attributesCopies = keepSharing ? new IdentityHashMap<>() : null;
+			IdentityHashMap<StringVectorMap<GenericXmlNode>, StringVectorMap<GenericXmlNode>> nodesCopies = keepSharing ? new IdentityHashMap<>() : null;
+			Vector<GenericXmlNode> copies = new Vector<>();
+			for (Class_ class_ : classes) {
+				if (!class_.items.isComplete()) continue;
+				for (Class_.Item item : class_.items.values())
+					if (item.content!=null)
+						copies.add(copy(null, item.content, attributesCopies, nodesCopies));
+			}
+			return copies;
+		}
+		
+		private static GenericXmlNode copy(GenericXmlNode parent, GenericXmlNode node, IdentityHashMap<GenericXmlNode.Attributes, GenericXmlNode.Attributes> attributesCopies, IdentityHashMap<StringVectorMap<GenericXmlNode>, StringVectorMap<GenericXmlNode>> nodesCopies) {
+			GenericXmlNode.Attributes attributes = attributesCopies==null ? null : attributesCopies.get(node.attributes);
+			if (attributes==null) {
+				HashMap<String, String> attributeMap = new HashMap<>();
+				for (String key : node.attributes.keySet())
+					attributeMap.put(key, node.attributes.get(key));
+				attributes = GenericXmlNode.Attributes.create(attributeMap);
+				if (attributesCopies!=null) attributesCopies.put(node.attributes, attributes);
+			}
+			
+			StringVectorMap<GenericXmlNode> nodes = nodesCopies==null ? null : nodesCopies.get(node.nodes);
+			if (nodes!=null)
+				return new GenericXmlNode(parent, node.nodeName, attributes, nodes);
+			
+			nodes = new StringVectorMap<>();
+			if (nodesCopies!=null) nodesCopies.put(node.nodes, nodes);
+			GenericXmlNode nodeCopy = new GenericXmlNode(parent, node.nodeName, attributes, nodes);
+			for (String key : node.nodes.keySet())
+				for (GenericXmlNode childNode : node.nodes.get(key))
+					nodes.add(key, copy(nodeCopy, childNode, attributesCopies, nodesCopies));
+			return nodeCopy;
+		}
+		
+		private static String toString(long distinct, long asTree) {
+			return String.format("%d (as tree: %d, %1.1f%%)", distinct, asTree, asTree==0 ? 100.0 : distinct*100.0/asTree);
+		}
+		
+		@Override public String toString() {
+			return String.format("%d items, nodes: %s, attribute sets: %s, attribute values: %s, child node maps: %s",
+					items,
+					toString(nodes.size(), nodesAsTree),
+					toString(attributes.size(), nodesAsTree),
+					toString(attributeValues, attributeValuesAsTree),
+					toString(childNodes.size(), nodesAsTree));
+		}
+	}
+
 	static class GenericXmlNode {
 			private static final String ATTR_NOINHERIT      = "_noinherit";
 			private static final String ATTR_INHERIT_REMOVE = "_inheritRemove";
@@ -969,19 +1781,116 @@ class XMLTemplateStructure {
 				private static final long serialVersionUID = -9221801644995970360L;
 			}
 			
+			/**
+			 * Immutable attribute set of a node.
+			 * Attribute names are kept in a sorted key table ({@link Shape}), that is shared by all attribute sets with the same names.
+			 * Names are interned, values are deduplicated by a bounded pool.
+			 * Can be used by several threads.
+			 */
+			static class Attributes {
+				private static final int MAX_POOLED_VALUES       = 1<<16;
+				private static final int MAX_POOLED_VALUE_LENGTH = 64;
+				private static final ConcurrentHashMap<String, String> namePool  = new ConcurrentHashMap<>();
+				private static final ConcurrentHashMap<String, String> valuePool = new ConcurrentHashMap<>();
+				private static final ConcurrentHashMap<List<String>, Shape> shapes = new ConcurrentHashMap<>();
+				
+				static final Attributes EMPTY = new Attributes(new Shape(new String[0]), new String[0]);
+				
+				private static class Shape {
+					final String[] names;
+					final HashMap<String, Integer> indexes;
+					
+					Shape(String[] names) {
+						this.names = names;
+						indexes = new HashMap<>();
+						for (int i=0; i<names.length; i++)
+							indexes.put(names[i], i);
+					}
+				}
+				
+				private final Shape shape;
+				private final String[] values;
+				
+				private Attributes(Shape shape, String[] values) {
+					this.shape = shape;
+					this.values = values;
+				}
+				
+				static Attributes create(Map<String, String> attributes) {
+					if (attributes.isEmpty()) return EMPTY;
+					
+					String[] names = attributes.keySet().toArray(String[]::new);
+					Arrays.sort(names);
+					Shape shape = shapes.computeIfAbsent(List.of(names), list->{
+						String[] internedNames = new String[names.length];
+						for (int i=0; i<names.length; i++)
+							internedNames[i] = namePool.computeIfAbsent(names[i], name->name);
+						return new Shape(internedNames);
+					});
+					
+					String[] values = new String[names.length];
+					for (int i=0; i<names.length; i++)
+						values[i] = poolValue(attributes.get(names[i]));
+					
+					return new Attributes(shape, values);
+				}
+				
+				private static String poolValue(String value) {
+					if (value==null || value.length()>MAX_POOLED_VALUE_LENGTH) return value;
+					String pooledValue = valuePool.get(value);
+					if (pooledValue!=null) return pooledValue;
+					if (valuePool.size()>=MAX_POOLED_VALUES) return value;
+					pooledValue = valuePool.putIfAbsent(value, value);
+					return pooledValue!=null ? pooledValue : value;
+				}
+				
+				String get(String name) {
+					Integer index = shape.indexes.get(name);
+					return index==null ? null : values[index];
+				}
+				
+				int size() { return values.length; }
+				boolean isEmpty() { return values.length==0; }
+				
+				/** @return attribute names in sorted order */
+				List<String> keySet() {
+					return Collections.unmodifiableList(Arrays.asList(shape.names));
+				}
+				
+				/** Iterates over all attributes in sorted order of their names. */
+				void forEach(BiConsumer<String, String> action) {
+					for (int i=0; i<values.length; i++)
+						action.accept(shape.names[i], values[i]);
+				}
+				
+				void copyTo(Map<String, String> map) {
+					forEach(map::put);
+				}
+			}
+			
+			// Attributes and child nodes are shared between nodes (templates, parent items, inherited subtrees)
+			// and must not be modified after construction.
+			// In a shared subtree "parent" points to the node, that has created the subtree.
 			final GenericXmlNode parent;
 			final String nodeName;
-			final HashMap<String, String> attributes;
+			final Attributes attributes;
 			final StringVectorMap<GenericXmlNode> nodes;
 			
+			GenericXmlNode(GenericXmlNode parent, String nodeName, Attributes attributes, StringVectorMap<GenericXmlNode> nodes) {
+				this.parent = parent;
+				this.nodeName = nodeName;
+				this.attributes = attributes;
+				this.nodes = nodes;
+			}
+			
 			GenericXmlNode(GenericXmlNode parent, GenericXmlNode sourceNode) {
 				if (sourceNode==null) throw new IllegalArgumentException();
 				
+				// shares attributes and child nodes with sourceNode
 				this.parent = parent;
 				this.nodeName = sourceNode.nodeName;
-				attributes = new HashMap<>(sourceNode.attributes);
-				nodes = new StringVectorMap<>();
-				sourceNode.nodes.forEachPair((key,childNode)->nodes.add(key, new GenericXmlNode(this, childNode)));
+				attributes = sourceNode.attributes;
+				nodes = sourceNode.nodes;
 			}
 			
 			GenericXmlNode(GenericXmlNode parent, GenericXmlNode sourceNode, GenericXmlNode templateNode, Source source) throws ParseException {
@@ -989,20 +1898,32 @@ class XMLTemplateStructure {
 				
 				this.parent = parent;
 				this.nodeName = sourceNode.nodeName;
-				attributes = new HashMap<>();
-				nodes = new StringVectorMap<>();
-				
-				
-				if (templateNode!=null)
-					attributes.putAll(templateNode.attributes);
-				attributes.putAll(sourceNode.attributes);
 	
-				if (templateNode == null)
-					sourceNode.nodes.forEachPair((key,childNode)->nodes.add(key, new GenericXmlNode(this, childNode)));
-				
-				else {
+				if (templateNode == null) {
+					attributes = sourceNode.attributes;
+					nodes = sourceNode.nodes;
+					
+				} else {
+					// the result only depends on the data of sourceNode and on templateNode
+					TemplateResolutionCache cache = source.getTemplateResolutionCache();
+					TemplateResolutionCache.SubtreeKey cacheKey = cache==null ? null : new TemplateResolutionCache.SubtreeKey(sourceNode.attributes, sourceNode.nodes, templateNode);
+					GenericXmlNode resolvedNode = cache==null ? null : cache.get(cacheKey);
+					if (resolvedNode!=null) {
+						attributes = resolvedNode.attributes;
+						nodes = resolvedNode.nodes;
+						return;
+					}
+					
+					HashMap<String, String> mergedAttributes = new HashMap<>();
+					templateNode.attributes.copyTo(mergedAttributes);
+					sourceNode  .attributes.copyTo(mergedAttributes);
+					attributes = Attributes.create(mergedAttributes);
+					nodes = new StringVectorMap<>();
 					Consumer<String> debugOutput = str->testingGround.showCurrentState(templateNode, sourceNode, null, this, null, source, str);
 					mergeNodes(this, sourceNode.nodes, templateNode.nodes, this.nodes, GenericXmlNodeConstructor.createGenericNodeBased(), source);
+					
+					if (cache!=null)
+						cache.put(cacheKey, this);
 				}
 			}
 			
@@ -1015,8 +1936,6 @@ class XMLTemplateStructure {
 				
 				this.parent = parent;
 				this.nodeName = nodeName;
-				attributes = new HashMap<>();
-				nodes = new StringVectorMap<>();
 				
 				if (parentNode!=null && !parentNode.nodeName.equals(this.nodeName))
 					throw new ParseException("Parent node has different name (\"%s\") than this node (\"%s\") [File:%s]", parentNode.nodeName, this.nodeName, source.getFilePath());
@@ -1047,21 +1966,56 @@ class XMLTemplateStructure {
 						parentNode = null;
 				}
 				
-				if (parentNode!=null)
-					attributes.putAll(parentNode.attributes);
-				if (templateNode!=null)
-					attributes.putAll(templateNode.attributes);
+				// if only one node is inherited and this node adds nothing, its attributes or child nodes are shared
+				GenericXmlNode inheritedNode = parentNode==null ? templateNode : templateNode==null ? parentNode : null;
+				
+				boolean hasOwnAttributes = false;
 				for (Node attrNode : XML.makeIterable(xmlAttributes)) {
 					String attrName = attrNode.getNodeName();
 					String attrValue = attrNode.getNodeValue();
 					if (attrName.startsWith("_") && !attrName.equals(ATTR_TEMPLATE))
 						testingGround.addSpecialAttribute(attrName,attrValue);
 					if (!attrName.equals(ATTR_TEMPLATE) && !attrName.equals(ATTR_NOINHERIT))
-						attributes.put(attrName,attrValue);
+						hasOwnAttributes = true;
 				}
 				
 				StringVectorMap<Node> elementNodes = getElementNodes(sourceNode, source);
 				
+				// if this node only combines a template with a parent node, the result is the same for all nodes with this template and parent node
+				TemplateResolutionCache.Key cacheKey = null;
+				TemplateResolutionCache cache = source.getTemplateResolutionCache();
+				if (cache!=null && parentNode!=null && templateNode!=null && !hasOwnAttributes && elementNodes.isEmpty()) {
+					cacheKey = new TemplateResolutionCache.Key(templateNode, parentNode);
+					GenericXmlNode resolvedNode = cache.get(cacheKey);
+					if (resolvedNode!=null) {
+						attributes = resolvedNode.attributes;
+						nodes = resolvedNode.nodes;
+						return;
+					}
+				}
+				
+				if (inheritedNode!=null && !hasOwnAttributes)
+					attributes = inheritedNode.attributes;
+				else {
+					HashMap<String, String> mergedAttributes = new HashMap<>();
+					if (parentNode!=null)
+						parentNode.attributes.copyTo(mergedAttributes);
+					if (templateNode!=null)
+						templateNode.attributes.copyTo(mergedAttributes);
+					for (Node attrNode : XML.makeIterable(xmlAttributes)) {
+						String attrName = attrNode.getNodeName();
+						if (!attrName.equals(ATTR_TEMPLATE) && !attrName.equals(ATTR_NOINHERIT))
+							mergedAttributes.put(attrName,attrNode.getNodeValue());
+					}
+					attributes = Attributes.create(mergedAttributes);
+				}
+				
+				if (inheritedNode!=null && elementNodes.isEmpty()) {
+					nodes = inheritedNode.nodes;
+					return;
+				}
+				nodes = new StringVectorMap<>();
+				
 				if (parentNode==null && templateNode==null)
 					for (String key : elementNodes.keySet())
 						for (Node xmlSubNode : elementNodes.get(key))
@@ -1079,6 +2033,9 @@ class XMLTemplateStructure {
 					mergeNodes(this, elementNodes, templateNode.nodes, this.nodes, GenericXmlNodeConstructor.createXmlNodeBased(templates), source);
 					
 				}
+				
+				if (cacheKey!=null)
+					cache.put(cacheKey, this);
 			}
 			
 			private static <SourceNodeType> void mergeNodes(
@@ -1162,8 +2119,16 @@ class XMLTemplateStructure {
 			
 			interface Source {
 				String getFilePath();
+				/** @return cache of the current loading session or <code>null</code> */
+				default TemplateResolutionCache getTemplateResolutionCache() { return null; }
 				static Source create(ZipEntryTreeNode sourceFile) {
-					return ()->sourceFile.path;
+					return ()->sourceFile.getPath();
+				}
+				static Source create(ZipEntryTreeNode sourceFile, TemplateResolutionCache templateResolutionCache) {
+					return new Source() {
+						@Override public String getFilePath() { return sourceFile.getPath(); }
+						@Override public TemplateResolutionCache getTemplateResolutionCache() { return templateResolutionCache; }
+					};
 				}
 			}
 	
@@ -1212,17 +2177,14 @@ class XMLTemplateStructure {
 		private static KnownBugs instance = null;
 		private boolean hideKnownBugs;
 		private final HashMap<String, XMLfix> xmlFixes;
-		private final MessageDigest md5;
 		
 		KnownBugs()
 		{
-			try { md5 = MessageDigest.getInstance("MD5"); }
-			catch (NoSuchAlgorithmException e) { throw new IllegalStateException(e); }
 			hideKnownBugs = SnowRunner.settings.getBool(SnowRunner.AppSettings.ValueKey.XML_HideKnownBugs, false);
 			xmlFixes = defineXMLfixes(this);
 		}
 		
-		static KnownBugs getInstance()
+		static synchronized KnownBugs getInstance()
 		{
 			if (instance == null)
 				instance = new KnownBugs();
@@ -1308,10 +2270,10 @@ class XMLTemplateStructure {
 		{
 			if (originalNodeName.equals("Mudguard")) {
 				// my guess: <Mudguard> should be a template in template list <Body>
-				HashMap<String, GenericXmlNode> templateList = Templates.createNewTemplateList(templates, "Body", sourceFile.path);
+				HashMap<String, GenericXmlNode> templateList = Templates.createNewTemplateList(templates, "Body", sourceFile.getPath());
 				Templates.addNewTemplate_unchecked(node, "Body", "Mudguard", templateList, sourceFile, templates);
 				if (!hideKnownBugs)
-					System.err.printf("Found a known bug: Node <Mudguard> should be a template in template list <Body> in file \"%s\" --> fixed%n", sourceFile.path);
+					System.err.printf("Found a known bug: Node <Mudguard> should be a template in template list <Body> in file \"%s\" --> fixed%n", sourceFile.getPath());
 				return true;
 			}
 			//if (originalNodeName.equals("Mudguard") && sourceFilePath.equals("\\[media]\\classes\\trucks\\trailers\\semitrailer_gooseneck_4.xml")) {
@@ -1354,9 +2316,16 @@ class XMLTemplateStructure {
 			return parentNode;
 		}
 
-		String addBracketNode(String rawXML)
+		private static final byte[] BRACKET_NODE_START = "<BracketNode>" .getBytes(StandardCharsets.UTF_8);
+		private static final byte[] BRACKET_NODE_END   = "</BracketNode>".getBytes(StandardCharsets.UTF_8);
+		
+		InputStream addBracketNode(InputStream content)
 		{
-			return String.format("<%1$s>%2$s</%1$s>", "BracketNode", rawXML);
+			return new SequenceInputStream(new Vector<>(List.of(
+				new ByteArrayInputStream(BRACKET_NODE_START),
+				content,
+				new ByteArrayInputStream(BRACKET_NODE_END)
+			)).elements());
 		}
 
 		NodeList removeBracketNode(Document doc, String filePath) throws ParseException
@@ -1374,56 +2343,109 @@ class XMLTemplateStructure {
 			return bracketNode.getChildNodes();
 		}
 
-		String fixRawXML(String rawXML, String filePath) throws XML.FixXMLException
+		/**
+		 * Returns the content of <code>input</code> (without UTF8 marker bytes) enclosed in a &lt;BracketNode&gt;.
+		 * Files without a XMLfix are streamed through.
+		 * Files with a XMLfix are read once, while their MD5 hash is computed, and the fix is applied as byte range splices.
+		 */
+		InputStream getFixedXML(InputStream input, String filePath) throws IOException, XML.FixXMLException
 		{
-			XMLfix xmLfix = xmlFixes.get(filePath);
-			if (xmLfix!=null)
+			input = XML.skipUTF8BOM(input);
+			XMLfix xmlFix = xmlFixes.get(filePath);
+			if (xmlFix!=null)
+				input = fixXML(xmlFix, input, filePath);
+			return addBracketNode(input);
+		}
+		
+		private InputStream fixXML(XMLfix xmlFix, InputStream input, String filePath) throws IOException, XML.FixXMLException
+		{
+			MessageDigest md5;
+			try { md5 = MessageDigest.getInstance("MD5"); }
+			catch (NoSuchAlgorithmException e) { throw new IllegalStateException(e); }
+			
+			byte[] content;
+			try (DigestInputStream digestInput = new DigestInputStream(input, md5)) {
+				content = digestInput.readAllBytes();
+			}
+			
+			String hash = toHexString(md5.digest());
+			if (!hash.equals(xmlFix.expectedHash))
 			{
-				String hash = computeHash(rawXML, filePath);
-				if (hash.equals(xmLfix.expectedHash))
-					try { rawXML = xmLfix.fixXML.fixXML(rawXML); }
-					catch (XML.FixXMLException e) { throw new XML.FixXMLException(e, "Exception while fixing known bug in XML: "+e.getMessage()); }
-				else
-				{
-					System.out.printf("###  Found a file with an expected XML bug, but file content has another hash than expected:%n");
-					System.out.printf("   file: \"%s\"%n", filePath);
-					System.out.printf("   expected hash: %s%n", xmLfix.expectedHash);
-					System.out.printf("        new hash: %s%n", hash);
-				}
+				System.out.printf("###  Found a file with an expected XML bug, but file content has another hash than expected:%n");
+				System.out.printf("   file: \"%s\"%n", filePath);
+				System.out.printf("   expected hash: %s%n", xmlFix.expectedHash);
+				System.out.printf("        new hash: %s%n", hash);
+				return new ByteArrayInputStream(content);
 			}
-			return rawXML;
+			
+			try { return xmlFix.apply(content); }
+			catch (XML.FixXMLException e) { throw new XML.FixXMLException(e, "Exception while fixing known bug in XML: "+e.getMessage()); }
 		}
 		
-		private String computeHash(String rawXML, String filePath)
+		private static String toHexString(byte[] digest)
 		{
-			md5.reset();
-			byte[] digest = md5.digest(rawXML.getBytes(StandardCharsets.UTF_8));
 			StringBuilder sb = new StringBuilder();
 			for (byte b : digest) sb.append(String.format("%02X", b));
 			return sb.toString();
 		}
 
-		private record XMLfix(String filePath, String expectedHash, XML.FixXMLFunction fixXML)
+		private record XMLfix(String filePath, String expectedHash, Patch[] patches)
 		{
-			static void add(HashMap<String,XMLfix> fixes, String filePath, String expectedHash, XML.FixXMLFunction fixXML)
+			private record Patch(String action, String oldString, byte[] oldBytes, byte[] newBytes) {}
+			private record Splice(int start, int end, byte[] newBytes) {}
+			
+			static void add(HashMap<String,XMLfix> fixes, String filePath, String expectedHash, Patch... patches)
 			{
-				fixes.put(filePath, new XMLfix(filePath, expectedHash, fixXML));
+				fixes.put(filePath, new XMLfix(filePath, expectedHash, patches));
 			}
 
-			static String remove(String rawXML, String string) throws XML.FixXMLException
+			static Patch remove(String string)
 			{
 				if (string.isEmpty()) throw new IllegalArgumentException();
-				int pos = rawXML.indexOf(string);
-				if (pos<0) throw new XML.FixXMLException("Can't find string \"%s\" to remove.", string);
-				return rawXML.substring(0, pos) + rawXML.substring(pos+string.length());
+				return new Patch("remove", string, string.getBytes(StandardCharsets.UTF_8), new byte[0]);
 			}
 
-			static String replace(String rawXML, String oldString, String newString) throws XML.FixXMLException
+			static Patch replace(String oldString, String newString)
 			{
 				if (oldString.isEmpty()) throw new IllegalArgumentException();
-				int pos = rawXML.indexOf(oldString);
-				if (pos<0) throw new XML.FixXMLException("Can't find string \"%s\" to replace.", oldString);
-				return rawXML.substring(0, pos) + newString + rawXML.substring(pos+oldString.length());
+				return new Patch("replace", oldString, oldString.getBytes(StandardCharsets.UTF_8), newString.getBytes(StandardCharsets.UTF_8));
+			}
+			
+			/**
+			 * Each patch changes the first occurrence of its old string, that isn't already changed by a previous patch.
+			 * The result is streamed from the unchanged ranges of <code>content</code> and the new strings.
+			 */
+			InputStream apply(byte[] content) throws XML.FixXMLException
+			{
+				Vector<Splice> splices = new Vector<>();
+				for (Patch patch : patches) {
+					int pos = find(content, patch.oldBytes, splices);
+					if (pos<0) throw new XML.FixXMLException("Can't find string \"%s\" to %s.", patch.oldString, patch.action);
+					splices.add(new Splice(pos, pos+patch.oldBytes.length, patch.newBytes));
+					splices.sort(Comparator.comparingInt(Splice::start));
+				}
+				
+				Vector<InputStream> parts = new Vector<>();
+				int pos = 0;
+				for (Splice splice : splices) {
+					parts.add(new ByteArrayInputStream(content, pos, splice.start-pos));
+					parts.add(new ByteArrayInputStream(splice.newBytes));
+					pos = splice.end;
+				}
+				parts.add(new ByteArrayInputStream(content, pos, content.length-pos));
+				return new SequenceInputStream(parts.elements());
+			}
+			
+			private static int find(byte[] content, byte[] bytes, Vector<Splice> splices)
+			{
+				for (int pos=0; pos+bytes.length<=content.length; pos++) {
+					if (!Arrays.equals(content, pos, pos+bytes.length, bytes, 0, bytes.length)) continue;
+					boolean overlaps = false;
+					for (Splice splice : splices)
+						if (pos<splice.end && splice.start<pos+bytes.length) { overlaps = true; break; }
+					if (!overlaps) return pos;
+				}
+				return -1;
 			}
 		};
 
@@ -1434,87 +2456,78 @@ class XMLTemplateStructure {
 				// 8:27: Attribut "AllowHiddenExtrudes" wurde bereits für Element "MaterialType" angegeben.
 				"\\[media]\\_dlc\\us_09\\classes\\terrain_layers\\grass_burnt.xml",
 				"205BBCFFA529012C5A9F37FEBACF3AF5",
-				rawXML -> XMLfix.remove(rawXML,"AllowHiddenExtrudes=\"0.25\"")
+				XMLfix.remove("AllowHiddenExtrudes=\"0.25\"")
 			);
 			XMLfix.add(fixes,
 				// 17:24: Attribut "IsSnowParticles" wurde bereits für Element "MaterialType" angegeben.
 				"\\[media]\\_dlc\\us_04\\classes\\terrain_layers\\snow_spring.xml",
 				"04208A31FECEEF2E9ADE972577FD1746",
-				rawXML -> XMLfix.remove(rawXML,"IsSnowParticles=\"true\"")
+				XMLfix.remove("IsSnowParticles=\"true\"")
 			);
 			XMLfix.add(fixes,
 				// 4:37: Attribut "NightLightingShadowsAllowCap" wurde bereits für Element "ModelBrand" angegeben.
 				"\\[media]\\_dlc\\us_09\\classes\\models\\big_watchtower_us_09_objective.xml",
 				"731287C1B4218531DFA3A856CFF32D93",
-				rawXML -> XMLfix.remove(rawXML,"NightLightingShadowsAllowCap=\"true\"")
+				XMLfix.remove("NightLightingShadowsAllowCap=\"true\"")
 			);
 			XMLfix.add(fixes,
 				// 4:37: Attribut "NightLightingShadowsAllowCap" wurde bereits für Element "ModelBrand" angegeben.
 				"\\[media]\\_dlc\\us_09\\classes\\models\\car_service_us_09_objective.xml",
 				"9F4E7DC49B1D015F4DFA75A59D041B1D",
-				rawXML -> XMLfix.remove(rawXML,"NightLightingShadowsAllowCap=\"true\"")
+				XMLfix.remove("NightLightingShadowsAllowCap=\"true\"")
 			);
 			XMLfix.add(fixes,
 				// 9:101: Attribut "AngularDamping" wurde bereits für Element "Body" angegeben.
 				"\\[media]\\_dlc\\ru_08\\classes\\models\\scarecrow_ru08.xml",
 				"1F21DDE722C70292D1DCAA90A4EE5B49",
-				rawXML -> {
-					rawXML = XMLfix.remove(rawXML,"AngularDamping=\"0.1\" ");
-					rawXML = XMLfix.remove(rawXML,"AngularDamping=\"0.1\" ");
-					rawXML = XMLfix.remove(rawXML,"AngularDamping=\"0.1\" ");
-					return rawXML;
-				}
+				XMLfix.remove("AngularDamping=\"0.1\" "),
+				XMLfix.remove("AngularDamping=\"0.1\" "),
+				XMLfix.remove("AngularDamping=\"0.1\" ")
 			);
 			XMLfix.add(fixes,
 				// 42:21: Attribut "BloomEnabled" wurde bereits für Element "DayTimeState" angegeben.
 				"\\[media]\\_dlc\\us_03\\classes\\daytimes\\night_us_03.xml",
 				"6A06E21EAD17176873BE005C2C080568",
-				rawXML -> {
-					rawXML = XMLfix.remove(rawXML,"BloomEnabled=\"true\"");
-					rawXML = XMLfix.remove(rawXML,"BloomPoint=\"0.3\"");
-					return rawXML;
-				}
+				XMLfix.remove("BloomEnabled=\"true\""),
+				XMLfix.remove("BloomPoint=\"0.3\"")
 			);
 			XMLfix.add(fixes,
 				// 42:21: Attribut "BloomEnabled" wurde bereits für Element "DayTimeState" angegeben.
 				"\\[media]\\classes\\daytimes\\night_ru_02.xml",
 				"04CFE749A42B06C2E68DC865BEF43D48",
-				rawXML -> {
-					rawXML = XMLfix.remove(rawXML,"BloomEnabled=\"true\"");
-					rawXML = XMLfix.remove(rawXML,"BloomPoint=\"0.3\"");
-					return rawXML;
-				}
+				XMLfix.remove("BloomEnabled=\"true\""),
+				XMLfix.remove("BloomPoint=\"0.3\"")
 			);
 			XMLfix.add(fixes,
 				// 67:3: Elementtyp "Cloud" muss mit dem entsprechenden Endtag "</Cloud>" beendet werden.
 				"\\[media]\\classes\\skies\\sky_us_01_ttt.xml",
 				"6FF498012FD5A59D2A1CC1B5EA7523D1",
-				rawXML -> XMLfix.replace(rawXML, "<Cloud/>", "</Cloud>")
+				XMLfix.replace("<Cloud/>", "</Cloud>")
 			);
 			XMLfix.add(fixes,
 				// 12:183: Attribut "AngularSpeed" wurde bereits für Element "DayTimeOverride" angegeben.
 				"\\[media]\\classes\\skies\\sky_ru_02.xml",
 				"3C2AFD664BF532475EC6B52B1643347D",
-				rawXML -> XMLfix.replace(rawXML, "AngularSpeed=\"0.3\" AngularSpeed=\"0.2\"", "AngularSpeed=\"0.2\"")
+				XMLfix.replace("AngularSpeed=\"0.3\" AngularSpeed=\"0.2\"", "AngularSpeed=\"0.2\"")
 			);
 			XMLfix.add(fixes,
 				// 12:183: Attribut "AngularSpeed" wurde bereits für Element "DayTimeOverride" angegeben.
 				"\\[media]\\_dlc\\us_03\\classes\\skies\\sky_us_03.xml",
 				"2C0A014D4DCF31DFBC4EACAE8F933F30",
-				rawXML -> XMLfix.replace(rawXML, "AngularSpeed=\"0.3\" AngularSpeed=\"0.2\"", "AngularSpeed=\"0.2\"")
+				XMLfix.replace("AngularSpeed=\"0.3\" AngularSpeed=\"0.2\"", "AngularSpeed=\"0.2\"")
 			);
 			XMLfix.add(fixes,
 				// 13:183: Attribut "AngularSpeed" wurde bereits für Element "DayTimeOverride" angegeben.
 				"\\[media]\\_dlc\\us_07\\classes\\skies\\sky_us_07.xml",
 				"336F29856CB86FA9D07736CCAD547A71",
-				rawXML -> XMLfix.replace(rawXML, "AngularSpeed=\"0.3\" AngularSpeed=\"0.2\"", "AngularSpeed=\"0.2\"")
+				XMLfix.replace("AngularSpeed=\"0.3\" AngularSpeed=\"0.2\"", "AngularSpeed=\"0.2\"")
 			);
 			
 			// some code fixes
 			XMLfix.add(fixes,
 				"\\[media]\\_dlc\\us_06\\classes\\grass\\grass_tall_spring_b.xml",
 				"1957EBDEF8D587A8FAFCBFF706A2240E",
-				rawXML -> XMLfix.remove(rawXML, " _template=\"SmallTree\"")
+				XMLfix.remove(" _template=\"SmallTree\"")
 			);
 			
 			return fixes;
@@ -0,0 +1,79 @@
+package net.schwarzbaer.java.games.snowrunner.tables;
+
+import java.awt.Rectangle;
+import java.util.HashMap;
+import java.util.Vector;
+import java.util.function.Predicate;
+
+/**
+ * Uniform grid over screen space for hit tests of diagram elements (markers, text boxes, ...).
+ * Each element is stored with its bounding box in all cells, that the box touches,
+ * so a hit test only checks the few elements of one cell.
+ * <p>
+ * The index is bound to a view key (e.g. screen positions of reference points).
+ * It has to be filled again, if the key changes (zoom, pan) or the data changes ({@link #invalidate()}).
+ */
+class ScreenSpaceIndex<ItemType> {
+	
+	private record Entry<ItemType>(ItemType item, int order, Rectangle bounds) {}
+	
+	private final int cellSize;
+	private final HashMap<Long,Vector<Entry<ItemType>>> cells;
+	private Object viewKey;
+	
+	ScreenSpaceIndex(int cellSize) {
+		if (cellSize<1) throw new IllegalArgumentException();
+		this.cellSize = cellSize;
+		cells = new HashMap<>();
+		viewKey = null;
+	}
+	
+	void invalidate() {
+		viewKey = null;
+		cells.clear();
+	}
+	
+	/**
+	 * @return <code>true</code>, if the index was built for another view key --> index is cleared and has to be filled again
+	 */
+	boolean reset(Object viewKey) {
+		if (viewKey==null) throw new IllegalArgumentException();
+		if (viewKey.equals(this.viewKey)) return false;
+		this.viewKey = viewKey;
+		cells.clear();
+		return true;
+	}
+	
+	/**
+	 * @param order  if several items are hit, the item with the lowest order is returned
+	 */
+	void add(ItemType item, int order, Rectangle bounds) {
+		Entry<ItemType> entry = new Entry<>(item, order, bounds);
+		int minCellX = Math.floorDiv(bounds.x, cellSize);
+		int minCellY = Math.floorDiv(bounds.y, cellSize);
+		int maxCellX = Math.floorDiv(bounds.x+bounds.width , cellSize);
+		int maxCellY = Math.floorDiv(bounds.y+bounds.height, cellSize);
+		for (int cellX=minCellX; cellX<=maxCellX; cellX++)
+			for (int cellY=minCellY; cellY<=maxCellY; cellY++)
+				cells.computeIfAbsent(getCellKey(cellX, cellY), k->new Vector<>()).add(entry);
+	}
+	
+	/**
+	 * @param isOver  exact hit test, that is called for items, whose bounding box contains (x,y)
+	 * @return the hit item with the lowest order or <code>null</code>
+	 */
+	ItemType find(int x, int y, Predicate<ItemType> isOver) {
+		Vector<Entry<ItemType>> cell = cells.get(getCellKey(Math.floorDiv(x, cellSize), Math.floorDiv(y, cellSize)));
+		if (cell==null) return null;
+		
+		Entry<ItemType> hit = null;
+		for (Entry<ItemType> entry : cell)
+			if ((hit==null || entry.order<hit.order) && entry.bounds.contains(x,y) && isOver.test(entry.item))
+				hit = entry;
+		return hit==null ? null : hit.item;
+	}
+	
+	private static long getCellKey(int cellX, int cellY) {
+		return (((long) cellX)<<32) | (cellY & 0xFFFFFFFFL);
+	}
+}
@@ -5,6 +5,7 @@ import java.awt.Point;
 import java.awt.Window;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.function.Function;
 
 import javax.swing.JMenuItem;
@@ -12,6 +13,7 @@ import javax.swing.JTable;
 import javax.swing.SwingUtilities;
 
 import net.schwarzbaer.java.games.snowrunner.Data;
+import net.schwarzbaer.java.games.snowrunner.Data.CargoCarrierIndex;
 import net.schwarzbaer.java.games.snowrunner.Data.Trailer;
 import net.schwarzbaer.java.games.snowrunner.Data.Truck;
 import net.schwarzbaer.java.games.snowrunner.Data.TruckAddon;
@@ -28,6 +30,7 @@ public class TrailersTableModel extends ExtendedVerySimpleTableModelTPOS<Trailer
 	
 	private HashMap<String, TruckAddon> truckAddons;
 	private HashMap<String, Trailer> trailers;
+	private CargoCarrierIndex cargoCarrierIndex;
 	private SaveGame saveGame;
 	private Trailer clickedRow;
 	private Truck truck;
@@ -67,6 +70,7 @@ public class TrailersTableModel extends ExtendedVerySimpleTableModelTPOS<Trailer
 		
 		truckAddons = null;
 		trailers    = null;
+		cargoCarrierIndex = null;
 		saveGame    = null;
 		truck       = null;
 		colorizeCarriersByCargo = null;
@@ -75,6 +79,7 @@ public class TrailersTableModel extends ExtendedVerySimpleTableModelTPOS<Trailer
 			connectToGlobalData(true, data->{
 				truckAddons = data==null ? null : data.truckAddons;
 				trailers    = data==null ? null : data.trailers;
+				cargoCarrierIndex = data==null ? null : data.cargoCarrierIndex;
 				return trailers==null ? null : trailers.values();
 			});
 		else
@@ -113,6 +118,7 @@ public class TrailersTableModel extends ExtendedVerySimpleTableModelTPOS<Trailer
 	private void setExtraData(Data data) {
 		truckAddons = data==null ? null : data.truckAddons;
 		trailers    = data==null ? null : data.trailers;
+		cargoCarrierIndex = data==null ? null : data.cargoCarrierIndex;
 	}
 
 	public TrailersTableModel set(Truck truck) {
@@ -127,12 +133,14 @@ public class TrailersTableModel extends ExtendedVerySimpleTableModelTPOS<Trailer
 		
 		if (cargo==null)
 			colorizeCarriersByCargo = null;
-		else
+		else {
+			HashSet<Trailer> compatibleCarriers = cargoCarrierIndex==null ? null : cargoCarrierIndex.getCompatibleTrailers(cargo);
 			colorizeCarriersByCargo = carrier -> {
-				if (carrier.compatibleCargo.contains(cargo))
+				if (compatibleCarriers!=null ? compatibleCarriers.contains(carrier) : carrier.compatibleCargo.contains(cargo))
 					return BG_COLOR__CARRIER_CAN_LOAD_CARGO;
 				return null;
 			};
+		}
 		
 		if (colorizeCarriersByCargo != null)
 			coloring.addBackgroundRowColorizer(colorizeCarriersByCargo);
@@ -7,6 +7,7 @@ import java.util.Comparator;
 import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Vector;
 import java.util.function.Function;
 
@@ -17,6 +18,7 @@ import javax.swing.JTable;
 import javax.swing.SwingUtilities;
 
 import net.schwarzbaer.java.games.snowrunner.Data;
+import net.schwarzbaer.java.games.snowrunner.Data.CargoCarrierIndex;
 import net.schwarzbaer.java.games.snowrunner.Data.Language;
 import net.schwarzbaer.java.games.snowrunner.Data.Trailer;
 import net.schwarzbaer.java.games.snowrunner.Data.Truck;
@@ -40,6 +42,7 @@ public class TruckAddonsTableModel extends ExtendedVerySimpleTableModelTPOS<Truc
 	
 	private HashMap<String, TruckAddon> truckAddons;
 	private HashMap<String, Trailer> trailers;
+	private CargoCarrierIndex cargoCarrierIndex;
 	private TruckAddon clickedItem;
 	private SaveGame saveGame;
 	private Truck truck;
@@ -98,6 +101,7 @@ public class TruckAddonsTableModel extends ExtendedVerySimpleTableModelTPOS<Truc
 		clickedItem = null;
 		truckAddons = null;
 		trailers    = null;
+		cargoCarrierIndex = null;
 		saveGame    = null;
 		truck       = null;
 		displayedTruck = null;
@@ -107,6 +111,7 @@ public class TruckAddonsTableModel extends ExtendedVerySimpleTableModelTPOS<Truc
 			connectToGlobalData(true, data->{
 				truckAddons = data==null ? null : data.truckAddons;
 				trailers    = data==null ? null : data.trailers;
+				cargoCarrierIndex = data==null ? null : data.cargoCarrierIndex;
 				return truckAddons==null ? null : truckAddons.values();
 			});
 		
@@ -209,6 +214,7 @@ public class TruckAddonsTableModel extends ExtendedVerySimpleTableModelTPOS<Truc
 	private void setExtraData(Data data) {
 		truckAddons = data==null ? null : data.truckAddons;
 		trailers    = data==null ? null : data.trailers;
+		cargoCarrierIndex = data==null ? null : data.cargoCarrierIndex;
 	}
 
 	public interface FilterCarriersByCargoListener
@@ -223,12 +229,14 @@ public class TruckAddonsTableModel extends ExtendedVerySimpleTableModelTPOS<Truc
 		
 		if (cargo==null)
 			colorizeCarriersByCargo = null;
-		else
+		else {
+			HashSet<TruckAddon> compatibleCarriers = cargoCarrierIndex==null ? null : cargoCarrierIndex.getCompatibleTruckAddons(cargo);
 			colorizeCarriersByCargo = carrier -> {
-				if (carrier.compatibleCargo.contains(cargo))
+				if (compatibleCarriers!=null ? compatibleCarriers.contains(carrier) : carrier.compatibleCargo.contains(cargo))
 					return BG_COLOR__CARRIER_CAN_LOAD_CARGO;
 				return null;
 			};
+		}
 		
 		if (colorizeCarriersByCargo != null)
 			coloring.addBackgroundRowColorizer(colorizeCarriersByCargo);
@@ -18,6 +18,7 @@ import java.awt.Window;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -53,6 +54,7 @@ import net.schwarzbaer.java.games.snowrunner.Data.TruckTire;
 import net.schwarzbaer.java.games.snowrunner.Data.WheelsDef;
 import net.schwarzbaer.java.games.snowrunner.MapTypes.StringVectorMap;
 import net.schwarzbaer.java.games.snowrunner.SaveGameData.SaveGame;
+import net.schwarzbaer.java.games.snowrunner.Skyline;
 import net.schwarzbaer.java.games.snowrunner.SnowRunner;
 import net.schwarzbaer.java.games.snowrunner.SnowRunner.Controllers.Finalizable;
 import net.schwarzbaer.java.games.snowrunner.SnowRunner.Controllers.Finalizer;
@@ -1188,6 +1190,7 @@ public class TruckPanelProto implements Finalizable {
 			private final HashMap<DataPoint, DataPointTextBox> textBoxes;
 			private final HashMap<DataPoint, Point> posMarkers;
 			private final HashSet<DataPoint> paretoSet;
+			private final ScreenSpaceIndex<DataPoint> hitIndex;
 			private DataPoint hoveredDataPoint;
 			private final TextBox axisHLabel;
 			private final TextBox axisVLabel;
@@ -1196,6 +1199,7 @@ public class TruckPanelProto implements Finalizable {
 				textBoxes = new HashMap<>();
 				posMarkers = new HashMap<>();
 				paretoSet = new HashSet<>();
+				hitIndex = new ScreenSpaceIndex<>(32);
 				axisHLabel = new TextBox(TextBox.Anchor.TopRight, "Horizontal");
 				axisVLabel = new TextBox(TextBox.Anchor.TopLeft , "Vertical");
 				axisHLabel.setOffset(0,5);
@@ -1211,6 +1215,7 @@ public class TruckPanelProto implements Finalizable {
 				textBoxes.clear();
 				posMarkers.clear();
 				paretoSet.clear();
+				hitIndex.invalidate();
 				hoveredDataPoint = null;
 				
 				this.dataPoints = dataPoints;
@@ -1222,35 +1227,25 @@ public class TruckPanelProto implements Finalizable {
 				minY = null;
 				maxY = null;
 				if (dataPoints!=null) {
-					paretoSet.addAll(dataPoints);
-					for (DataPoint dataPoint:dataPoints) {
+					float[] xValues = new float[dataPoints.size()];
+					float[] yValues = new float[dataPoints.size()];
+					for (int i=0; i<dataPoints.size(); i++) {
+						DataPoint dataPoint = dataPoints.get(i);
 						minX = minX==null ? dataPoint.x : Math.min(minX, dataPoint.x); 
 						minY = minY==null ? dataPoint.y : Math.min(minY, dataPoint.y); 
 						maxX = maxX==null ? dataPoint.x : Math.max(maxX, dataPoint.x); 
 						maxY = maxY==null ? dataPoint.y : Math.max(maxY, dataPoint.y);
-						
-						for (DataPoint paretoDataPoint:paretoSet)
-							if (isBelow(dataPoint, paretoDataPoint, isXPositiveBetter, isYPositiveBetter)) {
-								paretoSet.remove(dataPoint);
-								break;
-							}
+						xValues[i] = dataPoint.x;
+						yValues[i] = dataPoint.y;
 					}
+					
+					BitSet skyline = Skyline.compute2D(xValues, yValues, isXPositiveBetter, isYPositiveBetter);
+					for (int i = skyline.nextSetBit(0); i>=0; i = skyline.nextSetBit(i+1))
+						paretoSet.add(dataPoints.get(i));
 				}
 				reset();
 			}
 		
-			private boolean isBelow(DataPoint dataPoint, DataPoint paretoDataPoint, boolean isXPositiveBetter, boolean isYPositiveBetter) {
-				float x1 = dataPoint.x;
-				float y1 = dataPoint.y;
-				float x2 = paretoDataPoint.x;
-				float y2 = paretoDataPoint.y;
-				
-				if (x1==x2 && y1==y2) return false;
-				if ((isXPositiveBetter && x1>x2) || (!isXPositiveBetter && x1<x2)) return false;
-				if ((isYPositiveBetter && y1>y2) || (!isYPositiveBetter && y1<y2)) return false;
-				return true;
-			}
-		
 			private boolean isOver(int x, int y, DataPoint dataPoint)
 			{
 				return isOverMarker(x, y, dataPoint) || isOverTextBox(x, y, dataPoint);
@@ -1277,10 +1272,38 @@ public class TruckPanelProto implements Finalizable {
 			
 			private DataPoint findDataPoint(int x, int y, DataPointPredicate predicate)
 			{
-				for (DataPoint dataPoint: dataPoints)
-					if (predicate.test(x, y, dataPoint))
-						return dataPoint;
-				return null;
+				return hitIndex.find(x, y, dataPoint -> predicate.test(x, y, dataPoint));
+			}
+			
+			/** screen positions of the corners of the data --> changes with zoom and pan */
+			private record ViewKey(int minX_px, int minY_px, int maxX_px, int maxY_px) {}
+			
+			/**
+			 * Puts the markers and text boxes, as they were painted, into {@link #hitIndex}.
+			 * Does nothing, if zoom and pan haven't changed since the last call.
+			 */
+			private void updateHitIndex()
+			{
+				ViewKey viewKey = new ViewKey(
+						viewState.convertPos_AngleToScreen_LongX(minX),
+						viewState.convertPos_AngleToScreen_LatY (minY),
+						viewState.convertPos_AngleToScreen_LongX(maxX),
+						viewState.convertPos_AngleToScreen_LatY (maxY)
+				);
+				if (!hitIndex.reset(viewKey))
+					return;
+				
+				for (int i=0; i<dataPoints.size(); i++)
+				{
+					DataPoint dataPoint = dataPoints.get(i);
+					Point p = posMarkers.get(dataPoint);
+					if (p!=null)
+						hitIndex.add(dataPoint, i, new Rectangle(p.x-10, p.y-10, 20, 20));
+					DataPointTextBox textBox = textBoxes.get(dataPoint);
+					Rectangle bounds = textBox==null ? null : textBox.getBounds();
+					if (bounds!=null)
+						hitIndex.add(dataPoint, i, bounds);
+				}
 			}
 		
 			@Override public void mouseMoved(MouseEvent e) {
@@ -1336,6 +1359,8 @@ public class TruckPanelProto implements Finalizable {
 						drawDataPointTextBox(g2, hoveredDataPoint, true, paretoSet.contains(hoveredDataPoint), DataPointTextBox.NO_STAGE);
 						drawDataPointPosMarker(g2, hoveredDataPoint);
 					}
+					
+					updateHitIndex();
 				}
 				
 				drawMapDecoration(g2, x, y, width, height);
@@ -1483,6 +1508,17 @@ public class TruckPanelProto implements Finalizable {
 					});
 					return isOver.value;
 				}
+				
+				Rectangle getBounds()
+				{
+					ValueContainer<Rectangle> bounds = new ValueContainer<>(null);
+					forEachRow((i,boxX,boxY,boxW,boxH,strX,strY) -> {
+						Rectangle row = new Rectangle(this.x+boxX, this.y+boxY, boxW, boxH);
+						bounds.value = bounds.value==null ? row : bounds.value.union(row);
+						return true;
+					});
+					return bounds.value;
+				}
 			}
 			
 			private static class DataPoint {
@@ -5,6 +5,7 @@ import java.awt.Point;
 import java.awt.Window;
 import java.awt.image.BufferedImage;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Vector;
@@ -226,6 +227,14 @@ public class TruckTableModel extends VerySimpleTableModel<Truck> {
 		table.repaint();
 	}
 
+	// called once per change of a list, cached capabilities are updated here
+	@Override protected Collection<?> getRowsChangedBySpecialTruckAddons(SpecialTruckAddons.AddonCategory category)
+	{
+		if (data==null) return null;
+		Data.DerivedTruckValues.ChangeSet changeSet = data.derivedTruckValues.update(category, gfds.specialTruckAddons);
+		return changeSet==null ? null : changeSet.trucks();
+	}
+
 	private static <Result> Result castNCall(Object row, VerySimpleTableModel<?> model, BiFunction<Truck,TruckTableModel,Result> action)
 	{
 		if (!(row   instanceof Truck          )) return null;
@@ -238,7 +247,7 @@ public class TruckTableModel extends VerySimpleTableModel<Truck> {
 			if (model_.data==null) return null;
 			if (listID==null) return null;
 			
-			return model_.data.isCapable(truck_, listID, model_.gfds.specialTruckAddons, null);
+			return model_.data.derivedTruckValues.getCapability(truck_, listID, model_.gfds.specialTruckAddons);
 		});
 	}
 
@@ -256,7 +265,7 @@ public class TruckTableModel extends VerySimpleTableModel<Truck> {
 		return castNCall(row, model, (truck_, model_) -> {
 			if (truck_.gameData.isCargoCarrier)
 			{
-				Data.Capability canMiniCrane = model_.data.isCapable(truck_, SpecialTruckAddons.AddonCategory.MiniCrane, model_.gfds.specialTruckAddons, null);
+				Data.Capability canMiniCrane = model_.data.derivedTruckValues.getCapability(truck_, SpecialTruckAddons.AddonCategory.MiniCrane, model_.gfds.specialTruckAddons);
 				return canMiniCrane==null ? null : canMiniCrane.isCapable;
 			}
 			
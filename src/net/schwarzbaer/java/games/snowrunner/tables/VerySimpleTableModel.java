@@ -22,6 +22,7 @@ import java.io.StringReader;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.EnumSet;
@@ -64,6 +65,7 @@ import net.schwarzbaer.java.games.snowrunner.Data;
 import net.schwarzbaer.java.games.snowrunner.Data.Language;
 import net.schwarzbaer.java.games.snowrunner.Data.Truck;
 import net.schwarzbaer.java.games.snowrunner.DataFiles;
+import net.schwarzbaer.java.games.snowrunner.MetricColumns;
 import net.schwarzbaer.java.games.snowrunner.SnowRunner;
 import net.schwarzbaer.java.games.snowrunner.SnowRunner.Controllers.Finalizable;
 import net.schwarzbaer.java.games.snowrunner.SnowRunner.Controllers.Finalizer;
@@ -96,6 +98,7 @@ public abstract class VerySimpleTableModel<RowType> extends Tables.SimplifiedTab
 	private   final ColumnID[] originalColumns;
 	protected final Vector<RowType> rows;
 	private   final Vector<RowType> originalRows;
+	private   MetricColumns<RowType> metricColumns;
 	protected final Window mainWindow;
 	protected final Finalizer finalizer;
 	protected final Coloring<RowType> coloring;
@@ -123,6 +126,7 @@ public abstract class VerySimpleTableModel<RowType> extends Tables.SimplifiedTab
 		initialRowOrder = null;
 		rows = new Vector<>();
 		originalRows = new Vector<>();
+		metricColumns = null;
 		clickedColumn = null;
 		clickedColumnIndex = -1;
 		clickedRow = null;
@@ -151,7 +155,11 @@ public abstract class VerySimpleTableModel<RowType> extends Tables.SimplifiedTab
 						break;
 					case SpecialTruckAddons:
 						finalizer.addSpecialTruckAddonsListener((category, change) -> {
-							clearCacheOfColumns(ColumnID.Update.SpecialTruckAddons);
+							Collection<?> changedRows = getRowsChangedBySpecialTruckAddons(category);
+							if (changedRows==null)
+								clearCacheOfColumns(ColumnID.Update.SpecialTruckAddons);
+							else
+								clearCacheOfColumns(ColumnID.Update.SpecialTruckAddons, changedRows);
 						});
 						break;
 				}
@@ -188,6 +196,28 @@ public abstract class VerySimpleTableModel<RowType> extends Tables.SimplifiedTab
 				columnID.valueCache.clear();
 	}
 
+	protected void clearCacheOfColumns(ColumnID.Update event, Collection<?> changedRows)
+	{
+		Vector<Integer> rowIndexes = new Vector<>();
+		for (int rowIndex=0; rowIndex<rows.size(); rowIndex++)
+			if (changedRows.contains(rows.get(rowIndex)))
+				rowIndexes.add(rowIndex);
+		
+		for (ColumnID columnID : originalColumns)
+			if (columnID.cacheUpdateEvents.contains(event))
+				for (Integer rowIndex : rowIndexes)
+					columnID.valueCache.remove(rowIndex);
+	}
+
+	/**
+	 * @return rows, whose values in columns with {@link ColumnID.Update#SpecialTruckAddons} might be changed by a change of the given list,
+	 * or <code>null</code>, if this isn't known (--> cached values of all rows will be cleared)
+	 */
+	protected Collection<?> getRowsChangedBySpecialTruckAddons(SnowRunner.SpecialTruckAddons.AddonCategory category)
+	{
+		return null;
+	}
+
 	@Override public void prepareRemovingFromGUI() {
 		finalizer.removeSubCompsAndListenersFromGUI();
 	}
@@ -394,12 +424,13 @@ public abstract class VerySimpleTableModel<RowType> extends Tables.SimplifiedTab
 	public final void setRowData(Collection<RowType> rows) {
 		this.rows.clear();
 		originalRows.clear();
+		metricColumns = null;
 		clearCacheOfAllColumns();
 		if (rows!=null) {
 			originalRows.addAll(rows);
 			if (initialRowOrder != null)
 				originalRows.sort(initialRowOrder);
-			this.rows.addAll(RowFiltering.filterRows(originalRows, Arrays.asList(originalColumns), this::getValue));
+			this.rows.addAll(RowFiltering.filterRows(originalRows, Arrays.asList(originalColumns), this::getValue, this::getMetricColumns));
 		}
 		extraUpdate();
 		fireTableUpdate();
@@ -574,7 +605,7 @@ public abstract class VerySimpleTableModel<RowType> extends Tables.SimplifiedTab
 			if (changed) {
 				rows.clear();
 				clearCacheOfAllColumns();
-				this.rows.addAll(RowFiltering.filterRows(originalRows, Arrays.asList(originalColumns), this::getValue));
+				this.rows.addAll(RowFiltering.filterRows(originalRows, Arrays.asList(originalColumns), this::getValue, this::getMetricColumns));
 				fireTableStructureUpdate();
 				reconfigureAfterTableStructureUpdate();
 			}
@@ -704,6 +735,24 @@ public abstract class VerySimpleTableModel<RowType> extends Tables.SimplifiedTab
 		return columnID.getValue(rowIndex, row, language, this);
 	}
 	
+	/**
+	 * Values of all Integer and Float columns, that only depend on the row, of all rows (not only of the filtered rows).
+	 * It's built on first use after {@link #setRowData(Collection)}.
+	 */
+	private MetricColumns<RowType> getMetricColumns() {
+		if (metricColumns==null) {
+			metricColumns = new MetricColumns<>(originalRows);
+			for (ColumnID columnID : originalColumns) {
+				Function<Object, ?> getValue = columnID.getValue;
+				if (getValue==null || columnID.useValueAsStringID) continue;
+				if (metricColumns.getIntColumn(columnID.id)!=null || metricColumns.getFloatColumn(columnID.id)!=null) continue;
+				if (columnID.config.columnClass==Integer.class) metricColumns.addIntColumn  (columnID.id, row->(Integer) getValue.apply(row));
+				if (columnID.config.columnClass==Float  .class) metricColumns.addFloatColumn(columnID.id, row->(Float  ) getValue.apply(row));
+			}
+		}
+		return metricColumns;
+	}
+	
 	protected void fireTableColumnUpdate(String id)
 	{
 		int colM = findColumnByID("DLC");
@@ -1521,13 +1570,38 @@ public abstract class VerySimpleTableModel<RowType> extends Tables.SimplifiedTab
 			Object getValue(ColumnID columnID, int rowIndex, RowType row);
 		}
 
-		static <RowType> Vector<RowType> filterRows(Vector<RowType> originalRows, Collection<? extends FixedValueFilterContainer> filterContainers, GetValue<RowType> getValue) {
+		static <RowType> Vector<RowType> filterRows(Vector<RowType> originalRows, Collection<? extends FixedValueFilterContainer> filterContainers, GetValue<RowType> getValue, Supplier<MetricColumns<RowType>> getMetricColumns) {
+			// number filters of metric columns are evaluated on the whole column, all other filters row by row
+			Vector<FixedValueFilterContainer> rowFilters = new Vector<>();
+			MetricColumns<RowType> metricColumns = null;
+			BitSet metricFilterResult = null;
+			for (FixedValueFilterContainer filterContainer : filterContainers)
+			{
+				ValueFilter filter = filterContainer.getFilter();
+				if (filter==null || !filter.active) continue;
+				
+				BitSet filterResult = null;
+				if (filter instanceof ValueFilter.NumberFilter<?> numberFilter)
+				{
+					if (metricColumns==null) metricColumns = getMetricColumns.get();
+					filterResult = numberFilter.filter(metricColumns, filterContainer.getColumnID().id);
+				}
+				if (filterResult==null)
+					rowFilters.add(filterContainer);
+				else if (metricFilterResult==null)
+					metricFilterResult = filterResult;
+				else
+					metricFilterResult.and(filterResult);
+			}
+			
 			Vector<RowType> filteredRows = new Vector<>();
 			for (int rowIndex=0; rowIndex<originalRows.size(); rowIndex++)
 			{
 				RowType row = originalRows.get(rowIndex);
+				if (metricFilterResult!=null && !metricFilterResult.get(metricColumns.getOrdinal(row)))
+					continue;
 				int rowIndex_ = rowIndex;
-				boolean meetsFilter = meetsFilter(filterContainers, columnID -> getValue.getValue(columnID, rowIndex_, row));
+				boolean meetsFilter = meetsFilter(rowFilters, columnID -> getValue.getValue(columnID, rowIndex_, row));
 				if (meetsFilter)
 					filteredRows.add(row);
 			}
@@ -1783,6 +1857,34 @@ public abstract class VerySimpleTableModel<RowType> extends Tables.SimplifiedTab
 					return false;
 				}
 		
+				/**
+				 * Same as {@link #valueMeetsFilter(Object)} for all rows of <code>metricColumns</code>.
+				 * @return ordinals of all rows in <code>metricColumns</code>, that meet this filter, or <code>null</code>, if there is no metric column with given ID and value class
+				 */
+				BitSet filter(MetricColumns<?> metricColumns, String columnID) {
+					BitSet result;
+					boolean isRange = compare.apply(min, max)<=0;
+					MetricColumns.IntColumn   intColumn   = valueClass==Integer.class ? metricColumns.getIntColumn  (columnID) : null;
+					MetricColumns.FloatColumn floatColumn = valueClass==Float  .class ? metricColumns.getFloatColumn(columnID) : null;
+					if (intColumn!=null) {
+						Integer min_ = (Integer) min;
+						Integer max_ = (Integer) max;
+						result = isRange ? intColumn.filter(min_, max_) : intColumn.filter(min_, null);
+						if (!isRange) result.or(intColumn.filter(null, max_));
+						if (allowUnset) result.or(intColumn.getNullOrdinals());
+						
+					} else if (floatColumn!=null) {
+						Float min_ = (Float) min;
+						Float max_ = (Float) max;
+						result = isRange ? floatColumn.filter(min_, max_) : floatColumn.filter(min_, null);
+						if (!isRange) result.or(floatColumn.filter(null, max_));
+						if (allowUnset) result.or(floatColumn.getNullOrdinals());
+						
+					} else
+						return null;
+					return result;
+				}
+		
 				@Override protected boolean equals_SubType(ValueFilter other) {
 					if (other instanceof NumberFilter) {
 						NumberFilter<?> numberFilter = (NumberFilter<?>) other;
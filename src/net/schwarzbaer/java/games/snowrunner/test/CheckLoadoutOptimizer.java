@@ -0,0 +1,84 @@
+package net.schwarzbaer.java.games.snowrunner.test;
+
+import java.io.File;
+import java.util.Map;
+import java.util.Vector;
+import java.util.function.Function;
+
+import net.schwarzbaer.java.games.snowrunner.Data;
+import net.schwarzbaer.java.games.snowrunner.Data.Truck;
+import net.schwarzbaer.java.games.snowrunner.LoadoutOptimizer;
+
+/**
+ * Compares the results of {@link LoadoutOptimizer#findBest(int)} with {@link LoadoutOptimizer#findBestByBruteForce(int)}
+ * for all trucks with a small configuration space.
+ */
+public class CheckLoadoutOptimizer {
+
+	private static final long MAX_LOADOUT_COUNT = 2_000_000;
+	private static final int N = 5;
+
+	public static void main(String[] args) {
+		if (args.length<1) {
+			log("Usage: CheckLoadoutOptimizer <initial.pak>%n");
+			return;
+		}
+		
+		Data data = Data.readPAK(new File(args[0]));
+		if (data==null) {
+			log("Can't read data from \"%s\"%n", args[0]);
+			return;
+		}
+		
+		Map<String,Function<Truck,LoadoutOptimizer>> setups = Map.of(
+			"CargoSlots"              , truck->new LoadoutOptimizer(truck).setObjective(LoadoutOptimizer.Criterion.cargoSlots()),
+			"CargoSlots, Price<=30000", truck->new LoadoutOptimizer(truck).setObjective(LoadoutOptimizer.Criterion.cargoSlots()).setMaxPrice(30000),
+			"MudFriction, Price<=5000", truck->new LoadoutOptimizer(truck).setObjective(LoadoutOptimizer.Criterion.mudFriction()).setMaxPrice(5000),
+			"MudFriction, AWD"        , truck->new LoadoutOptimizer(truck).setObjective(LoadoutOptimizer.Criterion.mudFriction()).require(LoadoutOptimizer.Feature.AWD),
+			"Price (ties)"            , truck->new LoadoutOptimizer(truck).setObjective(LoadoutOptimizer.Criterion.price()).addLimit(LoadoutOptimizer.Criterion.price(), 0)
+		);
+		
+		int checkedTrucks = 0;
+		int errors = 0;
+		for (Truck truck : data.trucks.values()) {
+			long loadoutCount = new LoadoutOptimizer(truck).getLoadoutCount();
+			if (loadoutCount>MAX_LOADOUT_COUNT) continue;
+			checkedTrucks++;
+			
+			for (String setupLabel : setups.keySet()) {
+				Function<Truck,LoadoutOptimizer> setup = setups.get(setupLabel);
+				Vector<LoadoutOptimizer.Loadout> expected = setup.apply(truck).findBestByBruteForce(N);
+				Vector<LoadoutOptimizer.Loadout> found    = setup.apply(truck).findBest(N);
+				if (!isEqual(expected, found)) {
+					errors++;
+					log("Truck \"%s\" (%d loadouts), %s:%n", truck.id, loadoutCount, setupLabel);
+					log("   expected: %s%n", toString(expected));
+					log("   found   : %s%n", toString(found));
+				}
+			}
+		}
+		log("%d trucks checked, %d errors%n", checkedTrucks, errors);
+	}
+
+	private static boolean isEqual(Vector<LoadoutOptimizer.Loadout> expected, Vector<LoadoutOptimizer.Loadout> found) {
+		if (expected.size()!=found.size()) return false;
+		for (int i=0; i<expected.size(); i++) {
+			LoadoutOptimizer.Loadout e = expected.get(i);
+			LoadoutOptimizer.Loadout f = found.get(i);
+			if (e.value()!=f.value() || e.price()!=f.price() || !e.getKey().equals(f.getKey()))
+				return false;
+		}
+		return true;
+	}
+
+	private static String toString(Vector<LoadoutOptimizer.Loadout> loadouts) {
+		StringBuilder sb = new StringBuilder();
+		for (LoadoutOptimizer.Loadout loadout : loadouts)
+			sb.append(String.format("%n      %s (price: %d) %s", loadout.value(), loadout.price(), loadout.getKey()));
+		return sb.toString();
+	}
+
+	private static void log(String format, Object... args) {
+		System.out.printf(format, args);
+	}
+}
@@ -0,0 +1,58 @@
+package net.schwarzbaer.java.games.snowrunner.test;
+
+import java.io.File;
+import java.lang.ref.Reference;
+
+import net.schwarzbaer.java.games.snowrunner.Data;
+
+/**
+ * Compares the retained size of the node data of all loaded items with and without sharing of attributes and child nodes.
+ * Both variants are measured as copies of the loaded node data, so they are built in the same way.
+ * Strings are shared by both copies and aren't counted.
+ */
+public class CheckNodeSharing {
+
+	public static void main(String[] args) {
+		if (args.length<1) {
+			log("Usage: CheckNodeSharing <initial.pak>%n");
+			return;
+		}
+		
+		Data data = Data.readPAK(new File(args[0]));
+		if (data==null) {
+			log("Can't read data from \"%s\"%n", args[0]);
+			return;
+		}
+		log("Shared node data of loaded classes: %s%n", data.getNodeSharingStatistics());
+		
+		long sharedSize   = getRetainedSize(data, true );
+		long unsharedSize = getRetainedSize(data, false);
+		log("Retained size of node data:%n");
+		log("   with sharing   : %,d bytes%n", sharedSize);
+		log("   without sharing: %,d bytes%n", unsharedSize);
+		if (unsharedSize>0)
+			log("   ratio          : %1.1f%%%n", sharedSize*100.0/unsharedSize);
+	}
+
+	private static long getRetainedSize(Data data, boolean keepSharing) {
+		long before = getUsedMemory();
+		Object copies = data.copyNodeDataOfLoadedItems(keepSharing);
+		long after = getUsedMemory();
+		Reference.reachabilityFence(copies);
+		return after-before;
+	}
+
+	private static long getUsedMemory() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i=0; i<5; i++) {
+			System.gc();
+			try { Thread.sleep(100); }
+			catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+		}
+		return runtime.totalMemory()-runtime.freeMemory();
+	}
+
+	private static void log(String format, Object... args) {
+		System.out.printf(format, args);
+	}
+}
@@ -0,0 +1,78 @@
+package net.schwarzbaer.java.games.snowrunner.test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import net.schwarzbaer.java.games.snowrunner.Skyline;
+
+/**
+ * Compares {@link Skyline#compute(double[][], boolean[])} with a brute-force skyline on random points
+ * (1..5 objectives, many ties, NaN values, -0.0 and 0.0).
+ */
+public class CheckSkyline {
+
+	private static final double[] SMALL_VALUE_SET = { -2, -1, -0.0, 0.0, 1, 2, Double.NaN };
+
+	public static void main(String[] args) {
+		Random random = new Random(args.length<1 ? 1234 : Long.parseLong(args[0]));
+		int runs = 0;
+		int errors = 0;
+		for (int run=0; run<20000; run++) {
+			int objectives = 1+random.nextInt(5);
+			int n = random.nextInt(run%10==0 ? 300 : 60);
+			boolean useSmallValueSet = random.nextBoolean();
+			
+			double[][] values = new double[objectives][n];
+			boolean[] isHigherBetter = new boolean[objectives];
+			for (int o=0; o<objectives; o++) {
+				isHigherBetter[o] = random.nextBoolean();
+				for (int i=0; i<n; i++)
+					values[o][i] = useSmallValueSet ? SMALL_VALUE_SET[random.nextInt(SMALL_VALUE_SET.length)] : random.nextInt(20)-10+(random.nextInt(50)==0 ? Double.NaN : 0);
+			}
+			
+			BitSet expected = bruteForce(values, isHigherBetter);
+			BitSet found = Skyline.compute(values, isHigherBetter);
+			runs++;
+			if (!expected.equals(found)) {
+				errors++;
+				if (errors<=10)
+					log("Run %d (%d objectives, %d points): expected %s, found %s%n", run, objectives, n, expected, found);
+			}
+		}
+		log("%d runs, %d errors%n", runs, errors);
+	}
+
+	private static BitSet bruteForce(double[][] values, boolean[] isHigherBetter) {
+		int n = values[0].length;
+		BitSet skyline = new BitSet(n);
+		for (int p=0; p<n; p++) {
+			if (hasNaN(values, p)) continue;
+			boolean isDominated = false;
+			for (int q=0; q<n && !isDominated; q++)
+				isDominated = q!=p && !hasNaN(values, q) && dominates(values, isHigherBetter, q, p);
+			if (!isDominated) skyline.set(p);
+		}
+		return skyline;
+	}
+
+	private static boolean hasNaN(double[][] values, int p) {
+		for (double[] v : values)
+			if (Double.isNaN(v[p])) return true;
+		return false;
+	}
+
+	private static boolean dominates(double[][] values, boolean[] isHigherBetter, int q, int p) {
+		boolean isBetter = false;
+		for (int o=0; o<values.length; o++) {
+			double vq = isHigherBetter[o] ? values[o][q] : -values[o][q];
+			double vp = isHigherBetter[o] ? values[o][p] : -values[o][p];
+			if (vq<vp) return false;
+			if (vq>vp) isBetter = true;
+		}
+		return isBetter;
+	}
+
+	private static void log(String format, Object... args) {
+		System.out.printf(format, args);
+	}
+}